@@ -0,0 +1,83 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.benchmark;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.seasar.doma.jdbc.PreparedSql;
+import org.seasar.doma.jdbc.SqlLogType;
+import org.seasar.doma.jdbc.query.AutoBatchInsertQuery;
+
+/**
+ * {@link AutoBatchInsertQuery} のSQLの準備のベンチマークです。
+ * 
+ * @author nakamura-to
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchInsertQueryBenchmark {
+
+    @Param({ "1000" })
+    public int size;
+
+    @Param({ "1", "100" })
+    public int multiRowSize;
+
+    private Method method;
+
+    private List<Employee> employees;
+
+    @Setup
+    public void setUp() throws Exception {
+        method = EmployeeDao.class.getMethod("insert", List.class);
+        employees = Employee.createList(1, size);
+    }
+
+    @Benchmark
+    public void prepare(Blackhole blackhole) {
+        AutoBatchInsertQuery<Employee> query = new AutoBatchInsertQuery<>(
+                _Employee.getSingletonInternal());
+        query.setMethod(method);
+        query.setConfig(BenchmarkConfig.singleton());
+        query.setEntities(employees);
+        query.setCallerClassName(EmployeeDao.class.getName());
+        query.setCallerMethodName(method.getName());
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.setMultiRowSize(multiRowSize);
+        query.prepare();
+        for (PreparedSql sql : query.getSqls()) {
+            blackhole.consume(sql);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.benchmark;
+
+import javax.sql.DataSource;
+
+import org.seasar.doma.SingletonConfig;
+import org.seasar.doma.jdbc.Config;
+import org.seasar.doma.jdbc.dialect.Dialect;
+import org.seasar.doma.jdbc.dialect.H2Dialect;
+import org.seasar.doma.jdbc.tx.LocalTransactionDataSource;
+import org.seasar.doma.jdbc.tx.LocalTransactionManager;
+import org.seasar.doma.jdbc.tx.TransactionManager;
+
+/**
+ * ベンチマークで使用するインメモリのH2データベースに接続する設定です。
+ * 
+ * @author nakamura-to
+ */
+@SingletonConfig
+public class BenchmarkConfig implements Config {
+
+    private static final BenchmarkConfig CONFIG = new BenchmarkConfig();
+
+    private final Dialect dialect;
+
+    private final LocalTransactionDataSource dataSource;
+
+    private final TransactionManager transactionManager;
+
+    private BenchmarkConfig() {
+        dialect = new H2Dialect();
+        dataSource = new LocalTransactionDataSource(
+                "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1", "sa", null);
+        transactionManager = new LocalTransactionManager(
+                dataSource.getLocalTransaction(getJdbcLogger()));
+    }
+
+    @Override
+    public Dialect getDialect() {
+        return dialect;
+    }
+
+    @Override
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    @Override
+    public TransactionManager getTransactionManager() {
+        return transactionManager;
+    }
+
+    public static BenchmarkConfig singleton() {
+        return CONFIG;
+    }
+}
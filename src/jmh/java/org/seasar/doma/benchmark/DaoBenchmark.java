@@ -0,0 +1,101 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.seasar.doma.jdbc.tx.TransactionManager;
+
+/**
+ * インメモリのH2データベースに対するDaoの呼び出し全体のベンチマークです。
+ * <p>
+ * バッチ挿入は毎回ロールバックするため、測定のたびにデータベースの状態は変わりません。
+ * 
+ * @author nakamura-to
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DaoBenchmark {
+
+    static final int ROWS = 100;
+
+    static final int BATCH_SIZE = 1000;
+
+    private TransactionManager transactionManager;
+
+    private EmployeeDao dao;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        transactionManager = BenchmarkConfig.singleton()
+                .getTransactionManager();
+        dao = new EmployeeDaoImpl();
+        transactionManager.required(() -> {
+            dao.create();
+            dao.insert(Employee.createList(1, ROWS));
+        });
+    }
+
+    @Benchmark
+    public Employee selectById() {
+        return transactionManager.required(() -> dao.selectById(ROWS / 2));
+    }
+
+    @Benchmark
+    public List<Employee> selectAll() {
+        return transactionManager.required(() -> dao.selectAll());
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> selectAllAsMap() {
+        return transactionManager.required(() -> dao.selectAllAsMap());
+    }
+
+    @Benchmark
+    public int[] batchInsert() {
+        List<Employee> employees = Employee.createList(ROWS + 1, BATCH_SIZE);
+        return transactionManager.required(() -> {
+            transactionManager.setRollbackOnly();
+            return dao.insert(employees);
+        });
+    }
+
+    @Benchmark
+    public int[] batchInsertMultiRow() {
+        List<Employee> employees = Employee.createList(ROWS + 1, BATCH_SIZE);
+        return transactionManager.required(() -> {
+            transactionManager.setRollbackOnly();
+            return dao.insertMultiRow(employees);
+        });
+    }
+}
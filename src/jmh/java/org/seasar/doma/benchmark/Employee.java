@@ -0,0 +1,62 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.seasar.doma.Entity;
+import org.seasar.doma.Id;
+import org.seasar.doma.Version;
+
+/**
+ * @author nakamura-to
+ */
+@Entity
+public class Employee {
+
+    @Id
+    public Integer id;
+
+    public String name;
+
+    public BigDecimal salary;
+
+    @Version
+    public Integer version;
+
+    /**
+     * 常に同じ内容のエンティティのリストを作成します。
+     * 
+     * @param firstId
+     *            先頭の識別子
+     * @param size
+     *            エンティティの数
+     * @return エンティティのリスト
+     */
+    public static List<Employee> createList(int firstId, int size) {
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Employee employee = new Employee();
+            employee.id = firstId + i;
+            employee.name = "name" + i;
+            employee.salary = new BigDecimal(1000 + i * 10);
+            employees.add(employee);
+        }
+        return employees;
+    }
+}
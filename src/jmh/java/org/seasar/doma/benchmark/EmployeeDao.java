@@ -0,0 +1,50 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.benchmark;
+
+import java.util.List;
+import java.util.Map;
+
+import org.seasar.doma.BatchInsert;
+import org.seasar.doma.Dao;
+import org.seasar.doma.MapKeyNamingType;
+import org.seasar.doma.Script;
+import org.seasar.doma.Select;
+
+/**
+ * @author nakamura-to
+ */
+@Dao(config = BenchmarkConfig.class)
+public interface EmployeeDao {
+
+    @Script
+    void create();
+
+    @Select
+    Employee selectById(Integer id);
+
+    @Select
+    List<Employee> selectAll();
+
+    @Select(mapKeyNaming = MapKeyNamingType.CAMEL_CASE)
+    List<Map<String, Object>> selectAllAsMap();
+
+    @BatchInsert
+    int[] insert(List<Employee> employees);
+
+    @BatchInsert(multiRowSize = 100)
+    int[] insertMultiRow(List<Employee> employees);
+}
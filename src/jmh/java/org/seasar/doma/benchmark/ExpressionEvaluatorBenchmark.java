@@ -0,0 +1,78 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.benchmark;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.seasar.doma.internal.expr.EvaluationResult;
+import org.seasar.doma.internal.expr.ExpressionEvaluator;
+import org.seasar.doma.internal.expr.ExpressionParser;
+import org.seasar.doma.internal.expr.Value;
+import org.seasar.doma.internal.expr.node.ExpressionNode;
+import org.seasar.doma.jdbc.Config;
+
+/**
+ * {@link ExpressionEvaluator} のベンチマークです。
+ * 
+ * @author nakamura-to
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpressionEvaluatorBenchmark {
+
+    static final String EXPRESSION = "employee.name != null && employee.salary.compareTo(threshold) > 0 && @isNotEmpty(employee.name)";
+
+    private ExpressionNode expressionNode;
+
+    private ExpressionEvaluator evaluator;
+
+    @Setup
+    public void setUp() {
+        Config config = BenchmarkConfig.singleton();
+        Employee employee = Employee.createList(1, 1).get(0);
+        expressionNode = new ExpressionParser(EXPRESSION).parse();
+        evaluator = new ExpressionEvaluator(config.getDialect()
+                .getExpressionFunctions(), config.getClassHelper());
+        evaluator.add("employee", new Value(Employee.class, employee));
+        evaluator.add("threshold", new Value(BigDecimal.class,
+                BigDecimal.ZERO));
+    }
+
+    @Benchmark
+    public ExpressionNode parse() {
+        return new ExpressionParser(EXPRESSION).parse();
+    }
+
+    @Benchmark
+    public EvaluationResult evaluate() {
+        return evaluator.evaluate(expressionNode);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.benchmark;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.seasar.doma.internal.expr.ExpressionEvaluator;
+import org.seasar.doma.internal.expr.Value;
+import org.seasar.doma.internal.jdbc.sql.NodePreparedSqlBuilder;
+import org.seasar.doma.internal.jdbc.sql.SqlParser;
+import org.seasar.doma.internal.jdbc.sql.SqlPlan;
+import org.seasar.doma.internal.jdbc.sql.SqlPlanCompiler;
+import org.seasar.doma.jdbc.Config;
+import org.seasar.doma.jdbc.PreparedSql;
+import org.seasar.doma.jdbc.SqlKind;
+import org.seasar.doma.jdbc.SqlLogType;
+import org.seasar.doma.jdbc.SqlNode;
+
+/**
+ * {@link NodePreparedSqlBuilder#build} のベンチマークです。
+ * 
+ * @author nakamura-to
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NodePreparedSqlBuilderBenchmark {
+
+    private Config config;
+
+    private SqlNode sqlNode;
+
+    private SqlPlan sqlPlan;
+
+    private ExpressionEvaluator evaluator;
+
+    @Setup
+    public void setUp() {
+        config = BenchmarkConfig.singleton();
+        sqlNode = new SqlParser(SqlParserBenchmark.SQL).parse();
+        sqlPlan = new SqlPlanCompiler().compile(sqlNode);
+        evaluator = new ExpressionEvaluator(config.getDialect()
+                .getExpressionFunctions(), config.getClassHelper());
+        evaluator.add("name", new Value(String.class, "a"));
+        evaluator.add("salary", new Value(BigDecimal.class, new BigDecimal(
+                2000)));
+        evaluator.add("ids", new Value(List.class, Arrays.asList(1, 2, 3, 4,
+                5, 6, 7, 8, 9, 10)));
+        evaluator.add("depts", new Value(List.class, Arrays.asList("aaa",
+                "bbb", "ccc")));
+    }
+
+    @Benchmark
+    public PreparedSql buildFromNode() {
+        NodePreparedSqlBuilder builder = new NodePreparedSqlBuilder(config,
+                SqlKind.SELECT, null, evaluator, SqlLogType.FORMATTED);
+        return builder.build(sqlNode, sql -> sql);
+    }
+
+    @Benchmark
+    public PreparedSql buildFromPlan() {
+        NodePreparedSqlBuilder builder = new NodePreparedSqlBuilder(config,
+                SqlKind.SELECT, null, evaluator, SqlLogType.FORMATTED);
+        return builder.build(sqlPlan, sql -> sql);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.benchmark;
+
+import java.lang.reflect.Method;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.h2.tools.SimpleResultSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.seasar.doma.MapKeyNamingType;
+import org.seasar.doma.internal.jdbc.command.EntityProvider;
+import org.seasar.doma.internal.jdbc.command.MapProvider;
+import org.seasar.doma.jdbc.Config;
+import org.seasar.doma.jdbc.Sql;
+import org.seasar.doma.jdbc.query.Query;
+
+/**
+ * {@link EntityProvider} と {@link MapProvider} による行のマッピングのベンチマークです。
+ * <p>
+ * データベースの処理時間を含めないよう、メモリ上の結果セットを使用します。
+ * 
+ * @author nakamura-to
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RowMappingBenchmark {
+
+    @Param({ "100" })
+    public int rows;
+
+    private SimpleResultSet resultSet;
+
+    private BenchmarkQuery query;
+
+    @Setup
+    public void setUp() throws Exception {
+        resultSet = new SimpleResultSet();
+        resultSet.addColumn("ID", Types.INTEGER, 10, 0);
+        resultSet.addColumn("NAME", Types.VARCHAR, 100, 0);
+        resultSet.addColumn("SALARY", Types.NUMERIC, 10, 2);
+        resultSet.addColumn("VERSION", Types.INTEGER, 10, 0);
+        for (Employee employee : Employee.createList(1, rows)) {
+            resultSet.addRow(employee.id, employee.name, employee.salary, 1);
+        }
+        resultSet.setAutoClose(false);
+        query = new BenchmarkQuery(EmployeeDao.class.getMethod("selectAll"));
+    }
+
+    @Benchmark
+    public void entity(Blackhole blackhole) throws SQLException {
+        EntityProvider<Employee> provider = new EntityProvider<>(
+                _Employee.getSingletonInternal(), query, false);
+        resultSet.beforeFirst();
+        while (resultSet.next()) {
+            blackhole.consume(provider.get(resultSet));
+        }
+    }
+
+    @Benchmark
+    public void map(Blackhole blackhole) throws SQLException {
+        MapProvider provider = new MapProvider(query,
+                MapKeyNamingType.CAMEL_CASE);
+        resultSet.beforeFirst();
+        while (resultSet.next()) {
+            Map<String, Object> map = provider.get(resultSet);
+            blackhole.consume(map);
+        }
+    }
+
+    protected static class BenchmarkQuery implements Query {
+
+        protected final Method method;
+
+        protected BenchmarkQuery(Method method) {
+            this.method = method;
+        }
+
+        @Override
+        public Sql<?> getSql() {
+            return null;
+        }
+
+        @Override
+        public String getClassName() {
+            return EmployeeDao.class.getName();
+        }
+
+        @Override
+        public String getMethodName() {
+            return method.getName();
+        }
+
+        @Override
+        public Method getMethod() {
+            return method;
+        }
+
+        @Override
+        public Config getConfig() {
+            return BenchmarkConfig.singleton();
+        }
+
+        @Override
+        public int getQueryTimeout() {
+            return 0;
+        }
+
+        @Override
+        public void prepare() {
+        }
+
+        @Override
+        public void complete() {
+        }
+
+        @Override
+        public String comment(String sql) {
+            return sql;
+        }
+    }
+}
@@ -0,0 +1 @@
+select * from employee order by id
@@ -0,0 +1 @@
+select * from employee where id = /* id */0
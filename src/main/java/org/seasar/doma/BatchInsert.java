@@ -27,6 +27,7 @@ import org.seasar.doma.jdbc.JdbcException;
 import org.seasar.doma.jdbc.SqlFileNotFoundException;
 import org.seasar.doma.jdbc.SqlLogType;
 import org.seasar.doma.jdbc.UniqueConstraintException;
+import org.seasar.doma.jdbc.dialect.Dialect;
 
 /**
  * バッチ挿入処理を示します。
@@ -126,4 +127,22 @@ public @interface BatchInsert {
      * @since 2.0.0
      */
     SqlLogType sqlLog() default SqlLogType.FORMATTED;
+
+    /**
+     * 複数行の VALUES 句をもつ1つのINSERT文にまとめるエンティティの数を返します。
+     * <p>
+     * 2以上を指定した場合、{@link Dialect#supportsMultiRowInsertStatement()} が
+     * {@code true} を返すRDBMSでは、指定した数のエンティティごとに
+     * {@code insert into ... values (...), (...)} という形式のINSERT文を発行します。
+     * 1つのINSERT文に含まれる行の数は、{@link Dialect#getMaxMultiRowInsertRows()} および
+     * {@link Dialect#getMaxBindParameterCount()} の制限を超えないように調整されます。
+     * <p>
+     * 自動生成される識別子を取得する必要がある場合、このモードは使用されません。
+     * <p>
+     * この要素に対する指定は、{@link #sqlFile()} が {@code false} の場合にのみ有効です。
+     * 
+     * @return 1つのINSERT文にまとめるエンティティの数
+     * @since 2.20.0
+     */
+    int multiRowSize() default -1;
 }
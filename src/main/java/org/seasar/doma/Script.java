@@ -19,7 +19,9 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.sql.Statement;
 
+import org.seasar.doma.jdbc.Config;
 import org.seasar.doma.jdbc.JdbcException;
 import org.seasar.doma.jdbc.ScriptException;
 import org.seasar.doma.jdbc.ScriptFileNotFoundException;
@@ -82,4 +84,29 @@ public @interface Script {
      * @since 2.0.0
      */
     SqlLogType sqlLog() default SqlLogType.FORMATTED;
+
+    /**
+     * SQLブロック以外のステートメントをバッチ更新で実行するかどうかを返します。
+     * <p>
+     * {@code true} の場合、1つの {@link Statement} を使い回し、連続するステートメントを
+     * {@link Statement#addBatch(String)} でまとめて {@link Statement#executeBatch()} で実行します。
+     * バッチはSQLブロックの直前とバッチサイズに達した時点で実行されます。
+     * SQLブロックと、 {@code SELECT} 文のように結果セットを返す可能性のあるステートメントはバッチに含めず、
+     * それまでのバッチを実行した後に単独で実行されます。
+     * 
+     * @return バッチ更新で実行するかどうか
+     * @since 2.20.0
+     */
+    boolean batch() default false;
+
+    /**
+     * バッチサイズを返します。
+     * <p>
+     * {@link #batch()} が {@code true} の場合にのみ有効です。
+     * 指定しない場合、{@link Config#getBatchSize()}が使用されます。
+     * 
+     * @return バッチサイズ
+     * @since 2.20.0
+     */
+    int batchSize() default -1;
 }
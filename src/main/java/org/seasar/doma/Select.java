@@ -159,6 +159,19 @@ public @interface Select {
      */
     boolean ensureResultMapping() default false;
 
+    /**
+     * 結果がエンティティやエンティティのリストの場合、
+     * 取得時の状態を {@link OriginalStates} が注釈されたフィールドに保存しないかどうかを返します。
+     * <p>
+     * {@code true} の場合、エンティティごとに状態のコピーを作成しないため、更新することのない検索のメモリ使用量を抑えられます。
+     * これは変更の追跡を行わないようにする指定であり、追跡方法を軽量化するものではありません。
+     * そのエンティティを更新する際には変更されたプロパティを判別できないため、すべてのプロパティが更新対象になります。
+     * 
+     * @return 取得時の状態を保存しないかどうか
+     * @since 2.20.0
+     */
+    boolean skipOriginalStates() default false;
+
     /**
      * 検索結果を {@code Map<Object, String>} もしくは {@code List<Map<Object, String>>}
      * として取得する場合のマップのキーに対するネーミング規約を返します。
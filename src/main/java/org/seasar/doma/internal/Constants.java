@@ -25,16 +25,22 @@ public final class Constants {
 
     public static final String ROWNUMBER_COLUMN_NAME = "doma_rownumber_";
 
+    public static final String TOTAL_COUNT_COLUMN_NAME = "doma_total_count_";
+
     public static final Charset UTF_8 = Charset.forName("UTF-8");
 
     public static final String SQL_PATH_PREFIX = "META-INF/";
 
     public static final String SQL_PATH_SUFFIX = ".sql";
 
+    public static final String SQL_INDEX_FILE_NAME = "sql.index";
+
     public static final String SCRIPT_PATH_PREFIX = "META-INF/";
 
     public static final String SCRIPT_PATH_SUFFIX = ".script";
 
+    public static final String GZIP_SUFFIX = ".gz";
+
     public static final String METATYPE_PREFIX = "_";
 
     public static final String EXTERNAL_DOMAIN_METATYPE_ROOT_PACKAGE = "__";
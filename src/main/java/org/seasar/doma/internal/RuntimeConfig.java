@@ -17,8 +17,11 @@ package org.seasar.doma.internal;
 
 import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
+import java.util.concurrent.Executor;
+
 import javax.sql.DataSource;
 
+import org.seasar.doma.jdbc.BatchSizePolicy;
 import org.seasar.doma.jdbc.ClassHelper;
 import org.seasar.doma.jdbc.CommandImplementors;
 import org.seasar.doma.jdbc.Commenter;
@@ -27,11 +30,13 @@ import org.seasar.doma.jdbc.ConfigException;
 import org.seasar.doma.jdbc.EntityListenerProvider;
 import org.seasar.doma.jdbc.JdbcLogger;
 import org.seasar.doma.jdbc.MapKeyNaming;
+import org.seasar.doma.jdbc.MetricsRecorder;
 import org.seasar.doma.jdbc.Naming;
 import org.seasar.doma.jdbc.QueryImplementors;
 import org.seasar.doma.jdbc.RequiresNewController;
 import org.seasar.doma.jdbc.SqlFileRepository;
 import org.seasar.doma.jdbc.SqlLogType;
+import org.seasar.doma.jdbc.SqlNodeRepository;
 import org.seasar.doma.jdbc.UnknownColumnHandler;
 import org.seasar.doma.jdbc.dialect.Dialect;
 import org.seasar.doma.jdbc.tx.TransactionManager;
@@ -77,6 +82,31 @@ public class RuntimeConfig implements Config {
         return config.getSqlFileRepository();
     }
 
+    @Override
+    public SqlNodeRepository getSqlNodeRepository() {
+        return config.getSqlNodeRepository();
+    }
+
+    @Override
+    public MetricsRecorder getMetricsRecorder() {
+        return config.getMetricsRecorder();
+    }
+
+    @Override
+    public Executor getExecutor() {
+        return config.getExecutor();
+    }
+
+    @Override
+    public BatchSizePolicy getBatchSizePolicy() {
+        return config.getBatchSizePolicy();
+    }
+
+    @Override
+    public boolean isBatchPipelined() {
+        return config.isBatchPipelined();
+    }
+
     @Override
     public JdbcLogger getJdbcLogger() {
         return config.getJdbcLogger();
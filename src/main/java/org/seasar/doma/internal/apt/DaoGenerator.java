@@ -465,7 +465,8 @@ public class DaoGenerator extends AbstractGenerator {
             }
             print("> ");
         }
-        print("%1$s %2$s(", m.getReturnMeta().getTypeName(), m.getName());
+        print("%1$s %2$s(", m.getReturnMeta().getDeclaredTypeName(),
+                m.getName());
         for (Iterator<QueryParameterMeta> it = m.getParameterMetas()
                 .iterator(); it.hasNext();) {
             QueryParameterMeta parameterMeta = it.next();
@@ -492,7 +493,15 @@ public class DaoGenerator extends AbstractGenerator {
         }
         print("{%n");
         indent();
-        m.accept(generator, "__method" + index);
+        if (m.getReturnMeta().isAsync()) {
+            iprint("return supplyAsync(() -> {%n");
+            indent();
+            m.accept(generator, "__method" + index);
+            unindent();
+            iprint("});%n");
+        } else {
+            m.accept(generator, "__method" + index);
+        }
         unindent();
         iprint("}%n");
         print("%n");
@@ -536,6 +545,10 @@ public class DaoGenerator extends AbstractGenerator {
             iprint("__query.setResultEnsured(%1$s);%n", m.getEnsureResult());
             iprint("__query.setResultMappingEnsured(%1$s);%n",
                     m.getEnsureResultMapping());
+            if (m.getSkipOriginalStates()) {
+                iprint("__query.setOriginalStatesSkipped(%1$s);%n",
+                        m.getSkipOriginalStates());
+            }
             if (m.getSelectStrategyType() == SelectType.RETURN) {
                 iprint("__query.setFetchType(%1$s.%2$s);%n",
                         FetchType.class.getName(), FetchType.LAZY);
@@ -551,7 +564,7 @@ public class DaoGenerator extends AbstractGenerator {
             if (m.isResultStream()) {
                 iprint("__query.setResultStream(true);%n");
             }
-            iprint("__query.prepare();%n");
+            iprint("prepare(__query);%n");
 
             QueryReturnMeta returnMeta = m.getReturnMeta();
 
@@ -619,6 +632,8 @@ public class DaoGenerator extends AbstractGenerator {
             iprint("__query.setHaltOnError(%1$s);%n", m.getHaltOnError());
             iprint("__query.setSqlLogType(%1$s.%2$s);%n",
                     m.getSqlLogType().getClass().getName(), m.getSqlLogType());
+            iprint("__query.setBatch(%1$s);%n", m.getBatch());
+            iprint("__query.setBatchSize(%1$s);%n", m.getBatchSize());
             iprint("__query.prepare();%n");
             iprint("%1$s __command = getCommandImplementors().create%2$s(%3$s, __query);%n",
                     /* 1 */m.getCommandClass().getName(),
@@ -689,7 +704,7 @@ public class DaoGenerator extends AbstractGenerator {
                         suppressOptimisticLockException);
             }
 
-            iprint("__query.prepare();%n");
+            iprint("prepare(__query);%n");
             iprint("%1$s __command = getCommandImplementors().create%2$s(%3$s, __query);%n",
                     m.getCommandClass().getName(),
                     m.getCommandClass().getSimpleName(), methodName);
@@ -780,7 +795,7 @@ public class DaoGenerator extends AbstractGenerator {
                         suppressOptimisticLockException);
             }
 
-            iprint("__query.prepare();%n");
+            iprint("prepare(__query);%n");
             iprint("%1$s __command = getCommandImplementors().create%2$s(%3$s, __query);%n",
                     /* 1 */m.getCommandClass().getName(),
                     /* 2 */m.getCommandClass().getSimpleName(),
@@ -854,7 +869,12 @@ public class DaoGenerator extends AbstractGenerator {
                         suppressOptimisticLockException);
             }
 
-            iprint("__query.prepare();%n");
+            Integer multiRowSize = m.getMultiRowSize();
+            if (multiRowSize != null && multiRowSize > 0) {
+                iprint("__query.setMultiRowSize(%1$s);%n", multiRowSize);
+            }
+
+            iprint("prepare(__query);%n");
             iprint("%1$s __command = getCommandImplementors().create%2$s(%3$s, __query);%n",
                     /* 1 */m.getCommandClass().getName(),
                     /* 2 */m.getCommandClass().getSimpleName(),
@@ -937,7 +957,7 @@ public class DaoGenerator extends AbstractGenerator {
                         suppressOptimisticLockException);
             }
 
-            iprint("__query.prepare();%n");
+            iprint("prepare(__query);%n");
             iprint("%1$s __command = getCommandImplementors().create%2$s(%3$s, __query);%n",
                     /* 1 */m.getCommandClass().getName(),
                     /* 2 */m.getCommandClass().getSimpleName(),
@@ -992,7 +1012,7 @@ public class DaoGenerator extends AbstractGenerator {
             iprint("__query.setQueryTimeout(%1$s);%n", m.getQueryTimeout());
             iprint("__query.setSqlLogType(%1$s.%2$s);%n",
                     m.getSqlLogType().getClass().getName(), m.getSqlLogType());
-            iprint("__query.prepare();%n");
+            iprint("prepare(__query);%n");
             iprint("%1$s<%2$s> __command = getCommandImplementors().create%3$s(%4$s, __query);%n",
                     /* 1 */m.getCommandClass().getName(),
                     /* 2 */returnMeta.getBoxedTypeName(),
@@ -1035,7 +1055,7 @@ public class DaoGenerator extends AbstractGenerator {
             iprint("__query.setQueryTimeout(%1$s);%n", m.getQueryTimeout());
             iprint("__query.setSqlLogType(%1$s.%2$s);%n",
                     m.getSqlLogType().getClass().getName(), m.getSqlLogType());
-            iprint("__query.prepare();%n");
+            iprint("prepare(__query);%n");
             iprint("%1$s __command = getCommandImplementors().create%2$s(%3$s, __query);%n",
                     /* 1 */m.getCommandClass().getName(),
                     /* 2 */m.getCommandClass().getSimpleName(),
@@ -1167,7 +1187,7 @@ public class DaoGenerator extends AbstractGenerator {
 
             iprint("__query.setCallerClassName(\"%1$s\");%n", canonicalName);
             iprint("__query.setCallerMethodName(\"%1$s\");%n", m.getName());
-            iprint("__query.prepare();%n");
+            iprint("prepare(__query);%n");
 
             QueryReturnMeta returnMeta = m.getReturnMeta();
             iprint("%1$s<%2$s> __command = getCommandImplementors().create%3$s(%4$s, __query, %5$s);%n",
@@ -18,14 +18,20 @@ package org.seasar.doma.internal.apt;
 import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import javax.annotation.processing.SupportedAnnotationTypes;
 import javax.annotation.processing.SupportedOptions;
 import javax.lang.model.element.TypeElement;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
 
 import org.seasar.doma.Dao;
+import org.seasar.doma.internal.apt.meta.AbstractSqlFileQueryMeta;
 import org.seasar.doma.internal.apt.meta.ArrayCreateQueryMetaFactory;
 import org.seasar.doma.internal.apt.meta.AutoBatchModifyQueryMetaFactory;
 import org.seasar.doma.internal.apt.meta.AutoFunctionQueryMetaFactory;
@@ -37,6 +43,7 @@ import org.seasar.doma.internal.apt.meta.DaoMeta;
 import org.seasar.doma.internal.apt.meta.DaoMetaFactory;
 import org.seasar.doma.internal.apt.meta.DefaultQueryMetaFactory;
 import org.seasar.doma.internal.apt.meta.NClobCreateQueryMetaFactory;
+import org.seasar.doma.internal.apt.meta.QueryMeta;
 import org.seasar.doma.internal.apt.meta.QueryMetaFactory;
 import org.seasar.doma.internal.apt.meta.SQLXMLCreateQueryMetaFactory;
 import org.seasar.doma.internal.apt.meta.SqlFileBatchModifyQueryMetaFactory;
@@ -45,6 +52,8 @@ import org.seasar.doma.internal.apt.meta.SqlFileScriptQueryMetaFactory;
 import org.seasar.doma.internal.apt.meta.SqlFileSelectQueryMetaFactory;
 import org.seasar.doma.internal.apt.meta.SqlProcessorQueryMetaFactory;
 import org.seasar.doma.internal.apt.meta.TypeElementMetaFactory;
+import org.seasar.doma.internal.jdbc.util.SqlFileIndexUtil;
+import org.seasar.doma.message.Message;
 
 /**
  * @author taedium
@@ -54,7 +63,7 @@ import org.seasar.doma.internal.apt.meta.TypeElementMetaFactory;
 @SupportedOptions({ Options.TEST, Options.DEBUG, Options.DAO_PACKAGE,
         Options.DAO_SUBPACKAGE, Options.DAO_SUFFIX, Options.EXPR_FUNCTIONS,
         Options.SQL_VALIDATION, Options.VERSION_VALIDATION,
-        Options.RESOURCES_DIR })
+        Options.RESOURCES_DIR, Options.SQL_PRECOMPILATION })
 public class DaoProcessor extends AbstractGeneratingProcessor<DaoMeta> {
 
     public DaoProcessor() {
@@ -93,4 +102,37 @@ public class DaoProcessor extends AbstractGeneratingProcessor<DaoMeta> {
         assertNotNull(typeElement, meta);
         return new DaoGenerator(processingEnv, typeElement, meta);
     }
+
+    @Override
+    protected void generate(TypeElement typeElement, DaoMeta meta) {
+        super.generate(typeElement, meta);
+        if (Options.getSqlPrecompilation(processingEnv)) {
+            generateSqlFileIndex(typeElement, meta);
+        }
+    }
+
+    protected void generateSqlFileIndex(TypeElement typeElement, DaoMeta meta) {
+        Map<String, String> sqls = new TreeMap<String, String>();
+        for (QueryMeta queryMeta : meta.getQueryMetas()) {
+            if (queryMeta instanceof AbstractSqlFileQueryMeta) {
+                sqls.putAll(((AbstractSqlFileQueryMeta) queryMeta).getSqls());
+            }
+        }
+        if (sqls.isEmpty()) {
+            return;
+        }
+        String path = SqlFileIndexUtil.buildPath(typeElement
+                .getQualifiedName().toString());
+        try {
+            FileObject fileObject = processingEnv.getFiler().createResource(
+                    StandardLocation.CLASS_OUTPUT, "", path, typeElement);
+            try (OutputStream out = fileObject.openOutputStream()) {
+                SqlFileIndexUtil.write(sqls, out);
+            }
+        } catch (IOException e) {
+            throw new AptException(Message.DOMA4011, processingEnv,
+                    typeElement, e, new Object[] {
+                            typeElement.getQualifiedName(), e });
+        }
+    }
 }
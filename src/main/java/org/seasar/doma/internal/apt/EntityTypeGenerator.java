@@ -416,6 +416,7 @@ public class EntityTypeGenerator extends AbstractGenerator {
         printGetVersionPropertyTypeMethod();
         printGetTenantIdPropertyTypeMethod();
         printNewEntityMethod();
+        printNewEntityByOrdinalMethod();
         printGetEntityClassMethod();
         printGetOriginalStatesMethod();
         printSaveCurrentStatesMethod();
@@ -689,6 +690,53 @@ public class EntityTypeGenerator extends AbstractGenerator {
         print("%n");
     }
 
+    protected void printNewEntityByOrdinalMethod() {
+        if (entityMeta.isAbstract() || hasEmbeddedProperty()) {
+            return;
+        }
+        if (hasGenericTypeProperty()) {
+            iprint("@SuppressWarnings(\"unchecked\")%n");
+        }
+        iprint("@Override%n");
+        iprint("public %1$s newEntity(%2$s<%1$s, ?>[] __args) {%n",
+                entityMeta.getEntityTypeName(), Property.class.getName());
+        if (entityMeta.isImmutable()) {
+            iprint("    return new %1$s(%n", entityMeta.getEntityTypeName());
+            int ordinal = 0;
+            for (Iterator<EntityPropertyMeta> it = entityMeta
+                    .getAllPropertyMetas().iterator(); it.hasNext();) {
+                EntityPropertyMeta propertyMeta = it.next();
+                iprint("        (%1$s)(__args[%2$s] != null ? __args[%2$s].get() : null)",
+                        TypeMirrorUtil.boxIfPrimitive(propertyMeta.getType(),
+                                env), ordinal++);
+                if (it.hasNext()) {
+                    print(",%n");
+                }
+            }
+            print(");%n");
+        } else {
+            iprint("    %1$s entity = new %1$s();%n",
+                    entityMeta.getEntityTypeName());
+            int size = entityMeta.getAllPropertyMetas().size();
+            for (int ordinal = 0; ordinal < size; ordinal++) {
+                iprint("    if (__args[%1$s] != null) __args[%1$s].save(entity);%n",
+                        ordinal);
+            }
+            iprint("    return entity;%n");
+        }
+        iprint("}%n");
+        print("%n");
+    }
+
+    protected boolean hasEmbeddedProperty() {
+        for (EntityPropertyMeta propertyMeta : entityMeta.getAllPropertyMetas()) {
+            if (propertyMeta.isEmbedded()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     protected boolean hasGenericTypeProperty() {
         if (entityMeta.isImmutable()) {
             for (EntityPropertyMeta propertyMeta : entityMeta
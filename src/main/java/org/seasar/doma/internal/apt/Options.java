@@ -57,6 +57,8 @@ public final class Options {
 
     public static final String VERSION_VALIDATION = "doma.version.validation";
 
+    public static final String SQL_PRECOMPILATION = "doma.sql.precompilation";
+
     public static final String CONFIG_PATH = "doma.config.path";
 
     public static final String RESOURCES_DIR = "doma.resources.dir";
@@ -127,6 +129,11 @@ public final class Options {
         return v != null ? Boolean.valueOf(v).booleanValue() : true;
     }
 
+    public static boolean getSqlPrecompilation(ProcessingEnvironment env) {
+        String v = getOption(env, Options.SQL_PRECOMPILATION);
+        return v != null ? Boolean.valueOf(v).booleanValue() : false;
+    }
+
     public static boolean getVersionValidation(ProcessingEnvironment env) {
         String v = getOption(env, Options.VERSION_VALIDATION);
         return v != null ? Boolean.valueOf(v).booleanValue() : true;
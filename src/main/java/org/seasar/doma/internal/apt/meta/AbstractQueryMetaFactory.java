@@ -36,6 +36,7 @@ import javax.lang.model.util.TypeKindVisitor8;
 import org.seasar.doma.Domain;
 import org.seasar.doma.Entity;
 import org.seasar.doma.internal.apt.AptException;
+import org.seasar.doma.internal.apt.cttype.StreamCtType;
 import org.seasar.doma.internal.apt.util.AnnotationValueUtil;
 import org.seasar.doma.internal.apt.util.TypeMirrorUtil;
 import org.seasar.doma.jdbc.Config;
@@ -159,7 +160,24 @@ public abstract class AbstractQueryMetaFactory<M extends AbstractQueryMeta>
     }
 
     protected QueryReturnMeta createReturnMeta(QueryMeta queryMeta) {
-        return new QueryReturnMeta(queryMeta, env);
+        QueryReturnMeta returnMeta = new QueryReturnMeta(queryMeta, env);
+        if (returnMeta.isAsync()) {
+            validateAsyncReturnMeta(returnMeta, queryMeta);
+        }
+        return returnMeta;
+    }
+
+    protected void validateAsyncReturnMeta(QueryReturnMeta returnMeta,
+            QueryMeta queryMeta) {
+        QueryKind queryKind = queryMeta.getQueryKind();
+        if (queryKind == null || !queryKind.isAsyncSupported()
+                || returnMeta.getCtType() instanceof StreamCtType) {
+            ExecutableElement method = queryMeta.getMethodElement();
+            throw new AptException(Message.DOMA4445, env, method,
+                    new Object[] { returnMeta.getDeclaredTypeName(),
+                            queryMeta.getDaoElement().getQualifiedName(),
+                            method.getSimpleName() });
+        }
     }
 
     protected QueryParameterMeta createParameterMeta(VariableElement parameter,
@@ -15,6 +15,9 @@
  */
 package org.seasar.doma.internal.apt.meta;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
 
@@ -24,7 +27,17 @@ import javax.lang.model.element.TypeElement;
  */
 public abstract class AbstractSqlFileQueryMeta extends AbstractQueryMeta {
 
+    protected final Map<String, String> sqls = new LinkedHashMap<String, String>();
+
     protected AbstractSqlFileQueryMeta(ExecutableElement method, TypeElement dao) {
         super(method, dao);
     }
+
+    public Map<String, String> getSqls() {
+        return sqls;
+    }
+
+    public void addSql(String sqlFilePath, String sql) {
+        this.sqls.put(sqlFilePath, sql);
+    }
 }
@@ -80,18 +80,16 @@ public abstract class AbstractSqlFileQueryMetaFactory<M extends AbstractSqlFileQ
                         expandable, populatable);
                 validator.validate(sqlNode);
                 queryMeta.addFileName(fileName);
+                if (Options.getSqlPrecompilation(env)) {
+                    queryMeta.addSql(sqlFilePath, sql);
+                }
             }
         }
     }
 
     protected File getFile(M queryMeta, ExecutableElement method,
             String filePath) {
-        FileObject fileObject = getFileObject(filePath, method);
-        URI uri = fileObject.toUri();
-        if (!uri.isAbsolute()) {
-            uri = new File(".").toURI().resolve(uri);
-        }
-        File file = getCanonicalFile(new File(uri));
+        File file = resolveFile(method, filePath);
         if (!file.exists()) {
             throw new AptException(Message.DOMA4019, env, method, new Object[] {
                     filePath, file.getAbsolutePath() });
@@ -107,6 +105,15 @@ public abstract class AbstractSqlFileQueryMetaFactory<M extends AbstractSqlFileQ
         return file;
     }
 
+    protected File resolveFile(ExecutableElement method, String filePath) {
+        FileObject fileObject = getFileObject(filePath, method);
+        URI uri = fileObject.toUri();
+        if (!uri.isAbsolute()) {
+            uri = new File(".").toURI().resolve(uri);
+        }
+        return getCanonicalFile(new File(uri));
+    }
+
     protected File getCanonicalFile(File file) {
         try {
             return file.getCanonicalFile();
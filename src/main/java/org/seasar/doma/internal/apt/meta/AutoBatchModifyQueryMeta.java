@@ -76,6 +76,10 @@ public class AutoBatchModifyQueryMeta extends AbstractQueryMeta {
         return batchModifyMirror.getIgnoreVersionValue();
     }
 
+    public Integer getMultiRowSize() {
+        return batchModifyMirror.getMultiRowSizeValue();
+    }
+
     public Boolean getSuppressOptimisticLockException() {
         return batchModifyMirror.getSuppressOptimisticLockExceptionValue();
     }
@@ -369,7 +369,9 @@ public class DaoMetaFactory implements TypeElementMetaFactory<DaoMeta> {
             @Override
             public boolean accept(File dir, String name) {
                 return name.endsWith(Constants.SQL_PATH_SUFFIX)
-                        || name.endsWith(Constants.SCRIPT_PATH_SUFFIX);
+                        || name.endsWith(Constants.SCRIPT_PATH_SUFFIX)
+                        || name.endsWith(Constants.SCRIPT_PATH_SUFFIX
+                                + Constants.GZIP_SUFFIX);
             }
         });
         return new HashSet<String>(Arrays.asList(fileNames));
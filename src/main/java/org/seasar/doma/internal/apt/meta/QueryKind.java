@@ -385,6 +385,27 @@ public enum QueryKind {
 
     public abstract Class<? extends Query> getQueryClass();
 
+    public boolean isAsyncSupported() {
+        switch (this) {
+        case SQLFILE_SELECT:
+        case SQLFILE_INSERT:
+        case SQLFILE_UPDATE:
+        case SQLFILE_DELETE:
+        case SQLFILE_BATCH_INSERT:
+        case SQLFILE_BATCH_UPDATE:
+        case SQLFILE_BATCH_DELETE:
+        case AUTO_INSERT:
+        case AUTO_UPDATE:
+        case AUTO_DELETE:
+        case AUTO_BATCH_INSERT:
+        case AUTO_BATCH_UPDATE:
+        case AUTO_BATCH_DELETE:
+            return true;
+        default:
+            return false;
+        }
+    }
+
     @SuppressWarnings("rawtypes")
     public abstract Class<? extends Command> getCommandClass();
 
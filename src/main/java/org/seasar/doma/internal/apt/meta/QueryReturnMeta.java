@@ -18,6 +18,8 @@ package org.seasar.doma.internal.apt.meta;
 import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.ExecutableElement;
@@ -61,16 +63,55 @@ public class QueryReturnMeta {
 
     protected final CtType ctType;
 
+    protected final TypeMirror asyncType;
+
+    protected final String asyncTypeName;
+
     public QueryReturnMeta(QueryMeta queryMeta, ProcessingEnvironment env) {
         assertNotNull(queryMeta, env);
         this.env = env;
         methodElement = queryMeta.getMethodElement();
         daoElement = queryMeta.getDaoElement();
-        type = methodElement.getReturnType();
+        TypeMirror returnType = methodElement.getReturnType();
+        TypeMirror resultType = getAsyncResultType(returnType);
+        if (resultType == null) {
+            type = returnType;
+            asyncType = null;
+            asyncTypeName = null;
+        } else {
+            type = resultType;
+            asyncType = returnType;
+            asyncTypeName = TypeMirrorUtil.getTypeName(returnType, env);
+        }
         typeName = TypeMirrorUtil.getTypeName(type, env);
         ctType = createCtType();
     }
 
+    protected TypeMirror getAsyncResultType(TypeMirror returnType) {
+        TypeMirror erasure = env.getTypeUtils().erasure(returnType);
+        if (!TypeMirrorUtil.isSameType(erasure, CompletableFuture.class, env)
+                && !TypeMirrorUtil.isSameType(erasure, CompletionStage.class,
+                        env)) {
+            return null;
+        }
+        DeclaredType declaredType = TypeMirrorUtil.toDeclaredType(returnType,
+                env);
+        if (declaredType == null) {
+            return null;
+        }
+        List<? extends TypeMirror> typeArgs = declaredType.getTypeArguments();
+        if (typeArgs.size() != 1
+                || typeArgs.get(0).getKind() == TypeKind.WILDCARD
+                || typeArgs.get(0).getKind() == TypeKind.TYPEVAR) {
+            throw new AptException(Message.DOMA4444, env, methodElement,
+                    new Object[] {
+                            TypeMirrorUtil.getTypeName(returnType, env),
+                            daoElement.getQualifiedName(),
+                            methodElement.getSimpleName() });
+        }
+        return typeArgs.get(0);
+    }
+
     protected CtType createCtType() {
         IterableCtType iterableCtType = IterableCtType.newInstance(type, env);
         if (iterableCtType != null) {
@@ -170,11 +211,22 @@ public class QueryReturnMeta {
         return typeName;
     }
 
+    public boolean isAsync() {
+        return asyncType != null;
+    }
+
+    public String getDeclaredTypeName() {
+        return asyncType != null ? asyncTypeName : typeName;
+    }
+
     public String getBoxedTypeName() {
         return ctType.getBoxedTypeName();
     }
 
     public boolean isPrimitiveInt() {
+        if (asyncType != null) {
+            return TypeMirrorUtil.isSameType(type, Integer.class, env);
+        }
         return type.getKind() == TypeKind.INT;
     }
 
@@ -53,6 +53,14 @@ public class SqlFileScriptQueryMeta extends AbstractSqlFileQueryMeta {
         return scriptMirror.getSqlLogValue();
     }
 
+    public boolean getBatch() {
+        return scriptMirror.getBatchValue();
+    }
+
+    public int getBatchSize() {
+        return scriptMirror.getBatchSizeValue();
+    }
+
     @Override
     public <R, P> R accept(QueryMetaVisitor<R, P> visitor, P p) {
         return visitor.visitSqlFileScriptQueryMeta(this, p);
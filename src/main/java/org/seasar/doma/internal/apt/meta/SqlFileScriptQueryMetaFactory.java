@@ -22,6 +22,7 @@ import java.io.File;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.ExecutableElement;
 
+import org.seasar.doma.internal.Constants;
 import org.seasar.doma.internal.apt.AptException;
 import org.seasar.doma.internal.apt.mirror.ScriptMirror;
 import org.seasar.doma.internal.jdbc.util.ScriptFileUtil;
@@ -96,6 +97,12 @@ public class SqlFileScriptQueryMetaFactory extends
             boolean populatable) {
         String filePath = ScriptFileUtil.buildPath(daoMeta.getDaoElement()
                 .getQualifiedName().toString(), queryMeta.getName());
+        if (!resolveFile(method, filePath).exists()) {
+            String gzipFilePath = filePath + Constants.GZIP_SUFFIX;
+            if (resolveFile(method, gzipFilePath).exists()) {
+                filePath = gzipFilePath;
+            }
+        }
         File file = getFile(queryMeta, method, filePath);
         File[] siblingfiles = getSiblingFiles(queryMeta, method, file);
         String methodName = queryMeta.getName();
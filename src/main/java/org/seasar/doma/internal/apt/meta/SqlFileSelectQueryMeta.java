@@ -148,6 +148,10 @@ public class SqlFileSelectQueryMeta extends AbstractSqlFileQueryMeta {
         return selectMirror.getEnsureResultMappingValue();
     }
 
+    public boolean getSkipOriginalStates() {
+        return selectMirror.getSkipOriginalStatesValue();
+    }
+
     public MapKeyNamingType getMapKeyNamingType() {
         return selectMirror.getMapKeyNamingValue();
     }
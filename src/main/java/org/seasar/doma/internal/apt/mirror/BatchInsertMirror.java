@@ -63,6 +63,8 @@ public class BatchInsertMirror extends BatchModifyMirror {
                 result.exclude = value;
             } else if ("sqlLog".equals(name)) {
                 result.sqlLog = value;
+            } else if ("multiRowSize".equals(name)) {
+                result.multiRowSize = value;
             }
         }
         return result;
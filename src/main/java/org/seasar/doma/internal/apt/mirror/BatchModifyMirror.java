@@ -51,6 +51,8 @@ public abstract class BatchModifyMirror {
 
     protected AnnotationValue sqlLog;
 
+    protected AnnotationValue multiRowSize;
+
     protected BatchModifyMirror(AnnotationMirror annotationMirror) {
         assertNotNull(annotationMirror);
         this.annotationMirror = annotationMirror;
@@ -92,6 +94,10 @@ public abstract class BatchModifyMirror {
         return sqlLog;
     }
 
+    public AnnotationValue getMultiRowSize() {
+        return multiRowSize;
+    }
+
     public int getQueryTimeoutValue() {
         Integer value = AnnotationValueUtil.toInteger(queryTimeout);
         if (value == null) {
@@ -116,6 +122,10 @@ public abstract class BatchModifyMirror {
         return AnnotationValueUtil.toBoolean(suppressOptimisticLockException);
     }
 
+    public Integer getMultiRowSizeValue() {
+        return AnnotationValueUtil.toInteger(multiRowSize);
+    }
+
     public List<String> getIncludeValue() {
         return AnnotationValueUtil.toStringList(include);
     }
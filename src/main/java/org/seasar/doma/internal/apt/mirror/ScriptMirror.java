@@ -45,6 +45,10 @@ public class ScriptMirror {
 
     protected AnnotationValue sqlLog;
 
+    protected AnnotationValue batch;
+
+    protected AnnotationValue batchSize;
+
     protected ScriptMirror(AnnotationMirror annotationMirror) {
         this.annotationMirror = annotationMirror;
     }
@@ -61,6 +65,14 @@ public class ScriptMirror {
         return sqlLog;
     }
 
+    public AnnotationValue getBatch() {
+        return batch;
+    }
+
+    public AnnotationValue getBatchSize() {
+        return batchSize;
+    }
+
     public boolean getHaltOnErrorValue() {
         Boolean value = AnnotationValueUtil.toBoolean(haltOnError);
         if (value == null) {
@@ -86,6 +98,22 @@ public class ScriptMirror {
         return SqlLogType.valueOf(enumConstant.getSimpleName().toString());
     }
 
+    public boolean getBatchValue() {
+        Boolean value = AnnotationValueUtil.toBoolean(batch);
+        if (value == null) {
+            throw new AptIllegalStateException("batch");
+        }
+        return value.booleanValue();
+    }
+
+    public int getBatchSizeValue() {
+        Integer value = AnnotationValueUtil.toInteger(batchSize);
+        if (value == null) {
+            throw new AptIllegalStateException("batchSize");
+        }
+        return value.intValue();
+    }
+
     public AnnotationMirror getAnnotationMirror() {
         return annotationMirror;
     }
@@ -110,6 +138,10 @@ public class ScriptMirror {
                 result.blockDelimiter = value;
             } else if ("sqlLog".equals(name)) {
                 result.sqlLog = value;
+            } else if ("batch".equals(name)) {
+                result.batch = value;
+            } else if ("batchSize".equals(name)) {
+                result.batchSize = value;
             }
         }
         return result;
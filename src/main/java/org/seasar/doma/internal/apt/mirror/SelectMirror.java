@@ -50,6 +50,8 @@ public class SelectMirror {
 
     protected AnnotationValue ensureResultMapping;
 
+    protected AnnotationValue skipOriginalStates;
+
     protected AnnotationValue queryTimeout;
 
     protected AnnotationValue fetchSize;
@@ -158,6 +160,14 @@ public class SelectMirror {
         return value.booleanValue();
     }
 
+    public boolean getSkipOriginalStatesValue() {
+        Boolean value = AnnotationValueUtil.toBoolean(skipOriginalStates);
+        if (value == null) {
+            throw new AptIllegalStateException("skipOriginalStates");
+        }
+        return value.booleanValue();
+    }
+
     public MapKeyNamingType getMapKeyNamingValue() {
         VariableElement enumConstant = AnnotationValueUtil
                 .toEnumConstant(mapKeyNaming);
@@ -203,6 +213,8 @@ public class SelectMirror {
                 result.ensureResult = value;
             } else if ("ensureResultMapping".equals(name)) {
                 result.ensureResultMapping = value;
+            } else if ("skipOriginalStates".equals(name)) {
+                result.skipOriginalStates = value;
             } else if ("queryTimeout".equals(name)) {
                 result.queryTimeout = value;
             } else if ("fetchSize".equals(name)) {
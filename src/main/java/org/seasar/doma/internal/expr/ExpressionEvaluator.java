@@ -52,6 +52,7 @@ import org.seasar.doma.internal.expr.node.EqOperatorNode;
 import org.seasar.doma.internal.expr.node.ExpressionLocation;
 import org.seasar.doma.internal.expr.node.ExpressionNode;
 import org.seasar.doma.internal.expr.node.ExpressionNodeVisitor;
+import org.seasar.doma.internal.expr.node.FieldCache;
 import org.seasar.doma.internal.expr.node.FieldOperatorNode;
 import org.seasar.doma.internal.expr.node.FunctionOperatorNode;
 import org.seasar.doma.internal.expr.node.GeOperatorNode;
@@ -59,6 +60,7 @@ import org.seasar.doma.internal.expr.node.GtOperatorNode;
 import org.seasar.doma.internal.expr.node.LeOperatorNode;
 import org.seasar.doma.internal.expr.node.LiteralNode;
 import org.seasar.doma.internal.expr.node.LtOperatorNode;
+import org.seasar.doma.internal.expr.node.MethodCache;
 import org.seasar.doma.internal.expr.node.MethodOperatorNode;
 import org.seasar.doma.internal.expr.node.ModOperatorNode;
 import org.seasar.doma.internal.expr.node.MultiplyOperatorNode;
@@ -502,14 +504,20 @@ public class ExpressionEvaluator implements
         ParameterCollection collection = collector.collect(node
                 .getParametersNode());
         ExpressionLocation location = node.getLocation();
-        Method method = findMethod(node.getMethodName(), target, targetClass,
+        MethodCache methodCache = node.getMethodCache();
+        Method method = methodCache.get(targetClass,
                 collection.getParamTypes());
         if (method == null) {
-            String signature = MethodUtil.createSignature(node.getMethodName(),
+            method = findMethod(node.getMethodName(), target, targetClass,
                     collection.getParamTypes());
-            throw new ExpressionException(Message.DOMA3002,
-                    location.getExpression(), location.getPosition(),
-                    targetClass.getName(), signature);
+            if (method == null) {
+                String signature = MethodUtil.createSignature(
+                        node.getMethodName(), collection.getParamTypes());
+                throw new ExpressionException(Message.DOMA3002,
+                        location.getExpression(), location.getPosition(),
+                        targetClass.getName(), signature);
+            }
+            methodCache.put(targetClass, collection.getParamTypes(), method);
         }
         return invokeMethod(location, method, target, targetClass,
                 collection.getParamTypes(), collection.getParams());
@@ -667,13 +675,20 @@ public class ExpressionEvaluator implements
         ParameterCollection collection = collector.collect(node
                 .getParametersNode());
         ExpressionLocation location = node.getLocation();
-        Method method = findMethod(node.getMethodName(), expressionFunctions,
-                targetClass, collection.getParamTypes());
+        MethodCache methodCache = node.getMethodCache();
+        Method method = methodCache.get(targetClass,
+                collection.getParamTypes());
         if (method == null) {
-            String signature = MethodUtil.createSignature(node.getMethodName(),
-                    collection.getParamTypes());
-            throw new ExpressionException(Message.DOMA3028,
-                    location.getExpression(), location.getPosition(), signature);
+            method = findMethod(node.getMethodName(), expressionFunctions,
+                    targetClass, collection.getParamTypes());
+            if (method == null) {
+                String signature = MethodUtil.createSignature(
+                        node.getMethodName(), collection.getParamTypes());
+                throw new ExpressionException(Message.DOMA3028,
+                        location.getExpression(), location.getPosition(),
+                        signature);
+            }
+            methodCache.put(targetClass, collection.getParamTypes(), method);
         }
         return invokeMethod(node.getLocation(), method, expressionFunctions,
                 targetClass, collection.getParamTypes(), collection.getParams());
@@ -686,11 +701,17 @@ public class ExpressionEvaluator implements
                 p);
         Object target = targetResult.getValue();
         ExpressionLocation location = node.getLocation();
-        Field field = findField(node.getFieldName(), target.getClass());
+        Class<?> targetClass = target.getClass();
+        FieldCache fieldCache = node.getFieldCache();
+        Field field = fieldCache.get(targetClass);
         if (field == null) {
-            throw new ExpressionException(Message.DOMA3018,
-                    location.getExpression(), location.getPosition(), target
-                            .getClass().getName(), node.getFieldName());
+            field = findField(node.getFieldName(), targetClass);
+            if (field == null) {
+                throw new ExpressionException(Message.DOMA3018,
+                        location.getExpression(), location.getPosition(),
+                        targetClass.getName(), node.getFieldName());
+            }
+            fieldCache.put(targetClass, field);
         }
         return getFieldValue(location, field, target);
     }
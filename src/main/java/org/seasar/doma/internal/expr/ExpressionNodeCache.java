@@ -0,0 +1,75 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.expr;
+
+import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
+
+import org.seasar.doma.internal.expr.node.ExpressionNode;
+import org.seasar.doma.internal.jdbc.cache.LruCache;
+import org.seasar.doma.jdbc.CacheStatistics;
+
+/**
+ * 式の文字列をキーとして、解析結果を上限つきでキャッシュします。
+ * <p>
+ * 式のノードはメソッドやフィールドの解決結果をインラインキャッシュとして保持するため、同じ式の評価で再利用します。
+ * 上限を超えると、最も長く参照されていない解析結果から追い出します。
+ * <p>
+ * このクラスはスレッドセーフです。
+ * 
+ * @author nakamura-to
+ * @since 2.20.0
+ */
+public final class ExpressionNodeCache {
+
+    /** キャッシュする解析結果の最大数 */
+    public static final int MAX_SIZE = 1024;
+
+    private static final LruCache<String, ExpressionNode> cache = new LruCache<>(
+            MAX_SIZE);
+
+    private ExpressionNodeCache() {
+    }
+
+    /**
+     * 式の解析結果を返します。
+     * 
+     * @param expression
+     *            式の文字列
+     * @return 式の解析結果
+     * @throws ExpressionException
+     *             式の解析に失敗した場合
+     */
+    public static ExpressionNode get(String expression) {
+        assertNotNull(expression);
+        return cache.get(expression, e -> new ExpressionParser(e).parse());
+    }
+
+    /**
+     * キャッシュの統計情報を返します。
+     * 
+     * @return キャッシュの統計情報
+     */
+    public static CacheStatistics getStatistics() {
+        return cache.getStatistics();
+    }
+
+    /**
+     * キャッシュを削除します。
+     */
+    public static void clear() {
+        cache.clear();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.expr.node;
+
+import java.lang.reflect.Field;
+
+/**
+ * 式のノードごとに解決済みのフィールドを保持するインラインキャッシュです。
+ * <p>
+ * 直前に解決したレシーバのクラスと一致する場合に限り、解決済みのフィールドを返します。
+ * <p>
+ * このクラスはスレッドセーフです。
+ * 
+ * @author nakamura-to
+ * @since 2.20.0
+ */
+public class FieldCache {
+
+    protected volatile Entry entry;
+
+    /**
+     * 解決済みのフィールドを返します。
+     * 
+     * @param targetClass
+     *            レシーバのクラス
+     * @return 解決済みのフィールド、キャッシュされていない場合 {@code null}
+     */
+    public Field get(Class<?> targetClass) {
+        Entry e = entry;
+        if (e != null && e.targetClass == targetClass) {
+            return e.field;
+        }
+        return null;
+    }
+
+    /**
+     * 解決済みのフィールドを保持します。
+     * 
+     * @param targetClass
+     *            レシーバのクラス
+     * @param field
+     *            解決済みのフィールド
+     */
+    public void put(Class<?> targetClass, Field field) {
+        entry = new Entry(targetClass, field);
+    }
+
+    protected static class Entry {
+
+        protected final Class<?> targetClass;
+
+        protected final Field field;
+
+        protected Entry(Class<?> targetClass, Field field) {
+            this.targetClass = targetClass;
+            this.field = field;
+        }
+    }
+}
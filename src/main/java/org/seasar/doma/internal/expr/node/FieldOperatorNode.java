@@ -33,6 +33,8 @@ public class FieldOperatorNode implements OperatorNode {
 
     protected ExpressionNode targetObjectNode;
 
+    protected final FieldCache fieldCache = new FieldCache();
+
     @Override
     public int getPriority() {
         return PRIORITY;
@@ -58,6 +60,10 @@ public class FieldOperatorNode implements OperatorNode {
         this.targetObjectNode = targetObjectNode;
     }
 
+    public FieldCache getFieldCache() {
+        return fieldCache;
+    }
+
     @Override
     public <R, P> R accept(ExpressionNodeVisitor<R, P> visitor, P p) {
         return visitor.visitFieldOperatorNode(this, p);
@@ -33,6 +33,8 @@ public class FunctionOperatorNode implements OperatorNode {
 
     protected ExpressionNode parametersNode;
 
+    protected final MethodCache methodCache = new MethodCache();
+
     @Override
     public int getPriority() {
         return PRIORITY;
@@ -58,6 +60,10 @@ public class FunctionOperatorNode implements OperatorNode {
         this.parametersNode = parametersNode;
     }
 
+    public MethodCache getMethodCache() {
+        return methodCache;
+    }
+
     @Override
     public <R, P> R accept(ExpressionNodeVisitor<R, P> visitor, P p) {
         return visitor.visitFunctionOperatorNode(this, p);
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.expr.node;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * 式のノードごとに解決済みのメソッドを保持するインラインキャッシュです。
+ * <p>
+ * 直前に解決したレシーバのクラスとパラメータの型が一致する場合に限り、解決済みのメソッドを返します。
+ * <p>
+ * このクラスはスレッドセーフです。
+ * 
+ * @author nakamura-to
+ * @since 2.20.0
+ */
+public class MethodCache {
+
+    protected volatile Entry entry;
+
+    /**
+     * 解決済みのメソッドを返します。
+     * 
+     * @param targetClass
+     *            レシーバのクラス
+     * @param paramTypes
+     *            パラメータの型
+     * @return 解決済みのメソッド、キャッシュされていない場合 {@code null}
+     */
+    public Method get(Class<?> targetClass, Class<?>[] paramTypes) {
+        Entry e = entry;
+        if (e != null && e.targetClass == targetClass
+                && Arrays.equals(e.paramTypes, paramTypes)) {
+            return e.method;
+        }
+        return null;
+    }
+
+    /**
+     * 解決済みのメソッドを保持します。
+     * 
+     * @param targetClass
+     *            レシーバのクラス
+     * @param paramTypes
+     *            パラメータの型
+     * @param method
+     *            解決済みのメソッド
+     */
+    public void put(Class<?> targetClass, Class<?>[] paramTypes, Method method) {
+        entry = new Entry(targetClass, paramTypes.clone(), method);
+    }
+
+    protected static class Entry {
+
+        protected final Class<?> targetClass;
+
+        protected final Class<?>[] paramTypes;
+
+        protected final Method method;
+
+        protected Entry(Class<?> targetClass, Class<?>[] paramTypes,
+                Method method) {
+            this.targetClass = targetClass;
+            this.paramTypes = paramTypes;
+            this.method = method;
+        }
+    }
+}
@@ -35,6 +35,8 @@ public class MethodOperatorNode implements OperatorNode {
 
     protected ExpressionNode parametersNode;
 
+    protected final MethodCache methodCache = new MethodCache();
+
     @Override
     public int getPriority() {
         return PRIORITY;
@@ -68,6 +70,10 @@ public class MethodOperatorNode implements OperatorNode {
         this.parametersNode = parametersNode;
     }
 
+    public MethodCache getMethodCache() {
+        return methodCache;
+    }
+
     @Override
     public <R, P> R accept(ExpressionNodeVisitor<R, P> visitor, P p) {
         return visitor.visitMethodOperatorNode(this, p);
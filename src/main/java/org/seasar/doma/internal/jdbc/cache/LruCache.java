@@ -0,0 +1,213 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.jdbc.cache;
+
+import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
+import static org.seasar.doma.internal.util.AssertionUtil.assertTrue;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import org.seasar.doma.jdbc.CacheStatistics;
+
+/**
+ * 最も長く参照されていない値から追い出す、上限つきのキャッシュです。
+ * <p>
+ * 上限には値の数に加えて、値の重みの合計を指定できます。
+ * <p>
+ * 値は参照順の {@link LinkedHashMap} で保持し、追い出しの際は先頭の値を取り除きます。
+ * そのため、値の取得、格納、追い出しはいずれもキャッシュの大きさによらず定数時間で行われます。
+ * マップの操作はロックを獲得した状態で行いますが、値のロード中はロックを獲得しません。
+ * <p>
+ * 値のロードはロックの外で行うため、同じキーに対するロードが同時に複数回実行されることがあります。
+ * その場合、最初にキャッシュに格納された値が返されます。
+ * <p>
+ * このクラスはスレッドセーフです。
+ * 
+ * @author nakamura-to
+ * @since 2.20.0
+ * @param <K>
+ *            キーの型
+ * @param <V>
+ *            値の型
+ */
+public class LruCache<K, V> {
+
+    protected final int maxSize;
+
+    protected final long maxWeight;
+
+    protected final ToLongFunction<? super V> weigher;
+
+    /** 参照順のマップ、ロックを獲得した状態で操作されます */
+    protected final LinkedHashMap<K, Entry<V>> map;
+
+    protected final LongAdder hitCount = new LongAdder();
+
+    protected final LongAdder missCount = new LongAdder();
+
+    protected final LongAdder loadCount = new LongAdder();
+
+    protected final LongAdder totalLoadTime = new LongAdder();
+
+    protected final LongAdder evictionCount = new LongAdder();
+
+    /** 値の重みの合計、ロックを獲得した状態で更新されます */
+    protected long weight;
+
+    /**
+     * @param maxSize
+     *            キャッシュする値の最大数
+     */
+    public LruCache(int maxSize) {
+        this(maxSize, 0L, v -> 0L);
+    }
+
+    /**
+     * @param maxSize
+     *            キャッシュする値の最大数
+     * @param maxWeight
+     *            キャッシュする値の重みの合計の最大値、{@code 0} の場合は重みによる上限なし
+     * @param weigher
+     *            値の重みを返す関数
+     */
+    public LruCache(int maxSize, long maxWeight,
+            ToLongFunction<? super V> weigher) {
+        assertTrue(maxSize > 0, maxSize);
+        assertTrue(maxWeight >= 0, maxWeight);
+        assertNotNull(weigher);
+        this.maxSize = maxSize;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.map = new LinkedHashMap<K, Entry<V>>(Math.min(maxSize, 256),
+                0.75f, true);
+    }
+
+    /**
+     * キーに対応する値を返します。
+     * <p>
+     * キャッシュに値が存在しない場合はロードしてキャッシュします。
+     * 
+     * @param key
+     *            キー
+     * @param loader
+     *            値のローダー
+     * @return 値
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        assertNotNull(key, loader);
+        Entry<V> entry;
+        synchronized (this) {
+            entry = map.get(key);
+        }
+        if (entry != null) {
+            hitCount.increment();
+            return entry.value;
+        }
+        missCount.increment();
+        long start = System.nanoTime();
+        V value = loader.apply(key);
+        long loadTime = System.nanoTime() - start;
+        assertNotNull(value);
+        loadCount.increment();
+        totalLoadTime.add(loadTime);
+        Entry<V> newEntry = new Entry<V>(value, weigher.applyAsLong(value));
+        synchronized (this) {
+            Entry<V> current = map.putIfAbsent(key, newEntry);
+            if (current != null) {
+                return current.value;
+            }
+            weight += newEntry.weight;
+            evict();
+            return value;
+        }
+    }
+
+    /**
+     * 上限を超えなくなるまで、最も長く参照されていない値から追い出します。
+     * <p>
+     * ロックを獲得した状態で呼び出さなければいけません。
+     */
+    protected void evict() {
+        Iterator<Map.Entry<K, Entry<V>>> iterator = map.entrySet().iterator();
+        while (isOverflowed() && iterator.hasNext()) {
+            Map.Entry<K, Entry<V>> eldest = iterator.next();
+            iterator.remove();
+            weight -= eldest.getValue().weight;
+            evictionCount.increment();
+        }
+    }
+
+    /**
+     * 上限を超えているかどうかを返します。
+     * 
+     * @return 上限を超えている場合 {@code true}
+     */
+    protected boolean isOverflowed() {
+        return map.size() > maxSize || (maxWeight > 0 && weight > maxWeight);
+    }
+
+    /**
+     * キャッシュを削除します。
+     */
+    public synchronized void clear() {
+        map.clear();
+        weight = 0;
+    }
+
+    /**
+     * キャッシュされている値の数を返します。
+     * 
+     * @return キャッシュされている値の数
+     */
+    public synchronized int size() {
+        return map.size();
+    }
+
+    /**
+     * 統計情報を返します。
+     * 
+     * @return 統計情報
+     */
+    public synchronized CacheStatistics getStatistics() {
+        return new CacheStatistics(hitCount.sum(), missCount.sum(),
+                loadCount.sum(), totalLoadTime.sum(), evictionCount.sum(),
+                map.size(), weight);
+    }
+
+    /**
+     * キャッシュのエントリです。
+     * 
+     * @author nakamura-to
+     * @param <V>
+     *            値の型
+     */
+    protected static class Entry<V> {
+
+        protected final V value;
+
+        protected final long weight;
+
+        protected Entry(V value, long weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
@@ -41,7 +41,8 @@ public class EntityIterationHandler<ENTITY, RESULT> extends
     @Override
     protected ObjectProvider<ENTITY> createObjectProvider(SelectQuery query) {
         return new EntityProvider<>(entityType, query,
-                query.isResultMappingEnsured());
+                query.isResultMappingEnsured(),
+                query.isOriginalStatesSkipped());
     }
 
 }
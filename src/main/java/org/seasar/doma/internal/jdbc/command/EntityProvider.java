@@ -16,17 +16,21 @@
 package org.seasar.doma.internal.jdbc.command;
 
 import static org.seasar.doma.internal.Constants.ROWNUMBER_COLUMN_NAME;
+import static org.seasar.doma.internal.Constants.TOTAL_COUNT_COLUMN_NAME;
 import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import org.seasar.doma.jdbc.JdbcMappingVisitor;
@@ -38,6 +42,7 @@ import org.seasar.doma.jdbc.entity.EntityPropertyType;
 import org.seasar.doma.jdbc.entity.EntityType;
 import org.seasar.doma.jdbc.entity.Property;
 import org.seasar.doma.jdbc.query.Query;
+import org.seasar.doma.wrapper.Wrapper;
 
 /**
  * @author nakamura-to
@@ -45,17 +50,42 @@ import org.seasar.doma.jdbc.query.Query;
  */
 public class EntityProvider<ENTITY> extends AbstractObjectProvider<ENTITY> {
 
+    /** キャッシュするマッピング計画の最大数 */
+    protected static final int MAPPING_PLAN_CACHE_SIZE = 512;
+
+    /** SQLとエンティティ型をキーとするマッピング計画のキャッシュ */
+    protected static final Map<MappingPlanKey, MappingPlan> mappingPlanCache = Collections
+            .synchronizedMap(new LinkedHashMap<MappingPlanKey, MappingPlan>(
+                    16, 0.75f, true) {
+
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(
+                        Map.Entry<MappingPlanKey, MappingPlan> eldest) {
+                    return size() > MAPPING_PLAN_CACHE_SIZE;
+                }
+            });
+
     protected final EntityType<ENTITY> entityType;
 
     protected final Query query;
 
     protected final boolean resultMappingEnsured;
 
+    protected final boolean originalStatesSkipped;
+
     protected final JdbcMappingVisitor jdbcMappingVisitor;
 
     protected final UnknownColumnHandler unknownColumnHandler;
 
-    protected Map<Integer, EntityPropertyType<ENTITY, ?>> indexMap;
+    protected MappingPlan mappingPlan;
+
+    protected Property<ENTITY, ?>[] properties;
+
+    protected ResultSet boundResultSet;
+
+    protected JdbcValueGetter[] valueGetters;
 
     /**
      * @param entityType
@@ -63,10 +93,24 @@ public class EntityProvider<ENTITY> extends AbstractObjectProvider<ENTITY> {
      */
     public EntityProvider(EntityType<ENTITY> entityType, Query query,
             boolean resultMappingEnsured) {
+        this(entityType, query, resultMappingEnsured, false);
+    }
+
+    /**
+     * @param entityType
+     * @param query
+     * @param resultMappingEnsured
+     * @param originalStatesSkipped
+     *            エンティティの状態を保存しない場合 {@code true}
+     * @since 2.20.0
+     */
+    public EntityProvider(EntityType<ENTITY> entityType, Query query,
+            boolean resultMappingEnsured, boolean originalStatesSkipped) {
         assertNotNull(entityType, query);
         this.entityType = entityType;
         this.query = query;
         this.resultMappingEnsured = resultMappingEnsured;
+        this.originalStatesSkipped = originalStatesSkipped;
         this.jdbcMappingVisitor = query.getConfig().getDialect()
                 .getJdbcMappingVisitor();
         this.unknownColumnHandler = query.getConfig().getUnknownColumnHandler();
@@ -79,53 +123,115 @@ public class EntityProvider<ENTITY> extends AbstractObjectProvider<ENTITY> {
 
     protected ENTITY build(ResultSet resultSet) throws SQLException {
         assertNotNull(resultSet);
-        if (indexMap == null) {
-            indexMap = createIndexMap(resultSet.getMetaData(), entityType);
-        }
-        Map<String, Property<ENTITY, ?>> states = new HashMap<>(indexMap.size());
-        for (Map.Entry<Integer, EntityPropertyType<ENTITY, ?>> entry : indexMap
-                .entrySet()) {
-            Integer index = entry.getKey();
-            EntityPropertyType<ENTITY, ?> propertyType = entry.getValue();
-            Property<ENTITY, ?> property = propertyType.createProperty();
-            fetch(resultSet, property, index, jdbcMappingVisitor);
-            states.put(propertyType.getName(), property);
-        }
-        ENTITY entity = entityType.newEntity(states);
-        if (!entityType.isImmutable()) {
+        if (mappingPlan == null) {
+            mappingPlan = getMappingPlan(resultSet.getMetaData());
+            properties = createProperties(mappingPlan);
+        }
+        if (boundResultSet != resultSet) {
+            valueGetters = createValueGetters(resultSet, mappingPlan);
+            boundResultSet = resultSet;
+        }
+        int[] propertyIndexes = mappingPlan.propertyIndexes;
+        for (int i = 0; i < propertyIndexes.length; i++) {
+            fetch(properties[propertyIndexes[i]], valueGetters[i]);
+        }
+        ENTITY entity = entityType.newEntity(properties);
+        if (!originalStatesSkipped && !entityType.isImmutable()) {
             entityType.saveCurrentStates(entity);
         }
         return entity;
     }
 
-    protected HashMap<Integer, EntityPropertyType<ENTITY, ?>> createIndexMap(
-            ResultSetMetaData resultSetMeta, EntityType<ENTITY> entityType)
+    protected <BASIC> void fetch(Property<ENTITY, BASIC> property,
+            JdbcValueGetter valueGetter) throws SQLException {
+        Wrapper<BASIC> wrapper = property.getWrapper();
+        wrapper.accept(jdbcMappingVisitor, valueGetter, property);
+    }
+
+    protected Property<ENTITY, ?>[] createProperties(MappingPlan plan) {
+        List<EntityPropertyType<ENTITY, ?>> propertyTypes = entityType
+                .getEntityPropertyTypes();
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        Property<ENTITY, ?>[] properties = new Property[propertyTypes.size()];
+        for (int propertyIndex : plan.propertyIndexes) {
+            properties[propertyIndex] = propertyTypes.get(propertyIndex)
+                    .createProperty();
+        }
+        return properties;
+    }
+
+    protected JdbcValueGetter[] createValueGetters(ResultSet resultSet,
+            MappingPlan plan) {
+        int[] columnIndexes = plan.columnIndexes;
+        JdbcValueGetter[] valueGetters = new JdbcValueGetter[columnIndexes.length];
+        for (int i = 0; i < columnIndexes.length; i++) {
+            valueGetters[i] = new JdbcValueGetter(resultSet, columnIndexes[i]);
+        }
+        return valueGetters;
+    }
+
+    protected MappingPlan getMappingPlan(ResultSetMetaData resultSetMeta)
             throws SQLException {
-        HashMap<Integer, EntityPropertyType<ENTITY, ?>> indexMap = new HashMap<>();
+        Sql<?> sql = query.getSql();
+        if (sql == null) {
+            return createMappingPlan(resultSetMeta, entityType);
+        }
+        MappingPlanKey key = new MappingPlanKey(entityType, query.getConfig()
+                .getNaming(), sql.getRawSql(), resultMappingEnsured);
+        MappingPlan plan = mappingPlanCache.get(key);
+        if (plan != null && plan.matches(resultSetMeta)) {
+            for (String unknownColumnName : plan.unknownColumnNames) {
+                unknownColumnHandler.handle(query, entityType,
+                        unknownColumnName);
+            }
+            return plan;
+        }
+        plan = createMappingPlan(resultSetMeta, entityType);
+        mappingPlanCache.put(key, plan);
+        return plan;
+    }
+
+    protected MappingPlan createMappingPlan(ResultSetMetaData resultSetMeta,
+            EntityType<ENTITY> entityType) throws SQLException {
+        List<EntityPropertyType<ENTITY, ?>> propertyTypes = entityType
+                .getEntityPropertyTypes();
         HashMap<String, EntityPropertyType<ENTITY, ?>> columnNameMap = createColumnNameMap(entityType);
         Set<EntityPropertyType<ENTITY, ?>> unmappedPropertySet = resultMappingEnsured ? new HashSet<>(
                 columnNameMap.values()) : Collections.emptySet();
         int count = resultSetMeta.getColumnCount();
+        String[] columnLabels = new String[count];
+        int[] columnIndexes = new int[count];
+        int[] propertyIndexes = new int[count];
+        int mappedCount = 0;
+        List<String> unknownColumnNames = new ArrayList<>();
         for (int i = 1; i < count + 1; i++) {
             String columnName = resultSetMeta.getColumnLabel(i);
+            columnLabels[i - 1] = columnName;
             String lowerCaseColumnName = columnName.toLowerCase();
             EntityPropertyType<ENTITY, ?> propertyType = columnNameMap
                     .get(lowerCaseColumnName);
             if (propertyType == null) {
-                if (ROWNUMBER_COLUMN_NAME.equals(lowerCaseColumnName)) {
+                if (ROWNUMBER_COLUMN_NAME.equals(lowerCaseColumnName)
+                        || TOTAL_COUNT_COLUMN_NAME.equals(lowerCaseColumnName)) {
                     continue;
                 }
                 unknownColumnHandler.handle(query, entityType,
                         lowerCaseColumnName);
+                unknownColumnNames.add(lowerCaseColumnName);
             } else {
                 unmappedPropertySet.remove(propertyType);
-                indexMap.put(i, propertyType);
+                columnIndexes[mappedCount] = i;
+                propertyIndexes[mappedCount] = propertyTypes
+                        .indexOf(propertyType);
+                mappedCount++;
             }
         }
         if (resultMappingEnsured && !unmappedPropertySet.isEmpty()) {
             throwResultMappingException(unmappedPropertySet);
         }
-        return indexMap;
+        return new MappingPlan(columnLabels, Arrays.copyOf(columnIndexes,
+                mappedCount), Arrays.copyOf(propertyIndexes, mappedCount),
+                unknownColumnNames);
     }
 
     protected HashMap<String, EntityPropertyType<ENTITY, ?>> createColumnNameMap(
@@ -160,4 +266,92 @@ public class EntityProvider<ENTITY> extends AbstractObjectProvider<ENTITY> {
                 sql.getSqlFilePath());
     }
 
+    /**
+     * 結果セットの列とエンティティのプロパティの対応を表します。
+     * 
+     * @author nakamura-to
+     */
+    protected static class MappingPlan {
+
+        /** 結果セットの列ラベル */
+        protected final String[] columnLabels;
+
+        /** マッピング対象の列のインデックス */
+        protected final int[] columnIndexes;
+
+        /** 列に対応するプロパティの序数 */
+        protected final int[] propertyIndexes;
+
+        /** 未知の列の名前 */
+        protected final List<String> unknownColumnNames;
+
+        protected MappingPlan(String[] columnLabels, int[] columnIndexes,
+                int[] propertyIndexes, List<String> unknownColumnNames) {
+            this.columnLabels = columnLabels;
+            this.columnIndexes = columnIndexes;
+            this.propertyIndexes = propertyIndexes;
+            this.unknownColumnNames = unknownColumnNames;
+        }
+
+        protected boolean matches(ResultSetMetaData resultSetMeta)
+                throws SQLException {
+            int count = resultSetMeta.getColumnCount();
+            if (count != columnLabels.length) {
+                return false;
+            }
+            for (int i = 1; i < count + 1; i++) {
+                if (!columnLabels[i - 1].equals(resultSetMeta
+                        .getColumnLabel(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * マッピング計画のキャッシュのキーです。
+     * 
+     * @author nakamura-to
+     */
+    protected static class MappingPlanKey {
+
+        protected final EntityType<?> entityType;
+
+        protected final Naming naming;
+
+        protected final String rawSql;
+
+        protected final boolean resultMappingEnsured;
+
+        protected MappingPlanKey(EntityType<?> entityType, Naming naming,
+                String rawSql, boolean resultMappingEnsured) {
+            this.entityType = entityType;
+            this.naming = naming;
+            this.rawSql = rawSql;
+            this.resultMappingEnsured = resultMappingEnsured;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(entityType, naming, rawSql,
+                    resultMappingEnsured);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof MappingPlanKey)) {
+                return false;
+            }
+            MappingPlanKey other = (MappingPlanKey) obj;
+            return entityType == other.entityType
+                    && Objects.equals(naming, other.naming)
+                    && Objects.equals(rawSql, other.rawSql)
+                    && resultMappingEnsured == other.resultMappingEnsured;
+        }
+    }
+
 }
@@ -15,18 +15,19 @@
  */
 package org.seasar.doma.internal.jdbc.command;
 
+import static org.seasar.doma.internal.Constants.TOTAL_COUNT_COLUMN_NAME;
 import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
 import java.lang.reflect.Method;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
 
 import org.seasar.doma.MapKeyNamingType;
-import org.seasar.doma.internal.jdbc.scalar.BasicScalar;
+import org.seasar.doma.jdbc.JdbcMappingHint;
 import org.seasar.doma.jdbc.JdbcMappingVisitor;
 import org.seasar.doma.jdbc.MapKeyNaming;
 import org.seasar.doma.jdbc.query.Query;
@@ -38,13 +39,23 @@ import org.seasar.doma.wrapper.ObjectWrapper;
  */
 public class MapProvider extends AbstractObjectProvider<Map<String, Object>> {
 
+    protected static final JdbcMappingHint HINT = Optional::empty;
+
     protected final Query query;
 
     protected final MapKeyNamingType mapKeyNamingType;
 
     protected final JdbcMappingVisitor jdbcMappingVisitor;
 
-    protected Map<Integer, String> indexMap;
+    protected RowMap.Keys keys;
+
+    protected int[] columnIndexes;
+
+    protected ResultSet resultSet;
+
+    protected JdbcValueGetter[] valueGetters;
+
+    protected final ObjectWrapper wrapper = new ObjectWrapper();
 
     /**
      * 
@@ -61,33 +72,63 @@ public class MapProvider extends AbstractObjectProvider<Map<String, Object>> {
 
     @Override
     public Map<String, Object> get(ResultSet resultSet) throws SQLException {
-        Map<String, Object> map = new LinkedHashMap<String, Object>();
-        if (indexMap == null) {
-            indexMap = createIndexMap(resultSet.getMetaData());
+        if (keys == null) {
+            prepareKeys(resultSet.getMetaData());
+        }
+        if (this.resultSet != resultSet) {
+            prepareValueGetters(resultSet);
         }
-        for (Map.Entry<Integer, String> entry : indexMap.entrySet()) {
-            Integer index = entry.getKey();
-            String key = entry.getValue();
-            BasicScalar<Object> scalar = new BasicScalar<>(
-                    () -> new ObjectWrapper(), false);
-            fetch(resultSet, scalar, index, jdbcMappingVisitor);
-            map.put(key, scalar.get());
+        Object[] values = new Object[columnIndexes.length];
+        for (int i = 0; i < values.length; i++) {
+            wrapper.set(null);
+            wrapper.accept(jdbcMappingVisitor, valueGetters[i], HINT);
+            values[i] = wrapper.get();
         }
-        return map;
+        return new RowMap(keys, values);
     }
 
-    protected HashMap<Integer, String> createIndexMap(
-            ResultSetMetaData resultSetMeta) throws SQLException {
+    /**
+     * 列のラベルからキーの表と、キーごとに値を取得する列のインデックスを準備します。
+     * <p>
+     * 同じキーに変換される列が複数ある場合、キーの位置は最初の列、値は最後の列のものになります。
+     * 
+     * @param resultSetMeta
+     *            結果セットのメタデータ
+     * @throws SQLException
+     *             SQL例外が発生した場合
+     */
+    protected void prepareKeys(ResultSetMetaData resultSetMeta)
+            throws SQLException {
         MapKeyNaming naming = query.getConfig().getMapKeyNaming();
         Method method = query.getMethod();
-        HashMap<Integer, String> indexMap = new HashMap<Integer, String>();
+        LinkedHashMap<String, Integer> indexMap = new LinkedHashMap<>();
         int count = resultSetMeta.getColumnCount();
         for (int i = 1; i < count + 1; i++) {
             String columnName = resultSetMeta.getColumnLabel(i);
+            if (TOTAL_COUNT_COLUMN_NAME.equalsIgnoreCase(columnName)) {
+                continue;
+            }
             String key = naming.apply(method, mapKeyNamingType, columnName);
-            indexMap.put(i, key);
+            indexMap.put(key, i);
+        }
+        String[] names = new String[indexMap.size()];
+        int[] indexes = new int[indexMap.size()];
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : indexMap.entrySet()) {
+            names[i] = entry.getKey();
+            indexes[i] = entry.getValue();
+            i++;
+        }
+        keys = new RowMap.Keys(names);
+        columnIndexes = indexes;
+    }
+
+    protected void prepareValueGetters(ResultSet resultSet) {
+        this.resultSet = resultSet;
+        valueGetters = new JdbcValueGetter[columnIndexes.length];
+        for (int i = 0; i < columnIndexes.length; i++) {
+            valueGetters[i] = new JdbcValueGetter(resultSet, columnIndexes[i]);
         }
-        return indexMap;
     }
 
 }
@@ -19,13 +19,25 @@ import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.List;
 
 import org.seasar.doma.jdbc.InParameter;
+import org.seasar.doma.jdbc.JdbcMappingFunction;
 import org.seasar.doma.jdbc.JdbcMappingVisitor;
 import org.seasar.doma.jdbc.query.Query;
+import org.seasar.doma.jdbc.type.JdbcType;
+import org.seasar.doma.wrapper.Wrapper;
 
 /**
+ * {@link PreparedStatement} にパラメータをバインドします。
+ * <p>
+ * パラメータのインデックスごとに {@link JdbcType} を一度だけ解決して保持します。
+ * 同じ形のSQLを繰り返しバインドする場合、2回目以降は {@link JdbcMappingVisitor}
+ * による解決を行わずに値を直接設定するため、パラメータごとのオブジェクトの生成が発生しません。
+ * 保持している {@link JdbcType} は、パラメータの {@link Wrapper} のクラス、基本型のクラス、もしくはドメインクラスが変わった場合に解決し直されます。
+ * <p>
+ * このクラスはスレッドセーフではありません。
  * 
  * @author taedium
  * 
@@ -35,6 +47,21 @@ public class PreparedSqlParameterBinder extends
 
     protected final Query query;
 
+    /** {@link JdbcType} を解決する関数 */
+    protected final JdbcTypeResolver jdbcTypeResolver = new JdbcTypeResolver();
+
+    /** インデックスごとの {@link JdbcType} */
+    protected JdbcType<?>[] jdbcTypes = new JdbcType<?>[0];
+
+    /** インデックスごとの {@link Wrapper} のクラス */
+    protected Class<?>[] wrapperClasses = new Class<?>[0];
+
+    /** インデックスごとの基本型のクラス */
+    protected Class<?>[] basicClasses = new Class<?>[0];
+
+    /** インデックスごとのドメインクラス */
+    protected Class<?>[] domainClasses = new Class<?>[0];
+
     public PreparedSqlParameterBinder(Query query) {
         assertNotNull(query);
         this.query = query;
@@ -44,13 +71,67 @@ public class PreparedSqlParameterBinder extends
     public void bind(PreparedStatement preparedStatement,
             List<? extends InParameter<?>> paramters) throws SQLException {
         assertNotNull(preparedStatement, paramters);
-        int index = 1;
-        JdbcMappingVisitor jdbcMappingVisitor = query.getConfig().getDialect()
-                .getJdbcMappingVisitor();
-        for (InParameter<?> parameter : paramters) {
-            bindInParameter(preparedStatement, parameter, index,
-                    jdbcMappingVisitor);
-            index++;
+        int size = paramters.size();
+        if (jdbcTypes.length < size) {
+            jdbcTypes = Arrays.copyOf(jdbcTypes, size);
+            wrapperClasses = Arrays.copyOf(wrapperClasses, size);
+            basicClasses = Arrays.copyOf(basicClasses, size);
+            domainClasses = Arrays.copyOf(domainClasses, size);
+        }
+        JdbcMappingVisitor jdbcMappingVisitor = null;
+        for (int i = 0; i < size; i++) {
+            InParameter<?> parameter = paramters.get(i);
+            Wrapper<?> wrapper = parameter.getWrapper();
+            Class<?> domainClass = parameter.getDomainClass().orElse(null);
+            JdbcType<?> jdbcType = jdbcTypes[i];
+            if (jdbcType == null || wrapperClasses[i] != wrapper.getClass()
+                    || basicClasses[i] != wrapper.getBasicClass()
+                    || domainClasses[i] != domainClass) {
+                if (jdbcMappingVisitor == null) {
+                    jdbcMappingVisitor = query.getConfig().getDialect()
+                            .getJdbcMappingVisitor();
+                }
+                jdbcType = jdbcTypeResolver.resolve(parameter,
+                        jdbcMappingVisitor);
+                jdbcTypes[i] = jdbcType;
+                wrapperClasses[i] = wrapper.getClass();
+                basicClasses[i] = wrapper.getBasicClass();
+                domainClasses[i] = domainClass;
+            }
+            setValue(preparedStatement, i + 1, jdbcType, wrapper);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    protected void setValue(PreparedStatement preparedStatement, int index,
+            JdbcType<?> jdbcType, Wrapper<?> wrapper) throws SQLException {
+        ((JdbcType<Object>) jdbcType).setValue(preparedStatement, index,
+                wrapper.get());
+    }
+
+    /**
+     * {@link JdbcMappingVisitor} が選択する {@link JdbcType} を取得する関数です。
+     * 
+     * @author nakamura-to
+     * @since 2.20.0
+     */
+    protected static class JdbcTypeResolver implements JdbcMappingFunction {
+
+        protected JdbcType<?> jdbcType;
+
+        protected JdbcType<?> resolve(InParameter<?> parameter,
+                JdbcMappingVisitor jdbcMappingVisitor) throws SQLException {
+            jdbcType = null;
+            parameter.getWrapper().accept(jdbcMappingVisitor, this, parameter);
+            assertNotNull(jdbcType);
+            return jdbcType;
+        }
+
+        @Override
+        public <R, V> R apply(Wrapper<V> wrapper, JdbcType<V> jdbcType)
+                throws SQLException {
+            this.jdbcType = jdbcType;
+            return null;
         }
     }
 
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.jdbc.command;
+
+import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
+import static org.seasar.doma.internal.util.AssertionUtil.assertTrue;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * 結果セットの1行を表す変更不可能な {@link Map} です。
+ * <p>
+ * キーの表は結果セットごとに1つだけ作成して各行で共有し、行ごとには値の配列だけを保持します。
+ * キーの順序は結果セットの列の順序です。
+ * 
+ * @author nakamura-to
+ * @since 2.20.0
+ */
+public class RowMap extends AbstractMap<String, Object> implements
+        Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected final Keys keys;
+
+    protected final Object[] values;
+
+    /**
+     * @param keys
+     *            キーの表
+     * @param values
+     *            キーの表と同じ順序で並んだ値の配列
+     */
+    public RowMap(Keys keys, Object[] values) {
+        assertNotNull(keys);
+        assertNotNull((Object) values);
+        assertTrue(keys.size() == values.length);
+        this.keys = keys;
+        this.values = values;
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return keys.indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int index = keys.indexOf(key);
+        return index >= 0 ? values[index] : null;
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        return new AbstractSet<Map.Entry<String, Object>>() {
+
+            @Override
+            public Iterator<Map.Entry<String, Object>> iterator() {
+                return new Iterator<Map.Entry<String, Object>>() {
+
+                    private int index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < values.length;
+                    }
+
+                    @Override
+                    public Map.Entry<String, Object> next() {
+                        if (index >= values.length) {
+                            throw new NoSuchElementException();
+                        }
+                        Map.Entry<String, Object> entry = new AbstractMap.SimpleImmutableEntry<>(
+                                keys.names[index], values[index]);
+                        index++;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return values.length;
+            }
+        };
+    }
+
+    /**
+     * 同じ結果セットから作成される {@link RowMap} で共有されるキーの表です。
+     * 
+     * @author nakamura-to
+     * @since 2.20.0
+     */
+    public static class Keys implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        protected final String[] names;
+
+        protected final HashMap<String, Integer> indexes;
+
+        /**
+         * @param names
+         *            重複のないキーの配列
+         */
+        public Keys(String... names) {
+            assertNotNull((Object) names);
+            this.names = names.clone();
+            this.indexes = new HashMap<>(names.length * 4 / 3 + 1);
+            for (int i = 0; i < names.length; i++) {
+                Integer prev = indexes.put(names[i], i);
+                assertTrue(prev == null, names[i]);
+            }
+        }
+
+        public int size() {
+            return names.length;
+        }
+
+        public int indexOf(Object key) {
+            Integer index = indexes.get(key);
+            return index != null ? index.intValue() : -1;
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(names);
+        }
+    }
+}
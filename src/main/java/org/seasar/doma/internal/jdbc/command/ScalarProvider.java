@@ -16,6 +16,7 @@
 package org.seasar.doma.internal.jdbc.command;
 
 import static org.seasar.doma.internal.Constants.ROWNUMBER_COLUMN_NAME;
+import static org.seasar.doma.internal.Constants.TOTAL_COUNT_COLUMN_NAME;
 import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
 import java.sql.ResultSet;
@@ -81,10 +82,14 @@ public class ScalarProvider<BASIC, CONTAINER> extends
     protected int getColumnCount(ResultSet resultSet) throws SQLException {
         ResultSetMetaData resultSetMeta = resultSet.getMetaData();
         int columnCount = resultSetMeta.getColumnCount();
-        if (columnCount == 2) {
-            String columnName = resultSetMeta.getColumnLabel(2).toLowerCase();
-            return ROWNUMBER_COLUMN_NAME.equals(columnName) ? 1 : 2;
+        int result = columnCount;
+        for (int i = 2; i < columnCount + 1; i++) {
+            String columnName = resultSetMeta.getColumnLabel(i).toLowerCase();
+            if (ROWNUMBER_COLUMN_NAME.equals(columnName)
+                    || TOTAL_COUNT_COLUMN_NAME.equals(columnName)) {
+                result--;
+            }
         }
-        return columnCount;
+        return result;
     }
 }
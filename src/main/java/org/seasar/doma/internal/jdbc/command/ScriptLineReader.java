@@ -0,0 +1,275 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.jdbc.command;
+
+import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPInputStream;
+
+import org.seasar.doma.internal.Constants;
+
+/**
+ * SQLスクリプトファイルを1行ずつ読み取るリーダです。
+ * <p>
+ * ファイルシステム上のスクリプトファイルはメモリにマップして読み取ります。 拡張子が {@code .gz}
+ * のスクリプトファイルはgzip形式で圧縮されているものとして展開しながら読み取ります。
+ * いずれの場合も、バイト列は固定長の {@link CharBuffer} に少しずつデコードされるため、
+ * ファイルの大きさに関わらず使用するメモリはほぼ一定です。
+ * <p>
+ * {@link #readLine()} が返す行は内部のバッファを参照します。次に {@link #readLine()}
+ * を呼び出すと内容は保証されません。
+ * 
+ * @author nakamura-to
+ * @since 2.20.0
+ */
+public class ScriptLineReader implements Closeable {
+
+    /** デフォルトのバッファサイズ */
+    protected static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /** バイト列を読み取るチャネル、すべてのバイト列がメモリ上にある場合は {@code null} */
+    protected final ReadableByteChannel channel;
+
+    /** デコードされていないバイト列 */
+    protected final ByteBuffer bytes;
+
+    /** デコーダ、文字列から読み取る場合は {@code null} */
+    protected final CharsetDecoder decoder;
+
+    /** デコードされた文字列 */
+    protected CharBuffer chars;
+
+    /** バイト列の終端に達した場合 {@code true} */
+    protected boolean endOfBytes;
+
+    /** 文字列の終端に達した場合 {@code true} */
+    protected boolean endOfChars;
+
+    /** 直前の行が {@code \r} で終了した場合 {@code true} */
+    protected boolean skipLineFeed;
+
+    /**
+     * チャネルから読み取るインスタンスを構築します。
+     * 
+     * @param channel
+     *            チャネル
+     */
+    public ScriptLineReader(ReadableByteChannel channel) {
+        this(channel, ByteBuffer.allocateDirect(DEFAULT_BUFFER_SIZE), false);
+    }
+
+    /**
+     * メモリ上のバイト列から読み取るインスタンスを構築します。
+     * 
+     * @param bytes
+     *            バイト列
+     */
+    public ScriptLineReader(ByteBuffer bytes) {
+        this(null, bytes, true);
+    }
+
+    /**
+     * 文字列から読み取るインスタンスを構築します。
+     * 
+     * @param chars
+     *            文字列
+     */
+    public ScriptLineReader(CharSequence chars) {
+        assertNotNull(chars);
+        this.channel = null;
+        this.bytes = null;
+        this.decoder = null;
+        this.chars = CharBuffer.wrap(chars);
+        this.endOfBytes = true;
+        this.endOfChars = true;
+    }
+
+    protected ScriptLineReader(ReadableByteChannel channel, ByteBuffer bytes,
+            boolean endOfBytes) {
+        assertNotNull(bytes);
+        this.channel = channel;
+        this.bytes = bytes;
+        this.endOfBytes = endOfBytes;
+        this.decoder = Constants.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.chars = CharBuffer.allocate(DEFAULT_BUFFER_SIZE);
+        this.chars.flip();
+        if (channel != null) {
+            this.bytes.flip();
+        }
+    }
+
+    /**
+     * 1行を読み取ります。
+     * 
+     * @return 行の終端文字を含まない1行、終端に達した場合 {@code null}
+     * @throws IOException
+     *             IOに関する例外が発生した場合
+     */
+    public CharSequence readLine() throws IOException {
+        int searchFrom = 0;
+        for (;;) {
+            if (skipLineFeed) {
+                if (chars.hasRemaining()) {
+                    if (chars.get(chars.position()) == '\n') {
+                        chars.position(chars.position() + 1);
+                    }
+                    skipLineFeed = false;
+                } else if (!endOfChars) {
+                    fill();
+                    continue;
+                } else {
+                    skipLineFeed = false;
+                }
+            }
+            int start = chars.position();
+            int limit = chars.limit();
+            for (int i = start + searchFrom; i < limit; i++) {
+                char c = chars.get(i);
+                if (c == '\n' || c == '\r') {
+                    CharSequence line = chars.subSequence(0, i - start);
+                    chars.position(i + 1);
+                    skipLineFeed = c == '\r';
+                    return line;
+                }
+            }
+            if (endOfChars) {
+                if (!chars.hasRemaining()) {
+                    return null;
+                }
+                CharSequence line = chars.subSequence(0, chars.remaining());
+                chars.position(limit);
+                return line;
+            }
+            searchFrom = limit - start;
+            fill();
+        }
+    }
+
+    /**
+     * 未処理の文字列を保ったまま、バイト列をデコードして文字列を補充します。
+     * 
+     * @throws IOException
+     *             IOに関する例外が発生した場合
+     */
+    protected void fill() throws IOException {
+        chars.compact();
+        if (chars.remaining() < 2) {
+            CharBuffer larger = CharBuffer.allocate(chars.capacity() * 2);
+            chars.flip();
+            larger.put(chars);
+            chars = larger;
+        }
+        try {
+            for (;;) {
+                if (!endOfBytes && channel != null) {
+                    bytes.compact();
+                    int n = channel.read(bytes);
+                    bytes.flip();
+                    if (n < 0) {
+                        endOfBytes = true;
+                    }
+                }
+                int position = chars.position();
+                CoderResult result = decoder.decode(bytes, chars, endOfBytes);
+                if (result.isError()) {
+                    result.throwException();
+                }
+                if (endOfBytes && result.isUnderflow()) {
+                    decoder.flush(chars);
+                    endOfChars = true;
+                    return;
+                }
+                if (chars.position() > position) {
+                    return;
+                }
+            }
+        } finally {
+            chars.flip();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    /**
+     * URLが示すSQLスクリプトファイルのリーダを作成します。
+     * 
+     * @param url
+     *            URL
+     * @return リーダ
+     * @throws IOException
+     *             IOに関する例外が発生した場合
+     */
+    public static ScriptLineReader open(URL url) throws IOException {
+        assertNotNull(url);
+        if (url.getPath().endsWith(Constants.GZIP_SUFFIX)) {
+            InputStream inputStream = url.openStream();
+            try {
+                return new ScriptLineReader(Channels
+                        .newChannel(new GZIPInputStream(inputStream,
+                                DEFAULT_BUFFER_SIZE)));
+            } catch (IOException e) {
+                inputStream.close();
+                throw e;
+            }
+        }
+        if ("file".equals(url.getProtocol())) {
+            Path path;
+            try {
+                path = Paths.get(url.toURI());
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                path = null;
+            }
+            if (path != null) {
+                FileChannel fileChannel = FileChannel.open(path,
+                        StandardOpenOption.READ);
+                long size = fileChannel.size();
+                if (size > Integer.MAX_VALUE) {
+                    return new ScriptLineReader(fileChannel);
+                }
+                try {
+                    return new ScriptLineReader(fileChannel.map(
+                            FileChannel.MapMode.READ_ONLY, 0, size));
+                } finally {
+                    fileChannel.close();
+                }
+            }
+        }
+        return new ScriptLineReader(Channels.newChannel(url.openStream()));
+    }
+}
@@ -17,14 +17,8 @@ package org.seasar.doma.internal.jdbc.command;
 
 import static org.seasar.doma.internal.util.AssertionUtil.*;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.util.ArrayList;
-import java.util.List;
 
-import org.seasar.doma.internal.Constants;
 import org.seasar.doma.internal.util.IOUtil;
 import org.seasar.doma.jdbc.JdbcException;
 import org.seasar.doma.jdbc.ScriptBlockContext;
@@ -45,7 +39,7 @@ public class ScriptReader {
     protected ScriptTokenizer tokenizer;
 
     /** リーダ */
-    protected BufferedReader reader;
+    protected ScriptLineReader reader;
 
     /** 行番号のカウント */
     protected int lineCount;
@@ -59,6 +53,9 @@ public class ScriptReader {
     /** 行の終端に達した場合{@code true} */
     protected boolean endOfLine = true;
 
+    /** 処理対象のSQLがSQLブロックの場合{@code true} */
+    protected boolean block;
+
     /**
      * インスタンスを構築します。
      * 
@@ -82,7 +79,7 @@ public class ScriptReader {
         }
         try {
             if (reader == null) {
-                reader = createBufferedReader();
+                reader = createLineReader();
             }
             SqlBuilder builder = new SqlBuilder();
             readLineLoop: for (;;) {
@@ -98,6 +95,7 @@ public class ScriptReader {
                     } else if (builder.isLineRequired()) {
                         continue readLineLoop;
                     } else if (builder.isCompleted()) {
+                        block = builder.isBlock();
                         return builder.getSql();
                     }
                     assertUnreachable();
@@ -121,6 +119,19 @@ public class ScriptReader {
         return lineNumber;
     }
 
+    /**
+     * 処理対象のSQLがSQLブロックかどうかを返します。
+     * <p>
+     * ブロックの区切り文字で終了したSQLや、ブロックの内側で終了したSQLはSQLブロックとみなします。
+     * </p>
+     * 
+     * @return SQLブロックの場合{@code true}
+     * @since 2.20.0
+     */
+    public boolean isBlock() {
+        return block;
+    }
+
     /**
      * クローズします。
      */
@@ -129,16 +140,15 @@ public class ScriptReader {
     }
 
     /**
-     * SQLスクリプトファイルに対する{@link BufferedReader}を作成します。
+     * SQLスクリプトファイルに対する{@link ScriptLineReader}を作成します。
      * 
-     * @return {@link BufferedReader}
+     * @return {@link ScriptLineReader}
      * @throws IOException
      *             IOに関する例外が発生した場合
+     * @since 2.20.0
      */
-    protected BufferedReader createBufferedReader() throws IOException {
-        InputStream inputStream = query.getScriptFileUrl().openStream();
-        return new BufferedReader(new InputStreamReader(inputStream,
-                Constants.UTF_8));
+    protected ScriptLineReader createLineReader() throws IOException {
+        return ScriptLineReader.open(query.getScriptFileUrl());
     }
 
     /**
@@ -160,15 +170,15 @@ public class ScriptReader {
         /** SQLの文字列を保持するバッファ */
         protected StringBuilder buf = new StringBuilder(300);
 
-        /** SQLのキーワードを管理するリスト */
-        protected List<String> wordList = new ArrayList<String>();
-
         /** SQLブロックのコンテキスト */
         protected ScriptBlockContext sqlBlockContext;
 
         /** 行が変更された場合{@code true} */
         protected boolean lineChanged;
 
+        /** ブロックの区切り文字でSQLの組み立てが完了した場合{@code true} */
+        protected boolean blockDelimited;
+
         /**
          * インスタンスを構築します
          */
@@ -214,6 +224,7 @@ public class ScriptReader {
                 if (isSqlEmpty()) {
                     requireToken();
                 } else {
+                    blockDelimited = true;
                     complete();
                 }
                 break;
@@ -345,13 +356,27 @@ public class ScriptReader {
             return sqlBlockContext.isInBlock();
         }
 
+        /**
+         * 組み立てたSQLがSQLブロックの場合{@code true}を返します。
+         * 
+         * @return SQLブロックの場合{@code true}
+         */
+        protected boolean isBlock() {
+            return blockDelimited || isInBlock();
+        }
+
         /**
          * SQLが空の場合{@code true}を返します。
          * 
          * @return SQLが空の場合{@code true}
          */
         protected boolean isSqlEmpty() {
-            return buf.toString().trim().length() == 0;
+            for (int i = 0; i < buf.length(); i++) {
+                if (buf.charAt(i) > ' ') {
+                    return false;
+                }
+            }
+            return true;
         }
 
         /**
@@ -18,8 +18,12 @@ package org.seasar.doma.internal.jdbc.command;
 import static org.seasar.doma.internal.jdbc.command.ScriptTokenType.*;
 import static org.seasar.doma.internal.util.AssertionUtil.*;
 
+import java.nio.CharBuffer;
+
 /**
  * SQLスクリプト内のトークンを認識するクラスです。
+ * <p>
+ * 行は {@link CharSequence} として受け取るため、 {@link CharBuffer} のスライスをコピーせずに処理できます。
  * 
  * @author taedium
  */
@@ -29,7 +33,7 @@ public class ScriptTokenizer {
     protected String blockDelimiter;
 
     /** SQLの行 */
-    protected String line;
+    protected CharSequence line;
 
     /** 現在の位置 */
     protected int pos;
@@ -66,7 +70,7 @@ public class ScriptTokenizer {
      * @param line
      *            1行の文字列
      */
-    public void addLine(String line) {
+    public void addLine(CharSequence line) {
         if (line == null) {
             type = END_OF_FILE;
             return;
@@ -78,7 +82,7 @@ public class ScriptTokenizer {
 
         if (blockCommentStarted) {
             type = BLOCK_COMMENT;
-        } else if (line.trim().equalsIgnoreCase(blockDelimiter)) {
+        } else if (isBlockDelimiter()) {
             type = BLOCK_DELIMITER;
             nextPos = length;
         } else {
@@ -86,6 +90,38 @@ public class ScriptTokenizer {
         }
     }
 
+    /**
+     * 前後の空白を除いた行がブロックの区切り文字と一致する場合{@code true}を返します。
+     * 
+     * @return ブロックの区切り文字と一致する場合{@code true}
+     */
+    protected boolean isBlockDelimiter() {
+        if (blockDelimiter == null) {
+            return false;
+        }
+        int start = 0;
+        int end = length;
+        while (start < end && line.charAt(start) <= ' ') {
+            start++;
+        }
+        while (start < end && line.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (end - start != blockDelimiter.length()) {
+            return false;
+        }
+        for (int i = 0; i < end - start; i++) {
+            char c1 = line.charAt(start + i);
+            char c2 = blockDelimiter.charAt(i);
+            if (c1 != c2
+                    && Character.toUpperCase(c1) != Character.toUpperCase(c2)
+                    && Character.toLowerCase(c1) != Character.toLowerCase(c2)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * 次のトークンを前もって調べます。
      * 
@@ -161,19 +197,19 @@ public class ScriptTokenizer {
             type = END_OF_LINE;
             return END_OF_LINE;
         case BLOCK_DELIMITER:
-            token = line;
+            token = line.toString();
             type = END_OF_LINE;
             return BLOCK_DELIMITER;
         case STATEMENT_DELIMITER:
-            token = line.substring(pos, nextPos);
+            token = substring(pos, nextPos);
             peek(nextPos);
             return STATEMENT_DELIMITER;
         case LINE_COMMENT:
-            token = line.substring(pos, length);
+            token = substring(pos, length);
             type = END_OF_LINE;
             return LINE_COMMENT;
         case START_OF_BLOCK_COMMENT:
-            token = line.substring(pos, nextPos);
+            token = substring(pos, nextPos);
             type = BLOCK_COMMENT;
             pos = pos + 2;
             nextPos = pos + 2;
@@ -186,7 +222,7 @@ public class ScriptTokenizer {
                     char c2 = line.charAt(nextIndex);
                     if (c == '*' && c2 == '/') {
                         blockCommentStarted = false;
-                        token = line.substring(pos, i);
+                        token = substring(pos, i);
                         type = END_OF_BLOCK_COMMENT;
                         pos = i;
                         nextPos = i + 2;
@@ -195,11 +231,11 @@ public class ScriptTokenizer {
                 }
             }
             blockCommentStarted = true;
-            token = line.substring(pos, length);
+            token = substring(pos, length);
             type = END_OF_LINE;
             return BLOCK_COMMENT;
         case END_OF_BLOCK_COMMENT:
-            token = line.substring(pos, nextPos);
+            token = substring(pos, nextPos);
             peek(nextPos);
             return END_OF_BLOCK_COMMENT;
         case QUOTE:
@@ -208,30 +244,30 @@ public class ScriptTokenizer {
                 if (c == '\'') {
                     i++;
                     if (i >= length) {
-                        token = line.substring(pos, i);
+                        token = substring(pos, i);
                         type = END_OF_LINE;
                         return QUOTE;
                     } else if (line.charAt(i) != '\'') {
-                        token = line.substring(pos, i);
+                        token = substring(pos, i);
                         peek(i);
                         return QUOTE;
                     }
                 }
             }
-            token = line.substring(pos, length);
+            token = substring(pos, length);
             type = END_OF_LINE;
             return QUOTE;
         case WORD:
             int wordStartPos = pos;
             for (; type == WORD && pos < length; peek(nextPos)) {
             }
-            token = line.substring(wordStartPos, pos);
+            token = substring(wordStartPos, pos);
             return WORD;
         case OTHER:
             int otherStartPos = pos;
             for (; type == OTHER && pos < length; peek(nextPos)) {
             }
-            token = line.substring(otherStartPos, pos);
+            token = substring(otherStartPos, pos);
             return OTHER;
         default:
             assertUnreachable(type.name());
@@ -239,6 +275,29 @@ public class ScriptTokenizer {
         }
     }
 
+    /**
+     * 行の部分文字列を返します。
+     * 
+     * @param start
+     *            開始インデックス
+     * @param end
+     *            終了インデックス
+     * @return 部分文字列
+     */
+    protected String substring(int start, int end) {
+        if (line instanceof String) {
+            return ((String) line).substring(start, end);
+        }
+        if (line instanceof CharBuffer) {
+            CharBuffer buffer = (CharBuffer) line;
+            if (buffer.hasArray()) {
+                return new String(buffer.array(), buffer.arrayOffset()
+                        + buffer.position() + start, end - start);
+            }
+        }
+        return line.subSequence(start, end).toString();
+    }
+
     /**
      * コメントや単語以外の場合{@code true}を返します。
      * 
@@ -17,6 +17,9 @@ package org.seasar.doma.internal.jdbc.dao;
 
 import java.lang.reflect.Method;
 import java.sql.Connection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 import javax.sql.DataSource;
 
@@ -26,12 +29,18 @@ import org.seasar.doma.internal.RuntimeConfig;
 import org.seasar.doma.internal.WrapException;
 import org.seasar.doma.internal.util.ClassUtil;
 import org.seasar.doma.internal.util.MethodUtil;
+import org.seasar.doma.jdbc.CallerThreadExecutor;
 import org.seasar.doma.jdbc.CommandImplementors;
 import org.seasar.doma.jdbc.Config;
 import org.seasar.doma.jdbc.ConfigException;
 import org.seasar.doma.jdbc.ConfigProvider;
 import org.seasar.doma.jdbc.DaoMethodNotFoundException;
+import org.seasar.doma.jdbc.JdbcException;
 import org.seasar.doma.jdbc.QueryImplementors;
+import org.seasar.doma.jdbc.Sql;
+import org.seasar.doma.jdbc.query.Query;
+import org.seasar.doma.jdbc.tx.LocalTransactionDataSource;
+import org.seasar.doma.message.Message;
 
 /**
  * {@link Dao} が注釈されたインタフェースの実装クラスのための骨格実装です。
@@ -242,6 +251,62 @@ public abstract class AbstractDao implements ConfigProvider {
                 callerMethodName, e);
     }
 
+    /**
+     * クエリを準備し、SQLの組み立てにかかった時間を記録します。
+     * 
+     * @param query
+     *            クエリ
+     * @since 2.20.0
+     */
+    protected void prepare(Query query) {
+        long start = System.nanoTime();
+        query.prepare();
+        long time = System.nanoTime() - start;
+        Sql<?> sql = query.getSql();
+        if (sql != null) {
+            query.getConfig()
+                    .getMetricsRecorder()
+                    .recordSqlBuildTime(query.getClassName(),
+                            query.getMethodName(), sql, time);
+        }
+    }
+
+    /**
+     * {@link Config#getExecutor()} のスレッドで処理を非同期に実行します。
+     * <p>
+     * 別のスレッドではローカルトランザクションのコネクションを取得できないため、
+     * データソースが {@link LocalTransactionDataSource} の場合は {@link CallerThreadExecutor}
+     * でのみ処理を実行します。それ以外の {@link Executor} の場合や、 {@link Executor}
+     * が処理を受け付けなかった場合は、例外で完了した {@link CompletableFuture} を返します。
+     * 
+     * @param <RESULT>
+     *            結果の型
+     * @param supplier
+     *            処理
+     * @return 処理の結果を表す {@link CompletableFuture}
+     * @since 2.20.0
+     */
+    protected <RESULT> CompletableFuture<RESULT> supplyAsync(
+            Supplier<RESULT> supplier) {
+        Executor executor = __config.getExecutor();
+        if (!(executor instanceof CallerThreadExecutor)
+                && __config.getDataSource() instanceof LocalTransactionDataSource) {
+            return failedFuture(new JdbcException(Message.DOMA2237));
+        }
+        try {
+            return CompletableFuture.supplyAsync(supplier, executor);
+        } catch (RuntimeException e) {
+            return failedFuture(e);
+        }
+    }
+
+    private static <RESULT> CompletableFuture<RESULT> failedFuture(
+            Throwable throwable) {
+        CompletableFuture<RESULT> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+
     public static <T> Method getDeclaredMethod(Class<T> clazz, String name,
             Class<?>... parameterTypes) {
         try {
@@ -31,6 +31,10 @@ public class Db2PagingTransformer extends StandardPagingTransformer {
         super(offset, limit);
     }
 
+    public Db2PagingTransformer(long offset, long limit, boolean parameterBound) {
+        super(offset, limit, parameterBound);
+    }
+
     @Override
     public SqlNode transform(SqlNode sqlNode) {
         AnonymousNode result = new AnonymousNode();
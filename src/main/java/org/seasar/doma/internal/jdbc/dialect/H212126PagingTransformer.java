@@ -32,6 +32,10 @@ public class H212126PagingTransformer extends StandardPagingTransformer {
         super(offset, limit);
     }
 
+    public H212126PagingTransformer(long offset, long limit, boolean parameterBound) {
+        super(offset, limit, parameterBound);
+    }
+
     @Override
     public SqlNode visitSelectStatementNode(SelectStatementNode node, Void p) {
         if (processed) {
@@ -51,13 +55,13 @@ public class H212126PagingTransformer extends StandardPagingTransformer {
         }
         orderBy.appendNode(new FragmentNode(" limit "));
         if (limit >= 0) {
-            orderBy.appendNode(new FragmentNode(String.valueOf(limit)));
+            orderBy.appendNode(createPagingValueNode(limit));
         } else {
             orderBy.appendNode(new FragmentNode("0"));
         }
         if (offset >= 0) {
             orderBy.appendNode(new FragmentNode(" offset "));
-            orderBy.appendNode(new FragmentNode(String.valueOf(offset)));
+            orderBy.appendNode(createPagingValueNode(offset));
         }
 
         SelectStatementNode result = new SelectStatementNode();
@@ -30,6 +30,10 @@ public class H2PagingTransformer extends H212126PagingTransformer {
         super(offset, limit);
     }
 
+    public H2PagingTransformer(long offset, long limit, boolean parameterBound) {
+        super(offset, limit, parameterBound);
+    }
+
     @Override
     public SqlNode visitSelectStatementNode(SelectStatementNode node, Void p) {
         if (processed) {
@@ -49,13 +53,13 @@ public class H2PagingTransformer extends H212126PagingTransformer {
         }
         orderBy.appendNode(new FragmentNode(" limit "));
         if (limit > 0) {
-            orderBy.appendNode(new FragmentNode(String.valueOf(limit)));
+            orderBy.appendNode(createPagingValueNode(limit));
         } else {
             orderBy.appendNode(new FragmentNode("-1"));
         }
         if (offset >= 0) {
             orderBy.appendNode(new FragmentNode(" offset "));
-            orderBy.appendNode(new FragmentNode(String.valueOf(offset)));
+            orderBy.appendNode(createPagingValueNode(offset));
         }
 
         SelectStatementNode result = new SelectStatementNode();
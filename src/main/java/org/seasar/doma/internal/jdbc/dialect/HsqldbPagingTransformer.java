@@ -30,6 +30,10 @@ public class HsqldbPagingTransformer extends StandardPagingTransformer {
         super(offset, limit);
     }
 
+    public HsqldbPagingTransformer(long offset, long limit, boolean parameterBound) {
+        super(offset, limit, parameterBound);
+    }
+
     @Override
     public SqlNode visitSelectStatementNode(SelectStatementNode node, Void p) {
         if (processed) {
@@ -49,13 +53,13 @@ public class HsqldbPagingTransformer extends StandardPagingTransformer {
         }
         orderBy.appendNode(new FragmentNode(" limit "));
         if (limit >= 0) {
-            orderBy.appendNode(new FragmentNode(String.valueOf(limit)));
+            orderBy.appendNode(createPagingValueNode(limit));
         } else {
             orderBy.appendNode(new FragmentNode("0"));
         }
         if (offset >= 0) {
             orderBy.appendNode(new FragmentNode(" offset "));
-            orderBy.appendNode(new FragmentNode(String.valueOf(offset)));
+            orderBy.appendNode(createPagingValueNode(offset));
         }
 
         SelectStatementNode result = new SelectStatementNode();
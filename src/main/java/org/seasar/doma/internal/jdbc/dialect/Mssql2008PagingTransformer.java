@@ -31,6 +31,10 @@ public class Mssql2008PagingTransformer extends StandardPagingTransformer {
         super(offset, limit);
     }
 
+    public Mssql2008PagingTransformer(long offset, long limit, boolean parameterBound) {
+        super(offset, limit, parameterBound);
+    }
+
     @Override
     public SqlNode transform(SqlNode sqlNode) {
         AnonymousNode result = new AnonymousNode();
@@ -56,7 +60,9 @@ public class Mssql2008PagingTransformer extends StandardPagingTransformer {
     protected SqlNode appendTopNode(SelectStatementNode node) {
         SelectClauseNode select = new SelectClauseNode(node
                 .getSelectClauseNode().getWordNode());
-        select.appendNode(new FragmentNode(" top (" + limit + ")"));
+        select.appendNode(new FragmentNode(" top ("));
+        select.appendNode(createPagingValueNode(limit));
+        select.appendNode(new FragmentNode(")"));
         for (SqlNode child : node.getSelectClauseNode().getChildren()) {
             select.appendNode(child);
         }
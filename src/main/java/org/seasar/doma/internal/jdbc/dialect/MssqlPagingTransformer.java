@@ -32,7 +32,12 @@ public class MssqlPagingTransformer extends Mssql2008PagingTransformer {
 
     public MssqlPagingTransformer(long offset, long limit,
             boolean forceOffsetFetch) {
-        super(offset, limit);
+        this(offset, limit, forceOffsetFetch, false);
+    }
+
+    public MssqlPagingTransformer(long offset, long limit,
+            boolean forceOffsetFetch, boolean parameterBound) {
+        super(offset, limit, parameterBound);
         this.forceOffsetFetch = forceOffsetFetch;
     }
 
@@ -59,14 +64,12 @@ public class MssqlPagingTransformer extends Mssql2008PagingTransformer {
             orderBy.appendNode(child);
         }
 
-        String offset = this.offset <= 0 ? "0" : String.valueOf(this.offset);
-
         orderBy.appendNode(new FragmentNode(" offset "));
-        orderBy.appendNode(new FragmentNode(offset));
+        orderBy.appendNode(createPagingValueNode(offset <= 0 ? 0 : offset));
         orderBy.appendNode(new FragmentNode(" rows"));
         if (this.limit > 0) {
             orderBy.appendNode(new FragmentNode(" fetch next "));
-            orderBy.appendNode(new FragmentNode(String.valueOf(this.limit)));
+            orderBy.appendNode(createPagingValueNode(limit));
             orderBy.appendNode(new FragmentNode(" rows only"));
         }
 
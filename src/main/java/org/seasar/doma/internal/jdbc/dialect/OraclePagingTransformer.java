@@ -34,6 +34,10 @@ public class OraclePagingTransformer extends StandardPagingTransformer {
         super(offset, limit);
     }
 
+    public OraclePagingTransformer(long offset, long limit, boolean parameterBound) {
+        super(offset, limit, parameterBound);
+    }
+
     @Override
     public SqlNode visitSelectStatementNode(SelectStatementNode node, Void p) {
         if (processed) {
@@ -60,7 +64,7 @@ public class OraclePagingTransformer extends StandardPagingTransformer {
         where.appendNode(new FragmentNode(" "));
         if (offset >= 0) {
             where.appendNode(new FragmentNode(ROWNUMBER_COLUMN_NAME + " > "));
-            where.appendNode(new FragmentNode(String.valueOf(offset)));
+            where.appendNode(createPagingValueNode(offset));
         }
         if (limit > 0) {
             if (offset >= 0) {
@@ -68,7 +72,7 @@ public class OraclePagingTransformer extends StandardPagingTransformer {
             }
             where.appendNode(new FragmentNode(ROWNUMBER_COLUMN_NAME + " <= "));
             long bias = offset < 0 ? 0 : offset;
-            where.appendNode(new FragmentNode(String.valueOf(bias + limit)));
+            where.appendNode(createPagingValueNode(bias + limit));
         }
 
         SelectStatementNode result = new SelectStatementNode();
@@ -30,6 +30,10 @@ public class PostgresPagingTransformer extends StandardPagingTransformer {
         super(offset, limit);
     }
 
+    public PostgresPagingTransformer(long offset, long limit, boolean parameterBound) {
+        super(offset, limit, parameterBound);
+    }
+
     @Override
     public SqlNode visitSelectStatementNode(SelectStatementNode node, Void p) {
         if (processed) {
@@ -49,11 +53,11 @@ public class PostgresPagingTransformer extends StandardPagingTransformer {
         }
         if (limit > 0) {
             orderBy.appendNode(new FragmentNode(" limit "));
-            orderBy.appendNode(new FragmentNode(String.valueOf(limit)));
+            orderBy.appendNode(createPagingValueNode(limit));
         }
         if (offset >= 0) {
             orderBy.appendNode(new FragmentNode(" offset "));
-            orderBy.appendNode(new FragmentNode(String.valueOf(offset)));
+            orderBy.appendNode(createPagingValueNode(offset));
         }
 
         SelectStatementNode result = new SelectStatementNode();
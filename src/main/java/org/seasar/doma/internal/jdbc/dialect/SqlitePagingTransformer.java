@@ -32,6 +32,10 @@ public class SqlitePagingTransformer extends StandardPagingTransformer {
         super(offset, limit);
     }
 
+    public SqlitePagingTransformer(long offset, long limit, boolean parameterBound) {
+        super(offset, limit, parameterBound);
+    }
+
     @Override
     public SqlNode visitSelectStatementNode(SelectStatementNode node, Void p) {
         if (processed) {
@@ -49,13 +53,14 @@ public class SqlitePagingTransformer extends StandardPagingTransformer {
         } else {
             orderBy = new OrderByClauseNode("");
         }
-        String offset = this.offset <= 0 ? "0" : String.valueOf(this.offset);
-        String limit = this.limit <= 0 ? MAXIMUM_LIMIT : String
-                .valueOf(this.limit);
         orderBy.appendNode(new FragmentNode(" limit "));
-        orderBy.appendNode(new FragmentNode(limit));
+        if (limit <= 0) {
+            orderBy.appendNode(new FragmentNode(MAXIMUM_LIMIT));
+        } else {
+            orderBy.appendNode(createPagingValueNode(limit));
+        }
         orderBy.appendNode(new FragmentNode(" offset "));
-        orderBy.appendNode(new FragmentNode(offset));
+        orderBy.appendNode(createPagingValueNode(offset <= 0 ? 0 : offset));
 
         SelectStatementNode result = new SelectStatementNode();
         result.setSelectClauseNode(node.getSelectClauseNode());
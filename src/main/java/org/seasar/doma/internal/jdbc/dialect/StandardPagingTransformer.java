@@ -18,11 +18,13 @@ package org.seasar.doma.internal.jdbc.dialect;
 import static org.seasar.doma.internal.Constants.ROWNUMBER_COLUMN_NAME;
 import static org.seasar.doma.internal.util.AssertionUtil.assertTrue;
 
+import org.seasar.doma.internal.jdbc.scalar.BasicScalar;
 import org.seasar.doma.internal.jdbc.sql.SimpleSqlNodeVisitor;
 import org.seasar.doma.internal.jdbc.sql.node.AnonymousNode;
 import org.seasar.doma.internal.jdbc.sql.node.FragmentNode;
 import org.seasar.doma.internal.jdbc.sql.node.FromClauseNode;
 import org.seasar.doma.internal.jdbc.sql.node.OrderByClauseNode;
+import org.seasar.doma.internal.jdbc.sql.node.ScalarBindVariableNode;
 import org.seasar.doma.internal.jdbc.sql.node.SelectClauseNode;
 import org.seasar.doma.internal.jdbc.sql.node.SelectStatementNode;
 import org.seasar.doma.internal.jdbc.sql.node.WhereClauseNode;
@@ -30,6 +32,7 @@ import org.seasar.doma.internal.jdbc.sql.node.WordNode;
 import org.seasar.doma.jdbc.JdbcException;
 import org.seasar.doma.jdbc.SqlNode;
 import org.seasar.doma.message.Message;
+import org.seasar.doma.wrapper.LongWrapper;
 
 /**
  * @author taedium
@@ -42,12 +45,29 @@ public class StandardPagingTransformer extends
 
     protected final long limit;
 
+    protected final boolean parameterBound;
+
     protected boolean processed;
 
     public StandardPagingTransformer(long offset, long limit) {
+        this(offset, limit, false);
+    }
+
+    /**
+     * @param offset
+     *            オフセット
+     * @param limit
+     *            リミット
+     * @param parameterBound
+     *            オフセットとリミットをバインド変数にする場合 {@code true}
+     * @since 2.20.0
+     */
+    public StandardPagingTransformer(long offset, long limit,
+            boolean parameterBound) {
         assertTrue(offset >= 0 || limit >= 0);
         this.offset = offset;
         this.limit = limit;
+        this.parameterBound = parameterBound;
     }
 
     public SqlNode transform(SqlNode sqlNode) {
@@ -107,7 +127,7 @@ public class StandardPagingTransformer extends
         where.appendNode(new FragmentNode(" "));
         if (offset >= 0) {
             where.appendNode(new FragmentNode(ROWNUMBER_COLUMN_NAME + " > "));
-            where.appendNode(new FragmentNode(String.valueOf(offset)));
+            where.appendNode(createPagingValueNode(offset));
         }
         if (limit > 0) {
             if (offset >= 0) {
@@ -115,7 +135,7 @@ public class StandardPagingTransformer extends
             }
             long bias = offset < 0 ? 0 : offset;
             where.appendNode(new FragmentNode(ROWNUMBER_COLUMN_NAME + " <= "));
-            where.appendNode(new FragmentNode(String.valueOf(bias + limit)));
+            where.appendNode(createPagingValueNode(bias + limit));
         }
 
         SelectStatementNode result = new SelectStatementNode();
@@ -127,6 +147,25 @@ public class StandardPagingTransformer extends
         return result;
     }
 
+    /**
+     * ページングに使用する値のノードを作成します。
+     * <p>
+     * バインド変数にする場合、値によらずSQLの文字列は同じになります。
+     * 値は式を介さずにバインドします。
+     * 
+     * @param value
+     *            値
+     * @return ノード
+     */
+    protected SqlNode createPagingValueNode(long value) {
+        String text = String.valueOf(value);
+        if (!parameterBound) {
+            return new FragmentNode(text);
+        }
+        return new ScalarBindVariableNode(text, new BasicScalar<Long>(
+                () -> new LongWrapper(value), false));
+    }
+
     @Override
     protected SqlNode defaultAction(SqlNode node, Void p) {
         return node;
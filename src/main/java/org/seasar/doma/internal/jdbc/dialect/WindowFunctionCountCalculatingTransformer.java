@@ -0,0 +1,110 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.jdbc.dialect;
+
+import static org.seasar.doma.internal.Constants.TOTAL_COUNT_COLUMN_NAME;
+
+import org.seasar.doma.internal.jdbc.sql.node.AnonymousNode;
+import org.seasar.doma.internal.jdbc.sql.node.FragmentNode;
+import org.seasar.doma.internal.jdbc.sql.node.SelectClauseNode;
+import org.seasar.doma.internal.jdbc.sql.node.SelectStatementNode;
+import org.seasar.doma.internal.jdbc.sql.node.WordNode;
+import org.seasar.doma.jdbc.SqlNode;
+
+/**
+ * 選択リストの末尾に {@code count(*) over()} を追加し、1回の検索でページングされる前の件数を取得できるようにします。
+ * <p>
+ * {@code distinct} を含むSQL、 {@code for update} 句をもつSQL、および {@code union} などの集合演算子で
+ * 複数の {@code select} 文を結合したSQLは変換しません。
+ * 
+ * @author nakamura-to
+ * @since 2.20.0
+ */
+public class WindowFunctionCountCalculatingTransformer extends
+        StandardCountCalculatingTransformer {
+
+    @Override
+    public SqlNode transform(SqlNode sqlNode) {
+        if (hasSetOperator(sqlNode)) {
+            return sqlNode;
+        }
+        return super.transform(sqlNode);
+    }
+
+    @Override
+    public SqlNode visitSelectStatementNode(SelectStatementNode node, Void p) {
+        if (processed) {
+            return node;
+        }
+        processed = true;
+
+        if (node.getForUpdateClauseNode() != null
+                || isDistinct(node.getSelectClauseNode())) {
+            return node;
+        }
+
+        SelectClauseNode select = new SelectClauseNode(node
+                .getSelectClauseNode().getWordNode());
+        for (SqlNode child : node.getSelectClauseNode().getChildren()) {
+            select.appendNode(child);
+        }
+        select.appendNode(new FragmentNode(", count(*) over() as "
+                + TOTAL_COUNT_COLUMN_NAME + " "));
+
+        SelectStatementNode result = new SelectStatementNode();
+        result.setSelectClauseNode(select);
+        result.setFromClauseNode(node.getFromClauseNode());
+        result.setWhereClauseNode(node.getWhereClauseNode());
+        result.setGroupByClauseNode(node.getGroupByClauseNode());
+        result.setHavingClauseNode(node.getHavingClauseNode());
+        result.setOrderByClauseNode(node.getOrderByClauseNode());
+        result.setForUpdateClauseNode(node.getForUpdateClauseNode());
+        result.setOptionClauseNode(node.getOptionClauseNode());
+        return result;
+    }
+
+    protected boolean isDistinct(SelectClauseNode node) {
+        for (SqlNode child : node.getChildren()) {
+            if (child instanceof WordNode) {
+                String word = ((WordNode) child).getWord();
+                if (word.equalsIgnoreCase("distinct")) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    protected boolean hasSetOperator(SqlNode sqlNode) {
+        for (SqlNode child : sqlNode.getChildren()) {
+            if (!(child instanceof AnonymousNode)
+                    || child.getChildren().isEmpty()) {
+                continue;
+            }
+            SqlNode first = child.getChildren().get(0);
+            if (first instanceof WordNode && ((WordNode) first).isReserved()) {
+                String word = ((WordNode) first).getWord();
+                if (word.equalsIgnoreCase("union")
+                        || word.equalsIgnoreCase("except")
+                        || word.equalsIgnoreCase("minus")
+                        || word.equalsIgnoreCase("intersect")) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.jdbc.sql;
+
+import static org.seasar.doma.internal.util.AssertionUtil.assertEquals;
+import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.seasar.doma.jdbc.InParameter;
+import org.seasar.doma.jdbc.SqlLogFormattingFunction;
+import org.seasar.doma.jdbc.SqlLogFormattingVisitor;
+import org.seasar.doma.wrapper.Wrapper;
+
+/**
+ * 未加工SQLのバインド変数をパラメータのログ用の表現に置き換えて整形されたSQLを組み立てます。
+ * 
+ * @author nakamura-to
+ * @since 2.20.0
+ */
+public class FormattedSqlSupplier implements Supplier<String> {
+
+    protected final SqlLogFormattingVisitor formattingVisitor;
+
+    protected final String rawSql;
+
+    protected final int[] placeholderIndexes;
+
+    protected final List<? extends InParameter<?>> parameters;
+
+    /**
+     * @param formattingVisitor
+     *            ログ用のフォーマットを行うビジター
+     * @param rawSql
+     *            未加工SQL
+     * @param placeholderIndexes
+     *            未加工SQLにおけるバインド変数 {@code ?} の位置
+     * @param parameters
+     *            バインド変数に対応するパラメータ
+     */
+    public FormattedSqlSupplier(SqlLogFormattingVisitor formattingVisitor,
+            String rawSql, int[] placeholderIndexes,
+            List<? extends InParameter<?>> parameters) {
+        assertNotNull(formattingVisitor, rawSql, placeholderIndexes,
+                parameters);
+        assertEquals(placeholderIndexes.length, parameters.size());
+        this.formattingVisitor = formattingVisitor;
+        this.rawSql = rawSql;
+        this.placeholderIndexes = placeholderIndexes;
+        this.parameters = parameters;
+    }
+
+    @Override
+    public String get() {
+        SqlLogFormattingFunction formattingFunction = new ConvertToLogFormatFunction();
+        StringBuilder buf = new StringBuilder(rawSql.length()
+                + placeholderIndexes.length * 8);
+        int start = 0;
+        for (int i = 0; i < placeholderIndexes.length; i++) {
+            int index = placeholderIndexes[i];
+            buf.append(rawSql, start, index);
+            buf.append(format(parameters.get(i), formattingFunction));
+            start = index + 1;
+        }
+        buf.append(rawSql, start, rawSql.length());
+        return buf.toString();
+    }
+
+    protected <BASIC> String format(InParameter<BASIC> parameter,
+            SqlLogFormattingFunction formattingFunction) {
+        Wrapper<BASIC> wrapper = parameter.getWrapper();
+        return wrapper.accept(formattingVisitor, formattingFunction, null);
+    }
+
+}
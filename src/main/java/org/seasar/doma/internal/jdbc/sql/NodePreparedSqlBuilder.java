@@ -19,6 +19,7 @@ import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 import static org.seasar.doma.internal.util.AssertionUtil.assertUnreachable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.StringJoiner;
@@ -32,7 +33,7 @@ import java.util.regex.Pattern;
 import org.seasar.doma.internal.expr.EvaluationResult;
 import org.seasar.doma.internal.expr.ExpressionEvaluator;
 import org.seasar.doma.internal.expr.ExpressionException;
-import org.seasar.doma.internal.expr.ExpressionParser;
+import org.seasar.doma.internal.expr.ExpressionNodeCache;
 import org.seasar.doma.internal.expr.Value;
 import org.seasar.doma.internal.expr.node.ExpressionNode;
 import org.seasar.doma.internal.jdbc.scalar.Scalar;
@@ -64,6 +65,7 @@ import org.seasar.doma.internal.jdbc.sql.node.OrderByClauseNode;
 import org.seasar.doma.internal.jdbc.sql.node.OtherNode;
 import org.seasar.doma.internal.jdbc.sql.node.ParensNode;
 import org.seasar.doma.internal.jdbc.sql.node.PopulateNode;
+import org.seasar.doma.internal.jdbc.sql.node.ScalarBindVariableNode;
 import org.seasar.doma.internal.jdbc.sql.node.SelectClauseNode;
 import org.seasar.doma.internal.jdbc.sql.node.SelectStatementNode;
 import org.seasar.doma.internal.jdbc.sql.node.SetClauseNode;
@@ -165,9 +167,36 @@ public class NodePreparedSqlBuilder implements
         assertNotNull(sqlNode, commenter);
         Context context = new Context(config, evaluator);
         sqlNode.accept(this, context);
-        return new PreparedSql(kind, context.getSqlBuf(),
-                context.getFormattedSqlBuf(), sqlFilePath,
-                context.getParameters(), sqlLogType, commenter);
+        return createPreparedSql(context, commenter);
+    }
+
+    /**
+     * コンパイル済みのSQLの実行計画から {@link PreparedSql} を組み立てます。
+     * <p>
+     * 静的な部分は連結済みの文字列として追加され、動的な部分のみが評価されます。
+     * 
+     * @param sqlPlan
+     *            SQLの実行計画
+     * @param commenter
+     *            コメントを付与する関数
+     * @return SQL
+     * @since 2.20.0
+     */
+    public PreparedSql build(SqlPlan sqlPlan, Function<String, String> commenter) {
+        assertNotNull(sqlPlan, commenter);
+        Context context = new Context(config, evaluator);
+        sqlPlan.execute(this, context);
+        return createPreparedSql(context, commenter);
+    }
+
+    protected PreparedSql createPreparedSql(Context context,
+            Function<String, String> commenter) {
+        String rawSql = context.getSqlBuf().toString();
+        FormattedSqlSupplier formattedSqlSupplier = new FormattedSqlSupplier(
+                config.getDialect().getSqlLogFormattingVisitor(), rawSql,
+                context.getPlaceholderIndexes(), context.getParameters());
+        return new PreparedSql(kind, rawSql, formattedSqlSupplier,
+                sqlFilePath, context.getParameters(), sqlLogType, commenter);
     }
 
     @Override
@@ -183,7 +212,6 @@ public class NodePreparedSqlBuilder implements
         p.setAvailable(true);
         String other = node.getOther();
         p.appendRawSql(other);
-        p.appendFormattedSql(other);
         return null;
     }
 
@@ -191,7 +219,6 @@ public class NodePreparedSqlBuilder implements
     public Void visitWhitespaceNode(WhitespaceNode node, Context p) {
         String whitespace = node.getWhitespace();
         p.appendRawSql(whitespace);
-        p.appendFormattedSql(whitespace);
         return null;
     }
 
@@ -199,12 +226,16 @@ public class NodePreparedSqlBuilder implements
     public Void visitCommentNode(CommentNode node, Context p) {
         String comment = node.getComment();
         p.appendRawSql(comment);
-        p.appendFormattedSql(comment);
         return null;
     }
 
     @Override
     public Void visitBindVariableNode(BindVariableNode node, Context p) {
+        if (node instanceof ScalarBindVariableNode) {
+            p.setAvailable(true);
+            p.addBindValue(((ScalarBindVariableNode) node).getScalar());
+            return null;
+        }
         return visitValueNode(node, p, p::addBindValue);
     }
 
@@ -289,7 +320,6 @@ public class NodePreparedSqlBuilder implements
                 p.setAvailable(true);
             }
             p.appendRawSql(fragment);
-            p.appendFormattedSql(fragment);
         }
         for (SqlNode child : node.getChildren()) {
             child.accept(this, p);
@@ -326,15 +356,12 @@ public class NodePreparedSqlBuilder implements
                     node.getText(), v, v.getClass());
             consumer.accept(supplier.get());
             p.appendRawSql(", ");
-            p.appendFormattedSql(", ");
             index++;
         }
         if (index == 0) {
             p.appendRawSql("null");
-            p.appendFormattedSql("null");
         } else {
             p.cutBackSqlBuf(2);
-            p.cutBackFormattedSqlBuf(2);
         }
     }
 
@@ -562,19 +589,20 @@ public class NodePreparedSqlBuilder implements
         for (SqlNode child : node.getChildren()) {
             child.accept(this, context);
         }
+        appendConditionalClause(node, p, context);
+    }
+
+    protected void appendConditionalClause(ClauseNode node, Context p,
+            Context context) {
         if (context.isAvailable()) {
             node.getWordNode().accept(this, p);
             p.setAvailable(true);
-            p.appendRawSql(context.getSqlBuf());
-            p.appendFormattedSql(context.getFormattedSqlBuf());
-            p.addAllParameters(context.getParameters());
+            p.appendContext(context);
         } else {
             String fragment = context.getSqlBuf().toString();
             if (startsWithClauseKeyword(fragment)) {
                 p.setAvailable(true);
-                p.appendRawSql(context.getSqlBuf());
-                p.appendFormattedSql(context.getFormattedSqlBuf());
-                p.addAllParameters(context.getParameters());
+                p.appendContext(context);
             }
         }
     }
@@ -626,13 +654,11 @@ public class NodePreparedSqlBuilder implements
             @Override
             public void cutBackSql(int length) {
                 p.cutBackSqlBuf(length);
-                p.cutBackFormattedSqlBuf(length);
             }
 
             @Override
             public void appendSql(String sql) {
                 p.appendRawSql(sql);
-                p.appendFormattedSql(sql);
             }
 
             @Override
@@ -651,7 +677,6 @@ public class NodePreparedSqlBuilder implements
             p.appendWhitespaceIfNecessary();
         }
         p.appendRawSql(word);
-        p.appendFormattedSql(word);
         return null;
     }
 
@@ -660,7 +685,6 @@ public class NodePreparedSqlBuilder implements
         p.setAvailable(true);
         String fragment = node.getFragment();
         p.appendRawSql(fragment);
-        p.appendFormattedSql(fragment);
         return null;
     }
 
@@ -676,22 +700,23 @@ public class NodePreparedSqlBuilder implements
         for (SqlNode child : node.getChildren()) {
             child.accept(this, context);
         }
+        appendParens(node, p, context);
+        return null;
+    }
+
+    protected void appendParens(ParensNode node, Context p, Context context) {
         if (context.isAvailable()) {
             node.getOpenedFragmentNode().accept(this, p);
             p.setAvailable(true);
-            p.appendRawSql(context.getSqlBuf());
-            p.appendFormattedSql(context.getFormattedSqlBuf());
-            p.addAllParameters(context.getParameters());
+            p.appendContext(context);
             node.getClosedFragmentNode().accept(this, p);
         }
-        return null;
     }
 
     @Override
     public Void visitEolNode(EolNode node, Context p) {
         String eol = node.getEol();
         p.appendRawSql(eol);
-        p.appendFormattedSql(eol);
         return null;
     }
 
@@ -707,7 +732,6 @@ public class NodePreparedSqlBuilder implements
         }
         String joined = joiner.toString();
         p.appendRawSql(joined);
-        p.appendFormattedSql(joined);
         return null;
     }
 
@@ -735,7 +759,9 @@ public class NodePreparedSqlBuilder implements
 
         private final StringBuilder rawSqlBuf = new StringBuilder(200);
 
-        private final StringBuilder formattedSqlBuf = new StringBuilder(200);
+        private int[] placeholderIndexes = new int[16];
+
+        private int placeholderCount;
 
         private final List<InParameter<?>> parameters = new ArrayList<>();
 
@@ -753,7 +779,6 @@ public class NodePreparedSqlBuilder implements
         protected void appendWhitespaceIfNecessary() {
             if (endsWithWordPart()) {
                 rawSqlBuf.append(WHITESPACE);
-                formattedSqlBuf.append(WHITESPACE);
             }
         }
 
@@ -769,24 +794,33 @@ public class NodePreparedSqlBuilder implements
             rawSqlBuf.append(sql);
         }
 
-        protected void appendFormattedSql(CharSequence sql) {
-            formattedSqlBuf.append(sql);
+        protected void appendContext(Context context) {
+            int offset = rawSqlBuf.length();
+            rawSqlBuf.append(context.rawSqlBuf);
+            for (int i = 0; i < context.placeholderCount; i++) {
+                addPlaceholderIndex(offset + context.placeholderIndexes[i]);
+            }
+            parameters.addAll(context.parameters);
         }
 
         protected void cutBackSqlBuf(int size) {
             rawSqlBuf.setLength(rawSqlBuf.length() - size);
         }
 
-        protected void cutBackFormattedSqlBuf(int size) {
-            formattedSqlBuf.setLength(formattedSqlBuf.length() - size);
-        }
-
         protected CharSequence getSqlBuf() {
             return rawSqlBuf;
         }
 
-        protected CharSequence getFormattedSqlBuf() {
-            return formattedSqlBuf;
+        protected int[] getPlaceholderIndexes() {
+            return Arrays.copyOf(placeholderIndexes, placeholderCount);
+        }
+
+        protected void addPlaceholderIndex(int index) {
+            if (placeholderCount == placeholderIndexes.length) {
+                placeholderIndexes = Arrays.copyOf(placeholderIndexes,
+                        placeholderCount * 2);
+            }
+            placeholderIndexes[placeholderCount++] = index;
         }
 
         protected <BASIC, CONTAINER> void addLiteralValue(
@@ -795,7 +829,6 @@ public class NodePreparedSqlBuilder implements
                     config.getDialect().getSqlLogFormattingVisitor(),
                     formattingFunction, null);
             rawSqlBuf.append(literal);
-            formattedSqlBuf.append(literal);
         }
 
         protected <BASIC, CONTAINER> void addBindValue(
@@ -811,15 +844,8 @@ public class NodePreparedSqlBuilder implements
         protected <BASIC> void appendParameterInternal(
                 InParameter<BASIC> parameter) {
             parameters.add(parameter);
+            addPlaceholderIndex(rawSqlBuf.length());
             rawSqlBuf.append("?");
-            String formatted = parameter.getWrapper().accept(
-                    config.getDialect().getSqlLogFormattingVisitor(),
-                    formattingFunction, null);
-            formattedSqlBuf.append(formatted);
-        }
-
-        protected void addAllParameters(List<InParameter<?>> values) {
-            parameters.addAll(values);
         }
 
         protected List<InParameter<?>> getParameters() {
@@ -845,8 +871,8 @@ public class NodePreparedSqlBuilder implements
         protected EvaluationResult evaluate(SqlLocation location,
                 String expression) {
             try {
-                ExpressionParser parser = new ExpressionParser(expression);
-                ExpressionNode expressionNode = parser.parse();
+                ExpressionNode expressionNode = ExpressionNodeCache
+                        .get(expression);
                 return evaluator.evaluate(expressionNode);
             } catch (ExpressionException e) {
                 throw new JdbcException(Message.DOMA2111, e, location.getSql(),
@@ -0,0 +1,289 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.jdbc.sql;
+
+import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.seasar.doma.internal.jdbc.sql.NodePreparedSqlBuilder.Context;
+import org.seasar.doma.internal.jdbc.sql.node.ClauseNode;
+import org.seasar.doma.internal.jdbc.sql.node.ParensNode;
+import org.seasar.doma.internal.jdbc.sql.node.WordNode;
+import org.seasar.doma.jdbc.SqlNode;
+
+/**
+ * SQLの解析結果をコンパイルした実行計画です。
+ * <p>
+ * 静的なSQLの断片は連結済みの文字列として保持し、バインド変数、 {@code %if} や
+ * {@code %for} などの動的な部分のみを個別のセグメントとして保持します。
+ * 動的な部分を含まないSQLは、定数の文字列とバインド変数の並びになります。
+ * <p>
+ * このクラスはスレッドセーフです。
+ * 
+ * @author nakamura-to
+ * @since 2.20.0
+ * @see SqlPlanCompiler
+ */
+public class SqlPlan {
+
+    protected final List<Segment> segments;
+
+    protected SqlPlan(List<Segment> segments) {
+        assertNotNull(segments);
+        this.segments = Collections.unmodifiableList(segments);
+    }
+
+    /**
+     * 動的な部分を含まないかどうかを返します。
+     * 
+     * @return 静的な文字列とバインド変数のみで構成される場合 {@code true}
+     */
+    public boolean isStatic() {
+        for (Segment segment : segments) {
+            if (!segment.isStatic()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * セグメントの数を返します。
+     * 
+     * @return セグメントの数
+     */
+    public int getSegmentSize() {
+        return segments.size();
+    }
+
+    void execute(NodePreparedSqlBuilder builder, Context p) {
+        for (Segment segment : segments) {
+            segment.execute(builder, p);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return segments.toString();
+    }
+
+    /**
+     * 実行計画を構成するセグメントです。
+     */
+    protected interface Segment {
+
+        /**
+         * 静的なセグメントかどうかを返します。
+         * <p>
+         * 静的なセグメントは評価の結果によってSQLの構造を変えません。
+         * 
+         * @return 静的なセグメントの場合 {@code true}
+         */
+        boolean isStatic();
+
+        void execute(NodePreparedSqlBuilder builder, Context p);
+    }
+
+    /**
+     * 連結済みの静的な文字列です。
+     */
+    protected static class TextSegment implements Segment {
+
+        protected final String text;
+
+        protected final boolean available;
+
+        protected TextSegment(String text, boolean available) {
+            this.text = text;
+            this.available = available;
+        }
+
+        @Override
+        public boolean isStatic() {
+            return true;
+        }
+
+        @Override
+        public void execute(NodePreparedSqlBuilder builder, Context p) {
+            p.appendRawSql(text);
+            if (available) {
+                p.setAvailable(true);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "text(" + text + ")";
+        }
+    }
+
+    /**
+     * 直前の出力が単語で終わる場合に空白を出力します。
+     */
+    protected static class WhitespaceSegment implements Segment {
+
+        @Override
+        public boolean isStatic() {
+            return true;
+        }
+
+        @Override
+        public void execute(NodePreparedSqlBuilder builder, Context p) {
+            p.appendWhitespaceIfNecessary();
+        }
+
+        @Override
+        public String toString() {
+            return "whitespace";
+        }
+    }
+
+    /**
+     * 評価が必要なノードです。
+     */
+    protected static class NodeSegment implements Segment {
+
+        protected final SqlNode node;
+
+        protected final boolean value;
+
+        /**
+         * @param node
+         *            ノード
+         * @param value
+         *            バインド変数またはリテラル変数のノードの場合 {@code true}
+         */
+        protected NodeSegment(SqlNode node, boolean value) {
+            this.node = node;
+            this.value = value;
+        }
+
+        @Override
+        public boolean isStatic() {
+            return value;
+        }
+
+        @Override
+        public void execute(NodePreparedSqlBuilder builder, Context p) {
+            node.accept(builder, p);
+        }
+
+        @Override
+        public String toString() {
+            return (value ? "value(" : "node(")
+                    + node.getClass().getSimpleName() + ")";
+        }
+    }
+
+    /**
+     * 直前までに有効な出力がある場合にのみ出力される論理演算子です。
+     */
+    protected static class LogicalOperatorSegment implements Segment {
+
+        protected final WordNode wordNode;
+
+        protected LogicalOperatorSegment(WordNode wordNode) {
+            this.wordNode = wordNode;
+        }
+
+        @Override
+        public boolean isStatic() {
+            return false;
+        }
+
+        @Override
+        public void execute(NodePreparedSqlBuilder builder, Context p) {
+            if (p.isAvailable()) {
+                wordNode.accept(builder, p);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "operator(" + wordNode.getWord() + ")";
+        }
+    }
+
+    /**
+     * 内容に応じて出力が決まる {@code where} 句や {@code having} 句です。
+     */
+    protected static class ConditionalClauseSegment implements Segment {
+
+        protected final ClauseNode node;
+
+        protected final SqlPlan children;
+
+        protected ConditionalClauseSegment(ClauseNode node, SqlPlan children) {
+            this.node = node;
+            this.children = children;
+        }
+
+        @Override
+        public boolean isStatic() {
+            return false;
+        }
+
+        @Override
+        public void execute(NodePreparedSqlBuilder builder, Context p) {
+            Context context = new Context(p);
+            children.execute(builder, context);
+            builder.appendConditionalClause(node, p, context);
+        }
+
+        @Override
+        public String toString() {
+            return "clause(" + node.getWordNode().getWord() + ", " + children
+                    + ")";
+        }
+    }
+
+    /**
+     * 内容に応じて出力が決まる括弧です。
+     */
+    protected static class ParensSegment implements Segment {
+
+        protected final ParensNode node;
+
+        protected final SqlPlan children;
+
+        protected ParensSegment(ParensNode node, SqlPlan children) {
+            this.node = node;
+            this.children = children;
+        }
+
+        @Override
+        public boolean isStatic() {
+            return false;
+        }
+
+        @Override
+        public void execute(NodePreparedSqlBuilder builder, Context p) {
+            Context context = new Context(p);
+            if (node.isEmpty()) {
+                context.setAvailable(true);
+            }
+            children.execute(builder, context);
+            builder.appendParens(node, p, context);
+        }
+
+        @Override
+        public String toString() {
+            return "parens(" + children + ")";
+        }
+    }
+}
@@ -0,0 +1,449 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.jdbc.sql;
+
+import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.seasar.doma.internal.jdbc.sql.SqlPlan.ConditionalClauseSegment;
+import org.seasar.doma.internal.jdbc.sql.SqlPlan.LogicalOperatorSegment;
+import org.seasar.doma.internal.jdbc.sql.SqlPlan.NodeSegment;
+import org.seasar.doma.internal.jdbc.sql.SqlPlan.ParensSegment;
+import org.seasar.doma.internal.jdbc.sql.SqlPlan.Segment;
+import org.seasar.doma.internal.jdbc.sql.SqlPlan.TextSegment;
+import org.seasar.doma.internal.jdbc.sql.SqlPlan.WhitespaceSegment;
+import org.seasar.doma.internal.jdbc.sql.node.AnonymousNode;
+import org.seasar.doma.internal.jdbc.sql.node.BindVariableNode;
+import org.seasar.doma.internal.jdbc.sql.node.ClauseNode;
+import org.seasar.doma.internal.jdbc.sql.node.CommentNode;
+import org.seasar.doma.internal.jdbc.sql.node.ElseNode;
+import org.seasar.doma.internal.jdbc.sql.node.ElseifNode;
+import org.seasar.doma.internal.jdbc.sql.node.EmbeddedVariableNode;
+import org.seasar.doma.internal.jdbc.sql.node.EndNode;
+import org.seasar.doma.internal.jdbc.sql.node.EolNode;
+import org.seasar.doma.internal.jdbc.sql.node.ExpandNode;
+import org.seasar.doma.internal.jdbc.sql.node.ForBlockNode;
+import org.seasar.doma.internal.jdbc.sql.node.ForNode;
+import org.seasar.doma.internal.jdbc.sql.node.ForUpdateClauseNode;
+import org.seasar.doma.internal.jdbc.sql.node.FragmentNode;
+import org.seasar.doma.internal.jdbc.sql.node.FromClauseNode;
+import org.seasar.doma.internal.jdbc.sql.node.GroupByClauseNode;
+import org.seasar.doma.internal.jdbc.sql.node.HavingClauseNode;
+import org.seasar.doma.internal.jdbc.sql.node.IfBlockNode;
+import org.seasar.doma.internal.jdbc.sql.node.IfNode;
+import org.seasar.doma.internal.jdbc.sql.node.LiteralVariableNode;
+import org.seasar.doma.internal.jdbc.sql.node.LogicalOperatorNode;
+import org.seasar.doma.internal.jdbc.sql.node.OptionClauseNode;
+import org.seasar.doma.internal.jdbc.sql.node.OrderByClauseNode;
+import org.seasar.doma.internal.jdbc.sql.node.OtherNode;
+import org.seasar.doma.internal.jdbc.sql.node.ParensNode;
+import org.seasar.doma.internal.jdbc.sql.node.PopulateNode;
+import org.seasar.doma.internal.jdbc.sql.node.SelectClauseNode;
+import org.seasar.doma.internal.jdbc.sql.node.SelectStatementNode;
+import org.seasar.doma.internal.jdbc.sql.node.SetClauseNode;
+import org.seasar.doma.internal.jdbc.sql.node.UpdateClauseNode;
+import org.seasar.doma.internal.jdbc.sql.node.UpdateStatementNode;
+import org.seasar.doma.internal.jdbc.sql.node.WhereClauseNode;
+import org.seasar.doma.internal.jdbc.sql.node.WhitespaceNode;
+import org.seasar.doma.internal.jdbc.sql.node.WordNode;
+import org.seasar.doma.internal.util.SqlTokenUtil;
+import org.seasar.doma.internal.util.StringUtil;
+import org.seasar.doma.jdbc.SqlNode;
+import org.seasar.doma.jdbc.SqlNodeVisitor;
+
+/**
+ * SQLの解析結果を {@link SqlPlan} にコンパイルします。
+ * <p>
+ * {@link NodePreparedSqlBuilder} が実行時に行う空白の補完や句の除去のうち、パラメータに依存しないものをコンパイル時に確定させます。
+ * 
+ * @author nakamura-to
+ * @since 2.20.0
+ */
+public class SqlPlanCompiler implements
+        SqlNodeVisitor<Void, SqlPlanCompiler.Context> {
+
+    /**
+     * SQLの解析結果をコンパイルします。
+     * 
+     * @param sqlNode
+     *            SQLの解析結果
+     * @return SQLの実行計画
+     */
+    public SqlPlan compile(SqlNode sqlNode) {
+        assertNotNull(sqlNode);
+        Context context = new Context(false);
+        sqlNode.accept(this, context);
+        return context.toPlan();
+    }
+
+    @Override
+    public Void visitAnonymousNode(AnonymousNode node, Context p) {
+        visitChildren(node, p);
+        return null;
+    }
+
+    @Override
+    public Void visitOtherNode(OtherNode node, Context p) {
+        p.appendText(node.getOther(), true);
+        return null;
+    }
+
+    @Override
+    public Void visitWhitespaceNode(WhitespaceNode node, Context p) {
+        p.appendText(node.getWhitespace(), false);
+        return null;
+    }
+
+    @Override
+    public Void visitCommentNode(CommentNode node, Context p) {
+        p.appendText(node.getComment(), false);
+        return null;
+    }
+
+    @Override
+    public Void visitBindVariableNode(BindVariableNode node, Context p) {
+        p.addSegment(new NodeSegment(node, true));
+        p.available = Boolean.TRUE;
+        return null;
+    }
+
+    @Override
+    public Void visitLiteralVariableNode(LiteralVariableNode node, Context p) {
+        p.addSegment(new NodeSegment(node, true));
+        p.available = Boolean.TRUE;
+        return null;
+    }
+
+    @Override
+    public Void visitEmbeddedVariableNode(EmbeddedVariableNode node, Context p) {
+        addDynamicNode(node, p);
+        return null;
+    }
+
+    @Override
+    public Void visitIfBlockNode(IfBlockNode node, Context p) {
+        addDynamicNode(node, p);
+        return null;
+    }
+
+    @Override
+    public Void visitIfNode(IfNode node, Context p) {
+        visitChildren(node, p);
+        return null;
+    }
+
+    @Override
+    public Void visitElseifNode(ElseifNode node, Context p) {
+        visitChildren(node, p);
+        return null;
+    }
+
+    @Override
+    public Void visitElseNode(ElseNode node, Context p) {
+        visitChildren(node, p);
+        return null;
+    }
+
+    @Override
+    public Void visitEndNode(EndNode node, Context p) {
+        visitChildren(node, p);
+        return null;
+    }
+
+    @Override
+    public Void visitForBlockNode(ForBlockNode node, Context p) {
+        addDynamicNode(node, p);
+        return null;
+    }
+
+    @Override
+    public Void visitForNode(ForNode node, Context p) {
+        visitChildren(node, p);
+        return null;
+    }
+
+    @Override
+    public Void visitSelectStatementNode(SelectStatementNode node, Context p) {
+        visitChildren(node, p);
+        return null;
+    }
+
+    @Override
+    public Void visitSelectClauseNode(SelectClauseNode node, Context p) {
+        visitClauseNode(node, p);
+        return null;
+    }
+
+    @Override
+    public Void visitFromClauseNode(FromClauseNode node, Context p) {
+        visitClauseNode(node, p);
+        return null;
+    }
+
+    @Override
+    public Void visitWhereClauseNode(WhereClauseNode node, Context p) {
+        handleConditionalClauseNode(node, p);
+        return null;
+    }
+
+    @Override
+    public Void visitGroupByClauseNode(GroupByClauseNode node, Context p) {
+        visitClauseNode(node, p);
+        return null;
+    }
+
+    @Override
+    public Void visitHavingClauseNode(HavingClauseNode node, Context p) {
+        handleConditionalClauseNode(node, p);
+        return null;
+    }
+
+    @Override
+    public Void visitOptionClauseNode(OptionClauseNode node, Context p) {
+        visitClauseNode(node, p);
+        return null;
+    }
+
+    @Override
+    public Void visitOrderByClauseNode(OrderByClauseNode node, Context p) {
+        visitClauseNode(node, p);
+        return null;
+    }
+
+    @Override
+    public Void visitForUpdateClauseNode(ForUpdateClauseNode node, Context p) {
+        visitClauseNode(node, p);
+        return null;
+    }
+
+    @Override
+    public Void visitLogicalOperatorNode(LogicalOperatorNode node, Context p) {
+        if (p.available == null) {
+            p.addSegment(new LogicalOperatorSegment(node.getWordNode()));
+        } else if (p.available) {
+            node.getWordNode().accept(this, p);
+        }
+        visitChildren(node, p);
+        return null;
+    }
+
+    @Override
+    public Void visitUpdateStatementNode(UpdateStatementNode node, Context p) {
+        visitChildren(node, p);
+        return null;
+    }
+
+    @Override
+    public Void visitUpdateClauseNode(UpdateClauseNode node, Context p) {
+        visitClauseNode(node, p);
+        return null;
+    }
+
+    @Override
+    public Void visitSetClauseNode(SetClauseNode node, Context p) {
+        visitClauseNode(node, p);
+        return null;
+    }
+
+    @Override
+    public Void visitPopulateNode(PopulateNode node, Context p) {
+        p.addSegment(new NodeSegment(node, false));
+        return null;
+    }
+
+    @Override
+    public Void visitWordNode(WordNode node, Context p) {
+        if (node.isReserved()) {
+            p.appendWhitespaceIfNecessary();
+        }
+        p.appendText(node.getWord(), true);
+        return null;
+    }
+
+    @Override
+    public Void visitFragmentNode(FragmentNode node, Context p) {
+        p.appendText(node.getFragment(), true);
+        return null;
+    }
+
+    @Override
+    public Void visitParensNode(ParensNode node, Context p) {
+        if (node.isAttachedWithValue()) {
+            return null;
+        }
+        Context context = new Context(node.isEmpty());
+        visitChildren(node, context);
+        if (context.isStatic() && Boolean.TRUE.equals(context.available)) {
+            node.getOpenedFragmentNode().accept(this, p);
+            p.inline(context);
+            p.markAvailable();
+            node.getClosedFragmentNode().accept(this, p);
+        } else if (context.isText() && Boolean.FALSE.equals(context.available)) {
+            // 常に出力されない
+        } else {
+            p.addSegment(new ParensSegment(node, context.toPlan()));
+            p.markAvailableUnknown();
+        }
+        return null;
+    }
+
+    @Override
+    public Void visitEolNode(EolNode node, Context p) {
+        p.appendText(node.getEol(), false);
+        return null;
+    }
+
+    @Override
+    public Void visitExpandNode(ExpandNode node, Context p) {
+        p.addSegment(new NodeSegment(node, false));
+        return null;
+    }
+
+    protected void visitChildren(SqlNode node, Context p) {
+        for (SqlNode child : node.getChildren()) {
+            child.accept(this, p);
+        }
+    }
+
+    protected void visitClauseNode(ClauseNode node, Context p) {
+        node.getWordNode().accept(this, p);
+        visitChildren(node, p);
+    }
+
+    protected void addDynamicNode(SqlNode node, Context p) {
+        p.addSegment(new NodeSegment(node, false));
+        p.markAvailableUnknown();
+    }
+
+    protected void handleConditionalClauseNode(ClauseNode node, Context p) {
+        Context context = new Context(false);
+        visitChildren(node, context);
+        if (context.isStatic() && Boolean.TRUE.equals(context.available)) {
+            node.getWordNode().accept(this, p);
+            p.inline(context);
+            p.markAvailable();
+        } else if (context.isText() && Boolean.FALSE.equals(context.available)) {
+            String fragment = context.buf.toString();
+            if (startsWithClauseKeyword(fragment)) {
+                p.inline(context);
+                p.markAvailable();
+            }
+        } else {
+            p.addSegment(new ConditionalClauseSegment(node, context.toPlan()));
+            p.markAvailableUnknown();
+        }
+    }
+
+    protected boolean startsWithClauseKeyword(String fragment) {
+        return NodePreparedSqlBuilder.clauseKeywordPattern.matcher(
+                StringUtil.trimWhitespace(fragment)).lookingAt();
+    }
+
+    /**
+     * コンパイル中の状態です。
+     * <p>
+     * {@link #available} は、パラメータによらず有効な出力があると判明している場合に {@code TRUE} 、
+     * 有効な出力がないと判明している場合に {@code FALSE} 、実行時まで判明しない場合に {@code null} になります。
+     */
+    protected static class Context {
+
+        protected final List<Segment> segments = new ArrayList<>();
+
+        protected final StringBuilder buf = new StringBuilder(200);
+
+        protected boolean bufAvailable;
+
+        protected Boolean available;
+
+        protected Context(boolean available) {
+            this.available = available;
+        }
+
+        protected void appendText(String text, boolean available) {
+            buf.append(text);
+            if (available) {
+                bufAvailable = true;
+                this.available = Boolean.TRUE;
+            }
+        }
+
+        protected void appendWhitespaceIfNecessary() {
+            if (buf.length() > 0) {
+                if (SqlTokenUtil.isWordPart(buf.charAt(buf.length() - 1))) {
+                    buf.append(' ');
+                }
+            } else if (!segments.isEmpty()) {
+                addSegment(new WhitespaceSegment());
+            }
+        }
+
+        protected void addSegment(Segment segment) {
+            flush();
+            segments.add(segment);
+        }
+
+        protected void markAvailable() {
+            bufAvailable = true;
+            available = Boolean.TRUE;
+        }
+
+        protected void markAvailableUnknown() {
+            if (!Boolean.TRUE.equals(available)) {
+                available = null;
+            }
+        }
+
+        protected void flush() {
+            if (buf.length() > 0) {
+                segments.add(new TextSegment(buf.toString(), bufAvailable));
+                buf.setLength(0);
+                bufAvailable = false;
+            }
+        }
+
+        protected void inline(Context context) {
+            for (Segment segment : context.segments) {
+                if (segment instanceof TextSegment) {
+                    TextSegment textSegment = (TextSegment) segment;
+                    appendText(textSegment.text, textSegment.available);
+                } else {
+                    addSegment(segment);
+                }
+            }
+            appendText(context.buf.toString(), context.bufAvailable);
+        }
+
+        protected boolean isStatic() {
+            for (Segment segment : segments) {
+                if (!segment.isStatic()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        protected boolean isText() {
+            return segments.isEmpty();
+        }
+
+        protected SqlPlan toPlan() {
+            flush();
+            return new SqlPlan(new ArrayList<>(segments));
+        }
+    }
+}
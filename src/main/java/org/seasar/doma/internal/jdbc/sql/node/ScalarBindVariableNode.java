@@ -0,0 +1,56 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.jdbc.sql.node;
+
+import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
+
+import org.seasar.doma.internal.jdbc.scalar.Scalar;
+
+/**
+ * 式を評価せずに、保持している {@link Scalar} の値をバインドするノードです。
+ * <p>
+ * SQLの変換でバインド変数を追加する場合に使用します。
+ * 変数名は常に {@link #VARIABLE_NAME} であり、値によって式の文字列が変わることはありません。
+ * 
+ * @author nakamura-to
+ * @since 2.20.0
+ */
+public class ScalarBindVariableNode extends BindVariableNode {
+
+    /** 変数名 */
+    public static final String VARIABLE_NAME = "__scalar";
+
+    protected final Scalar<?, ?> scalar;
+
+    /**
+     * @param text
+     *            値を表す文字列
+     * @param scalar
+     *            バインドする値
+     */
+    public ScalarBindVariableNode(String text, Scalar<?, ?> scalar) {
+        super(new SqlLocation("/*" + VARIABLE_NAME + "*/" + text, 1, 0),
+                VARIABLE_NAME, "/*" + VARIABLE_NAME + "*/");
+        assertNotNull(scalar);
+        this.scalar = scalar;
+        setWordNode(new WordNode(text));
+    }
+
+    public Scalar<?, ?> getScalar() {
+        return scalar;
+    }
+
+}
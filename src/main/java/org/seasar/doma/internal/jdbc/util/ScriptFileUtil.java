@@ -30,6 +30,8 @@ public final class ScriptFileUtil {
 
     private static final String SUFFIX = Constants.SCRIPT_PATH_SUFFIX;
 
+    private static final String GZIP_SUFFIX = SUFFIX + Constants.GZIP_SUFFIX;
+
     public static String buildPath(String className, String methodName) {
         return FileUtil.buildPath(PREFIX, SUFFIX, className, methodName);
     }
@@ -39,7 +41,8 @@ public final class ScriptFileUtil {
     }
 
     public static boolean isScriptFile(File file, String methodName) {
-        return FileUtil.isFile(PREFIX, SUFFIX, file, methodName);
+        return FileUtil.isFile(PREFIX, SUFFIX, file, methodName)
+                || FileUtil.isFile(PREFIX, GZIP_SUFFIX, file, methodName);
     }
 
     public static String convertToDbmsSpecificPath(String path, Dialect dialect) {
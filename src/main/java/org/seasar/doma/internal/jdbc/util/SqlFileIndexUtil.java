@@ -0,0 +1,102 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.jdbc.util;
+
+import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.seasar.doma.internal.Constants;
+
+/**
+ * Daoごとに注釈処理で生成されるSQLファイルのインデックスを扱います。
+ * <p>
+ * インデックスは、SQLファイルのパスをキー、SQLの文字列を値とするバイナリ形式のファイルです。
+ * 
+ * @author nakamura-to
+ * @since 2.20.0
+ */
+public final class SqlFileIndexUtil {
+
+    private static final String PREFIX = Constants.SQL_PATH_PREFIX;
+
+    private static final String SUFFIX = Constants.SQL_PATH_SUFFIX;
+
+    private static final String FILE_NAME = Constants.SQL_INDEX_FILE_NAME;
+
+    private static final int MAGIC = 0x444f4d41;
+
+    private static final int VERSION = 1;
+
+    public static String buildPath(String className) {
+        return FileUtil.buildPath(PREFIX, SUFFIX, className) + "/"
+                + FILE_NAME;
+    }
+
+    public static String buildPathFromSqlFilePath(String sqlFilePath) {
+        assertNotNull(sqlFilePath);
+        int pos = sqlFilePath.lastIndexOf('/');
+        return sqlFilePath.substring(0, pos + 1) + FILE_NAME;
+    }
+
+    public static void write(Map<String, String> sqls, OutputStream out)
+            throws IOException {
+        assertNotNull(sqls, out);
+        DataOutputStream dataOut = new DataOutputStream(out);
+        dataOut.writeInt(MAGIC);
+        dataOut.writeInt(VERSION);
+        dataOut.writeInt(sqls.size());
+        for (Map.Entry<String, String> entry : sqls.entrySet()) {
+            dataOut.writeUTF(entry.getKey());
+            byte[] bytes = entry.getValue().getBytes(Constants.UTF_8);
+            dataOut.writeInt(bytes.length);
+            dataOut.write(bytes);
+        }
+        dataOut.flush();
+    }
+
+    /**
+     * インデックスを読み込みます。
+     * 
+     * @param in
+     *            入力ストリーム
+     * @return SQLファイルのパスをキー、SQLの文字列を値とするマップ、形式が異なる場合 {@code null}
+     * @throws IOException
+     *             読み込みに失敗した場合
+     */
+    public static Map<String, String> read(InputStream in) throws IOException {
+        assertNotNull(in);
+        DataInputStream dataIn = new DataInputStream(in);
+        if (dataIn.readInt() != MAGIC || dataIn.readInt() != VERSION) {
+            return null;
+        }
+        int size = dataIn.readInt();
+        Map<String, String> sqls = new HashMap<>(size * 4 / 3 + 1);
+        for (int i = 0; i < size; i++) {
+            String path = dataIn.readUTF();
+            byte[] bytes = new byte[dataIn.readInt()];
+            dataIn.readFully(bytes);
+            sqls.put(path, new String(bytes, Constants.UTF_8));
+        }
+        return sqls;
+    }
+}
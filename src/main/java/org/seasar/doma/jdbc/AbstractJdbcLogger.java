@@ -311,4 +311,17 @@ public abstract class AbstractJdbcLogger<LEVEL> implements JdbcLogger {
         log(level, callerClassName, callerMethodName, e, messageSupplier);
     }
 
+    @Override
+    public void logIdPrefetchingFailure(String callerClassName,
+            String callerMethodName, RuntimeException e) {
+        logIdPrefetchingFailure(callerClassName, callerMethodName, e,
+                defaultLevel, () -> Message.DOMA2236.getMessage());
+    }
+
+    protected void logIdPrefetchingFailure(String callerClassName,
+            String callerMethodName, RuntimeException e, LEVEL level,
+            Supplier<String> messageSupplier) {
+        log(level, callerClassName, callerMethodName, e, messageSupplier);
+    }
+
 }
@@ -3,6 +3,7 @@ package org.seasar.doma.jdbc;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.seasar.doma.DomaNullPointerException;
 
@@ -12,7 +13,11 @@ public abstract class AbstractSql<P extends SqlParameter> implements Sql<P> {
 
     protected final String rawSql;
 
-    protected final String formattedSql;
+    protected volatile String formattedSql;
+
+    protected final Supplier<? extends CharSequence> formattedSqlSupplier;
+
+    protected final Function<String, String> commenter;
 
     protected final String sqlFilePath;
 
@@ -24,13 +29,50 @@ public abstract class AbstractSql<P extends SqlParameter> implements Sql<P> {
             CharSequence formattedSql, String sqlFilePath,
             List<? extends P> parameters, SqlLogType sqlLogType,
             Function<String, String> commenter) {
+        this(kind, rawSql, sqlFilePath, parameters, sqlLogType, commenter,
+                formattedSql, null);
+    }
+
+    /**
+     * 整形されたSQLを遅延して組み立てるインスタンスを構築します。
+     * <p>
+     * {@code formattedSqlSupplier} は {@link #getFormattedSql()} が最初に呼び出されたときに一度だけ評価されます。
+     * 
+     * @param kind
+     *            SQLの種別
+     * @param rawSql
+     *            未加工SQL
+     * @param formattedSqlSupplier
+     *            整形されたSQLのサプライヤ
+     * @param sqlFilePath
+     *            SQLファイルのパス
+     * @param parameters
+     *            パラメータのリスト
+     * @param sqlLogType
+     *            SQLのログの出力形式
+     * @param commenter
+     *            SQLにコメントを付与する関数
+     * @since 2.20.0
+     */
+    protected AbstractSql(SqlKind kind, CharSequence rawSql,
+            Supplier<? extends CharSequence> formattedSqlSupplier,
+            String sqlFilePath, List<? extends P> parameters,
+            SqlLogType sqlLogType, Function<String, String> commenter) {
+        this(kind, rawSql, sqlFilePath, parameters, sqlLogType, commenter,
+                null, formattedSqlSupplier);
+    }
+
+    private AbstractSql(SqlKind kind, CharSequence rawSql, String sqlFilePath,
+            List<? extends P> parameters, SqlLogType sqlLogType,
+            Function<String, String> commenter, CharSequence formattedSql,
+            Supplier<? extends CharSequence> formattedSqlSupplier) {
         if (kind == null) {
             throw new DomaNullPointerException("kind");
         }
         if (rawSql == null) {
             throw new DomaNullPointerException("rawSql");
         }
-        if (formattedSql == null) {
+        if (formattedSql == null && formattedSqlSupplier == null) {
             throw new DomaNullPointerException("formattedSql");
         }
         if (parameters == null) {
@@ -44,7 +86,10 @@ public abstract class AbstractSql<P extends SqlParameter> implements Sql<P> {
         }
         this.kind = kind;
         this.rawSql = commenter.apply(rawSql.toString().trim());
-        this.formattedSql = commenter.apply(formattedSql.toString().trim());
+        this.formattedSql = formattedSql == null ? null : commenter
+                .apply(formattedSql.toString().trim());
+        this.formattedSqlSupplier = formattedSqlSupplier;
+        this.commenter = commenter;
         this.sqlFilePath = sqlFilePath;
         this.parameters = Collections.unmodifiableList(parameters);
         this.sqlLogType = sqlLogType;
@@ -62,7 +107,12 @@ public abstract class AbstractSql<P extends SqlParameter> implements Sql<P> {
 
     @Override
     public String getFormattedSql() {
-        return formattedSql;
+        String sql = formattedSql;
+        if (sql == null) {
+            sql = commenter.apply(formattedSqlSupplier.get().toString().trim());
+            formattedSql = sql;
+        }
+        return sql;
     }
 
     @Override
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc;
+
+import java.sql.PreparedStatement;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.seasar.doma.DomaIllegalArgumentException;
+import org.seasar.doma.DomaNullPointerException;
+import org.seasar.doma.internal.jdbc.cache.LruCache;
+
+/**
+ * {@link PreparedStatement#executeBatch()} の実行時間とバインドしたパラメータのバイト数をもとに、
+ * SQLごとにバッチサイズを増減させる {@link BatchSizePolicy} の実装です。
+ * <p>
+ * バッチサイズは最小値と最大値の範囲で次のように調整されます。
+ * <ul>
+ * <li>実行時間が目標時間を超えた場合、半分にします。
+ * <li>パラメータのバイト数が上限を超える場合、上限に収まるサイズまで小さくします。
+ * <li>実行時間が目標時間の半分未満で、パラメータのバイト数が上限の半分以下の場合、2倍にします。
+ * </ul>
+ * 最初のバッチサイズは、クエリのバッチサイズを最小値と最大値の範囲に収めた値です。
+ * 調整されたバッチサイズはSQLの文字列をキーとして保持され、同じSQLの以降のバッチ処理にも引き継がれます。
+ * 
+ * @author nakamura-to
+ * @since 2.20.0
+ */
+public class AdaptiveBatchSizePolicy implements BatchSizePolicy {
+
+    /** デフォルトの最小のバッチサイズ */
+    public static final int DEFAULT_MIN_BATCH_SIZE = 10;
+
+    /** デフォルトの最大のバッチサイズ */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 5000;
+
+    /** デフォルトの目標時間（ミリ秒） */
+    public static final long DEFAULT_TARGET_TIME_MILLIS = 200;
+
+    /** デフォルトのパラメータのバイト数の上限 */
+    public static final long DEFAULT_MAX_PARAMETER_BYTES = 4 * 1024 * 1024;
+
+    /** バッチサイズを保持するSQLのデフォルトの最大数 */
+    public static final int DEFAULT_MAX_SQL_SIZE = 500;
+
+    protected final int minBatchSize;
+
+    protected final int maxBatchSize;
+
+    protected final long targetTime;
+
+    protected final long maxParameterBytes;
+
+    protected final LruCache<String, AtomicInteger> batchSizes;
+
+    /**
+     * デフォルトの設定でインスタンスを構築します。
+     */
+    public AdaptiveBatchSizePolicy() {
+        this(DEFAULT_MIN_BATCH_SIZE, DEFAULT_MAX_BATCH_SIZE,
+                DEFAULT_TARGET_TIME_MILLIS, DEFAULT_MAX_PARAMETER_BYTES);
+    }
+
+    /**
+     * @param minBatchSize
+     *            最小のバッチサイズ
+     * @param maxBatchSize
+     *            最大のバッチサイズ
+     * @param targetTimeMillis
+     *            1回の {@link PreparedStatement#executeBatch()} の目標時間（ミリ秒）
+     * @param maxParameterBytes
+     *            1回のバッチでバインドするパラメータのバイト数の上限
+     * @throws DomaIllegalArgumentException
+     *             {@code minBatchSize} が {@code 0} 以下の場合、 {@code maxBatchSize}
+     *             が {@code minBatchSize} より小さい場合、 {@code targetTimeMillis} もしくは
+     *             {@code maxParameterBytes} が {@code 0} 以下の場合
+     */
+    public AdaptiveBatchSizePolicy(int minBatchSize, int maxBatchSize,
+            long targetTimeMillis, long maxParameterBytes) {
+        if (minBatchSize <= 0) {
+            throw new DomaIllegalArgumentException("minBatchSize",
+                    "The minBatchSize is less than or equal to 0");
+        }
+        if (maxBatchSize < minBatchSize) {
+            throw new DomaIllegalArgumentException("maxBatchSize",
+                    "The maxBatchSize is less than the minBatchSize");
+        }
+        if (targetTimeMillis <= 0) {
+            throw new DomaIllegalArgumentException("targetTimeMillis",
+                    "The targetTimeMillis is less than or equal to 0");
+        }
+        if (maxParameterBytes <= 0) {
+            throw new DomaIllegalArgumentException("maxParameterBytes",
+                    "The maxParameterBytes is less than or equal to 0");
+        }
+        this.minBatchSize = minBatchSize;
+        this.maxBatchSize = maxBatchSize;
+        this.targetTime = TimeUnit.MILLISECONDS.toNanos(targetTimeMillis);
+        this.maxParameterBytes = maxParameterBytes;
+        this.batchSizes = new LruCache<>(DEFAULT_MAX_SQL_SIZE);
+    }
+
+    @Override
+    public int getBatchSize(Sql<?> sql, int batchSize) {
+        if (sql == null) {
+            throw new DomaNullPointerException("sql");
+        }
+        return getCurrentBatchSize(sql, batchSize).get();
+    }
+
+    @Override
+    public boolean usesParameterBytes() {
+        return true;
+    }
+
+    @Override
+    public void recordBatchExecution(Sql<?> sql, int batchSize,
+            long parameterBytes, long time) {
+        if (sql == null) {
+            throw new DomaNullPointerException("sql");
+        }
+        AtomicInteger current = getCurrentBatchSize(sql, batchSize);
+        int size = current.get();
+        if (batchSize < size && time <= targetTime
+                && parameterBytes <= maxParameterBytes) {
+            // 端数のバッチは増やす根拠にならない
+            return;
+        }
+        int next = size;
+        if (time > targetTime) {
+            next = batchSize / 2;
+        } else if (time * 2 < targetTime
+                && parameterBytes * 2 <= maxParameterBytes) {
+            next = batchSize * 2;
+        }
+        if (parameterBytes > maxParameterBytes) {
+            next = (int) Math.min(next, maxParameterBytes * batchSize
+                    / parameterBytes);
+        }
+        current.set(Math.max(minBatchSize, Math.min(maxBatchSize, next)));
+    }
+
+    protected AtomicInteger getCurrentBatchSize(Sql<?> sql, int batchSize) {
+        return batchSizes.get(sql.getRawSql(), k -> new AtomicInteger(Math
+                .max(minBatchSize, Math.min(maxBatchSize, batchSize))));
+    }
+
+    /**
+     * 保持しているバッチサイズをすべて破棄します。
+     */
+    public void clear() {
+        batchSizes.clear();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc;
+
+import java.sql.PreparedStatement;
+
+/**
+ * バッチ処理で {@link PreparedStatement#executeBatch()} を実行する単位を決定するポリシーです。
+ * <p>
+ * {@link #getBatchSize(Sql, int)} はバッチ処理の開始時と {@link PreparedStatement#executeBatch()}
+ * の実行後に呼び出され、次に実行するバッチのサイズを返します。
+ * {@link #recordBatchExecution(Sql, int, long, long)}
+ * は {@link PreparedStatement#executeBatch()} の実行ごとに呼び出されます。
+ * <p>
+ * デフォルトの実装は、クエリのバッチサイズをそのまま使用します。
+ * <p>
+ * このインタフェースの実装はスレッドセーフでなければいけません。
+ * 
+ * @author nakamura-to
+ * @since 2.20.0
+ * @see AdaptiveBatchSizePolicy
+ */
+public interface BatchSizePolicy {
+
+    /**
+     * 次に実行するバッチのサイズを返します。
+     * <p>
+     * {@literal 1} 未満の値は {@literal 1} とみなされます。
+     * <p>
+     * デフォルトでは {@code batchSize} を返します。
+     * 
+     * @param sql
+     *            バッチ処理の最初のSQL
+     * @param batchSize
+     *            アノテーションもしくは {@link Config#getBatchSize()} に指定されたバッチサイズ
+     * @return バッチサイズ
+     */
+    default int getBatchSize(Sql<?> sql, int batchSize) {
+        return batchSize;
+    }
+
+    /**
+     * {@link PreparedStatement#executeBatch()} の実行結果を記録します。
+     * <p>
+     * デフォルトでは何も行いません。
+     * 
+     * @param sql
+     *            バッチ処理の最初のSQL
+     * @param batchSize
+     *            実行したバッチのサイズ
+     * @param parameterBytes
+     *            バインドしたパラメータのおおよそのバイト数、 {@link #usesParameterBytes()} が
+     *            {@code false} を返す場合 {@code 0}
+     * @param time
+     *            {@link PreparedStatement#executeBatch()} にかかった時間（ナノ秒）
+     */
+    default void recordBatchExecution(Sql<?> sql, int batchSize,
+            long parameterBytes, long time) {
+    }
+
+    /**
+     * {@link #recordBatchExecution(Sql, int, long, long)}
+     * にパラメータのおおよそのバイト数を渡す必要があるかどうかを返します。
+     * <p>
+     * {@code false} を返す場合、パラメータのバイト数は見積もられません。
+     * デフォルトでは {@code false} を返します。
+     * 
+     * @return パラメータのバイト数が必要な場合 {@code true}
+     */
+    default boolean usesParameterBytes() {
+        return false;
+    }
+}
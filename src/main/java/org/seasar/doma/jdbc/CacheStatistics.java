@@ -0,0 +1,153 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc;
+
+/**
+ * キャッシュの統計情報です。
+ * <p>
+ * 統計情報を取得した時点のスナップショットであり、その後のキャッシュの操作は反映されません。
+ * 
+ * @author nakamura-to
+ * @since 2.20.0
+ */
+public class CacheStatistics {
+
+    protected final long hitCount;
+
+    protected final long missCount;
+
+    protected final long loadCount;
+
+    protected final long totalLoadTime;
+
+    protected final long evictionCount;
+
+    protected final int size;
+
+    protected final long weight;
+
+    /**
+     * インスタンスを構築します。
+     * 
+     * @param hitCount
+     *            キャッシュに値が存在した回数
+     * @param missCount
+     *            キャッシュに値が存在しなかった回数
+     * @param loadCount
+     *            値をロードした回数
+     * @param totalLoadTime
+     *            値のロードにかかった時間の合計（ナノ秒）
+     * @param evictionCount
+     *            値が追い出された回数
+     * @param size
+     *            キャッシュされている値の数
+     * @param weight
+     *            キャッシュされている値の重みの合計
+     */
+    public CacheStatistics(long hitCount, long missCount, long loadCount,
+            long totalLoadTime, long evictionCount, int size, long weight) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.loadCount = loadCount;
+        this.totalLoadTime = totalLoadTime;
+        this.evictionCount = evictionCount;
+        this.size = size;
+        this.weight = weight;
+    }
+
+    /**
+     * キャッシュに値が存在した回数を返します。
+     * 
+     * @return キャッシュに値が存在した回数
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * キャッシュに値が存在しなかった回数を返します。
+     * 
+     * @return キャッシュに値が存在しなかった回数
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * キャッシュに値が存在した割合を返します。
+     * 
+     * @return キャッシュに値が存在した割合、一度も参照されていない場合 {@code 1.0}
+     */
+    public double getHitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    /**
+     * 値をロードした回数を返します。
+     * 
+     * @return 値をロードした回数
+     */
+    public long getLoadCount() {
+        return loadCount;
+    }
+
+    /**
+     * 値のロードにかかった時間の合計をナノ秒で返します。
+     * 
+     * @return 値のロードにかかった時間の合計（ナノ秒）
+     */
+    public long getTotalLoadTime() {
+        return totalLoadTime;
+    }
+
+    /**
+     * 値が追い出された回数を返します。
+     * 
+     * @return 値が追い出された回数
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * キャッシュされている値の数を返します。
+     * 
+     * @return キャッシュされている値の数
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * キャッシュされている値の重みの合計を返します。
+     * <p>
+     * 重みを計測しないキャッシュでは {@code 0} を返します。
+     * 
+     * @return キャッシュされている値の重みの合計
+     */
+    public long getWeight() {
+        return weight;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatistics [hitCount=" + hitCount + ", missCount="
+                + missCount + ", loadCount=" + loadCount + ", totalLoadTime="
+                + totalLoadTime + ", evictionCount=" + evictionCount
+                + ", size=" + size + ", weight=" + weight + "]";
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc;
+
+import java.util.concurrent.Executor;
+
+/**
+ * タスクを呼び出し元のスレッドで実行する {@link Executor} です。
+ * <p>
+ * この {@link Executor} を使用する場合、Daoの非同期メソッドは呼び出し元のスレッドで処理を終えてから
+ * 完了済みの {@link java.util.concurrent.CompletableFuture} を返します。
+ * 処理は呼び出し元のスレッドで実行されるため、呼び出し元のローカルトランザクションに参加できます。
+ * <p>
+ * このクラスはスレッドセーフです。
+ * 
+ * @author nakamura-to
+ * @since 2.20.0
+ */
+public class CallerThreadExecutor implements Executor {
+
+    @Override
+    public void execute(Runnable command) {
+        command.run();
+    }
+}
@@ -17,6 +17,9 @@ package org.seasar.doma.jdbc;
 
 import java.sql.PreparedStatement;
 import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 import javax.sql.DataSource;
 
@@ -73,6 +76,18 @@ public interface Config {
         return ConfigSupport.defaultSqlFileRepository;
     }
 
+    /**
+     * ビルダーが組み立てたSQLの解析結果のリポジトリを返します。
+     * <p>
+     * 返されるリポジトリは、この設定を使用するすべてのビルダーで共有されます。
+     * 
+     * @return SQLの解析結果のリポジトリ
+     * @since 2.20.0
+     */
+    default SqlNodeRepository getSqlNodeRepository() {
+        return ConfigSupport.defaultSqlNodeRepository;
+    }
+
     /**
      * JDBCロガーを返します。
      * 
@@ -249,6 +264,66 @@ public interface Config {
         return ConfigSupport.defaultEntityListenerProvider;
     }
 
+    /**
+     * メトリクスのレコーダーを返します。
+     * <p>
+     * デフォルトのレコーダーは何も記録しません。
+     * 
+     * @return メトリクスのレコーダー
+     * @since 2.20.0
+     */
+    default MetricsRecorder getMetricsRecorder() {
+        return ConfigSupport.defaultMetricsRecorder;
+    }
+
+    /**
+     * Daoの非同期メソッドを実行する {@link Executor} を返します。
+     * <p>
+     * 戻り値の型が {@link CompletableFuture} もしくは {@link CompletionStage}
+     * のDaoメソッドは、この {@link Executor} のスレッドでSQLを実行します。
+     * デフォルトの実装は、呼び出し元のスレッドで処理を実行する {@link CallerThreadExecutor} を返します。
+     * 処理を並行に実行する場合は、アプリケーションが生成と破棄を管理し、
+     * コネクションプールの大きさに合わせたスレッドプールを返してください。
+     * 
+     * @return {@link Executor}
+     * @since 2.20.0
+     */
+    default Executor getExecutor() {
+        return ConfigSupport.defaultExecutor;
+    }
+
+    /**
+     * バッチ処理で {@link PreparedStatement#executeBatch()} を実行する単位を決定するポリシーを返します。
+     * <p>
+     * デフォルトのポリシーは、 {@link #getBatchSize()} もしくはアノテーションに指定されたバッチサイズをそのまま使用します。
+     * 
+     * @return バッチサイズのポリシー
+     * @since 2.20.0
+     * @see AdaptiveBatchSizePolicy
+     */
+    default BatchSizePolicy getBatchSizePolicy() {
+        return ConfigSupport.defaultBatchSizePolicy;
+    }
+
+    /**
+     * バッチ処理をパイプライン化するかどうかを返します。
+     * <p>
+     * {@code true} を返す場合、バッチ処理は同じコネクションから準備した2つの {@link PreparedStatement}
+     * を交互に使用し、一方で {@link PreparedStatement#executeBatch()} を実行している間に、
+     * 次のバッチのパラメータのバインドを {@link #getExecutor()} のスレッドでもう一方に対して行います。
+     * 同じコネクションを使用するため、トランザクションは変わりません。
+     * <p>
+     * ステートメントの実行中に同じコネクションの別のステートメントに対してパラメータをバインドできるJDBCドライバでのみ有効にしてください。
+     * {@link #getExecutor()} が {@link CallerThreadExecutor} を返す場合、バインドと実行は重ね合わされません。
+     * デフォルトでは {@code false} を返します。
+     * 
+     * @return バッチ処理をパイプライン化する場合 {@code true}
+     * @since 2.20.0
+     */
+    default boolean isBatchPipelined() {
+        return false;
+    }
+
     /**
      * {@link ConfigProvider} から {@link Config} を取得します。
      * 
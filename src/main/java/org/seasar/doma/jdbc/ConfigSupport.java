@@ -15,6 +15,8 @@
  */
 package org.seasar.doma.jdbc;
 
+import java.util.concurrent.Executor;
+
 /**
  * {@link Config} が返すインタフェースのデフォルト実装を提供します。
  * 
@@ -25,6 +27,11 @@ public final class ConfigSupport {
 
     public static SqlFileRepository defaultSqlFileRepository = new GreedyCacheSqlFileRepository();
 
+    /**
+     * @since 2.20.0
+     */
+    public static SqlNodeRepository defaultSqlNodeRepository = new LruCacheSqlNodeRepository();
+
     public static JdbcLogger defaultJdbcLogger = new UtilLoggingJdbcLogger();
 
     public static RequiresNewController defaultRequiresNewController = new RequiresNewController() {
@@ -61,4 +68,21 @@ public final class ConfigSupport {
      */
     public static EntityListenerProvider defaultEntityListenerProvider = new EntityListenerProvider() {
     };
+
+    /**
+     * @since 2.20.0
+     */
+    public static MetricsRecorder defaultMetricsRecorder = new MetricsRecorder() {
+    };
+
+    /**
+     * @since 2.20.0
+     */
+    public static Executor defaultExecutor = new CallerThreadExecutor();
+
+    /**
+     * @since 2.20.0
+     */
+    public static BatchSizePolicy defaultBatchSizePolicy = new BatchSizePolicy() {
+    };
 }
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc;
+
+/**
+ * Daoのメソッドと {@link SqlKind} の組ごとのメトリクスです。
+ * 
+ * @author nakamura-to
+ * @since 2.20.0
+ * @see SimpleMetricsRecorder
+ */
+public class DaoMethodMetrics {
+
+    protected final String className;
+
+    protected final String methodName;
+
+    protected final SqlKind sqlKind;
+
+    protected final MetricsSummary sqlBuildTime = new MetricsSummary();
+
+    protected final MetricsSummary prepareTime = new MetricsSummary();
+
+    protected final MetricsSummary executionTime = new MetricsSummary();
+
+    protected final MetricsSummary resultMappingTime = new MetricsSummary();
+
+    protected final MetricsSummary rowCount = new MetricsSummary();
+
+    protected final MetricsSummary batchSize = new MetricsSummary();
+
+    /**
+     * インスタンスを構築します。
+     * 
+     * @param className
+     *            クラス名
+     * @param methodName
+     *            メソッド名
+     * @param sqlKind
+     *            SQLの種類
+     */
+    public DaoMethodMetrics(String className, String methodName,
+            SqlKind sqlKind) {
+        this.className = className;
+        this.methodName = methodName;
+        this.sqlKind = sqlKind;
+    }
+
+    /**
+     * クラス名を返します。
+     * 
+     * @return クラス名
+     */
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * メソッド名を返します。
+     * 
+     * @return メソッド名
+     */
+    public String getMethodName() {
+        return methodName;
+    }
+
+    /**
+     * SQLの種類を返します。
+     * 
+     * @return SQLの種類
+     */
+    public SqlKind getSqlKind() {
+        return sqlKind;
+    }
+
+    /**
+     * SQLの組み立てにかかった時間（ナノ秒）の要約を返します。
+     * 
+     * @return SQLの組み立てにかかった時間の要約
+     */
+    public MetricsSummary getSqlBuildTime() {
+        return sqlBuildTime;
+    }
+
+    /**
+     * ステートメントの準備にかかった時間（ナノ秒）の要約を返します。
+     * 
+     * @return ステートメントの準備にかかった時間の要約
+     */
+    public MetricsSummary getPrepareTime() {
+        return prepareTime;
+    }
+
+    /**
+     * SQLの実行にかかった時間（ナノ秒）の要約を返します。
+     * 
+     * @return SQLの実行にかかった時間の要約
+     */
+    public MetricsSummary getExecutionTime() {
+        return executionTime;
+    }
+
+    /**
+     * 検索結果のマッピングにかかった時間（ナノ秒）の要約を返します。
+     * 
+     * @return 検索結果のマッピングにかかった時間の要約
+     */
+    public MetricsSummary getResultMappingTime() {
+        return resultMappingTime;
+    }
+
+    /**
+     * 取得した行数、もしくは更新した行数の要約を返します。
+     * 
+     * @return 行数の要約
+     */
+    public MetricsSummary getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * バッチ処理で実行したSQLの数の要約を返します。
+     * 
+     * @return SQLの数の要約
+     */
+    public MetricsSummary getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public String toString() {
+        return "DaoMethodMetrics [className=" + className + ", methodName="
+                + methodName + ", sqlKind=" + sqlKind + ", executionTime="
+                + executionTime + ", rowCount=" + rowCount + "]";
+    }
+}
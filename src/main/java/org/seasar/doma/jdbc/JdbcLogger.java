@@ -283,4 +283,21 @@ public interface JdbcLogger {
     void logResultSetClosingFailure(String callerClassName,
             String callerMethodName, SQLException e);
 
+    /**
+     * 識別子の次の割り当ての先行取得時に発生した {@link RuntimeException} を記録します。
+     * <p>
+     * 先行取得に失敗した場合、現在の割り当てを使い切った時点で改めて割り当てが取得されます。
+     * 
+     * @param callerClassName
+     *            呼び出し元のクラス名
+     * @param callerMethodName
+     *            呼び出し元のメソッド名
+     * @param e
+     *            先行取得時に発生した {@link RuntimeException}
+     * @since 2.20.0
+     */
+    default void logIdPrefetchingFailure(String callerClassName,
+            String callerMethodName, RuntimeException e) {
+    }
+
 }
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc;
+
+import java.lang.reflect.Method;
+import java.util.Objects;
+
+import org.seasar.doma.DomaIllegalArgumentException;
+import org.seasar.doma.internal.jdbc.cache.LruCache;
+import org.seasar.doma.jdbc.dialect.Dialect;
+
+/**
+ * SQLの解析結果を上限つきでキャッシュする {@link SqlFileRepository} の実装です。
+ * <p>
+ * キャッシュされているSQLファイルの数、もしくはSQLファイルの推定サイズ（バイト）の合計が上限を超えると、
+ * 最も長く参照されていないSQLファイルから追い出します。
+ * <p>
+ * SQLファイルはパスとダイアレクトの名前の組をキーにキャッシュされるため、
+ * ダイアレクトの異なる複数の {@link Config} でこのインスタンスを共有できます。
+ * 
+ * @author nakamura-to
+ * @since 2.20.0
+ */
+public class LruCacheSqlFileRepository extends AbstractSqlFileRepository {
+
+    /** キャッシュするSQLファイルのデフォルトの最大数 */
+    public static final int DEFAULT_MAX_SIZE = 500;
+
+    /** SQLノード1つあたりの推定サイズ（バイト） */
+    protected static final long NODE_WEIGHT = 64L;
+
+    protected final LruCache<CacheKey, SqlFile> cache;
+
+    /**
+     * 最大数が {@link #DEFAULT_MAX_SIZE} のインスタンスを構築します。
+     */
+    public LruCacheSqlFileRepository() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxSize
+     *            キャッシュするSQLファイルの最大数
+     * @throws DomaIllegalArgumentException
+     *             {@code maxSize} が {@code 0} 以下の場合
+     */
+    public LruCacheSqlFileRepository(int maxSize) {
+        this(maxSize, 0L);
+    }
+
+    /**
+     * @param maxSize
+     *            キャッシュするSQLファイルの最大数
+     * @param maxWeight
+     *            キャッシュするSQLファイルの推定サイズ（バイト）の合計の最大値、{@code 0}
+     *            の場合はサイズによる上限なし
+     * @throws DomaIllegalArgumentException
+     *             {@code maxSize} が {@code 0} 以下の場合、もしくは {@code maxWeight} が負の場合
+     */
+    public LruCacheSqlFileRepository(int maxSize, long maxWeight) {
+        if (maxSize <= 0) {
+            throw new DomaIllegalArgumentException("maxSize",
+                    "The maxSize is less than or equal to 0");
+        }
+        if (maxWeight < 0) {
+            throw new DomaIllegalArgumentException("maxWeight",
+                    "The maxWeight is less than 0");
+        }
+        this.cache = new LruCache<>(maxSize, maxWeight, this::weigh);
+    }
+
+    @Override
+    protected SqlFile getSqlFileWithCacheControl(Method method, String path,
+            Dialect dialect) {
+        return cache.get(new CacheKey(path, dialect.getName()),
+                key -> createSqlFile(path, dialect));
+    }
+
+    @Override
+    public void clearCache() {
+        cache.clear();
+    }
+
+    /**
+     * キャッシュの統計情報を返します。
+     * <p>
+     * {@link CacheStatistics#getWeight()} はSQLファイルの推定サイズ（バイト）の合計を返します。
+     * 
+     * @return キャッシュの統計情報
+     */
+    public CacheStatistics getStatistics() {
+        return cache.getStatistics();
+    }
+
+    /**
+     * SQLファイルの推定サイズ（バイト）を返します。
+     * <p>
+     * SQLの文字列とSQLノードの数から見積もります。
+     * 
+     * @param sqlFile
+     *            SQLファイル
+     * @return 推定サイズ（バイト）
+     */
+    protected long weigh(SqlFile sqlFile) {
+        return sqlFile.getSql().length() * 2L
+                + countNodes(sqlFile.getSqlNode()) * NODE_WEIGHT;
+    }
+
+    /**
+     * SQLノードとその子孫の数を返します。
+     * 
+     * @param node
+     *            SQLノード
+     * @return SQLノードとその子孫の数
+     */
+    protected long countNodes(SqlNode node) {
+        long count = 1;
+        for (SqlNode child : node.getChildren()) {
+            count += countNodes(child);
+        }
+        return count;
+    }
+
+    /**
+     * キャッシュのキーです。
+     * 
+     * @author nakamura-to
+     * @since 2.20.0
+     */
+    protected static class CacheKey {
+
+        protected final String path;
+
+        protected final String dialectName;
+
+        protected CacheKey(String path, String dialectName) {
+            this.path = path;
+            this.dialectName = dialectName;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * path.hashCode() + Objects.hashCode(dialectName);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) obj;
+            return path.equals(other.path)
+                    && Objects.equals(dialectName, other.dialectName);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc;
+
+import org.seasar.doma.DomaIllegalArgumentException;
+import org.seasar.doma.DomaNullPointerException;
+import org.seasar.doma.internal.jdbc.cache.LruCache;
+import org.seasar.doma.internal.jdbc.sql.SqlParser;
+
+/**
+ * SQLの文字列をキーとして、解析結果を上限つきでキャッシュする {@link SqlNodeRepository} の実装です。
+ * <p>
+ * キャッシュされている解析結果の数が上限を超えると、最も長く参照されていない解析結果から追い出します。
+ * 
+ * @author nakamura-to
+ * @since 2.20.0
+ */
+public class LruCacheSqlNodeRepository implements SqlNodeRepository {
+
+    /** キャッシュする解析結果のデフォルトの最大数 */
+    public static final int DEFAULT_MAX_SIZE = 500;
+
+    protected final LruCache<String, SqlNode> cache;
+
+    /**
+     * 最大数が {@link #DEFAULT_MAX_SIZE} のインスタンスを構築します。
+     */
+    public LruCacheSqlNodeRepository() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxSize
+     *            キャッシュする解析結果の最大数
+     * @throws DomaIllegalArgumentException
+     *             {@code maxSize} が {@code 0} 以下の場合
+     */
+    public LruCacheSqlNodeRepository(int maxSize) {
+        if (maxSize <= 0) {
+            throw new DomaIllegalArgumentException("maxSize",
+                    "The maxSize is less than or equal to 0");
+        }
+        this.cache = new LruCache<>(maxSize);
+    }
+
+    @Override
+    public SqlNode getSqlNode(String sql) {
+        if (sql == null) {
+            throw new DomaNullPointerException("sql");
+        }
+        return cache.get(sql, s -> new SqlParser(s).parse());
+    }
+
+    @Override
+    public void clearCache() {
+        cache.clear();
+    }
+
+    /**
+     * キャッシュの統計情報を返します。
+     * 
+     * @return キャッシュの統計情報
+     */
+    public CacheStatistics getStatistics() {
+        return cache.getStatistics();
+    }
+}
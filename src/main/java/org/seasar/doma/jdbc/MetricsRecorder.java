@@ -0,0 +1,146 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc;
+
+/**
+ * Daoのメソッドの実行にかかった時間や処理した行数を記録するレコーダーです。
+ * <p>
+ * SQLのログを出力しなくても、実行に時間のかかっているメソッドや頻繁に実行されるメソッドを特定するために使用します。
+ * <p>
+ * 時間はすべてナノ秒で通知されます。
+ * 引数の {@code sql} は、バッチ処理の場合は最初のSQLです。
+ * <p>
+ * このインタフェースの実装はスレッドセーフでなければいけません。
+ * また、すべてのSQLの実行ごとに呼び出されるため、ロックを使わないなど、軽量でなければいけません。
+ * 
+ * @author nakamura-to
+ * @since 2.20.0
+ * @see SimpleMetricsRecorder
+ */
+public interface MetricsRecorder {
+
+    /**
+     * SQLの組み立てにかかった時間を記録します。
+     * <p>
+     * デフォルトでは何も行いません。
+     * 
+     * @param callerClassName
+     *            呼び出し元のクラス名
+     * @param callerMethodName
+     *            呼び出し元のメソッド名
+     * @param sql
+     *            SQL
+     * @param time
+     *            かかった時間（ナノ秒）
+     */
+    default void recordSqlBuildTime(String callerClassName,
+            String callerMethodName, Sql<?> sql, long time) {
+    }
+
+    /**
+     * ステートメントの準備にかかった時間を記録します。
+     * <p>
+     * ステートメントの準備には、パラメータのバインドが含まれます。ただし、バッチ処理の場合は含まれません。
+     * <p>
+     * デフォルトでは何も行いません。
+     * 
+     * @param callerClassName
+     *            呼び出し元のクラス名
+     * @param callerMethodName
+     *            呼び出し元のメソッド名
+     * @param sql
+     *            SQL
+     * @param time
+     *            かかった時間（ナノ秒）
+     */
+    default void recordPrepareTime(String callerClassName,
+            String callerMethodName, Sql<?> sql, long time) {
+    }
+
+    /**
+     * SQLの実行にかかった時間を記録します。
+     * <p>
+     * デフォルトでは何も行いません。
+     * 
+     * @param callerClassName
+     *            呼び出し元のクラス名
+     * @param callerMethodName
+     *            呼び出し元のメソッド名
+     * @param sql
+     *            SQL
+     * @param time
+     *            かかった時間（ナノ秒）
+     */
+    default void recordExecutionTime(String callerClassName,
+            String callerMethodName, Sql<?> sql, long time) {
+    }
+
+    /**
+     * 検索結果のマッピングにかかった時間を記録します。
+     * <p>
+     * 結果を {@link java.util.stream.Stream} で遅延して返す場合、呼び出し元がストリームを処理する時間は含まれません。
+     * <p>
+     * デフォルトでは何も行いません。
+     * 
+     * @param callerClassName
+     *            呼び出し元のクラス名
+     * @param callerMethodName
+     *            呼び出し元のメソッド名
+     * @param sql
+     *            SQL
+     * @param time
+     *            かかった時間（ナノ秒）
+     */
+    default void recordResultMappingTime(String callerClassName,
+            String callerMethodName, Sql<?> sql, long time) {
+    }
+
+    /**
+     * 取得した行数、もしくは更新した行数を記録します。
+     * <p>
+     * デフォルトでは何も行いません。
+     * 
+     * @param callerClassName
+     *            呼び出し元のクラス名
+     * @param callerMethodName
+     *            呼び出し元のメソッド名
+     * @param sql
+     *            SQL
+     * @param rowCount
+     *            行数
+     */
+    default void recordRowCount(String callerClassName,
+            String callerMethodName, Sql<?> sql, long rowCount) {
+    }
+
+    /**
+     * バッチ処理で実行したSQLの数を記録します。
+     * <p>
+     * デフォルトでは何も行いません。
+     * 
+     * @param callerClassName
+     *            呼び出し元のクラス名
+     * @param callerMethodName
+     *            呼び出し元のメソッド名
+     * @param sql
+     *            SQL
+     * @param batchSize
+     *            SQLの数
+     */
+    default void recordBatchSize(String callerClassName,
+            String callerMethodName, Sql<?> sql, int batchSize) {
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 記録された値の件数、合計、最大値、および分布の要約です。
+ * <p>
+ * 値の分布は2のべき乗ごとの区間で数えるため、パーセンタイルは区間の上限で近似されます。
+ * <p>
+ * このクラスはロックを使わずにスレッドセーフです。
+ * 
+ * @author nakamura-to
+ * @since 2.20.0
+ */
+public class MetricsSummary {
+
+    protected static final int BUCKET_SIZE = 64;
+
+    protected final LongAdder count = new LongAdder();
+
+    protected final LongAdder total = new LongAdder();
+
+    protected final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    protected final LongAdder[] buckets = new LongAdder[BUCKET_SIZE];
+
+    public MetricsSummary() {
+        for (int i = 0; i < BUCKET_SIZE; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 値を記録します。
+     * <p>
+     * 負の値は {@code 0} として記録されます。
+     * 
+     * @param value
+     *            値
+     */
+    public void record(long value) {
+        long v = Math.max(value, 0L);
+        count.increment();
+        total.add(v);
+        max.accumulate(v);
+        buckets[BUCKET_SIZE - Long.numberOfLeadingZeros(v)].increment();
+    }
+
+    /**
+     * 記録された値の件数を返します。
+     * 
+     * @return 件数
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * 記録された値の合計を返します。
+     * 
+     * @return 合計
+     */
+    public long getTotal() {
+        return total.sum();
+    }
+
+    /**
+     * 記録された値の最大値を返します。
+     * 
+     * @return 最大値、値が記録されていない場合 {@code 0}
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * 記録された値の平均値を返します。
+     * 
+     * @return 平均値、値が記録されていない場合 {@code 0}
+     */
+    public double getMean() {
+        long c = count.sum();
+        return c == 0 ? 0.0 : (double) total.sum() / c;
+    }
+
+    /**
+     * 記録された値のパーセンタイルの近似値を返します。
+     * <p>
+     * 返される値は、指定されたパーセンタイルを含む区間の上限です。ただし、最大値を超えることはありません。
+     * 
+     * @param percentile
+     *            {@code 0} 以上 {@code 100} 以下のパーセンタイル
+     * @return パーセンタイルの近似値、値が記録されていない場合 {@code 0}
+     */
+    public long getPercentile(double percentile) {
+        long[] counts = new long[BUCKET_SIZE];
+        long c = 0;
+        for (int i = 0; i < BUCKET_SIZE; i++) {
+            counts[i] = buckets[i].sum();
+            c += counts[i];
+        }
+        if (c == 0) {
+            return 0L;
+        }
+        double p = Math.min(Math.max(percentile, 0.0), 100.0);
+        long rank = Math.max((long) Math.ceil(c * p / 100.0), 1L);
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_SIZE; i++) {
+            cumulative += counts[i];
+            if (cumulative >= rank) {
+                long upperBound = i == 0 ? 0L : (1L << i) - 1;
+                return Math.min(upperBound, getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * 記録された値をすべて削除します。
+     */
+    public void reset() {
+        count.reset();
+        total.reset();
+        max.reset();
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MetricsSummary [count=" + getCount() + ", total=" + getTotal()
+                + ", max=" + getMax() + "]";
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc;
+
+import org.seasar.doma.DomaNullPointerException;
+import org.seasar.doma.internal.jdbc.sql.SqlParser;
+
+/**
+ * SQLの解析結果をキャッシュしない {@link SqlNodeRepository} の実装です。
+ * 
+ * @author nakamura-to
+ * @since 2.20.0
+ */
+public class NoCacheSqlNodeRepository implements SqlNodeRepository {
+
+    @Override
+    public SqlNode getSqlNode(String sql) {
+        if (sql == null) {
+            throw new DomaNullPointerException("sql");
+        }
+        return new SqlParser(sql).parse();
+    }
+
+}
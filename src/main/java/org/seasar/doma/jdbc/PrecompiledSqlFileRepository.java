@@ -0,0 +1,139 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.seasar.doma.internal.jdbc.util.SqlFileIndexUtil;
+import org.seasar.doma.internal.util.IOUtil;
+import org.seasar.doma.internal.util.ResourceUtil;
+import org.seasar.doma.jdbc.dialect.Dialect;
+import org.seasar.doma.message.Message;
+
+/**
+ * 注釈処理で生成されたSQLファイルのインデックスからSQLを読み込む {@link SqlFileRepository} の実装です。
+ * <p>
+ * 注釈処理のオプション {@code doma.sql.precompilation} に {@code true}
+ * を指定すると、Daoごとにそのメソッドに対応するSQLファイルをまとめたインデックスが生成されます。
+ * このクラスはDaoごとに1度だけインデックスを読み込むため、
+ * SQLファイルごと、RDBMSごとにクラスパスを検索する必要がありません。
+ * <p>
+ * インデックスが存在しない場合や、インデックスにSQLファイルが含まれない場合は、クラスパスからSQLファイルを読み込みます。
+ * SQLの解析結果は {@link GreedyCacheSqlFileRepository} と同様にメモリが許す限り最大限にキャッシュします。
+ * 
+ * @author nakamura-to
+ * @since 2.20.0
+ */
+public class PrecompiledSqlFileRepository extends AbstractSqlFileRepository {
+
+    /** インデックスのパスをキー、インデックスの内容を値とするマップです。 */
+    protected final ConcurrentMap<String, Map<String, String>> indexMap = new ConcurrentHashMap<>(
+            200);
+
+    /** RDBMS固有の名前を含んだSQLのパスをキー、SQLファイルを値とするマップです。 */
+    protected final ConcurrentMap<String, SqlFile> sqlFileMap = new ConcurrentHashMap<>(
+            200);
+
+    @Override
+    protected SqlFile getSqlFileWithCacheControl(Method method, String path,
+            Dialect dialect) {
+        String primaryPath = getPrimaryPath(path, dialect);
+        SqlFile file = sqlFileMap.get(primaryPath);
+        if (file != null) {
+            return file;
+        }
+        file = createPrecompiledSqlFile(primaryPath, path, dialect);
+        SqlFile current = sqlFileMap.putIfAbsent(primaryPath, file);
+        return current != null ? current : file;
+    }
+
+    /**
+     * インデックスを使ってSQLファイルを作成します。
+     * 
+     * @param primaryPath
+     *            RDBMS固有の名前を含んだSQLのパス
+     * @param path
+     *            SQLのパス
+     * @param dialect
+     *            方言
+     * @return SQLファイル
+     */
+    protected SqlFile createPrecompiledSqlFile(String primaryPath,
+            String path, Dialect dialect) {
+        Map<String, String> index = getIndex(SqlFileIndexUtil
+                .buildPathFromSqlFilePath(path));
+        String sql = index.get(primaryPath);
+        if (sql != null) {
+            return new SqlFile(primaryPath, sql, parse(sql));
+        }
+        sql = index.get(path);
+        if (sql != null) {
+            return new SqlFile(path, sql, parse(sql));
+        }
+        return createSqlFile(path, dialect);
+    }
+
+    /**
+     * インデックスを返します。
+     * 
+     * @param indexPath
+     *            インデックスのパス
+     * @return SQLファイルのパスをキー、SQLの文字列を値とするマップ
+     */
+    protected Map<String, String> getIndex(String indexPath) {
+        Map<String, String> index = indexMap.get(indexPath);
+        if (index != null) {
+            return index;
+        }
+        index = loadIndex(indexPath);
+        Map<String, String> current = indexMap.putIfAbsent(indexPath, index);
+        return current != null ? current : index;
+    }
+
+    /**
+     * インデックスをクラスパスから読み込みます。
+     * 
+     * @param indexPath
+     *            インデックスのパス
+     * @return SQLファイルのパスをキー、SQLの文字列を値とするマップ、インデックスが存在しない場合は空のマップ
+     */
+    protected Map<String, String> loadIndex(String indexPath) {
+        InputStream in = ResourceUtil.getResourceAsStream(indexPath);
+        if (in == null) {
+            return Collections.emptyMap();
+        }
+        try {
+            Map<String, String> index = SqlFileIndexUtil.read(in);
+            return index != null ? index : Collections.emptyMap();
+        } catch (IOException e) {
+            throw new JdbcException(Message.DOMA2010, e, indexPath, e);
+        } finally {
+            IOUtil.close(in);
+        }
+    }
+
+    @Override
+    public void clearCache() {
+        indexMap.clear();
+        sqlFileMap.clear();
+    }
+}
@@ -17,6 +17,7 @@ package org.seasar.doma.jdbc;
 
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * 
@@ -40,4 +41,31 @@ public class PreparedSql extends AbstractSql<InParameter<?>> {
                 commenter);
     }
 
+    /**
+     * 整形されたSQLを遅延して組み立てるインスタンスを構築します。
+     * 
+     * @param kind
+     *            SQLの種別
+     * @param rawSql
+     *            未加工SQL
+     * @param formattedSqlSupplier
+     *            整形されたSQLのサプライヤ
+     * @param sqlFilePath
+     *            SQLファイルのパス
+     * @param parameters
+     *            パラメータのリスト
+     * @param sqlLogType
+     *            SQLのログの出力形式
+     * @param commenter
+     *            SQLにコメントを付与する関数
+     * @since 2.20.0
+     */
+    public PreparedSql(SqlKind kind, CharSequence rawSql,
+            Supplier<? extends CharSequence> formattedSqlSupplier,
+            String sqlFilePath, List<? extends InParameter<?>> parameters,
+            SqlLogType sqlLogType, Function<String, String> commenter) {
+        super(kind, rawSql, formattedSqlSupplier, sqlFilePath, parameters,
+                sqlLogType, commenter);
+    }
+
 }
@@ -44,9 +44,15 @@ public class SelectOptions implements Serializable {
     /** ページングのリミット */
     protected long limit = -1;
 
+    /** ページングのオフセットとリミットをバインド変数にするかどうか */
+    protected boolean pagingBound;
+
     /** 集計するかどうか */
     protected boolean count;
 
+    /** ウィンドウ関数を使って検索と同時に集計するかどうか */
+    protected boolean countInWindow;
+
     /** 集計サイズ */
     protected long countSize = -1;
 
@@ -196,6 +202,19 @@ public class SelectOptions implements Serializable {
         return this;
     }
 
+    /**
+     * ページングのオフセットとリミットをリテラルではなくバインド変数としてSQLへ変換することを示します。
+     * <p>
+     * ページによらずSQLの文字列が同じになるため、データベースやJDBCドライバのステートメントキャッシュが有効に働きます。
+     * 
+     * @return このインスタンス
+     * @since 2.20.0
+     */
+    public SelectOptions bindPaging() {
+        this.pagingBound = true;
+        return this;
+    }
+
     /**
      * 集計することを示します。
      * 
@@ -206,6 +225,26 @@ public class SelectOptions implements Serializable {
         return this;
     }
 
+    /**
+     * ウィンドウ関数 {@code count(*) over()} を使って、検索と同時に集計することを示します。
+     * <p>
+     * {@link #count()} と異なり、集計のためのSQLを別に発行しません。集計は検索結果の最初の行から取得します。
+     * ただし、次の場合は {@link #count()} と同様に集計のためのSQLを発行します。
+     * <ul>
+     * <li>ダイアレクトがウィンドウ関数による集計をサポートしていない場合
+     * <li>SQLが {@code distinct} もしくは {@code for update} を含む場合
+     * <li>オフセットを指定した検索の結果が空の場合
+     * </ul>
+     * 
+     * @return このインスタンス
+     * @since 2.20.0
+     */
+    public SelectOptions countInWindow() {
+        this.count = true;
+        this.countInWindow = true;
+        return this;
+    }
+
     /**
      * 集計を返します。
      * <p>
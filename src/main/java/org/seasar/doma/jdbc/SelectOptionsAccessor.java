@@ -36,6 +36,30 @@ public class SelectOptionsAccessor {
         return options.count;
     }
 
+    /**
+     * オプションからウィンドウ関数を使って集計するかどうかを返します。
+     * 
+     * @param options
+     *            オプション
+     * @return ウィンドウ関数を使って集計するかどうか
+     * @since 2.20.0
+     */
+    public static boolean isCountInWindow(SelectOptions options) {
+        return options.countInWindow;
+    }
+
+    /**
+     * オプションから集計サイズを返します。
+     * 
+     * @param options
+     *            オプション
+     * @return 集計サイズ、集計されていない場合 {@code -1}
+     * @since 2.20.0
+     */
+    public static long getCountSize(SelectOptions options) {
+        return options.countSize;
+    }
+
     /**
      * オプションに集計サイズを設定します。
      * 
@@ -102,4 +126,16 @@ public class SelectOptionsAccessor {
     public static long getLimit(SelectOptions options) {
         return options.limit;
     }
+
+    /**
+     * オプションからページングのオフセットとリミットをバインド変数にするかどうかを返します。
+     * 
+     * @param options
+     *            オプション
+     * @return バインド変数にする場合 {@code true}
+     * @since 2.20.0
+     */
+    public static boolean isPagingBound(SelectOptions options) {
+        return options.pagingBound;
+    }
 }
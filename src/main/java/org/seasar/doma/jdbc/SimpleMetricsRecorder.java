@@ -0,0 +1,157 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * メトリクスをメモリ上に集計する {@link MetricsRecorder} の実装です。
+ * <p>
+ * Daoのメソッドと {@link SqlKind} の組ごとに {@link DaoMethodMetrics} を保持します。
+ * 記録はロックを使わずに行われます。
+ * 
+ * @author nakamura-to
+ * @since 2.20.0
+ */
+public class SimpleMetricsRecorder implements MetricsRecorder {
+
+    protected final ConcurrentMap<Key, DaoMethodMetrics> metricsMap = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordSqlBuildTime(String callerClassName,
+            String callerMethodName, Sql<?> sql, long time) {
+        getMetrics(callerClassName, callerMethodName, sql).sqlBuildTime
+                .record(time);
+    }
+
+    @Override
+    public void recordPrepareTime(String callerClassName,
+            String callerMethodName, Sql<?> sql, long time) {
+        getMetrics(callerClassName, callerMethodName, sql).prepareTime
+                .record(time);
+    }
+
+    @Override
+    public void recordExecutionTime(String callerClassName,
+            String callerMethodName, Sql<?> sql, long time) {
+        getMetrics(callerClassName, callerMethodName, sql).executionTime
+                .record(time);
+    }
+
+    @Override
+    public void recordResultMappingTime(String callerClassName,
+            String callerMethodName, Sql<?> sql, long time) {
+        getMetrics(callerClassName, callerMethodName, sql).resultMappingTime
+                .record(time);
+    }
+
+    @Override
+    public void recordRowCount(String callerClassName,
+            String callerMethodName, Sql<?> sql, long rowCount) {
+        getMetrics(callerClassName, callerMethodName, sql).rowCount
+                .record(rowCount);
+    }
+
+    @Override
+    public void recordBatchSize(String callerClassName,
+            String callerMethodName, Sql<?> sql, int batchSize) {
+        getMetrics(callerClassName, callerMethodName, sql).batchSize
+                .record(batchSize);
+    }
+
+    /**
+     * メトリクスを返します。存在しない場合は作成します。
+     * 
+     * @param className
+     *            クラス名
+     * @param methodName
+     *            メソッド名
+     * @param sql
+     *            SQL
+     * @return メトリクス
+     */
+    protected DaoMethodMetrics getMetrics(String className,
+            String methodName, Sql<?> sql) {
+        SqlKind sqlKind = sql != null ? sql.getKind() : null;
+        Key key = new Key(className, methodName, sqlKind);
+        DaoMethodMetrics metrics = metricsMap.get(key);
+        if (metrics != null) {
+            return metrics;
+        }
+        return metricsMap.computeIfAbsent(key, k -> new DaoMethodMetrics(
+                className, methodName, sqlKind));
+    }
+
+    /**
+     * 集計したすべてのメトリクスを返します。
+     * 
+     * @return メトリクスのリスト
+     */
+    public List<DaoMethodMetrics> getMetrics() {
+        return new ArrayList<>(metricsMap.values());
+    }
+
+    /**
+     * 集計したメトリクスを削除します。
+     */
+    public void clear() {
+        metricsMap.clear();
+    }
+
+    /**
+     * メトリクスのキーです。
+     * 
+     * @author nakamura-to
+     * @since 2.20.0
+     */
+    protected static class Key {
+
+        protected final String className;
+
+        protected final String methodName;
+
+        protected final SqlKind sqlKind;
+
+        protected Key(String className, String methodName, SqlKind sqlKind) {
+            this.className = className;
+            this.methodName = methodName;
+            this.sqlKind = sqlKind;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(className, methodName, sqlKind);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return Objects.equals(className, other.className)
+                    && Objects.equals(methodName, other.methodName)
+                    && sqlKind == other.sqlKind;
+        }
+    }
+}
@@ -16,6 +16,8 @@
 package org.seasar.doma.jdbc;
 
 import org.seasar.doma.DomaNullPointerException;
+import org.seasar.doma.internal.jdbc.sql.SqlPlan;
+import org.seasar.doma.internal.jdbc.sql.SqlPlanCompiler;
 
 /**
  * SQLファイルです。
@@ -36,6 +38,9 @@ public class SqlFile {
     /** SQLの解析結果 */
     protected final SqlNode sqlNode;
 
+    /** SQLの解析結果をコンパイルした実行計画 */
+    protected volatile SqlPlan sqlPlan;
+
     /**
      * 
      * @param path
@@ -89,6 +94,23 @@ public class SqlFile {
         return sqlNode;
     }
 
+    /**
+     * SQLの解析結果をコンパイルした実行計画を返します。
+     * <p>
+     * 実行計画は最初の呼び出し時に作成され、以降はこのインスタンスが破棄されるまで再利用されます。
+     * 
+     * @return SQLの実行計画
+     * @since 2.20.0
+     */
+    public SqlPlan getSqlPlan() {
+        SqlPlan plan = sqlPlan;
+        if (plan == null) {
+            plan = new SqlPlanCompiler().compile(sqlNode);
+            sqlPlan = plan;
+        }
+        return plan;
+    }
+
     @Override
     public String toString() {
         return sqlNode.toString();
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.seasar.doma.BatchDelete;
+import org.seasar.doma.BatchInsert;
+import org.seasar.doma.BatchUpdate;
+import org.seasar.doma.Dao;
+import org.seasar.doma.Delete;
+import org.seasar.doma.DomaIllegalArgumentException;
+import org.seasar.doma.DomaNullPointerException;
+import org.seasar.doma.Insert;
+import org.seasar.doma.Select;
+import org.seasar.doma.SqlProcessor;
+import org.seasar.doma.Update;
+import org.seasar.doma.internal.jdbc.util.SqlFileUtil;
+
+/**
+ * Daoのメソッドに対応するSQLファイルを事前に読み込み、 {@link SqlFileRepository} にキャッシュさせます。
+ * <p>
+ * アプリケーションの起動直後にDaoのメソッドを初めて呼び出す際の、SQLファイルの検索と解析にかかる時間を取り除くために使用します。
+ * SQLファイルは {@link ForkJoinPool} を使って並列に読み込まれます。
+ * <p>
+ * 読み込みに失敗したSQLファイルがあっても処理は中断されず、失敗したことが結果に含まれます。
+ * 
+ * @author nakamura-to
+ * @since 2.20.0
+ */
+public class SqlFileWarmer {
+
+    protected final Config config;
+
+    protected final ForkJoinPool pool;
+
+    /**
+     * 共通のプールを使うインスタンスを構築します。
+     * 
+     * @param config
+     *            設定
+     */
+    public SqlFileWarmer(Config config) {
+        this(config, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param config
+     *            設定
+     * @param pool
+     *            SQLファイルを並列に読み込むプール
+     */
+    public SqlFileWarmer(Config config, ForkJoinPool pool) {
+        if (config == null) {
+            throw new DomaNullPointerException("config");
+        }
+        if (pool == null) {
+            throw new DomaNullPointerException("pool");
+        }
+        this.config = config;
+        this.pool = pool;
+    }
+
+    /**
+     * Daoのメソッドに対応するSQLファイルを読み込みます。
+     * <p>
+     * このメソッドはすべてのSQLファイルの読み込みが終わるまでブロックします。
+     * 
+     * @param daoInterfaces
+     *            {@link Dao} が注釈されたインタフェース
+     * @return SQLファイルごとの読み込みの結果
+     * @throws DomaNullPointerException
+     *             {@code daoInterfaces} もしくはその要素が {@code null} の場合
+     * @throws DomaIllegalArgumentException
+     *             {@code daoInterfaces} の要素が {@link Dao} が注釈されたインタフェースでない場合
+     */
+    public List<SqlFileWarmerResult> warmUp(Class<?>... daoInterfaces) {
+        if (daoInterfaces == null) {
+            throw new DomaNullPointerException("daoInterfaces");
+        }
+        List<Target> targets = new ArrayList<>();
+        for (Class<?> daoInterface : daoInterfaces) {
+            if (daoInterface == null) {
+                throw new DomaNullPointerException("daoInterfaces");
+            }
+            if (!daoInterface.isInterface()
+                    || !daoInterface.isAnnotationPresent(Dao.class)) {
+                throw new DomaIllegalArgumentException("daoInterfaces",
+                        "The class \"" + daoInterface.getName()
+                                + "\" is not a Dao interface");
+            }
+            collectTargets(daoInterface, targets);
+        }
+        return pool.submit(
+                () -> targets.parallelStream().map(this::load)
+                        .collect(Collectors.toList())).join();
+    }
+
+    /**
+     * Daoのインタフェースから読み込み対象のSQLファイルを集めます。
+     * <p>
+     * 親のDaoから継承したメソッドのSQLファイルは、メソッドを宣言した親のDaoのパスから読み込みます。
+     * 
+     * @param daoInterface
+     *            Daoのインタフェース
+     * @param targets
+     *            読み込み対象のリスト
+     */
+    protected void collectTargets(Class<?> daoInterface, List<Target> targets) {
+        for (Method method : daoInterface.getMethods()) {
+            if (method.isDefault() || Modifier.isStatic(method.getModifiers())) {
+                continue;
+            }
+            if (isSqlFileUsed(method)) {
+                String path = SqlFileUtil.buildPath(method
+                        .getDeclaringClass().getName(), method.getName());
+                targets.add(new Target(method, path));
+            }
+        }
+    }
+
+    /**
+     * メソッドがSQLファイルを使用するかどうかを返します。
+     * 
+     * @param method
+     *            Daoのメソッド
+     * @return SQLファイルを使用する場合 {@code true}
+     */
+    protected boolean isSqlFileUsed(Method method) {
+        if (method.isAnnotationPresent(Select.class)
+                || method.isAnnotationPresent(SqlProcessor.class)) {
+            return true;
+        }
+        Insert insert = method.getAnnotation(Insert.class);
+        if (insert != null) {
+            return insert.sqlFile();
+        }
+        Update update = method.getAnnotation(Update.class);
+        if (update != null) {
+            return update.sqlFile();
+        }
+        Delete delete = method.getAnnotation(Delete.class);
+        if (delete != null) {
+            return delete.sqlFile();
+        }
+        BatchInsert batchInsert = method.getAnnotation(BatchInsert.class);
+        if (batchInsert != null) {
+            return batchInsert.sqlFile();
+        }
+        BatchUpdate batchUpdate = method.getAnnotation(BatchUpdate.class);
+        if (batchUpdate != null) {
+            return batchUpdate.sqlFile();
+        }
+        BatchDelete batchDelete = method.getAnnotation(BatchDelete.class);
+        if (batchDelete != null) {
+            return batchDelete.sqlFile();
+        }
+        return false;
+    }
+
+    /**
+     * SQLファイルを読み込みます。
+     * 
+     * @param target
+     *            読み込み対象
+     * @return 読み込みの結果
+     */
+    protected SqlFileWarmerResult load(Target target) {
+        long start = System.nanoTime();
+        try {
+            SqlFile sqlFile = config.getSqlFileRepository().getSqlFile(
+                    target.method, target.path, config.getDialect());
+            sqlFile.getSqlPlan();
+            return new SqlFileWarmerResult(target.method, sqlFile.getPath(),
+                    System.nanoTime() - start, null);
+        } catch (RuntimeException e) {
+            return new SqlFileWarmerResult(target.method, target.path,
+                    System.nanoTime() - start, e);
+        }
+    }
+
+    /**
+     * 読み込み対象です。
+     * 
+     * @author nakamura-to
+     * @since 2.20.0
+     */
+    protected static class Target {
+
+        protected final Method method;
+
+        protected final String path;
+
+        protected Target(Method method, String path) {
+            this.method = method;
+            this.path = path;
+        }
+    }
+}
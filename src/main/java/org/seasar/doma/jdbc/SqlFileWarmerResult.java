@@ -0,0 +1,108 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc;
+
+import java.lang.reflect.Method;
+
+/**
+ * {@link SqlFileWarmer} による、1つのSQLファイルの読み込みの結果です。
+ * 
+ * @author nakamura-to
+ * @since 2.20.0
+ */
+public class SqlFileWarmerResult {
+
+    protected final Method method;
+
+    protected final String path;
+
+    protected final long loadTime;
+
+    protected final RuntimeException exception;
+
+    /**
+     * インスタンスを構築します。
+     * 
+     * @param method
+     *            Daoのメソッド
+     * @param path
+     *            SQLファイルのパス
+     * @param loadTime
+     *            読み込みにかかった時間（ナノ秒）
+     * @param exception
+     *            読み込みに失敗した場合の例外、成功した場合 {@code null}
+     */
+    public SqlFileWarmerResult(Method method, String path, long loadTime,
+            RuntimeException exception) {
+        this.method = method;
+        this.path = path;
+        this.loadTime = loadTime;
+        this.exception = exception;
+    }
+
+    /**
+     * Daoのメソッドを返します。
+     * 
+     * @return Daoのメソッド
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * SQLファイルのパスを返します。
+     * <p>
+     * 読み込みに成功した場合、RDBMS固有の名前を含んだパスであることがあります。
+     * 
+     * @return SQLファイルのパス
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * 読み込みにかかった時間をナノ秒で返します。
+     * 
+     * @return 読み込みにかかった時間（ナノ秒）
+     */
+    public long getLoadTime() {
+        return loadTime;
+    }
+
+    /**
+     * 読み込みに失敗した場合の例外を返します。
+     * 
+     * @return 読み込みに失敗した場合の例外、成功した場合 {@code null}
+     */
+    public RuntimeException getException() {
+        return exception;
+    }
+
+    /**
+     * 読み込みに成功したかどうかを返します。
+     * 
+     * @return 成功した場合 {@code true}
+     */
+    public boolean isSucceeded() {
+        return exception == null;
+    }
+
+    @Override
+    public String toString() {
+        return "SqlFileWarmerResult [method=" + method + ", path=" + path
+                + ", loadTime=" + loadTime + ", exception=" + exception + "]";
+    }
+}
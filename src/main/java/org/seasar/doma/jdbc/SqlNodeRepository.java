@@ -0,0 +1,53 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc;
+
+import org.seasar.doma.DomaNullPointerException;
+import org.seasar.doma.jdbc.builder.SelectBuilder;
+
+/**
+ * SQLの文字列を解析した {@link SqlNode} のリポジトリです。
+ * <p>
+ * {@link SelectBuilder} などのビルダーが組み立てたSQLを解析する際に使用されます。
+ * 同じ形のSQLを繰り返し組み立てる場合、解析結果をキャッシュすることで解析を省略できます。
+ * <p>
+ * このインタフェースの実装はスレッドセーフでなければいけません。また、返される {@link SqlNode}
+ * は複数のスレッドで共有されることを前提とします。
+ * 
+ * @author nakamura-to
+ * @since 2.20.0
+ */
+public interface SqlNodeRepository {
+
+    /**
+     * SQLの解析結果を返します。
+     * 
+     * @param sql
+     *            SQLの文字列
+     * @return SQLの解析結果
+     * @throws DomaNullPointerException
+     *             引数が {@code null} の場合
+     * @throws JdbcException
+     *             SQLの解析に失敗した場合
+     */
+    SqlNode getSqlNode(String sql);
+
+    /**
+     * SQLの解析結果のキャッシュを削除します。
+     */
+    default void clearCache() {
+    }
+}
@@ -141,7 +141,7 @@ public abstract class BatchBuilder {
         for (BatchParam<?> p : helper.getParams()) {
             query.addParameter(p.name, p.paramClass, p.params);
         }
-        query.setSqlNode(helper.getSqlNode());
+        query.setSqlNode(helper.getSqlNode(query.getConfig()));
         query.prepare();
     }
 
@@ -23,8 +23,9 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
-import org.seasar.doma.internal.jdbc.sql.SqlParser;
+import org.seasar.doma.jdbc.Config;
 import org.seasar.doma.jdbc.SqlNode;
+import org.seasar.doma.jdbc.SqlNodeRepository;
 
 /**
  * @author bakenezumi
@@ -83,7 +84,7 @@ class BatchBuildingHelper {
         return results;
     }
 
-    SqlNode getSqlNode() {
+    SqlNode getSqlNode(Config config) {
         StringBuilder buf = new StringBuilder(200);
         for (Item item : items) {
             switch (item.kind) {
@@ -103,8 +104,8 @@ class BatchBuildingHelper {
                 break;
             }
         }
-        SqlParser parser = new SqlParser(buf.toString());
-        return parser.parse();
+        SqlNodeRepository repository = config.getSqlNodeRepository();
+        return repository.getSqlNode(buf.toString());
     }
 
     private static class Item {
@@ -21,8 +21,9 @@ import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 
-import org.seasar.doma.internal.jdbc.sql.SqlParser;
+import org.seasar.doma.jdbc.Config;
 import org.seasar.doma.jdbc.SqlNode;
+import org.seasar.doma.jdbc.SqlNodeRepository;
 
 /**
  * @author taedium
@@ -70,7 +71,7 @@ class BuildingHelper {
         return results;
     }
 
-    SqlNode getSqlNode() {
+    SqlNode getSqlNode(Config config) {
         StringBuilder buf = new StringBuilder(200);
         for (Item item : items) {
             switch (item.kind) {
@@ -90,8 +91,8 @@ class BuildingHelper {
                 break;
             }
         }
-        SqlParser parser = new SqlParser(buf.toString());
-        return parser.parse();
+        SqlNodeRepository repository = config.getSqlNodeRepository();
+        return repository.getSqlNode(buf.toString());
     }
 
     private static class Item {
@@ -198,7 +198,7 @@ public class DeleteBuilder {
         for (Param p : helper.getParams()) {
             query.addParameter(p.name, p.paramClass, p.param);
         }
-        query.setSqlNode(helper.getSqlNode());
+        query.setSqlNode(helper.getSqlNode(query.getConfig()));
         query.prepare();
     }
 
@@ -1019,7 +1019,7 @@ public class SelectBuilder {
         for (Param p : helper.getParams()) {
             query.addParameter(p.name, p.paramClass, p.param);
         }
-        query.setSqlNode(helper.getSqlNode());
+        query.setSqlNode(helper.getSqlNode(query.getConfig()));
         query.prepare();
     }
 
@@ -1044,6 +1044,20 @@ public class SelectBuilder {
         query.setResultMappingEnsured(ensureResultMapping);
     }
 
+    /**
+     * 結果のエンティティの取得時の状態を {@link org.seasar.doma.OriginalStates}
+     * が注釈されたフィールドに保存しないようにします。
+     * <p>
+     * 保存しない場合、そのエンティティを更新するとすべてのプロパティが更新対象になります。
+     * 
+     * @param skipOriginalStates
+     *            取得時の状態を保存しない場合 {@code true}
+     * @since 2.20.0
+     */
+    public void skipOriginalStates(boolean skipOriginalStates) {
+        query.setOriginalStatesSkipped(skipOriginalStates);
+    }
+
     /**
      * フェッチのタイプを設定します。
      * 
@@ -17,8 +17,11 @@ package org.seasar.doma.jdbc.command;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
 import java.util.List;
 
+import org.seasar.doma.internal.jdbc.util.JdbcUtil;
 import org.seasar.doma.jdbc.BatchUniqueConstraintException;
 import org.seasar.doma.jdbc.PreparedSql;
 import org.seasar.doma.jdbc.dialect.Dialect;
@@ -38,6 +41,9 @@ public class BatchInsertCommand extends BatchModifyCommand<BatchInsertQuery> {
     protected int[] executeInternal(PreparedStatement preparedStatement,
             List<PreparedSql> sqls) throws SQLException {
         if (query.isBatchSupported()) {
+            if (!sqls.isEmpty() && query.getRowCount(0) > 1) {
+                return executeMultiRowBatch(preparedStatement, sqls);
+            }
             return executeBatch(preparedStatement, sqls);
         }
         int sqlSize = sqls.size();
@@ -53,6 +59,73 @@ public class BatchInsertCommand extends BatchModifyCommand<BatchInsertQuery> {
         return updatedRows;
     }
 
+    /**
+     * 複数行の VALUES 句をもつINSERT文を実行します。
+     * <p>
+     * 行の数が等しいSQLはまとめてバッチ実行し、行の数が少ない末尾のSQLは別の文で実行します。
+     * 戻り値は挿入対象の行ごとの更新件数です。
+     * 
+     * @param preparedStatement
+     *            先頭のSQLで準備された文
+     * @param sqls
+     *            SQLのリスト
+     * @return 行ごとの更新件数
+     * @throws SQLException
+     *             SQL例外が発生した場合
+     * @since 2.20.0
+     */
+    protected int[] executeMultiRowBatch(PreparedStatement preparedStatement,
+            List<PreparedSql> sqls) throws SQLException {
+        int sqlSize = sqls.size();
+        int lastIndex = sqlSize - 1;
+        boolean remainder = query.getRowCount(lastIndex) != query
+                .getRowCount(0);
+        int batchSqlSize = remainder ? lastIndex : sqlSize;
+        int[] sqlRows = new int[sqlSize];
+        if (batchSqlSize > 0) {
+            int[] rows = executeBatch(preparedStatement,
+                    sqls.subList(0, batchSqlSize));
+            System.arraycopy(rows, 0, sqlRows, 0, rows.length);
+        }
+        if (remainder) {
+            PreparedSql sql = sqls.get(lastIndex);
+            if (batchSqlSize == 0) {
+                sqlRows[lastIndex] = executeRemainder(preparedStatement, sql);
+            } else {
+                PreparedStatement remainderStatement = prepareStatement(
+                        connection, sql);
+                try {
+                    setupOptions(remainderStatement);
+                    sqlRows[lastIndex] = executeRemainder(remainderStatement,
+                            sql);
+                } finally {
+                    JdbcUtil.close(remainderStatement, query.getConfig()
+                            .getJdbcLogger());
+                }
+            }
+        }
+        int rowSize = 0;
+        for (int i = 0; i < sqlSize; i++) {
+            rowSize += query.getRowCount(i);
+        }
+        int[] updatedRows = new int[rowSize];
+        int pos = 0;
+        for (int i = 0; i < sqlSize; i++) {
+            int rowCount = query.getRowCount(i);
+            int value = sqlRows[i] == rowCount ? 1 : Statement.SUCCESS_NO_INFO;
+            Arrays.fill(updatedRows, pos, pos + rowCount, value);
+            pos += rowCount;
+        }
+        return updatedRows;
+    }
+
+    protected int executeRemainder(PreparedStatement preparedStatement,
+            PreparedSql sql) throws SQLException {
+        log(sql);
+        bindParameters(preparedStatement, sql);
+        return executeUpdate(preparedStatement, sql);
+    }
+
     protected int executeUpdate(PreparedStatement preparedStatement,
             PreparedSql sql) throws SQLException {
         try {
@@ -22,14 +22,19 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.seasar.doma.internal.jdbc.command.PreparedSqlParameterBinder;
 import org.seasar.doma.internal.jdbc.util.JdbcUtil;
 import org.seasar.doma.jdbc.BatchOptimisticLockException;
+import org.seasar.doma.jdbc.BatchSizePolicy;
 import org.seasar.doma.jdbc.BatchSqlExecutionException;
 import org.seasar.doma.jdbc.BatchUniqueConstraintException;
 import org.seasar.doma.jdbc.Config;
+import org.seasar.doma.jdbc.InParameter;
 import org.seasar.doma.jdbc.JdbcLogger;
+import org.seasar.doma.jdbc.MetricsRecorder;
 import org.seasar.doma.jdbc.PreparedSql;
 import org.seasar.doma.jdbc.dialect.Dialect;
 import org.seasar.doma.jdbc.query.BatchModifyQuery;
@@ -44,6 +49,24 @@ public abstract class BatchModifyCommand<QUERY extends BatchModifyQuery>
 
     protected final QUERY query;
 
+    /**
+     * すべての行で使い回すバインダー
+     * <p>
+     * パイプライン化されたバッチ処理でも、バインドは常に1つのスレッドで順に行われます。
+     * 
+     * @since 2.20.0
+     */
+    protected PreparedSqlParameterBinder parameterBinder;
+
+    /**
+     * 実行中のコネクション
+     * <p>
+     * 最初のSQLで準備した文とは別の文が必要な場合に使用します。
+     * 
+     * @since 2.20.0
+     */
+    protected Connection connection;
+
     protected BatchModifyCommand(QUERY query) {
         assertNotNull(query);
         this.query = query;
@@ -59,13 +82,28 @@ public abstract class BatchModifyCommand<QUERY extends BatchModifyQuery>
         }
         Connection connection = JdbcUtil.getConnection(query.getConfig()
                 .getDataSource());
+        this.connection = connection;
         try {
+            MetricsRecorder recorder = query.getConfig().getMetricsRecorder();
             PreparedSql sql = query.getSql();
+            long start = System.nanoTime();
             PreparedStatement preparedStatement = prepareStatement(connection,
                     sql);
             try {
                 setupOptions(preparedStatement);
-                return executeInternal(preparedStatement, query.getSqls());
+                long prepared = System.nanoTime();
+                recorder.recordPrepareTime(query.getClassName(),
+                        query.getMethodName(), sql, prepared - start);
+                List<PreparedSql> sqls = query.getSqls();
+                int[] rows = executeInternal(preparedStatement, sqls);
+                recorder.recordExecutionTime(query.getClassName(),
+                        query.getMethodName(), sql, System.nanoTime()
+                                - prepared);
+                recorder.recordBatchSize(query.getClassName(),
+                        query.getMethodName(), sql, sqls.size());
+                recorder.recordRowCount(query.getClassName(),
+                        query.getMethodName(), sql, sumRows(rows));
+                return rows;
             } catch (SQLException e) {
                 Dialect dialect = query.getConfig().getDialect();
                 throw new BatchSqlExecutionException(query.getConfig()
@@ -76,6 +114,7 @@ public abstract class BatchModifyCommand<QUERY extends BatchModifyQuery>
                         .getJdbcLogger());
             }
         } finally {
+            this.connection = null;
             JdbcUtil.close(connection, query.getConfig().getJdbcLogger());
         }
     }
@@ -98,6 +137,16 @@ public abstract class BatchModifyCommand<QUERY extends BatchModifyQuery>
         return JdbcUtil.prepareStatement(connection, sql);
     }
 
+    protected long sumRows(int[] rows) {
+        long sum = 0;
+        for (int row : rows) {
+            if (row > 0) {
+                sum += row;
+            }
+        }
+        return sum;
+    }
+
     protected abstract int[] executeInternal(
             PreparedStatement preparedStatement, List<PreparedSql> sqls)
             throws SQLException;
@@ -111,26 +160,207 @@ public abstract class BatchModifyCommand<QUERY extends BatchModifyQuery>
 
     protected int[] executeBatch(PreparedStatement preparedStatement,
             List<PreparedSql> sqls) throws SQLException {
-        int batchSize = query.getBatchSize() > 0 ? query.getBatchSize() : 1;
+        BatchSizePolicy policy = query.getConfig().getBatchSizePolicy();
+        PreparedSql firstSql = query.getSql();
+        int queryBatchSize = query.getBatchSize() > 0 ? query.getBatchSize()
+                : 1;
+        int batchSize = Math.max(1,
+                policy.getBatchSize(firstSql, queryBatchSize));
         int sqlSize = sqls.size();
+        if (query.getConfig().isBatchPipelined() && sqlSize > batchSize) {
+            return executePipelinedBatch(preparedStatement, sqls, batchSize);
+        }
+        boolean usesParameterBytes = policy.usesParameterBytes();
         int[] updatedRows = new int[sqlSize];
         int i = 0;
         int pos = 0;
+        long parameterBytes = 0;
         for (PreparedSql sql : sqls) {
             log(sql);
             bindParameters(preparedStatement, sql);
             preparedStatement.addBatch();
-            if (i == sqlSize - 1 || (batchSize > 0 && (i + 1) % batchSize == 0)) {
+            if (usesParameterBytes) {
+                parameterBytes += estimateParameterBytes(sql);
+            }
+            if (i == sqlSize - 1 || i + 1 - pos >= batchSize) {
+                long start = System.nanoTime();
                 int[] rows = executeBatch(preparedStatement, sql);
+                policy.recordBatchExecution(firstSql, i + 1 - pos,
+                        parameterBytes, System.nanoTime() - start);
                 validateRows(preparedStatement, sql, rows);
                 System.arraycopy(rows, 0, updatedRows, pos, rows.length);
                 pos = i + 1;
+                parameterBytes = 0;
+                batchSize = Math.max(1,
+                        policy.getBatchSize(firstSql, queryBatchSize));
             }
             i++;
         }
         return updatedRows;
     }
 
+    /**
+     * パラメータのバインドと {@link PreparedStatement#executeBatch()} の実行を重ね合わせてバッチ処理を実行します。
+     * <p>
+     * 同じコネクションからもう1つの {@link PreparedStatement} を準備し、2つを交互に使用します。
+     * 一方で {@link PreparedStatement#executeBatch()} を実行している間に、次のバッチのパラメータのバインドを
+     * {@link Config#getExecutor()} のスレッドでもう一方に対して行います。
+     * 更新件数はバッチの順に並べて返します。
+     * <p>
+     * 実行するバッチの最後のSQLは、バインドしたスレッドが {@link BoundChunk} に格納して受け渡します。
+     * SQLのログは、バッチを実行する直前に呼び出し元のスレッドで出力します。
+     * 
+     * @param preparedStatement
+     *            最初のSQLで準備された文
+     * @param sqls
+     *            SQLのリスト
+     * @param batchSize
+     *            最初のバッチのサイズ
+     * @return 更新件数
+     * @throws SQLException
+     *             SQL例外が発生した場合
+     * @since 2.20.0
+     */
+    protected int[] executePipelinedBatch(PreparedStatement preparedStatement,
+            List<PreparedSql> sqls, int batchSize) throws SQLException {
+        Config config = query.getConfig();
+        BatchSizePolicy policy = config.getBatchSizePolicy();
+        PreparedSql firstSql = query.getSql();
+        int queryBatchSize = query.getBatchSize() > 0 ? query.getBatchSize()
+                : 1;
+        int sqlSize = sqls.size();
+        int[] updatedRows = new int[sqlSize];
+        PreparedStatement[] statements = new PreparedStatement[2];
+        statements[0] = preparedStatement;
+        statements[1] = prepareStatement(connection, firstSql);
+        CompletableFuture<BoundChunk> pending = null;
+        try {
+            setupOptions(statements[1]);
+            BoundChunk chunk = bindChunk(statements[0], sqls, 0, batchSize);
+            int current = 0;
+            for (;;) {
+                int next = 1 - current;
+                if (chunk.end < sqlSize) {
+                    int nextStart = chunk.end;
+                    int nextSize = Math.max(1,
+                            policy.getBatchSize(firstSql, queryBatchSize));
+                    PreparedStatement nextStatement = statements[next];
+                    pending = CompletableFuture.supplyAsync(() -> {
+                        try {
+                            return bindChunk(nextStatement, sqls, nextStart,
+                                    nextSize);
+                        } catch (SQLException e) {
+                            throw new CompletionException(e);
+                        }
+                    }, config.getExecutor());
+                }
+                for (PreparedSql sql : sqls.subList(chunk.start, chunk.end)) {
+                    log(sql);
+                }
+                long start = System.nanoTime();
+                int[] rows = executeBatch(statements[current], chunk.lastSql);
+                policy.recordBatchExecution(firstSql, chunk.end - chunk.start,
+                        chunk.parameterBytes, System.nanoTime() - start);
+                validateRows(statements[current], chunk.lastSql, rows);
+                System.arraycopy(rows, 0, updatedRows, chunk.start,
+                        rows.length);
+                if (pending == null) {
+                    return updatedRows;
+                }
+                chunk = join(pending);
+                pending = null;
+                current = next;
+            }
+        } finally {
+            if (pending != null) {
+                try {
+                    pending.join();
+                } catch (CompletionException ignored) {
+                }
+            }
+            JdbcUtil.close(statements[1], config.getJdbcLogger());
+        }
+    }
+
+    /**
+     * SQLのリストの一部をバッチに追加します。
+     * 
+     * @param preparedStatement
+     *            文
+     * @param sqls
+     *            SQLのリスト
+     * @param start
+     *            開始インデックス
+     * @param size
+     *            バッチのサイズ
+     * @return バッチに追加したSQLの範囲と最後のSQL
+     * @throws SQLException
+     *             SQL例外が発生した場合
+     * @since 2.20.0
+     */
+    protected BoundChunk bindChunk(PreparedStatement preparedStatement,
+            List<PreparedSql> sqls, int start, int size) throws SQLException {
+        int end = Math.min(start + size, sqls.size());
+        boolean usesParameterBytes = query.getConfig().getBatchSizePolicy()
+                .usesParameterBytes();
+        long parameterBytes = 0;
+        PreparedSql lastSql = null;
+        for (PreparedSql sql : sqls.subList(start, end)) {
+            bindParameters(preparedStatement, sql);
+            preparedStatement.addBatch();
+            if (usesParameterBytes) {
+                parameterBytes += estimateParameterBytes(sql);
+            }
+            lastSql = sql;
+        }
+        return new BoundChunk(start, end, lastSql, parameterBytes);
+    }
+
+    protected BoundChunk join(CompletableFuture<BoundChunk> future)
+            throws SQLException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * SQLにバインドするパラメータのおおよそのバイト数を見積もります。
+     * 
+     * @param sql
+     *            SQL
+     * @return バイト数
+     * @since 2.20.0
+     */
+    protected long estimateParameterBytes(PreparedSql sql) {
+        long bytes = 0;
+        for (InParameter<?> parameter : sql.getParameters()) {
+            Object value = parameter.getWrapper().get();
+            if (value == null) {
+                continue;
+            }
+            if (value instanceof CharSequence) {
+                bytes += ((CharSequence) value).length() * 2L;
+            } else if (value instanceof byte[]) {
+                bytes += ((byte[]) value).length;
+            } else {
+                bytes += 8;
+            }
+        }
+        return bytes;
+    }
+
     protected int[] executeBatch(PreparedStatement preparedStatement,
             PreparedSql sql) throws SQLException {
         try {
@@ -152,9 +382,10 @@ public abstract class BatchModifyCommand<QUERY extends BatchModifyQuery>
 
     protected void bindParameters(PreparedStatement preparedStatement,
             PreparedSql sql) throws SQLException {
-        PreparedSqlParameterBinder binder = new PreparedSqlParameterBinder(
-                query);
-        binder.bind(preparedStatement, sql.getParameters());
+        if (parameterBinder == null) {
+            parameterBinder = new PreparedSqlParameterBinder(query);
+        }
+        parameterBinder.bind(preparedStatement, sql.getParameters());
     }
 
     protected void validateRows(PreparedStatement preparedStatement,
@@ -180,4 +411,30 @@ public abstract class BatchModifyCommand<QUERY extends BatchModifyQuery>
                     .getExceptionSqlLogType(), sql);
         }
     }
+
+    /**
+     * バッチに追加したSQLの範囲です。
+     * 
+     * @author nakamura-to
+     * @since 2.20.0
+     */
+    protected static class BoundChunk {
+
+        protected final int start;
+
+        protected final int end;
+
+        /** バッチに追加した最後のSQL */
+        protected final PreparedSql lastSql;
+
+        protected final long parameterBytes;
+
+        protected BoundChunk(int start, int end, PreparedSql lastSql,
+                long parameterBytes) {
+            this.start = start;
+            this.end = end;
+            this.lastSql = lastSql;
+            this.parameterBytes = parameterBytes;
+        }
+    }
 }
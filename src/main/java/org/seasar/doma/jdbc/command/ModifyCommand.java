@@ -25,6 +25,7 @@ import org.seasar.doma.internal.jdbc.command.PreparedSqlParameterBinder;
 import org.seasar.doma.internal.jdbc.util.JdbcUtil;
 import org.seasar.doma.jdbc.Config;
 import org.seasar.doma.jdbc.JdbcLogger;
+import org.seasar.doma.jdbc.MetricsRecorder;
 import org.seasar.doma.jdbc.OptimisticLockException;
 import org.seasar.doma.jdbc.PreparedSql;
 import org.seasar.doma.jdbc.SqlExecutionException;
@@ -61,12 +62,23 @@ public abstract class ModifyCommand<QUERY extends ModifyQuery> implements
         Connection connection = JdbcUtil.getConnection(query.getConfig()
                 .getDataSource());
         try {
+            MetricsRecorder recorder = query.getConfig().getMetricsRecorder();
+            long start = System.nanoTime();
             PreparedStatement preparedStatement = prepareStatement(connection);
             try {
                 log();
                 setupOptions(preparedStatement);
                 bindParameters(preparedStatement);
-                return executeInternal(preparedStatement);
+                long prepared = System.nanoTime();
+                recorder.recordPrepareTime(query.getClassName(),
+                        query.getMethodName(), sql, prepared - start);
+                int rows = executeInternal(preparedStatement);
+                recorder.recordExecutionTime(query.getClassName(),
+                        query.getMethodName(), sql, System.nanoTime()
+                                - prepared);
+                recorder.recordRowCount(query.getClassName(),
+                        query.getMethodName(), sql, rows);
+                return rows;
             } catch (SQLException e) {
                 Dialect dialect = query.getConfig().getDialect();
                 throw new SqlExecutionException(query.getConfig()
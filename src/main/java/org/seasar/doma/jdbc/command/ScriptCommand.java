@@ -17,22 +17,31 @@ package org.seasar.doma.jdbc.command;
 
 import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.function.Function;
 
 import org.seasar.doma.internal.jdbc.command.ScriptReader;
 import org.seasar.doma.internal.jdbc.util.JdbcUtil;
 import org.seasar.doma.jdbc.AbstractSql;
 import org.seasar.doma.jdbc.Config;
+import org.seasar.doma.jdbc.JdbcException;
 import org.seasar.doma.jdbc.JdbcLogger;
 import org.seasar.doma.jdbc.ScriptException;
 import org.seasar.doma.jdbc.SqlKind;
 import org.seasar.doma.jdbc.SqlLogType;
 import org.seasar.doma.jdbc.SqlParameter;
 import org.seasar.doma.jdbc.query.ScriptQuery;
+import org.seasar.doma.message.Message;
 
 /**
  * @author taedium
@@ -40,6 +49,15 @@ import org.seasar.doma.jdbc.query.ScriptQuery;
  */
 public class ScriptCommand implements Command<Void> {
 
+    /**
+     * 結果セットを返す可能性があり、バッチに含められないステートメントの先頭のキーワードです。
+     * 
+     * @since 2.20.0
+     */
+    protected static final Set<String> NON_BATCHABLE_KEYWORDS = new HashSet<>(
+            Arrays.asList("select", "with", "values", "table", "show",
+                    "explain", "describe", "desc", "call", "exec", "execute"));
+
     protected final ScriptQuery query;
 
     protected ScriptException savedScriptException;
@@ -56,28 +74,10 @@ public class ScriptCommand implements Command<Void> {
         try {
             ScriptReader reader = new ScriptReader(query);
             try {
-                for (String script = reader.readSql(); script != null; script = reader
-                        .readSql()) {
-                    ScriptSql sql = new ScriptSql(script,
-                            query.getScriptFilePath(), query.getSqlLogType(),
-                            query::comment);
-                    Statement statement = JdbcUtil.createStatement(connection);
-                    try {
-                        log(sql);
-                        setupOptions(statement);
-                        statement.execute(script);
-                    } catch (Exception e) {
-                        if (query.getHaltOnError()) {
-                            throw new ScriptException(e, sql,
-                                    reader.getLineNumber());
-                        }
-                        if (savedScriptException == null) {
-                            savedScriptException = new ScriptException(e, sql,
-                                    reader.getLineNumber());
-                        }
-                    } finally {
-                        JdbcUtil.close(statement, config.getJdbcLogger());
-                    }
+                if (query.isBatch()) {
+                    executeBatch(connection, reader);
+                } else {
+                    executeEach(connection, reader);
                 }
             } finally {
                 reader.close();
@@ -89,6 +89,200 @@ public class ScriptCommand implements Command<Void> {
         return null;
     }
 
+    protected void executeEach(Connection connection, ScriptReader reader) {
+        for (String script = reader.readSql(); script != null; script = reader
+                .readSql()) {
+            ScriptSql sql = createScriptSql(script);
+            Statement statement = JdbcUtil.createStatement(connection);
+            try {
+                log(sql);
+                setupOptions(statement);
+                statement.execute(script);
+            } catch (Exception e) {
+                handleException(e, sql, reader.getLineNumber());
+            } finally {
+                JdbcUtil.close(statement, query.getConfig().getJdbcLogger());
+            }
+        }
+    }
+
+    /**
+     * 1つの {@link Statement} を使い回し、SQLブロック以外の連続するステートメントをバッチ更新で実行します。
+     * <p>
+     * SQLブロックと、{@code SELECT} 文のように結果セットを返す可能性のあるステートメントは、
+     * それまでのバッチを実行した後に単独で実行します。
+     * 
+     * @param connection
+     *            コネクション
+     * @param reader
+     *            リーダ
+     * @since 2.20.0
+     */
+    protected void executeBatch(Connection connection, ScriptReader reader) {
+        Statement statement = JdbcUtil.createStatement(connection);
+        try {
+            setupOptions(statement);
+            List<BatchElement> batch = new ArrayList<>();
+            for (String script = reader.readSql(); script != null; script = reader
+                    .readSql()) {
+                ScriptSql sql = createScriptSql(script);
+                int lineNumber = reader.getLineNumber();
+                if (reader.isBlock() || !isBatchable(script)) {
+                    flush(statement, batch);
+                    log(sql);
+                    try {
+                        statement.execute(script);
+                    } catch (Exception e) {
+                        handleException(e, sql, lineNumber);
+                    }
+                    continue;
+                }
+                log(sql);
+                try {
+                    statement.addBatch(script);
+                    batch.add(new BatchElement(sql, lineNumber));
+                } catch (Exception e) {
+                    handleException(e, sql, lineNumber);
+                    continue;
+                }
+                if (batch.size() >= query.getBatchSize()) {
+                    flush(statement, batch);
+                }
+            }
+            flush(statement, batch);
+        } catch (SQLException e) {
+            throw new JdbcException(Message.DOMA2235, e,
+                    query.getScriptFilePath(), e);
+        } finally {
+            JdbcUtil.close(statement, query.getConfig().getJdbcLogger());
+        }
+    }
+
+    /**
+     * ステートメントをバッチに含められるかどうかを返します。
+     * <p>
+     * 先頭のキーワードが {@link #NON_BATCHABLE_KEYWORDS} に含まれるステートメントは、
+     * 結果セットを返す可能性があるためバッチに含められません。
+     * 
+     * @param script
+     *            ステートメント
+     * @return バッチに含められる場合 {@code true}
+     * @since 2.20.0
+     */
+    protected boolean isBatchable(String script) {
+        String keyword = getFirstKeyword(script);
+        return !NON_BATCHABLE_KEYWORDS.contains(keyword);
+    }
+
+    /**
+     * 空白、コメント、および開き括弧を読み飛ばし、ステートメントの先頭のキーワードを小文字で返します。
+     * 
+     * @param script
+     *            ステートメント
+     * @return 先頭のキーワード
+     * @since 2.20.0
+     */
+    protected String getFirstKeyword(String script) {
+        int length = script.length();
+        int i = 0;
+        while (i < length) {
+            char c = script.charAt(i);
+            if (Character.isWhitespace(c) || c == '(') {
+                i++;
+            } else if (script.startsWith("--", i)) {
+                int end = script.indexOf('\n', i);
+                i = end < 0 ? length : end + 1;
+            } else if (script.startsWith("/*", i)) {
+                int end = script.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+            } else {
+                break;
+            }
+        }
+        int start = i;
+        while (i < length && Character.isLetter(script.charAt(i))) {
+            i++;
+        }
+        return script.substring(start, i).toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * バッチに追加されたステートメントを実行します。
+     * <p>
+     * 途中のステートメントが失敗し、JDBCドライバが残りのステートメントを実行しなかった場合、
+     * {@link ScriptQuery#getHaltOnError()} が {@code false} であれば残りのステートメントを1つずつ実行します。
+     * 
+     * @param statement
+     *            ステートメント
+     * @param batch
+     *            バッチに追加されたステートメント
+     * @since 2.20.0
+     */
+    protected void flush(Statement statement, List<BatchElement> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<BatchElement> elements = new ArrayList<>(batch);
+        batch.clear();
+        try {
+            statement.executeBatch();
+        } catch (BatchUpdateException e) {
+            int[] updateCounts = e.getUpdateCounts();
+            int index = getFailedIndex(updateCounts, elements.size());
+            BatchElement failed = elements.get(index);
+            handleException(e, failed.sql, failed.lineNumber);
+            clearBatch(statement, failed);
+            if (updateCounts != null && updateCounts.length < elements.size()) {
+                for (BatchElement element : elements.subList(index + 1,
+                        elements.size())) {
+                    try {
+                        statement.execute(element.sql.getRawSql());
+                    } catch (Exception ex) {
+                        handleException(ex, element.sql, element.lineNumber);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            BatchElement first = elements.get(0);
+            handleException(e, first.sql, first.lineNumber);
+            clearBatch(statement, first);
+        }
+    }
+
+    protected int getFailedIndex(int[] updateCounts, int size) {
+        if (updateCounts == null) {
+            return 0;
+        }
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] == Statement.EXECUTE_FAILED) {
+                return i;
+            }
+        }
+        return Math.min(updateCounts.length, size - 1);
+    }
+
+    protected void clearBatch(Statement statement, BatchElement element) {
+        try {
+            statement.clearBatch();
+        } catch (SQLException e) {
+            handleException(e, element.sql, element.lineNumber);
+        }
+    }
+
+    protected void handleException(Exception e, ScriptSql sql, int lineNumber) {
+        if (query.getHaltOnError()) {
+            throw new ScriptException(e, sql, lineNumber);
+        }
+        if (savedScriptException == null) {
+            savedScriptException = new ScriptException(e, sql, lineNumber);
+        }
+    }
+
+    protected ScriptSql createScriptSql(String script) {
+        return new ScriptSql(script, query.getScriptFilePath(),
+                query.getSqlLogType(), query::comment);
+    }
+
     protected void log(ScriptSql sql) {
         JdbcLogger logger = query.getConfig().getJdbcLogger();
         logger.logSql(query.getClassName(), query.getMethodName(), sql);
@@ -106,6 +300,18 @@ public class ScriptCommand implements Command<Void> {
         }
     }
 
+    protected static class BatchElement {
+
+        protected final ScriptSql sql;
+
+        protected final int lineNumber;
+
+        protected BatchElement(ScriptSql sql, int lineNumber) {
+            this.sql = sql;
+            this.lineNumber = lineNumber;
+        }
+    }
+
     protected static class ScriptSql extends AbstractSql<SqlParameter> {
 
         public ScriptSql(String rawSql, String sqlFilePath,
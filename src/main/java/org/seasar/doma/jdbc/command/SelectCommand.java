@@ -15,11 +15,13 @@
  */
 package org.seasar.doma.jdbc.command;
 
+import static org.seasar.doma.internal.Constants.TOTAL_COUNT_COLUMN_NAME;
 import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -28,8 +30,11 @@ import org.seasar.doma.FetchType;
 import org.seasar.doma.internal.jdbc.command.PreparedSqlParameterBinder;
 import org.seasar.doma.internal.jdbc.util.JdbcUtil;
 import org.seasar.doma.jdbc.JdbcLogger;
+import org.seasar.doma.jdbc.MetricsRecorder;
 import org.seasar.doma.jdbc.NoResultException;
 import org.seasar.doma.jdbc.PreparedSql;
+import org.seasar.doma.jdbc.SelectOptions;
+import org.seasar.doma.jdbc.SelectOptionsAccessor;
 import org.seasar.doma.jdbc.Sql;
 import org.seasar.doma.jdbc.SqlExecutionException;
 import org.seasar.doma.jdbc.dialect.Dialect;
@@ -62,12 +67,18 @@ public class SelectCommand<RESULT> implements Command<RESULT> {
         Connection connection = JdbcUtil.getConnection(query.getConfig()
                 .getDataSource());
         try {
+            long start = System.nanoTime();
             PreparedStatement preparedStatement = JdbcUtil.prepareStatement(
                     connection, sql);
             try {
                 log();
                 setupOptions(preparedStatement);
                 bindParameters(preparedStatement);
+                query.getConfig()
+                        .getMetricsRecorder()
+                        .recordPrepareTime(query.getClassName(),
+                                query.getMethodName(), sql,
+                                System.nanoTime() - start);
                 supplier = executeQuery(preparedStatement);
             } catch (SQLException e) {
                 Dialect dialect = query.getConfig().getDialect();
@@ -112,10 +123,17 @@ public class SelectCommand<RESULT> implements Command<RESULT> {
 
     protected Supplier<RESULT> executeQuery(PreparedStatement preparedStatement)
             throws SQLException {
+        MetricsRecorder recorder = query.getConfig().getMetricsRecorder();
         Supplier<RESULT> supplier = null;
+        long start = System.nanoTime();
         ResultSet resultSet = preparedStatement.executeQuery();
+        long executed = System.nanoTime();
+        recorder.recordExecutionTime(query.getClassName(),
+                query.getMethodName(), sql, executed - start);
         try {
             supplier = handleResultSet(resultSet);
+            recorder.recordResultMappingTime(query.getClassName(),
+                    query.getMethodName(), sql, System.nanoTime() - executed);
             return supplier;
         } finally {
             close(supplier, () -> JdbcUtil.close(resultSet, query.getConfig()
@@ -126,14 +144,62 @@ public class SelectCommand<RESULT> implements Command<RESULT> {
     protected Supplier<RESULT> handleResultSet(ResultSet resultSet)
             throws SQLException {
         return resultSetHandler.handle(resultSet, query, (index, next) -> {
+            if (index == -1) {
+                fetchTotalCount(resultSet, next);
+            }
             if (index == -1 && !next && query.isResultEnsured()) {
                 Sql<?> sql = query.getSql();
                 throw new NoResultException(query.getConfig()
                         .getExceptionSqlLogType(), sql);
             }
+            if (!next) {
+                query.getConfig()
+                        .getMetricsRecorder()
+                        .recordRowCount(query.getClassName(),
+                                query.getMethodName(), sql, index + 1);
+            }
         });
     }
 
+    /**
+     * ウィンドウ関数で計算された集計を最初の行から取得します。
+     * <p>
+     * 結果が空でオフセットが指定されていない場合、集計は {@code 0} です。
+     * それ以外で集計を取得できない場合は何もせず、クエリが集計のためのSQLを別に発行します。
+     * 
+     * @param resultSet
+     *            結果セット
+     * @param next
+     *            最初の行が存在する場合 {@code true}
+     * @since 2.20.0
+     */
+    protected void fetchTotalCount(ResultSet resultSet, boolean next) {
+        SelectOptions options = query.getOptions();
+        if (options == null || !SelectOptionsAccessor.isCountInWindow(options)) {
+            return;
+        }
+        try {
+            if (next) {
+                ResultSetMetaData resultSetMeta = resultSet.getMetaData();
+                for (int i = resultSetMeta.getColumnCount(); i > 0; i--) {
+                    if (TOTAL_COUNT_COLUMN_NAME.equalsIgnoreCase(resultSetMeta
+                            .getColumnLabel(i))) {
+                        SelectOptionsAccessor.setCountSize(options,
+                                resultSet.getLong(i));
+                        return;
+                    }
+                }
+            } else if (SelectOptionsAccessor.getOffset(options) <= 0
+                    && SelectOptionsAccessor.getLimit(options) != 0) {
+                SelectOptionsAccessor.setCountSize(options, 0);
+            }
+        } catch (SQLException e) {
+            Dialect dialect = query.getConfig().getDialect();
+            throw new SqlExecutionException(query.getConfig()
+                    .getExceptionSqlLogType(), sql, e, dialect.getRootCause(e));
+        }
+    }
+
     protected void close(Supplier<RESULT> supplier, Runnable closeHandler) {
         if (supplier != null && query.isResultStream()
                 && query.getFetchType() == FetchType.LAZY) {
@@ -136,9 +136,10 @@ public class Db2Dialect extends StandardDialect {
     }
 
     @Override
-    protected SqlNode toPagingSqlNode(SqlNode sqlNode, long offset, long limit) {
+    protected SqlNode toPagingSqlNode(SqlNode sqlNode, long offset,
+            long limit, boolean parameterBound) {
         Db2PagingTransformer transformer = new Db2PagingTransformer(offset,
-                limit);
+                limit, parameterBound);
         return transformer.transform(sqlNode);
     }
 
@@ -183,6 +184,11 @@ public class Db2Dialect extends StandardDialect {
         return true;
     }
 
+    @Override
+    public boolean supportsWindowFunctionCount() {
+        return true;
+    }
+
     @Override
     public String getScriptBlockDelimiter() {
         return "@";
@@ -143,6 +143,54 @@ public interface Dialect {
      */
     boolean supportsResultSetReturningAsOutParameter();
 
+    /**
+     * 複数行の VALUES 句をもつ INSERT 文をサポートしているかどうかを返します。
+     * <p>
+     * デフォルトの実装は {@code false} を返します。
+     * 
+     * @return サポートしている場合 {@code true}
+     * @since 2.20.0
+     */
+    default boolean supportsMultiRowInsertStatement() {
+        return false;
+    }
+
+    /**
+     * ウィンドウ関数 {@code count(*) over()} による集計をサポートしているかどうかを返します。
+     * <p>
+     * デフォルトの実装は {@code false} を返します。
+     * 
+     * @return サポートしている場合 {@code true}
+     * @since 2.20.0
+     */
+    default boolean supportsWindowFunctionCount() {
+        return false;
+    }
+
+    /**
+     * 1つのSQLにバインドできるパラメータの最大数を返します。
+     * <p>
+     * デフォルトの実装は {@code 0} を返します。
+     * 
+     * @return パラメータの最大数、制限がない場合 {@code 0}
+     * @since 2.20.0
+     */
+    default int getMaxBindParameterCount() {
+        return 0;
+    }
+
+    /**
+     * 複数行の VALUES 句をもつ INSERT 文に含めることのできる行の最大数を返します。
+     * <p>
+     * デフォルトの実装は {@code 0} を返します。
+     * 
+     * @return 行の最大数、制限がない場合 {@code 0}
+     * @since 2.20.0
+     */
+    default int getMaxMultiRowInsertRows() {
+        return 0;
+    }
+
     boolean supportsIdentityReservation();
 
     /**
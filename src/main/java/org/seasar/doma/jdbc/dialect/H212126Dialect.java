@@ -166,9 +166,10 @@ public class H212126Dialect extends StandardDialect {
     }
 
     @Override
-    protected SqlNode toPagingSqlNode(SqlNode sqlNode, long offset, long limit) {
+    protected SqlNode toPagingSqlNode(SqlNode sqlNode, long offset,
+            long limit, boolean parameterBound) {
         H212126PagingTransformer transformer = new H212126PagingTransformer(
-                offset, limit);
+                offset, limit, parameterBound);
         return transformer.transform(sqlNode);
     }
 
@@ -196,6 +197,11 @@ public class H212126Dialect extends StandardDialect {
         return true;
     }
 
+    @Override
+    public boolean supportsMultiRowInsertStatement() {
+        return true;
+    }
+
     @Override
     public boolean supportsSelectForUpdate(SelectForUpdateType type,
             boolean withTargets) {
@@ -124,8 +124,10 @@ public class H2Dialect extends H212126Dialect {
     }
 
     @Override
-    protected SqlNode toPagingSqlNode(SqlNode sqlNode, long offset, long limit) {
-        H2PagingTransformer transformer = new H2PagingTransformer(offset, limit);
+    protected SqlNode toPagingSqlNode(SqlNode sqlNode, long offset,
+            long limit, boolean parameterBound) {
+        H2PagingTransformer transformer = new H2PagingTransformer(offset,
+                limit, parameterBound);
         return transformer.transform(sqlNode);
     }
 
@@ -167,9 +167,10 @@ public class HsqldbDialect extends StandardDialect {
     }
 
     @Override
-    protected SqlNode toPagingSqlNode(SqlNode sqlNode, long offset, long limit) {
+    protected SqlNode toPagingSqlNode(SqlNode sqlNode, long offset,
+            long limit, boolean parameterBound) {
         HsqldbPagingTransformer transformer = new HsqldbPagingTransformer(
-                offset, limit);
+                offset, limit, parameterBound);
         return transformer.transform(sqlNode);
     }
 
@@ -138,9 +138,10 @@ public class Mssql2008Dialect extends StandardDialect {
     }
 
     @Override
-    protected SqlNode toPagingSqlNode(SqlNode sqlNode, long offset, long limit) {
+    protected SqlNode toPagingSqlNode(SqlNode sqlNode, long offset,
+            long limit, boolean parameterBound) {
         Mssql2008PagingTransformer transformer = new Mssql2008PagingTransformer(
-                offset, limit);
+                offset, limit, parameterBound);
         return transformer.transform(sqlNode);
     }
 
@@ -170,6 +171,26 @@ public class Mssql2008Dialect extends StandardDialect {
         return true;
     }
 
+    @Override
+    public boolean supportsMultiRowInsertStatement() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsWindowFunctionCount() {
+        return true;
+    }
+
+    @Override
+    public int getMaxBindParameterCount() {
+        return 2100;
+    }
+
+    @Override
+    public int getMaxMultiRowInsertRows() {
+        return 1000;
+    }
+
     @Override
     public String getScriptBlockDelimiter() {
         return "GO";
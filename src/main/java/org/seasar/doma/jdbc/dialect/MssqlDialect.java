@@ -156,9 +156,10 @@ public class MssqlDialect extends Mssql2008Dialect {
     }
 
     @Override
-    protected SqlNode toPagingSqlNode(SqlNode sqlNode, long offset, long limit) {
+    protected SqlNode toPagingSqlNode(SqlNode sqlNode, long offset,
+            long limit, boolean parameterBound) {
         MssqlPagingTransformer transformer = new MssqlPagingTransformer(offset,
-                limit, this.pagingForceOffsetFetch);
+                limit, this.pagingForceOffsetFetch, parameterBound);
         return transformer.transform(sqlNode);
     }
 
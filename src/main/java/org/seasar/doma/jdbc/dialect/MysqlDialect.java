@@ -151,6 +151,16 @@ public class MysqlDialect extends StandardDialect {
         return true;
     }
 
+    @Override
+    public boolean supportsMultiRowInsertStatement() {
+        return true;
+    }
+
+    @Override
+    public int getMaxBindParameterCount() {
+        return 65535;
+    }
+
     @Override
     public boolean supportsSelectForUpdate(SelectForUpdateType type,
             boolean withTargets) {
@@ -164,9 +174,10 @@ public class MysqlDialect extends StandardDialect {
     }
 
     @Override
-    protected SqlNode toPagingSqlNode(SqlNode sqlNode, long offset, long limit) {
+    protected SqlNode toPagingSqlNode(SqlNode sqlNode, long offset,
+            long limit, boolean parameterBound) {
         MysqlPagingTransformer transformer = new MysqlPagingTransformer(offset,
-                limit);
+                limit, parameterBound);
         return transformer.transform(sqlNode);
     }
 
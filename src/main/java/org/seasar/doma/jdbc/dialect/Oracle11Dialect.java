@@ -169,9 +169,10 @@ public class Oracle11Dialect extends StandardDialect {
     }
 
     @Override
-    protected SqlNode toPagingSqlNode(SqlNode sqlNode, long offset, long limit) {
+    protected SqlNode toPagingSqlNode(SqlNode sqlNode, long offset,
+            long limit, boolean parameterBound) {
         OraclePagingTransformer transformer = new OraclePagingTransformer(
-                offset, limit);
+                offset, limit, parameterBound);
         return transformer.transform(sqlNode);
     }
 
@@ -217,6 +218,11 @@ public class Oracle11Dialect extends StandardDialect {
         return true;
     }
 
+    @Override
+    public boolean supportsWindowFunctionCount() {
+        return true;
+    }
+
     @Override
     public JdbcType<ResultSet> getResultSetType() {
         return RESULT_SET;
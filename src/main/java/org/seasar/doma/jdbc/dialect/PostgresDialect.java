@@ -146,9 +146,10 @@ public class PostgresDialect extends StandardDialect {
     }
 
     @Override
-    protected SqlNode toPagingSqlNode(SqlNode sqlNode, long offset, long limit) {
+    protected SqlNode toPagingSqlNode(SqlNode sqlNode, long offset,
+            long limit, boolean parameterBound) {
         PostgresPagingTransformer transformer = new PostgresPagingTransformer(
-                offset, limit);
+                offset, limit, parameterBound);
         return transformer.transform(sqlNode);
     }
 
@@ -244,6 +245,16 @@ public class PostgresDialect extends StandardDialect {
         return true;
     }
 
+    @Override
+    public boolean supportsMultiRowInsertStatement() {
+        return true;
+    }
+
+    @Override
+    public int getMaxBindParameterCount() {
+        return 32767;
+    }
+
     @Override
     public boolean supportsSelectForUpdate(SelectForUpdateType type,
             boolean withTargets) {
@@ -256,6 +267,11 @@ public class PostgresDialect extends StandardDialect {
         return true;
     }
 
+    @Override
+    public boolean supportsWindowFunctionCount() {
+        return true;
+    }
+
     @Override
     public JdbcType<ResultSet> getResultSetType() {
         return RESULT_SET;
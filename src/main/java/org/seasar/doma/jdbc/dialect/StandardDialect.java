@@ -37,6 +37,7 @@ import org.seasar.doma.expr.ExpressionFunctions;
 import org.seasar.doma.internal.jdbc.dialect.StandardCountGettingTransformer;
 import org.seasar.doma.internal.jdbc.dialect.StandardForUpdateTransformer;
 import org.seasar.doma.internal.jdbc.dialect.StandardPagingTransformer;
+import org.seasar.doma.internal.jdbc.dialect.WindowFunctionCountCalculatingTransformer;
 import org.seasar.doma.internal.util.AssertionUtil;
 import org.seasar.doma.internal.util.CharSequenceUtil;
 import org.seasar.doma.jdbc.JdbcException;
@@ -215,12 +216,22 @@ public class StandardDialect implements Dialect {
         }
         SqlNode transformed = sqlNode;
         if (SelectOptionsAccessor.isCount(options)) {
-            transformed = toCountCalculatingSqlNode(sqlNode);
+            if (SelectOptionsAccessor.isCountInWindow(options)
+                    && supportsWindowFunctionCount()
+                    && SelectOptionsAccessor.getForUpdateType(options) == null) {
+                transformed = toWindowFunctionCountCalculatingSqlNode(sqlNode);
+            } else {
+                transformed = toCountCalculatingSqlNode(sqlNode);
+            }
         }
         long offset = SelectOptionsAccessor.getOffset(options);
         long limit = SelectOptionsAccessor.getLimit(options);
         if (offset >= 0 || limit >= 0) {
-            transformed = toPagingSqlNode(transformed, offset, limit);
+            if (SelectOptionsAccessor.isPagingBound(options)) {
+                transformed = toPagingSqlNode(transformed, offset, limit, true);
+            } else {
+                transformed = toPagingSqlNode(transformed, offset, limit);
+            }
         }
         SelectForUpdateType forUpdateType = SelectOptionsAccessor
                 .getForUpdateType(options);
@@ -270,6 +281,19 @@ public class StandardDialect implements Dialect {
         return sqlNode;
     }
 
+    /**
+     * ウィンドウ関数を使って集計を計算するSQLノードに変換します。
+     * 
+     * @param sqlNode
+     *            SQLノード
+     * @return 変換されたSQLノード
+     * @since 2.20.0
+     */
+    protected SqlNode toWindowFunctionCountCalculatingSqlNode(SqlNode sqlNode) {
+        WindowFunctionCountCalculatingTransformer transformer = new WindowFunctionCountCalculatingTransformer();
+        return transformer.transform(sqlNode);
+    }
+
     /**
      * ページング用のSQLノードに変換します。
      * 
@@ -282,8 +306,27 @@ public class StandardDialect implements Dialect {
      * @return 変換されたSQLノード
      */
     protected SqlNode toPagingSqlNode(SqlNode sqlNode, long offset, long limit) {
+        return toPagingSqlNode(sqlNode, offset, limit, false);
+    }
+
+    /**
+     * ページング用のSQLノードに変換します。
+     * 
+     * @param sqlNode
+     *            SQLノード
+     * @param offset
+     *            オフセット
+     * @param limit
+     *            リミット
+     * @param parameterBound
+     *            オフセットとリミットをバインド変数にする場合 {@code true}
+     * @return 変換されたSQLノード
+     * @since 2.20.0
+     */
+    protected SqlNode toPagingSqlNode(SqlNode sqlNode, long offset,
+            long limit, boolean parameterBound) {
         StandardPagingTransformer transformer = new StandardPagingTransformer(
-                offset, limit);
+                offset, limit, parameterBound);
         return transformer.transform(sqlNode);
     }
 
@@ -419,6 +462,26 @@ public class StandardDialect implements Dialect {
         return false;
     }
 
+    @Override
+    public boolean supportsMultiRowInsertStatement() {
+        return false;
+    }
+
+    @Override
+    public boolean supportsWindowFunctionCount() {
+        return false;
+    }
+
+    @Override
+    public int getMaxBindParameterCount() {
+        return 0;
+    }
+
+    @Override
+    public int getMaxMultiRowInsertRows() {
+        return 0;
+    }
+
     @Override
     public boolean includesIdentityColumn() {
         return false;
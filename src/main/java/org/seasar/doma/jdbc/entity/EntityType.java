@@ -15,6 +15,7 @@
  */
 package org.seasar.doma.jdbc.entity;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
@@ -185,6 +186,31 @@ public interface EntityType<ENTITY> {
      */
     ENTITY newEntity(Map<String, Property<ENTITY, ?>> __args);
 
+    /**
+     * プロパティの序数を指定して新しいエンティティをインスタンス化します。
+     * <p>
+     * 配列の要素は {@link #getEntityPropertyTypes()} が返すリストと同じ順序で並んでいなければいけません。
+     * 値を持たないプロパティに対応する要素は {@code null} です。
+     * <p>
+     * 注釈処理で生成される実装はマップを介さずにエンティティを組み立てます。
+     * 
+     * @param __args
+     *            プロパティの序数をインデックスとするプロパティの配列
+     * @return 新しいエンティティ
+     * @since 2.20.0
+     */
+    default ENTITY newEntity(Property<ENTITY, ?>[] __args) {
+        List<EntityPropertyType<ENTITY, ?>> propertyTypes = getEntityPropertyTypes();
+        Map<String, Property<ENTITY, ?>> states = new HashMap<>(
+                propertyTypes.size());
+        for (int i = 0; i < __args.length; i++) {
+            if (__args[i] != null) {
+                states.put(propertyTypes.get(i).getName(), __args[i]);
+            }
+        }
+        return newEntity(states);
+    }
+
     /**
      * エンティティのクラスを返します。
      * 
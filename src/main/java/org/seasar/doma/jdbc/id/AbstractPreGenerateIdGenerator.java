@@ -18,6 +18,9 @@ package org.seasar.doma.jdbc.id;
 import java.sql.Statement;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.seasar.doma.jdbc.JdbcException;
 
@@ -36,6 +39,9 @@ public abstract class AbstractPreGenerateIdGenerator extends
     /** 割り当てサイズ */
     protected long allocationSize;
 
+    /** 次の割り当てを先行して取得する残数 */
+    protected long lowWaterMark;
+
     /** データソース名をキー、識別子コンテキストを値とするマップ */
     protected ConcurrentMap<String, IdContext> idContextMap = new ConcurrentHashMap<String, IdContext>();
 
@@ -59,6 +65,20 @@ public abstract class AbstractPreGenerateIdGenerator extends
         this.allocationSize = allocationSize;
     }
 
+    /**
+     * 次の割り当てを先行して取得する残数を設定します。
+     * <p>
+     * 現在の割り当ての残りがこの値に達したとき、その識別子を受け取ったスレッドが次の割り当てをデータベースから取得します。
+     * その間、他のスレッドは現在の割り当てから待たずに識別子を受け取ります。 {@code 0} 以下の場合、先行取得は行いません。
+     * 
+     * @param lowWaterMark
+     *            次の割り当てを先行して取得する残数
+     * @since 2.20.0
+     */
+    public void setLowWaterMark(long lowWaterMark) {
+        this.lowWaterMark = lowWaterMark;
+    }
+
     @Override
     public boolean supportsBatch(IdGenerationConfig config) {
         return true;
@@ -121,18 +141,22 @@ public abstract class AbstractPreGenerateIdGenerator extends
     /**
      * 識別子コンテキストです。
      * <p>
-     * 識別子の増分と保持を行います。識別子の増分処理は同期化されます。
+     * 識別子の増分と保持を行います。割り当て済みの範囲からの識別子の払い出しはロックを使わずに行われます。
+     * 割り当てを使い切った場合の新しい割り当ての取得のみが同期化されます。
      * 
      * @author taedium
      * 
      */
     public class IdContext {
 
-        /** 初期値 */
-        protected long initValue = AbstractPreGenerateIdGenerator.this.initialValue;
+        /** 現在の割り当て */
+        protected final AtomicReference<Allocation> current = new AtomicReference<Allocation>();
 
-        /** 割り当てサイズ */
-        protected long allocated = Long.MAX_VALUE;
+        /** 先行して取得した次の割り当て */
+        protected final AtomicReference<Allocation> prefetched = new AtomicReference<Allocation>();
+
+        /** 先行取得中かどうか */
+        protected final AtomicBoolean prefetching = new AtomicBoolean();
 
         /**
          * 次の識別子を返します。
@@ -143,14 +167,112 @@ public abstract class AbstractPreGenerateIdGenerator extends
          * @throws JdbcException
          *             次の識別子の生成に失敗した場合
          */
-        public synchronized long getNextValue(IdGenerationConfig config) {
-            if (allocated < allocationSize) {
-                return initValue + allocated++;
+        public long getNextValue(IdGenerationConfig config) {
+            Allocation allocation = current.get();
+            for (;;) {
+                if (allocation != null) {
+                    long offset = allocation.offset.getAndIncrement();
+                    if (offset < allocation.size) {
+                        if (offset == allocation.prefetchOffset) {
+                            prefetch(config);
+                        }
+                        return allocation.initialValue + offset;
+                    }
+                }
+                allocation = reallocate(config, allocation);
+            }
+        }
+
+        /**
+         * 使い切った割り当てを新しい割り当てに置き換えます。
+         * 
+         * @param config
+         *            識別子生成の設定
+         * @param exhausted
+         *            使い切った割り当て
+         * @return 新しい割り当て
+         */
+        protected synchronized Allocation reallocate(
+                IdGenerationConfig config, Allocation exhausted) {
+            Allocation allocation = current.get();
+            if (allocation != exhausted) {
+                return allocation;
+            }
+            allocation = prefetched.getAndSet(null);
+            if (allocation == null) {
+                allocation = allocate(config);
+            }
+            current.set(allocation);
+            return allocation;
+        }
+
+        /**
+         * 次の割り当てを先行して取得します。
+         * <p>
+         * 取得に失敗した場合は例外を記録するだけで、呼び出し元にはスローしません。
+         * 現在の割り当てを使い切った時点で {@link #reallocate(IdGenerationConfig, Allocation)}
+         * が改めて取得します。
+         * 
+         * @param config
+         *            識別子生成の設定
+         */
+        protected void prefetch(IdGenerationConfig config) {
+            if (prefetched.get() != null
+                    || !prefetching.compareAndSet(false, true)) {
+                return;
             }
-            initValue = getNewInitialValue(config);
-            allocated = 1;
-            return initValue;
+            try {
+                prefetched.set(allocate(config));
+            } catch (RuntimeException e) {
+                config.getJdbcLogger().logIdPrefetchingFailure(
+                        AbstractPreGenerateIdGenerator.this.getClass()
+                                .getName(), "prefetch", e);
+            } finally {
+                prefetching.set(false);
+            }
+        }
+
+        /**
+         * データベースから新しい割り当てを取得します。
+         * 
+         * @param config
+         *            識別子生成の設定
+         * @return 新しい割り当て
+         */
+        protected Allocation allocate(IdGenerationConfig config) {
+            long size = Math.max(allocationSize, 1);
+            long prefetchOffset = lowWaterMark > 0 ? Math.max(size
+                    - lowWaterMark, 0) : -1;
+            return new Allocation(getNewInitialValue(config), size,
+                    prefetchOffset);
         }
 
     }
+
+    /**
+     * 識別子の割り当てです。
+     * 
+     * @author nakamura-to
+     * @since 2.20.0
+     */
+    protected static class Allocation {
+
+        /** 初期値 */
+        protected final long initialValue;
+
+        /** 割り当てサイズ */
+        protected final long size;
+
+        /** 次の割り当てを先行して取得するオフセット、先行取得しない場合 {@code -1} */
+        protected final long prefetchOffset;
+
+        /** 次に払い出すオフセット */
+        protected final AtomicLong offset = new AtomicLong();
+
+        protected Allocation(long initialValue, long size, long prefetchOffset) {
+            this.initialValue = initialValue;
+            this.size = size;
+            this.prefetchOffset = prefetchOffset;
+        }
+    }
 }
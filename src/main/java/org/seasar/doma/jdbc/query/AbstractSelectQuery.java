@@ -58,6 +58,8 @@ public abstract class AbstractSelectQuery extends AbstractQuery implements
 
     protected boolean resultMappingEnsured;
 
+    protected boolean originalStatesSkipped;
+
     protected FetchType fetchType;
 
     protected int fetchSize;
@@ -78,6 +80,9 @@ public abstract class AbstractSelectQuery extends AbstractQuery implements
     @Override
     public void prepare() {
         super.prepare();
+        if (SelectOptionsAccessor.isCountInWindow(options)) {
+            SelectOptionsAccessor.setCountSize(options, -1);
+        }
         prepareOptions();
         prepareSql();
         assertNotNull(sql);
@@ -119,6 +124,10 @@ public abstract class AbstractSelectQuery extends AbstractQuery implements
     }
 
     protected void executeCount(SqlNode sqlNode) {
+        if (SelectOptionsAccessor.isCountInWindow(options)
+                && SelectOptionsAccessor.getCountSize(options) >= 0) {
+            return;
+        }
         CountQuery query = new CountQuery();
         query.setCallerClassName(callerClassName);
         query.setCallerMethodName(callerMethodName);
@@ -181,6 +190,15 @@ public abstract class AbstractSelectQuery extends AbstractQuery implements
         this.resultMappingEnsured = resultMappingEnsured;
     }
 
+    @Override
+    public boolean isOriginalStatesSkipped() {
+        return originalStatesSkipped;
+    }
+
+    public void setOriginalStatesSkipped(boolean originalStatesSkipped) {
+        this.originalStatesSkipped = originalStatesSkipped;
+    }
+
     @Override
     public FetchType getFetchType() {
         return fetchType;
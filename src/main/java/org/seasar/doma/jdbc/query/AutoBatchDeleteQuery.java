@@ -93,7 +93,8 @@ public class AutoBatchDeleteQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
         }
     }
 
-    protected void prepareSql() {
+    @Override
+    protected PreparedSql createSql() {
         Naming naming = config.getNaming();
         Dialect dialect = config.getDialect();
         PreparedSqlBuilder builder = new PreparedSqlBuilder(config,
@@ -147,7 +148,7 @@ public class AutoBatchDeleteQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
         }
 
         PreparedSql sql = builder.build(this::comment);
-        sqls.add(sql);
+        return sql;
     }
 
     @Override
@@ -54,6 +54,8 @@ public class AutoBatchInsertQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
 
     protected boolean batchSupported = true;
 
+    protected int multiRowSize = -1;
+
     public AutoBatchInsertQuery(EntityType<ENTITY> entityType) {
         super(entityType);
     }
@@ -73,6 +75,7 @@ public class AutoBatchInsertQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
         prepareIdAndVersionPropertyTypes();
         prepareOptions();
         prepareTargetPropertyTypes();
+        prepareMultiRowSize();
         prepareIdValue();
         prepareVersionValue();
         prepareSql();
@@ -86,7 +89,7 @@ public class AutoBatchInsertQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
             it.set(currentEntity);
         }
         currentEntity = null;
-        assertEquals(entities.size(), sqls.size());
+        prepareMultiRowSqls();
     }
 
     protected void preInsert() {
@@ -164,11 +167,82 @@ public class AutoBatchInsertQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
         }
     }
 
-    protected void prepareSql() {
-        Naming naming = config.getNaming();
+    protected void prepareMultiRowSize() {
         Dialect dialect = config.getDialect();
+        if (multiRowSize <= 1 || !batchSupported || autoGeneratedKeysSupported
+                || !dialect.supportsMultiRowInsertStatement()) {
+            multiRowSize = 1;
+            return;
+        }
+        int maxRows = dialect.getMaxMultiRowInsertRows();
+        if (maxRows > 0) {
+            multiRowSize = Math.min(multiRowSize, maxRows);
+        }
+        int maxParameters = dialect.getMaxBindParameterCount();
+        if (maxParameters > 0 && !targetPropertyTypes.isEmpty()) {
+            multiRowSize = Math.min(multiRowSize,
+                    Math.max(1, maxParameters / targetPropertyTypes.size()));
+        }
+    }
+
+    /**
+     * 複数行のINSERT文を組み立てます。
+     * <p>
+     * 複数行のINSERT文は、すべてのエンティティの準備が終わった後に組み立てます。
+     */
+    protected void prepareMultiRowSqls() {
+        if (multiRowSize <= 1) {
+            assertEquals(entities.size(), sqls.size());
+            return;
+        }
+        int sqlSize = (entities.size() + multiRowSize - 1) / multiRowSize;
+        for (int i = 0; i < sqlSize; i++) {
+            sqls.add(createMultiRowSql(i));
+        }
+    }
+
+    @Override
+    protected void prepareSql() {
+        if (multiRowSize > 1) {
+            return;
+        }
+        super.prepareSql();
+    }
+
+    @Override
+    protected PreparedSql createSql() {
         PreparedSqlBuilder builder = new PreparedSqlBuilder(config,
                 SqlKind.BATCH_INSERT, sqlLogType);
+        appendInsertClause(builder);
+        appendValues(builder, currentEntity);
+        PreparedSql sql = builder.build(this::comment);
+        return sql;
+    }
+
+    /**
+     * インデックスに対応するエンティティの範囲を1つの VALUES 句にまとめたINSERT文を組み立てます。
+     * 
+     * @param index
+     *            SQLのインデックス
+     * @return SQL
+     */
+    protected PreparedSql createMultiRowSql(int index) {
+        PreparedSqlBuilder builder = new PreparedSqlBuilder(config,
+                SqlKind.BATCH_INSERT, sqlLogType);
+        appendInsertClause(builder);
+        int from = index * multiRowSize;
+        int to = from + getRowCount(index);
+        for (int i = from; i < to; i++) {
+            appendValues(builder, entities.get(i));
+            builder.appendSql(", ");
+        }
+        builder.cutBackSql(2);
+        return builder.build(this::comment);
+    }
+
+    protected void appendInsertClause(PreparedSqlBuilder builder) {
+        Naming naming = config.getNaming();
+        Dialect dialect = config.getDialect();
         builder.appendSql("insert into ");
         builder.appendSql(entityType.getQualifiedTableName(naming::apply,
                 dialect::applyQuote));
@@ -179,17 +253,31 @@ public class AutoBatchInsertQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
             builder.appendSql(", ");
         }
         builder.cutBackSql(2);
-        builder.appendSql(") values (");
+        builder.appendSql(") values ");
+    }
+
+    protected void appendValues(PreparedSqlBuilder builder, ENTITY entity) {
+        builder.appendSql("(");
         for (EntityPropertyType<ENTITY, ?> propertyType : targetPropertyTypes) {
             Property<ENTITY, ?> property = propertyType.createProperty();
-            property.load(currentEntity);
+            property.load(entity);
             builder.appendParameter(property.asInParameter());
             builder.appendSql(", ");
         }
         builder.cutBackSql(2);
         builder.appendSql(")");
-        PreparedSql sql = builder.build(this::comment);
-        sqls.add(sql);
+    }
+
+    @Override
+    public int getRowCount(int index) {
+        if (multiRowSize <= 1) {
+            return 1;
+        }
+        return Math.min(multiRowSize, entities.size() - index * multiRowSize);
+    }
+
+    public void setMultiRowSize(int multiRowSize) {
+        this.multiRowSize = multiRowSize;
     }
 
     @Override
@@ -99,6 +99,17 @@ public abstract class AutoBatchModifyQuery<ENTITY> extends AbstractQuery
         }
     }
 
+    protected void prepareSql() {
+        sqls.add(createSql());
+    }
+
+    /**
+     * {@link #currentEntity} に対応するSQLを組み立てます。
+     * 
+     * @return SQL
+     */
+    protected abstract PreparedSql createSql();
+
     protected boolean isTargetPropertyName(String name) {
         if (includedPropertyNames.length > 0) {
             for (String includedName : includedPropertyNames) {
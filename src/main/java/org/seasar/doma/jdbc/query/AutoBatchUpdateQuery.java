@@ -107,7 +107,8 @@ public class AutoBatchUpdateQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
         targetPropertyTypes = helper.getTargetPropertyTypes();
     }
 
-    protected void prepareSql() {
+    @Override
+    protected PreparedSql createSql() {
         Naming naming = config.getNaming();
         Dialect dialect = config.getDialect();
         PreparedSqlBuilder builder = new PreparedSqlBuilder(config,
@@ -164,7 +165,7 @@ public class AutoBatchUpdateQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
         }
 
         PreparedSql sql = builder.build(this::comment);
-        sqls.add(sql);
+        return sql;
     }
 
     @Override
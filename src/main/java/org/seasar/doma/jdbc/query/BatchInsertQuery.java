@@ -27,4 +27,18 @@ public interface BatchInsertQuery extends BatchModifyQuery {
 
     void generateId(Statement statement, int index);
 
+    /**
+     * インデックスに対応するSQLが挿入する行の数を返します。
+     * <p>
+     * 複数行の VALUES 句をもつINSERT文を使用する場合、1つのSQLが複数の行を挿入します。
+     * 
+     * @param index
+     *            SQLのインデックス
+     * @return 挿入する行の数
+     * @since 2.20.0
+     */
+    default int getRowCount(int index) {
+        return 1;
+    }
+
 }
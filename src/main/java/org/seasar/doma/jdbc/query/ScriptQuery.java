@@ -34,4 +34,20 @@ public interface ScriptQuery extends Query {
     boolean getHaltOnError();
 
     SqlLogType getSqlLogType();
+
+    /**
+     * SQLブロック以外のステートメントをバッチ更新で実行するかどうかを返します。
+     * 
+     * @return バッチ更新で実行する場合 {@code true}
+     * @since 2.20.0
+     */
+    boolean isBatch();
+
+    /**
+     * バッチ更新で実行する場合のバッチサイズを返します。
+     * 
+     * @return バッチサイズ
+     * @since 2.20.0
+     */
+    int getBatchSize();
 }
@@ -35,6 +35,17 @@ public interface SelectQuery extends Query {
 
     boolean isResultMappingEnsured();
 
+    /**
+     * 取得したエンティティの状態を {@link org.seasar.doma.OriginalStates}
+     * が注釈されたフィールドに保存しないかどうかを返します。
+     * 
+     * @return 保存しない場合 {@code true}
+     * @since 2.20.0
+     */
+    default boolean isOriginalStatesSkipped() {
+        return false;
+    }
+
     FetchType getFetchType();
 
     int getFetchSize();
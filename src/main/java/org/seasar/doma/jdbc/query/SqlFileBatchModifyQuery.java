@@ -103,6 +103,15 @@ public abstract class SqlFileBatchModifyQuery<ELEMENT> extends AbstractQuery
     }
 
     protected void prepareSql() {
+        sqls.add(createSql());
+    }
+
+    /**
+     * {@link #currentEntity} に対応するSQLを組み立てます。
+     * 
+     * @return SQL
+     */
+    protected PreparedSql createSql() {
         Value value = new Value(elementClass, currentEntity);
         ExpressionEvaluator evaluator = new ExpressionEvaluator(
                 Collections.singletonMap(parameterName, value), config
@@ -111,8 +120,7 @@ public abstract class SqlFileBatchModifyQuery<ELEMENT> extends AbstractQuery
         NodePreparedSqlBuilder sqlBuilder = new NodePreparedSqlBuilder(config,
                 kind, sqlFile.getPath(), evaluator, sqlLogType,
                 this::expandColumns, this::populateValues);
-        PreparedSql sql = sqlBuilder.build(sqlFile.getSqlNode(), this::comment);
-        sqls.add(sql);
+        return sqlBuilder.build(sqlFile.getSqlPlan(), this::comment);
     }
 
     protected List<String> expandColumns(ExpandNode node) {
@@ -83,7 +83,7 @@ public abstract class SqlFileModifyQuery extends AbstractQuery implements
         NodePreparedSqlBuilder sqlBuilder = new NodePreparedSqlBuilder(config,
                 kind, sqlFile.getPath(), evaluator, sqlLogType,
                 this::expandColumns, this::populateValues);
-        sql = sqlBuilder.build(sqlFile.getSqlNode(), this::comment);
+        sql = sqlBuilder.build(sqlFile.getSqlPlan(), this::comment);
     }
 
     protected List<String> expandColumns(ExpandNode node) {
@@ -43,6 +43,10 @@ public class SqlFileScriptQuery extends AbstractQuery implements ScriptQuery {
 
     protected SqlLogType sqlLogType;
 
+    protected boolean batch;
+
+    protected int batchSize;
+
     public void setScriptFilePath(String scriptFilePath) {
         this.scriptFilePath = scriptFilePath;
     }
@@ -59,6 +63,14 @@ public class SqlFileScriptQuery extends AbstractQuery implements ScriptQuery {
         this.sqlLogType = sqlLogType;
     }
 
+    public void setBatch(boolean batch) {
+        this.batch = batch;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
     @Override
     public void prepare() {
         super.prepare();
@@ -68,18 +80,41 @@ public class SqlFileScriptQuery extends AbstractQuery implements ScriptQuery {
 
         String dbmsSpecificPath = ScriptFileUtil.convertToDbmsSpecificPath(
                 scriptFilePath, config.getDialect());
-        scriptFileUrl = ResourceUtil.getResource(dbmsSpecificPath);
-        if (scriptFileUrl != null) {
-            scriptFilePath = dbmsSpecificPath;
-        } else {
-            scriptFileUrl = ResourceUtil.getResource(scriptFilePath);
-            if (scriptFileUrl == null) {
-                throw new ScriptFileNotFoundException(scriptFilePath);
-            }
+        if (!resolveScriptFile(dbmsSpecificPath)
+                && !resolveScriptFile(scriptFilePath)) {
+            throw new ScriptFileNotFoundException(scriptFilePath);
         }
         if (blockDelimiter.isEmpty()) {
             blockDelimiter = config.getDialect().getScriptBlockDelimiter();
         }
+        if (batchSize <= 0) {
+            batchSize = config.getBatchSize();
+        }
+    }
+
+    /**
+     * スクリプトファイルを探します。
+     * <p>
+     * 指定されたパスにファイルが存在しない場合、gzip形式で圧縮されたファイル（拡張子 {@code .gz}
+     * を付与したパス）を探します。
+     * 
+     * @param path
+     *            スクリプトファイルのパス
+     * @return 見つかった場合 {@code true}
+     * @since 2.20.0
+     */
+    protected boolean resolveScriptFile(String path) {
+        URL url = ResourceUtil.getResource(path);
+        if (url == null) {
+            path = path + Constants.GZIP_SUFFIX;
+            url = ResourceUtil.getResource(path);
+            if (url == null) {
+                return false;
+            }
+        }
+        scriptFilePath = path;
+        scriptFileUrl = url;
+        return true;
     }
 
     @Override
@@ -121,4 +156,14 @@ public class SqlFileScriptQuery extends AbstractQuery implements ScriptQuery {
         return sqlLogType;
     }
 
+    @Override
+    public boolean isBatch() {
+        return batch;
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
 }
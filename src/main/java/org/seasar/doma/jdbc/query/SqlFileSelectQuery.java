@@ -48,6 +48,9 @@ public class SqlFileSelectQuery extends AbstractSelectQuery {
             NodePreparedSqlBuilder sqlBuilder = new NodePreparedSqlBuilder(
                     config, SqlKind.SELECT, sqlFilePath, evaluator, sqlLogType,
                     expander);
+            if (transformedSqlNode == sqlFile.getSqlNode()) {
+                return sqlBuilder.build(sqlFile.getSqlPlan(), this::comment);
+            }
             return sqlBuilder.build(transformedSqlNode, this::comment);
         });
     }
@@ -67,7 +67,7 @@ public class SqlProcessorQuery extends AbstractQuery {
         NodePreparedSqlBuilder sqlBuilder = new NodePreparedSqlBuilder(config,
                 SqlKind.SQL_PROCESSOR, sqlFilePath, evaluator,
                 SqlLogType.FORMATTED);
-        sql = sqlBuilder.build(sqlFile.getSqlNode(), this::comment);
+        sql = sqlBuilder.build(sqlFile.getSqlPlan(), this::comment);
     }
 
     @Override
@@ -97,6 +97,30 @@ public class KeepAliveLocalTransaction extends LocalTransaction {
                 defaultTransactionIsolationLevel);
     }
 
+    /**
+     * ローカルトランザクションコンテキストのホルダー、デフォルトのトランザクション分離レベル、およびキャッシュするステートメントの最大数を指定してインスタンスを構築します。
+     * 
+     * @param dataSource
+     *            データソース
+     * @param localTxContextHolder
+     *            ローカルトランザクションコンテキストのホルダー
+     * @param jdbcLogger
+     *            JDBCに関するロガー
+     * @param defaultTransactionIsolationLevel
+     *            デフォルトのトランザクション分離レベル
+     * @param statementCacheSize
+     *            キャッシュするステートメントの最大数、 {@code 0} の場合キャッシュしない
+     * @since 2.20.0
+     */
+    protected KeepAliveLocalTransaction(DataSource dataSource,
+            LocalTransactionContextHolder localTxContextHolder,
+            JdbcLogger jdbcLogger,
+            TransactionIsolationLevel defaultTransactionIsolationLevel,
+            int statementCacheSize) {
+        super(dataSource, localTxContextHolder, jdbcLogger,
+                defaultTransactionIsolationLevel, statementCacheSize);
+    }
+
     /**
      * トランザクションコンテキストを初期化します。
      * <p>
@@ -113,7 +137,7 @@ public class KeepAliveLocalTransaction extends LocalTransaction {
 
     @Override
     protected LocalTransactionContext getLocalTransactionContext() {
-        LocalTransactionContext context = localTxContextHolder.get();
+        LocalTransactionContext context = contextHolder.get();
         if (context != null) {
             return context;
         }
@@ -128,7 +152,7 @@ public class KeepAliveLocalTransaction extends LocalTransaction {
      * このメソッドは、実行時例外をスローしません。
      */
     public void destroy() {
-        LocalTransactionContext context = localTxContextHolder.get();
+        LocalTransactionContext context = contextHolder.get();
         if (context == null) {
             return;
         }
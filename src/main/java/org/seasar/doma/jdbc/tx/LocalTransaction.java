@@ -16,6 +16,7 @@
 package org.seasar.doma.jdbc.tx;
 
 import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
+import static org.seasar.doma.internal.util.AssertionUtil.assertTrue;
 
 import java.sql.Connection;
 import java.sql.SQLException;
@@ -92,15 +93,33 @@ public class LocalTransaction {
     /** データソース */
     protected final DataSource dataSource;
 
-    /** ローカルトランザクションコンテキストのホルダー */
+    /**
+     * ローカルトランザクションコンテキストを保持するスレッドローカル
+     * <p>
+     * {@link ThreadLocalTransactionContextHolder} 以外のホルダーが指定された場合、
+     * {@link #contextHolder} に処理を委譲するスレッドローカルです。
+     * 
+     * @deprecated {@link #contextHolder} を使用してください
+     */
+    @Deprecated
     protected final ThreadLocal<LocalTransactionContext> localTxContextHolder;
 
+    /**
+     * ローカルトランザクションコンテキストのホルダー
+     * 
+     * @since 2.20.0
+     */
+    protected final LocalTransactionContextHolder contextHolder;
+
     /** JDBCに関するロガー */
     protected final JdbcLogger jdbcLogger;
 
     /** デフォルトのトランザクション分離レベル、指定されない場合 {@code null} */
     protected final TransactionIsolationLevel defaultTransactionIsolationLevel;
 
+    /** キャッシュするステートメントの最大数、 {@code 0} の場合キャッシュしない */
+    protected final int statementCacheSize;
+
     /** クラス名 */
     protected final String className;
 
@@ -136,14 +155,73 @@ public class LocalTransaction {
             ThreadLocal<LocalTransactionContext> localTxContextHolder,
             JdbcLogger jdbcLogger,
             TransactionIsolationLevel defaultTransactionIsolationLevel) {
+        this(dataSource, new ThreadLocalTransactionContextHolder(
+                localTxContextHolder), jdbcLogger,
+                defaultTransactionIsolationLevel, 0);
+    }
+
+    /**
+     * ローカルトランザクションコンテキストのホルダー、デフォルトのトランザクション分離レベル、およびキャッシュするステートメントの最大数を指定してインスタンスを構築します。
+     * 
+     * @param dataSource
+     *            データソース
+     * @param localTxContextHolder
+     *            ローカルトランザクションコンテキストのホルダー
+     * @param jdbcLogger
+     *            JDBCに関するロガー
+     * @param defaultTransactionIsolationLevel
+     *            デフォルトのトランザクション分離レベル
+     * @param statementCacheSize
+     *            キャッシュするステートメントの最大数、 {@code 0} の場合キャッシュしない
+     * @since 2.20.0
+     */
+    protected LocalTransaction(DataSource dataSource,
+            LocalTransactionContextHolder localTxContextHolder,
+            JdbcLogger jdbcLogger,
+            TransactionIsolationLevel defaultTransactionIsolationLevel,
+            int statementCacheSize) {
         assertNotNull(dataSource, localTxContextHolder, jdbcLogger);
+        assertTrue(statementCacheSize >= 0, statementCacheSize);
         this.dataSource = dataSource;
-        this.localTxContextHolder = localTxContextHolder;
+        this.localTxContextHolder = toThreadLocal(localTxContextHolder);
+        this.contextHolder = localTxContextHolder;
         this.jdbcLogger = jdbcLogger;
         this.defaultTransactionIsolationLevel = defaultTransactionIsolationLevel;
+        this.statementCacheSize = statementCacheSize;
         this.className = getClass().getName();
     }
 
+    /**
+     * ホルダーを従来のフィールドの型であるスレッドローカルに変換します。
+     * 
+     * @param holder
+     *            ローカルトランザクションコンテキストのホルダー
+     * @return スレッドローカル
+     */
+    private static ThreadLocal<LocalTransactionContext> toThreadLocal(
+            LocalTransactionContextHolder holder) {
+        if (holder instanceof ThreadLocalTransactionContextHolder) {
+            return ((ThreadLocalTransactionContextHolder) holder).threadLocal;
+        }
+        return new ThreadLocal<LocalTransactionContext>() {
+
+            @Override
+            public LocalTransactionContext get() {
+                return holder.get();
+            }
+
+            @Override
+            public void set(LocalTransactionContext value) {
+                holder.set(value);
+            }
+
+            @Override
+            public void remove() {
+                holder.remove();
+            }
+        };
+    }
+
     /**
      * ローカルトランザクションを開始します。
      * <p>
@@ -195,7 +273,7 @@ public class LocalTransaction {
             TransactionIsolationLevel transactionIsolationLevel,
             String callerMethodName) {
         assertNotNull(callerMethodName);
-        LocalTransactionContext context = localTxContextHolder.get();
+        LocalTransactionContext context = contextHolder.get();
         if (isActiveInternal(context)) {
             String id = context.getId();
             rollbackInternal(callerMethodName);
@@ -229,7 +307,7 @@ public class LocalTransaction {
                 throw new JdbcException(Message.DOMA2041, e, e);
             }
             return new LocalTransactionConnection(connection,
-                    transactionIsolation);
+                    transactionIsolation, statementCacheSize);
         });
         jdbcLogger.logTransactionBegun(className, callerMethodName,
                 context.getId());
@@ -242,7 +320,7 @@ public class LocalTransaction {
      */
     protected LocalTransactionContext getLocalTransactionContext() {
         LocalTransactionContext context = new LocalTransactionContext();
-        localTxContextHolder.set(context);
+        contextHolder.set(context);
         return context;
     }
 
@@ -260,7 +338,7 @@ public class LocalTransaction {
      *             コミットに失敗した場合
      */
     public void commit() {
-        LocalTransactionContext context = localTxContextHolder.get();
+        LocalTransactionContext context = contextHolder.get();
         if (!isActiveInternal(context)) {
             throw new TransactionNotYetBegunException(Message.DOMA2046);
         }
@@ -289,11 +367,11 @@ public class LocalTransaction {
      *             ローカルトランザクションがまだ開始されていない場合
      */
     public LocalTransactionContext suspend() {
-        LocalTransactionContext context = localTxContextHolder.get();
+        LocalTransactionContext context = contextHolder.get();
         if (!isActiveInternal(context)) {
             throw new TransactionNotYetBegunException(Message.DOMA2046);
         }
-        localTxContextHolder.set(null);
+        contextHolder.remove();
         return context;
     }
 
@@ -308,11 +386,11 @@ public class LocalTransaction {
      *            　中断されたトランザクションを表すトランザクションコンテキスト
      */
     public void resume(LocalTransactionContext context) {
-        LocalTransactionContext currentContext = localTxContextHolder.get();
+        LocalTransactionContext currentContext = contextHolder.get();
         if (isActiveInternal(currentContext)) {
             rollbackInternal("resume");
         }
-        localTxContextHolder.set(context);
+        contextHolder.set(context);
     }
 
     /**
@@ -336,7 +414,7 @@ public class LocalTransaction {
      */
     protected void rollbackInternal(String callerMethodName) {
         assertNotNull(callerMethodName);
-        LocalTransactionContext context = localTxContextHolder.get();
+        LocalTransactionContext context = contextHolder.get();
         if (!isActiveInternal(context)) {
             return;
         }
@@ -382,7 +460,7 @@ public class LocalTransaction {
             rollbackInternal("setSavepoint");
             throw new DomaNullPointerException("savepointName");
         }
-        LocalTransactionContext context = localTxContextHolder.get();
+        LocalTransactionContext context = contextHolder.get();
         if (!isActiveInternal(context)) {
             throw new TransactionNotYetBegunException(Message.DOMA2053,
                     savepointName);
@@ -422,7 +500,7 @@ public class LocalTransaction {
             rollbackInternal("hasSavepoint");
             throw new DomaNullPointerException("savepointName");
         }
-        LocalTransactionContext context = localTxContextHolder.get();
+        LocalTransactionContext context = contextHolder.get();
         if (!isActiveInternal(context)) {
             throw new TransactionNotYetBegunException(Message.DOMA2057,
                     savepointName);
@@ -452,7 +530,7 @@ public class LocalTransaction {
             rollbackInternal("releaseSavepoint");
             throw new DomaNullPointerException("savepointName");
         }
-        LocalTransactionContext context = localTxContextHolder.get();
+        LocalTransactionContext context = contextHolder.get();
         if (!isActiveInternal(context)) {
             throw new TransactionNotYetBegunException(Message.DOMA2061,
                     savepointName);
@@ -498,7 +576,7 @@ public class LocalTransaction {
             rollbackInternal("rollback");
             throw new DomaNullPointerException("savepointName");
         }
-        LocalTransactionContext context = localTxContextHolder.get();
+        LocalTransactionContext context = contextHolder.get();
         if (!isActiveInternal(context)) {
             throw new TransactionNotYetBegunException(Message.DOMA2062,
                     savepointName);
@@ -530,7 +608,7 @@ public class LocalTransaction {
      */
     protected void end(String callerMethodName) {
         assertNotNull(callerMethodName);
-        LocalTransactionContext context = localTxContextHolder.get();
+        LocalTransactionContext context = contextHolder.get();
         if (!isActiveInternal(context)) {
             return;
         }
@@ -561,7 +639,7 @@ public class LocalTransaction {
         if (context == null) {
             return;
         }
-        localTxContextHolder.set(null);
+        contextHolder.remove();
         if (!context.hasConnection()) {
             return;
         }
@@ -593,7 +671,7 @@ public class LocalTransaction {
      */
     @Override
     public String toString() {
-        LocalTransactionContext context = localTxContextHolder.get();
+        LocalTransactionContext context = contextHolder.get();
         String transactionId = context != null ? context.getId() : "null";
         return "{LocalTransaction transactionId=" + transactionId + "}";
     }
@@ -604,7 +682,7 @@ public class LocalTransaction {
      * @return ローカルトランザクションがアクティブな場合 {@code true}
      */
     public boolean isActive() {
-        return isActiveInternal(localTxContextHolder.get());
+        return isActiveInternal(contextHolder.get());
     }
 
     protected boolean isActiveInternal(LocalTransactionContext context) {
@@ -615,7 +693,7 @@ public class LocalTransaction {
      * 現在のトランザクションをロールバックすることを予約します。
      */
     public void setRollbackOnly() {
-        LocalTransactionContext context = localTxContextHolder.get();
+        LocalTransactionContext context = contextHolder.get();
         if (isActiveInternal(context)) {
             context.setRollbackOnly();
         }
@@ -627,7 +705,7 @@ public class LocalTransaction {
      * @return ロールバックされる場合 {@code true}
      */
     public boolean isRollbackOnly() {
-        LocalTransactionContext context = localTxContextHolder.get();
+        LocalTransactionContext context = contextHolder.get();
         if (isActiveInternal(context)) {
             return context.isRollbackOnly();
         }
@@ -53,6 +53,9 @@ class LocalTransactionConnection implements Connection {
 
     private final int preservedTransactionIsolation;
 
+    /** ステートメントのキャッシュ、キャッシュしない場合 {@code null} */
+    private final StatementCache statementCache;
+
     /**
      * インスタンスを構築します。
      * 
@@ -61,10 +64,27 @@ class LocalTransactionConnection implements Connection {
      */
     public LocalTransactionConnection(Connection connection,
             int preservedTransactionIsolation) {
+        this(connection, preservedTransactionIsolation, 0);
+    }
+
+    /**
+     * ステートメントのキャッシュの最大数を指定してインスタンスを構築します。
+     * 
+     * @param connection
+     *            コネクション
+     * @param statementCacheSize
+     *            キャッシュするステートメントの最大数、 {@code 0} の場合キャッシュしない
+     * @since 2.20.0
+     */
+    public LocalTransactionConnection(Connection connection,
+            int preservedTransactionIsolation, int statementCacheSize) {
         assertNotNull(connection);
         assertTrue(!(connection instanceof LocalTransactionConnection));
+        assertTrue(statementCacheSize >= 0, statementCacheSize);
         this.connection = connection;
         this.preservedTransactionIsolation = preservedTransactionIsolation;
+        this.statementCache = statementCacheSize > 0 ? new StatementCache(
+                this, statementCacheSize) : null;
     }
 
     protected int getPreservedTransactionIsolation() {
@@ -92,9 +112,19 @@ class LocalTransactionConnection implements Connection {
 
     @Override
     public void commit() throws SQLException {
+        closeCachedStatements();
         connection.commit();
     }
 
+    /**
+     * キャッシュされているステートメントを閉じます。
+     */
+    void closeCachedStatements() {
+        if (statementCache != null) {
+            statementCache.closeAll();
+        }
+    }
+
     @Override
     public Array createArrayOf(String typeName, Object[] elements)
             throws SQLException {
@@ -238,7 +268,11 @@ class LocalTransactionConnection implements Connection {
 
     @Override
     public CallableStatement prepareCall(String sql) throws SQLException {
-        return connection.prepareCall(sql);
+        if (statementCache == null) {
+            return connection.prepareCall(sql);
+        }
+        return statementCache.prepareCall(sql,
+                () -> connection.prepareCall(sql));
     }
 
     @Override
@@ -259,13 +293,25 @@ class LocalTransactionConnection implements Connection {
     @Override
     public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys)
             throws SQLException {
-        return connection.prepareStatement(sql, autoGeneratedKeys);
+        if (statementCache == null) {
+            return connection.prepareStatement(sql, autoGeneratedKeys);
+        }
+        return statementCache.prepareStatement(sql,
+                StatementCache.Kind.AUTO_GENERATED_KEYS,
+                new int[] { autoGeneratedKeys },
+                () -> connection.prepareStatement(sql, autoGeneratedKeys));
     }
 
     @Override
     public PreparedStatement prepareStatement(String sql, int[] columnIndexes)
             throws SQLException {
-        return connection.prepareStatement(sql, columnIndexes);
+        if (statementCache == null || columnIndexes == null) {
+            return connection.prepareStatement(sql, columnIndexes);
+        }
+        int[] options = columnIndexes.clone();
+        return statementCache.prepareStatement(sql,
+                StatementCache.Kind.COLUMN_INDEXES, options,
+                () -> connection.prepareStatement(sql, options));
     }
 
     @Override
@@ -276,7 +322,12 @@ class LocalTransactionConnection implements Connection {
 
     @Override
     public PreparedStatement prepareStatement(String sql) throws SQLException {
-        return connection.prepareStatement(sql);
+        if (statementCache == null) {
+            return connection.prepareStatement(sql);
+        }
+        return statementCache.prepareStatement(sql,
+                StatementCache.Kind.PLAIN, null,
+                () -> connection.prepareStatement(sql));
     }
 
     @Override
@@ -286,6 +337,7 @@ class LocalTransactionConnection implements Connection {
 
     @Override
     public void rollback() throws SQLException {
+        closeCachedStatements();
         connection.rollback();
     }
 
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc.tx;
+
+/**
+ * ローカルトランザクションコンテキストのホルダーです。
+ * <p>
+ * {@link LocalTransaction} と {@link LocalTransactionDataSource}
+ * は、このインタフェースを介して現在のトランザクションコンテキストを参照します。
+ * デフォルトの実装は {@link ThreadLocalTransactionContextHolder} です。
+ * <p>
+ * このインタフェースの実装はスレッドセーフでなければいけません。
+ * 
+ * @author nakamura-to
+ * @since 2.20.0
+ * @see ThreadLocalTransactionContextHolder
+ * @see ScopedTransactionContextHolder
+ */
+public interface LocalTransactionContextHolder {
+
+    /**
+     * 現在のローカルトランザクションコンテキストを返します。
+     * 
+     * @return ローカルトランザクションコンテキスト、存在しない場合 {@code null}
+     */
+    LocalTransactionContext get();
+
+    /**
+     * 現在のローカルトランザクションコンテキストを設定します。
+     * 
+     * @param context
+     *            ローカルトランザクションコンテキスト
+     */
+    void set(LocalTransactionContext context);
+
+    /**
+     * 現在のローカルトランザクションコンテキストを削除します。
+     */
+    void remove();
+}
@@ -23,6 +23,7 @@ import java.util.logging.Logger;
 
 import javax.sql.DataSource;
 
+import org.seasar.doma.DomaIllegalArgumentException;
 import org.seasar.doma.DomaNullPointerException;
 import org.seasar.doma.jdbc.JdbcLogger;
 import org.seasar.doma.jdbc.SimpleDataSource;
@@ -40,11 +41,14 @@ import org.seasar.doma.message.Message;
 public final class LocalTransactionDataSource implements DataSource {
 
     /** コネクションのホルダー */
-    private final ThreadLocal<LocalTransactionContext> localTxContextHolder = new ThreadLocal<LocalTransactionContext>();
+    private final LocalTransactionContextHolder localTxContextHolder;
 
     /** データソース */
     private final DataSource dataSource;
 
+    /** キャッシュするステートメントの最大数 */
+    private final int statementCacheSize;
+
     /**
      * インスタンスを構築します。
      * 
@@ -54,10 +58,67 @@ public final class LocalTransactionDataSource implements DataSource {
      *             {@code dataSource} が {@code null} の場合
      */
     public LocalTransactionDataSource(DataSource dataSource) {
+        this(dataSource, 0);
+    }
+
+    /**
+     * キャッシュするステートメントの最大数を指定してインスタンスを構築します。
+     * <p>
+     * {@code statementCacheSize} に {@code 1} 以上を指定すると、ローカルトランザクションの中で同じSQLを繰り返し実行する際に、
+     * 準備済みのステートメントを再利用します。キャッシュされたステートメントはコミットもしくはロールバックの際に閉じられます。
+     * JDBCドライバがステートメントをキャッシュしない場合に、SQLの準備にかかるコストを削減できます。
+     * 
+     * @param dataSource
+     *            データソース
+     * @param statementCacheSize
+     *            ローカルトランザクションごとにキャッシュするステートメントの最大数、 {@code 0} の場合キャッシュしない
+     * @throws DomaNullPointerException
+     *             {@code dataSource} が {@code null} の場合
+     * @throws DomaIllegalArgumentException
+     *             {@code statementCacheSize} が負の場合
+     * @since 2.20.0
+     */
+    public LocalTransactionDataSource(DataSource dataSource,
+            int statementCacheSize) {
+        this(dataSource, statementCacheSize,
+                new ThreadLocalTransactionContextHolder());
+    }
+
+    /**
+     * キャッシュするステートメントの最大数とローカルトランザクションコンテキストのホルダーを指定してインスタンスを構築します。
+     * <p>
+     * 非同期処理の継続や仮想スレッドをまたいでトランザクションを引き継ぐ場合は、
+     * {@link ScopedTransactionContextHolder} を指定してください。
+     * 
+     * @param dataSource
+     *            データソース
+     * @param statementCacheSize
+     *            ローカルトランザクションごとにキャッシュするステートメントの最大数、 {@code 0} の場合キャッシュしない
+     * @param localTxContextHolder
+     *            ローカルトランザクションコンテキストのホルダー
+     * @throws DomaNullPointerException
+     *             {@code dataSource} もしくは {@code localTxContextHolder} が
+     *             {@code null} の場合
+     * @throws DomaIllegalArgumentException
+     *             {@code statementCacheSize} が負の場合
+     * @since 2.20.0
+     */
+    public LocalTransactionDataSource(DataSource dataSource,
+            int statementCacheSize,
+            LocalTransactionContextHolder localTxContextHolder) {
         if (dataSource == null) {
             throw new DomaNullPointerException("dataSource");
         }
+        if (statementCacheSize < 0) {
+            throw new DomaIllegalArgumentException("statementCacheSize",
+                    "The statementCacheSize is less than 0");
+        }
+        if (localTxContextHolder == null) {
+            throw new DomaNullPointerException("localTxContextHolder");
+        }
         this.dataSource = dataSource;
+        this.statementCacheSize = statementCacheSize;
+        this.localTxContextHolder = localTxContextHolder;
     }
 
     /**
@@ -85,6 +146,8 @@ public final class LocalTransactionDataSource implements DataSource {
             simpleDataSource.setPassword(password);
         }
         this.dataSource = simpleDataSource;
+        this.statementCacheSize = 0;
+        this.localTxContextHolder = new ThreadLocalTransactionContextHolder();
     }
 
     /**
@@ -167,6 +230,17 @@ public final class LocalTransactionDataSource implements DataSource {
         return dataSource.unwrap(iface);
     }
 
+    /**
+     * 現在のローカルトランザクションコンテキストでトランザクションが開始されているかどうかを返します。
+     * 
+     * @return トランザクションが開始されている場合 {@code true}
+     * @since 2.20.0
+     */
+    public boolean isTransactionActive() {
+        LocalTransactionContext context = localTxContextHolder.get();
+        return context != null && context.getId() != null;
+    }
+
     /**
      * ローカルトランザクションを返します。
      * 
@@ -181,7 +255,7 @@ public final class LocalTransactionDataSource implements DataSource {
             throw new DomaNullPointerException("jdbcLogger");
         }
         return new LocalTransaction(dataSource, localTxContextHolder,
-                jdbcLogger);
+                jdbcLogger, null, statementCacheSize);
     }
 
     /**
@@ -204,7 +278,7 @@ public final class LocalTransactionDataSource implements DataSource {
             throw new DomaNullPointerException("transactionIsolationLevel");
         }
         return new LocalTransaction(dataSource, localTxContextHolder,
-                jdbcLogger, transactionIsolationLevel);
+                jdbcLogger, transactionIsolationLevel, statementCacheSize);
     }
 
     /**
@@ -222,7 +296,7 @@ public final class LocalTransactionDataSource implements DataSource {
             throw new DomaNullPointerException("jdbcLogger");
         }
         return new KeepAliveLocalTransaction(dataSource, localTxContextHolder,
-                jdbcLogger);
+                jdbcLogger, null, statementCacheSize);
     }
 
     /**
@@ -246,7 +320,7 @@ public final class LocalTransactionDataSource implements DataSource {
             throw new DomaNullPointerException("transactionIsolationLevel");
         }
         return new KeepAliveLocalTransaction(dataSource, localTxContextHolder,
-                jdbcLogger, transactionIsolationLevel);
+                jdbcLogger, transactionIsolationLevel, statementCacheSize);
     }
 
     @Override
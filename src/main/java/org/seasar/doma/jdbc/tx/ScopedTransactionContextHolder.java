@@ -0,0 +1,169 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc.tx;
+
+import java.util.function.Supplier;
+
+import org.seasar.doma.DomaNullPointerException;
+import org.seasar.doma.jdbc.JdbcException;
+import org.seasar.doma.message.Message;
+
+/**
+ * 明示的に受け渡されるスコープにローカルトランザクションコンテキストを保持するホルダーです。
+ * <p>
+ * トランザクションコンテキストはスレッドではなく {@link Scope} に保持されます。スコープは
+ * {@link #run(Scope, Runnable)} もしくは {@link #call(Scope, Supplier)}
+ * の実行中だけ現在のスレッドに関連付けられ、実行後は必ず関連付けが解除されます。
+ * そのため、非同期処理の継続を別のスレッドで実行する場合でも、同じスコープを渡すことでトランザクションを引き継げます。
+ * また、大量の仮想スレッドや短命なスレッドで使用してもスレッドごとの状態が残りません。
+ * 
+ * <pre>
+ * ScopedTransactionContextHolder holder = new ScopedTransactionContextHolder();
+ * LocalTransactionDataSource dataSource = new LocalTransactionDataSource(
+ *         originalDataSource, 0, holder);
+ * LocalTransactionManager tm = new LocalTransactionManager(
+ *         dataSource.getLocalTransaction(jdbcLogger));
+ * 
+ * ScopedTransactionContextHolder.Scope scope = holder.newScope();
+ * CompletableFuture.runAsync(() -&gt; holder.run(scope, () -&gt; {
+ *     tm.required(() -&gt; {
+ *         ...
+ *     });
+ * }), executor);
+ * </pre>
+ * <p>
+ * 1つのスコープを複数のスレッドで同時に使用してはいけません。
+ * 
+ * @author nakamura-to
+ * @since 2.20.0
+ */
+public class ScopedTransactionContextHolder implements
+        LocalTransactionContextHolder {
+
+    /** 現在のスレッドに関連付けられたスコープ */
+    protected final ThreadLocal<Scope> currentScope = new ThreadLocal<Scope>();
+
+    /**
+     * 新しいスコープを作成します。
+     * 
+     * @return スコープ
+     */
+    public Scope newScope() {
+        return new Scope();
+    }
+
+    /**
+     * スコープを現在のスレッドに関連付けて処理を実行します。
+     * 
+     * @param scope
+     *            スコープ
+     * @param runnable
+     *            処理
+     * @throws DomaNullPointerException
+     *             いずれかの引数が {@code null} の場合
+     */
+    public void run(Scope scope, Runnable runnable) {
+        if (scope == null) {
+            throw new DomaNullPointerException("scope");
+        }
+        if (runnable == null) {
+            throw new DomaNullPointerException("runnable");
+        }
+        call(scope, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    /**
+     * スコープを現在のスレッドに関連付けて処理を実行し結果を返します。
+     * 
+     * @param <RESULT>
+     *            結果の型
+     * @param scope
+     *            スコープ
+     * @param supplier
+     *            処理
+     * @return 処理の結果
+     * @throws DomaNullPointerException
+     *             いずれかの引数が {@code null} の場合
+     */
+    public <RESULT> RESULT call(Scope scope, Supplier<RESULT> supplier) {
+        if (scope == null) {
+            throw new DomaNullPointerException("scope");
+        }
+        if (supplier == null) {
+            throw new DomaNullPointerException("supplier");
+        }
+        Scope previous = currentScope.get();
+        currentScope.set(scope);
+        try {
+            return supplier.get();
+        } finally {
+            if (previous == null) {
+                currentScope.remove();
+            } else {
+                currentScope.set(previous);
+            }
+        }
+    }
+
+    @Override
+    public LocalTransactionContext get() {
+        Scope scope = currentScope.get();
+        if (scope == null) {
+            return null;
+        }
+        return scope.context;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws JdbcException
+     *             スコープが現在のスレッドに関連付けられていない場合
+     */
+    @Override
+    public void set(LocalTransactionContext context) {
+        Scope scope = currentScope.get();
+        if (scope == null) {
+            throw new JdbcException(Message.DOMA2234);
+        }
+        scope.context = context;
+    }
+
+    @Override
+    public void remove() {
+        Scope scope = currentScope.get();
+        if (scope != null) {
+            scope.context = null;
+        }
+    }
+
+    /**
+     * ローカルトランザクションコンテキストを保持するスコープです。
+     * 
+     * @author nakamura-to
+     * @since 2.20.0
+     */
+    public static final class Scope {
+
+        private volatile LocalTransactionContext context;
+
+        private Scope() {
+        }
+    }
+}
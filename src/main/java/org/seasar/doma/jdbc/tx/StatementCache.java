@@ -0,0 +1,309 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc.tx;
+
+import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
+import static org.seasar.doma.internal.util.AssertionUtil.assertTrue;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Set;
+
+/**
+ * ローカルトランザクションのコネクションごとに、準備済みのステートメントを再利用するためのキャッシュです。
+ * <p>
+ * キャッシュから取り出したステートメントの {@code close()} は、実際にはステートメントを閉じずにキャッシュに戻します。
+ * 使用中のステートメントはキャッシュから取り除かれるため、同じSQLのステートメントを同時に複数使用できます。
+ * キャッシュに戻す際には、使用中に変更された最大行数、フェッチサイズ、およびクエリタイムアウトを元の値に戻します。
+ * キャッシュされているステートメントの数が上限を超えると、最も長く使用されていないステートメントから閉じます。
+ * <p>
+ * このクラスはスレッドセーフではありません。
+ * 
+ * @author nakamura-to
+ * @since 2.20.0
+ */
+class StatementCache {
+
+    private final Connection connection;
+
+    private final int maxSize;
+
+    private final LinkedHashMap<Key, PreparedStatement> idleStatements;
+
+    private final Set<Handler> usedStatements = new HashSet<>();
+
+    /**
+     * インスタンスを構築します。
+     * 
+     * @param connection
+     *            {@link PreparedStatement#getConnection()} が返すコネクション
+     * @param maxSize
+     *            キャッシュするステートメントの最大数
+     */
+    StatementCache(Connection connection, int maxSize) {
+        assertNotNull(connection);
+        assertTrue(maxSize > 0, maxSize);
+        this.connection = connection;
+        this.maxSize = maxSize;
+        this.idleStatements = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    PreparedStatement prepareStatement(String sql, Kind kind, int[] options,
+            StatementFactory<PreparedStatement> factory) throws SQLException {
+        assertTrue(kind != Kind.CALLABLE);
+        return get(new Key(sql, kind, options), PreparedStatement.class,
+                factory);
+    }
+
+    CallableStatement prepareCall(String sql,
+            StatementFactory<CallableStatement> factory) throws SQLException {
+        return get(new Key(sql, Kind.CALLABLE, null), CallableStatement.class,
+                factory);
+    }
+
+    private <S extends PreparedStatement> S get(Key key, Class<S> type,
+            StatementFactory<? extends S> factory) throws SQLException {
+        PreparedStatement statement = idleStatements.remove(key);
+        if (statement == null) {
+            statement = factory.create();
+        }
+        Handler handler = new Handler(key, statement);
+        Object proxy = Proxy.newProxyInstance(
+                StatementCache.class.getClassLoader(), new Class<?>[] { type },
+                handler);
+        usedStatements.add(handler);
+        return type.cast(proxy);
+    }
+
+    private void release(Handler handler) {
+        PreparedStatement statement = handler.statement;
+        if (!usedStatements.remove(handler)) {
+            closeQuietly(statement);
+            return;
+        }
+        try {
+            statement.clearParameters();
+            statement.clearBatch();
+            if (handler.originalMaxRows != null) {
+                statement.setMaxRows(handler.originalMaxRows);
+            }
+            if (handler.originalFetchSize != null) {
+                statement.setFetchSize(handler.originalFetchSize);
+            }
+            if (handler.originalQueryTimeout != null) {
+                statement.setQueryTimeout(handler.originalQueryTimeout);
+            }
+        } catch (SQLException e) {
+            closeQuietly(statement);
+            return;
+        }
+        PreparedStatement old = idleStatements.put(handler.key, statement);
+        if (old != null) {
+            closeQuietly(old);
+        }
+        Iterator<PreparedStatement> it = idleStatements.values().iterator();
+        while (idleStatements.size() > maxSize && it.hasNext()) {
+            PreparedStatement eldest = it.next();
+            it.remove();
+            closeQuietly(eldest);
+        }
+    }
+
+    /**
+     * キャッシュされているステートメントをすべて閉じます。
+     * <p>
+     * 使用中のステートメントはキャッシュに戻さず、 {@code close()} が呼び出された時点で閉じます。
+     */
+    void closeAll() {
+        for (PreparedStatement statement : idleStatements.values()) {
+            closeQuietly(statement);
+        }
+        idleStatements.clear();
+        usedStatements.clear();
+    }
+
+    int size() {
+        return idleStatements.size();
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException ignored) {
+        }
+    }
+
+    /**
+     * ステートメントの種類です。
+     */
+    enum Kind {
+        PLAIN, AUTO_GENERATED_KEYS, COLUMN_INDEXES, CALLABLE
+    }
+
+    @FunctionalInterface
+    interface StatementFactory<S extends PreparedStatement> {
+
+        S create() throws SQLException;
+    }
+
+    private static class Key {
+
+        private final String sql;
+
+        private final Kind kind;
+
+        private final int[] options;
+
+        private Key(String sql, Kind kind, int[] options) {
+            this.sql = sql;
+            this.kind = kind;
+            this.options = options;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * sql.hashCode() + kind.hashCode())
+                    + Arrays.hashCode(options);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return sql.equals(other.sql) && kind == other.kind
+                    && Arrays.equals(options, other.options);
+        }
+    }
+
+    private class Handler implements InvocationHandler {
+
+        private final Key key;
+
+        private final PreparedStatement statement;
+
+        private boolean closed;
+
+        private Integer originalMaxRows;
+
+        private Integer originalFetchSize;
+
+        private Integer originalQueryTimeout;
+
+        private Handler(Key key, PreparedStatement statement) {
+            this.key = key;
+            this.statement = statement;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args)
+                throws Throwable {
+            switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return statement.toString();
+            case "isClosed":
+                return closed;
+            case "close":
+                if (!closed) {
+                    closed = true;
+                    release(this);
+                }
+                return null;
+            default:
+                break;
+            }
+            if (closed) {
+                throw new SQLException("The statement is already closed.");
+            }
+            switch (method.getName()) {
+            case "getConnection":
+                return connection;
+            case "setMaxRows":
+                if (originalMaxRows == null) {
+                    originalMaxRows = statement.getMaxRows();
+                }
+                break;
+            case "setFetchSize":
+                if (originalFetchSize == null) {
+                    originalFetchSize = statement.getFetchSize();
+                }
+                break;
+            case "setQueryTimeout":
+                if (originalQueryTimeout == null) {
+                    originalQueryTimeout = statement.getQueryTimeout();
+                }
+                break;
+            default:
+                break;
+            }
+            Object result = invokeMethod(statement, method, args);
+            if (result instanceof ResultSet) {
+                return wrapResultSet((ResultSet) result, proxy);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * {@link ResultSet#getStatement()} がキャッシュから取り出したステートメントを返すように結果セットをラップします。
+     */
+    private static ResultSet wrapResultSet(ResultSet resultSet,
+            Object statementProxy) {
+        Object proxy = Proxy.newProxyInstance(
+                StatementCache.class.getClassLoader(),
+                new Class<?>[] { ResultSet.class }, (p, method, args) -> {
+                    switch (method.getName()) {
+                    case "equals":
+                        return p == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(p);
+                    case "getStatement":
+                        return statementProxy;
+                    default:
+                        return invokeMethod(resultSet, method, args);
+                    }
+                });
+        return (ResultSet) proxy;
+    }
+
+    private static Object invokeMethod(Object target, Method method,
+            Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
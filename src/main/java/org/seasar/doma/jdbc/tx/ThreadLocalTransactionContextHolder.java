@@ -0,0 +1,69 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc.tx;
+
+import org.seasar.doma.DomaNullPointerException;
+
+/**
+ * {@link ThreadLocal} を使用してローカルトランザクションコンテキストをスレッドごとに保持するホルダーです。
+ * 
+ * @author nakamura-to
+ * @since 2.20.0
+ */
+public class ThreadLocalTransactionContextHolder implements
+        LocalTransactionContextHolder {
+
+    /** ローカルトランザクションコンテキストを保持するスレッドローカル */
+    protected final ThreadLocal<LocalTransactionContext> threadLocal;
+
+    /**
+     * インスタンスを構築します。
+     */
+    public ThreadLocalTransactionContextHolder() {
+        this(new ThreadLocal<LocalTransactionContext>());
+    }
+
+    /**
+     * スレッドローカルを指定してインスタンスを構築します。
+     * 
+     * @param threadLocal
+     *            ローカルトランザクションコンテキストを保持するスレッドローカル
+     * @throws DomaNullPointerException
+     *             {@code threadLocal} が {@code null} の場合
+     */
+    public ThreadLocalTransactionContextHolder(
+            ThreadLocal<LocalTransactionContext> threadLocal) {
+        if (threadLocal == null) {
+            throw new DomaNullPointerException("threadLocal");
+        }
+        this.threadLocal = threadLocal;
+    }
+
+    @Override
+    public LocalTransactionContext get() {
+        return threadLocal.get();
+    }
+
+    @Override
+    public void set(LocalTransactionContext context) {
+        threadLocal.set(context);
+    }
+
+    @Override
+    public void remove() {
+        threadLocal.remove();
+    }
+}
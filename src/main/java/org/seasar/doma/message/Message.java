@@ -170,6 +170,10 @@ public enum Message implements MessageResource {
     DOMA2231("パラメータの数が異なります。バッチ実行されるクエリは全て同一でなければいけません。"),
     DOMA2232("パラメータの要素が空です。"),
     DOMA2233("要素Mapのキーに[{0}]が含まれていないものがあります。"),
+    DOMA2234("ローカルトランザクションコンテキストを保持できません。スコープが現在のスレッドに関連付けられていません。ScopedTransactionContextHolderのrunもしくはcallメソッドの中でトランザクションを開始してください。"),
+    DOMA2235("スクリプトファイル[{0}]を実行するステートメントの準備に失敗しました。\n原因は次のものです。{1}"),
+    DOMA2236("識別子の次の割り当ての先行取得に失敗しました。現在の割り当てを使い切った時点で改めて取得します。"),
+    DOMA2237("LocalTransactionDataSourceを使用するDaoの非同期メソッドは、呼び出し元のスレッドで実行する必要があります。別のスレッドではローカルトランザクションのコネクションを取得できません。ConfigのgetExecutorメソッドでCallerThreadExecutorを返すか、LocalTransactionDataSource以外のデータソースを使用してください。"),
 
     // expression
     DOMA3001("式[{0}]の評価に失敗しました（[{1}]番目の文字付近）。クラス[{2}]のメソッド[{3}]の実行に失敗しました。原因は次のものです。{4}"),
@@ -481,6 +485,8 @@ public enum Message implements MessageResource {
     DOMA4441("@TenantIdは@Embeddableが注釈された型のプロパティに注釈できません。 at {0}.{1}"),
     DOMA4442("@TenantIdが重複しています。@TenantIdが注釈されるフィールドはクラス階層の中で1つでなければいけません。 at {0}.{1}"),
     DOMA4443("エンベッダブルクラスのフィールドには@TenantIdを注釈できません。 at {0}.{1}"),
+    DOMA4444("戻り値の型[{0}]には、ワイルドカードや型変数ではない型引数を1つ指定しなければいけません。 at {1}.{2}"),
+    DOMA4445("戻り値の型[{0}]はサポートされていません。CompletableFutureもしくはCompletionStageを戻り値の型にできるのは、@Select（java.util.stream.Streamを返す場合を除く）、@Insert、@Update、@Delete、@BatchInsert、@BatchUpdate、@BatchDeleteが注釈されたメソッドだけです。 at {1}.{2}"),
 
     // other
     DOMA5001("JDBCドライバがロードされていない可能性があります。まず、JDBCドライバがクラスパスにあることを確認してください。次に、JDBCドライバが自動でロードされない場合は、Class.forNameで明示的にロードしてください。 ex) Class.forName(\"oracle.jdbc.driver.OracleDriver\")"),
@@ -557,6 +557,16 @@ public class DaoProcessorTest extends AptTestCase {
         assertTrue(getCompiledResult());
     }
 
+    public void testGzipScript() throws Exception {
+        Class<?> target = GzipScriptDao.class;
+        DaoProcessor processor = new DaoProcessor();
+        addProcessor(processor);
+        addCompilationUnit(target);
+        compile();
+        assertGeneratedSource(target);
+        assertTrue(getCompiledResult());
+    }
+
     public void testFunction() throws Exception {
         Class<?> target = FunctionDao.class;
         DaoProcessor processor = new DaoProcessor();
@@ -588,6 +598,58 @@ public class DaoProcessorTest extends AptTestCase {
         assertTrue(getCompiledResult());
     }
 
+    public void testSqlPrecompilation() throws Exception {
+        addOption("-Adoma.sql.precompilation=true");
+        Class<?> target = SqlFileSelectEntityDao.class;
+        DaoProcessor processor = new DaoProcessor();
+        addProcessor(processor);
+        addCompilationUnit(target);
+        compile();
+        assertGeneratedSource(target);
+        assertTrue(getCompiledResult());
+        assertNoMessage();
+    }
+
+    public void testAsync() throws Exception {
+        Class<?> target = AsyncDao.class;
+        DaoProcessor processor = new DaoProcessor();
+        addProcessor(processor);
+        addCompilationUnit(target);
+        compile();
+        assertGeneratedSource(target);
+        assertTrue(getCompiledResult());
+    }
+
+    public void testAsyncRawType() throws Exception {
+        Class<?> target = AsyncRawTypeDao.class;
+        DaoProcessor processor = new DaoProcessor();
+        addProcessor(processor);
+        addCompilationUnit(target);
+        compile();
+        assertFalse(getCompiledResult());
+        assertMessage(Message.DOMA4444);
+    }
+
+    public void testAsyncUnsupported() throws Exception {
+        Class<?> target = AsyncUnsupportedDao.class;
+        DaoProcessor processor = new DaoProcessor();
+        addProcessor(processor);
+        addCompilationUnit(target);
+        compile();
+        assertFalse(getCompiledResult());
+        assertMessage(Message.DOMA4445);
+    }
+
+    public void testAsyncStream() throws Exception {
+        Class<?> target = AsyncStreamDao.class;
+        DaoProcessor processor = new DaoProcessor();
+        addProcessor(processor);
+        addCompilationUnit(target);
+        compile();
+        assertFalse(getCompiledResult());
+        assertMessage(Message.DOMA4445);
+    }
+
     public void testSqlValidationSkipWhenOptionSpecifiedByConfigFile() throws Exception {
         addOption("-Adoma.config.path=sql.validation.skip.config");
         Class<?> target = SqlValidationSkipDao.class;
@@ -759,6 +821,16 @@ public class DaoProcessorTest extends AptTestCase {
         assertTrue(getCompiledResult());
     }
 
+    public void testSkipOriginalStates() throws Exception {
+        Class<?> target = SkipOriginalStatesDao.class;
+        DaoProcessor processor = new DaoProcessor();
+        addProcessor(processor);
+        addCompilationUnit(target);
+        compile();
+        assertGeneratedSource(target);
+        assertTrue(getCompiledResult());
+    }
+
     public void testOptionalParameter() throws Exception {
         Class<?> target = OptionalParameterDao.class;
         DaoProcessor processor = new DaoProcessor();
@@ -30,4 +30,7 @@ public interface ScriptDao {
 
     @Script(blockDelimiter = "GO", haltOnError = false)
     void dropTables();
+
+    @Script(batch = true, batchSize = 100)
+    void insertData();
 }
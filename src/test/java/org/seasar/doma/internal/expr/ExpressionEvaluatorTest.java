@@ -29,6 +29,7 @@ import java.util.OptionalLong;
 import junit.framework.TestCase;
 
 import org.seasar.doma.internal.expr.node.ExpressionLocation;
+import org.seasar.doma.internal.expr.node.ExpressionNode;
 
 /**
  * @author taedium
@@ -185,6 +186,32 @@ public class ExpressionEvaluatorTest extends TestCase {
         assertNull(method);
     }
 
+    public void testMethodCache_receiverClassChanged() throws Exception {
+        ExpressionNode node = new ExpressionParser("x.length()").parse();
+        ExpressionEvaluator evaluator = new ExpressionEvaluator();
+        evaluator.add("x", new Value(String.class, "abc"));
+        assertEquals(3, evaluator.evaluate(node).getValue());
+        assertEquals(3, evaluator.evaluate(node).getValue());
+
+        evaluator = new ExpressionEvaluator();
+        evaluator.add("x", new Value(StringBuilder.class, new StringBuilder(
+                "abcde")));
+        assertEquals(5, evaluator.evaluate(node).getValue());
+    }
+
+    public void testMethodCache_paramTypesChanged() throws Exception {
+        ExpressionNode node = new ExpressionParser("x.indexOf(y)").parse();
+        ExpressionEvaluator evaluator = new ExpressionEvaluator();
+        evaluator.add("x", new Value(String.class, "abc"));
+        evaluator.add("y", new Value(String.class, "c"));
+        assertEquals(2, evaluator.evaluate(node).getValue());
+
+        evaluator = new ExpressionEvaluator();
+        evaluator.add("x", new Value(String.class, "abc"));
+        evaluator.add("y", new Value(int.class, (int) 'b'));
+        assertEquals(1, evaluator.evaluate(node).getValue());
+    }
+
     public void testForClassName() throws Exception {
         ExpressionEvaluator evaluator = new ExpressionEvaluator();
         Class<?> clazz = evaluator.forClassName(location, "java.lang.String");
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.expr;
+
+import junit.framework.TestCase;
+
+import org.seasar.doma.internal.expr.node.ExpressionNode;
+
+/**
+ * @author nakamura-to
+ * 
+ */
+public class ExpressionNodeCacheTest extends TestCase {
+
+    @Override
+    protected void tearDown() throws Exception {
+        ExpressionNodeCache.clear();
+    }
+
+    public void testGet() throws Exception {
+        ExpressionNodeCache.clear();
+        ExpressionNode node = ExpressionNodeCache.get("a.name");
+        assertNotNull(node);
+        assertSame(node, ExpressionNodeCache.get("a.name"));
+        assertNotSame(node, ExpressionNodeCache.get("b.name"));
+        assertEquals(2, ExpressionNodeCache.getStatistics().getSize());
+
+        ExpressionNodeCache.clear();
+        assertNotSame(node, ExpressionNodeCache.get("a.name"));
+    }
+
+    public void testGet_illegalExpression() throws Exception {
+        try {
+            ExpressionNodeCache.get("a.name(");
+            fail();
+        } catch (ExpressionException expected) {
+            System.out.println(expected.getMessage());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.jdbc.cache;
+
+import junit.framework.TestCase;
+
+import org.seasar.doma.jdbc.CacheStatistics;
+
+/**
+ * @author nakamura-to
+ * 
+ */
+public class LruCacheTest extends TestCase {
+
+    public void testGet() throws Exception {
+        LruCache<String, String> cache = new LruCache<>(2);
+        assertEquals("A", cache.get("a", String::toUpperCase));
+        assertEquals("A", cache.get("a", k -> "X"));
+
+        CacheStatistics statistics = cache.getStatistics();
+        assertEquals(1, statistics.getHitCount());
+        assertEquals(1, statistics.getMissCount());
+        assertEquals(1, statistics.getLoadCount());
+        assertEquals(1, statistics.getSize());
+    }
+
+    public void testEvict_leastRecentlyUsed() throws Exception {
+        LruCache<String, String> cache = new LruCache<>(2);
+        cache.get("a", String::toUpperCase);
+        cache.get("b", String::toUpperCase);
+        cache.get("a", String::toUpperCase);
+        cache.get("c", String::toUpperCase);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getStatistics().getEvictionCount());
+        assertEquals("A", cache.get("a", k -> "X"));
+        assertEquals("C", cache.get("c", k -> "X"));
+        assertEquals("X", cache.get("b", k -> "X"));
+    }
+
+    public void testEvict_weight() throws Exception {
+        LruCache<String, String> cache = new LruCache<>(10, 5,
+                String::length);
+        cache.get("aa", String::toUpperCase);
+        cache.get("bb", String::toUpperCase);
+        cache.get("ccc", String::toUpperCase);
+
+        CacheStatistics statistics = cache.getStatistics();
+        assertEquals(2, statistics.getSize());
+        assertEquals(5, statistics.getWeight());
+        assertEquals(1, statistics.getEvictionCount());
+        assertEquals("X", cache.get("aa", k -> "X"));
+    }
+
+    public void testClear() throws Exception {
+        LruCache<String, String> cache = new LruCache<>(2, 10, String::length);
+        cache.get("a", String::toUpperCase);
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getStatistics().getWeight());
+    }
+}
@@ -68,6 +68,87 @@ public class EntityProviderTest extends TestCase {
         assertEquals(new Integer(100), emp.getVersion());
     }
 
+    public void testGetEntity_originalStates() throws Exception {
+        MockResultSetMetaData metaData = new MockResultSetMetaData();
+        metaData.columns.add(new ColumnMetaData("id"));
+        metaData.columns.add(new ColumnMetaData("name"));
+        MockResultSet resultSet = new MockResultSet(metaData);
+        resultSet.rows.add(new RowData(1, "aaa"));
+        resultSet.rows.add(new RowData(2, "bbb"));
+
+        _Emp entityType = _Emp.getSingletonInternal();
+        EntityProvider<Emp> provider = new EntityProvider<>(entityType,
+                new MySelectQuery(new MockConfig()), false);
+        resultSet.next();
+        Emp emp = provider.get(resultSet);
+        assertNotNull(entityType.getOriginalStates(emp));
+        assertEquals("aaa", entityType.getOriginalStates(emp).getName());
+
+        provider = new EntityProvider<>(entityType, new MySelectQuery(
+                new MockConfig()), false, true);
+        resultSet.next();
+        emp = provider.get(resultSet);
+        assertEquals("bbb", emp.getName());
+        assertNull(entityType.getOriginalStates(emp));
+    }
+
+    public void testGetEntity_multipleRows() throws Exception {
+        MockResultSetMetaData metaData = new MockResultSetMetaData();
+        metaData.columns.add(new ColumnMetaData("id"));
+        metaData.columns.add(new ColumnMetaData("name"));
+        metaData.columns.add(new ColumnMetaData("salary"));
+        metaData.columns.add(new ColumnMetaData("version"));
+        MockResultSet resultSet = new MockResultSet(metaData);
+        resultSet.rows.add(new RowData(1, "aaa", new BigDecimal(10), 100));
+        resultSet.rows.add(new RowData(2, null, null, 200));
+
+        _Emp entityType = _Emp.getSingletonInternal();
+        EntityProvider<Emp> provider = new EntityProvider<>(entityType,
+                new MySelectQuery(new MockConfig()), false);
+        resultSet.next();
+        Emp emp = provider.get(resultSet);
+        resultSet.next();
+        Emp emp2 = provider.get(resultSet);
+
+        assertEquals(new Integer(1), emp.getId());
+        assertEquals("aaa", emp.getName());
+        assertEquals(new BigDecimal(10), emp.getSalary());
+        assertEquals(new Integer(100), emp.getVersion());
+        assertEquals(new Integer(2), emp2.getId());
+        assertNull(emp2.getName());
+        assertNull(emp2.getSalary());
+        assertEquals(new Integer(200), emp2.getVersion());
+    }
+
+    public void testGetEntity_resultSetShapeChanged() throws Exception {
+        MockResultSetMetaData metaData = new MockResultSetMetaData();
+        metaData.columns.add(new ColumnMetaData("id"));
+        metaData.columns.add(new ColumnMetaData("name"));
+        MockResultSet resultSet = new MockResultSet(metaData);
+        resultSet.rows.add(new RowData(1, "aaa"));
+        resultSet.next();
+
+        MockResultSetMetaData metaData2 = new MockResultSetMetaData();
+        metaData2.columns.add(new ColumnMetaData("name"));
+        metaData2.columns.add(new ColumnMetaData("version"));
+        MockResultSet resultSet2 = new MockResultSet(metaData2);
+        resultSet2.rows.add(new RowData("bbb", 100));
+        resultSet2.next();
+
+        _Emp entityType = _Emp.getSingletonInternal();
+        Emp emp = new EntityProvider<>(entityType, new MySelectQuery(
+                new MockConfig()), false).get(resultSet);
+        Emp emp2 = new EntityProvider<>(entityType, new MySelectQuery(
+                new MockConfig()), false).get(resultSet2);
+
+        assertEquals(new Integer(1), emp.getId());
+        assertEquals("aaa", emp.getName());
+        assertNull(emp.getVersion());
+        assertNull(emp2.getId());
+        assertEquals("bbb", emp2.getName());
+        assertEquals(new Integer(100), emp2.getVersion());
+    }
+
     public void testGetEntity_UnknownColumnException() throws Exception {
         MockResultSetMetaData metaData = new MockResultSetMetaData();
         metaData.columns.add(new ColumnMetaData("id"));
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.jdbc.command;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+
+import junit.framework.TestCase;
+
+import org.seasar.doma.FetchType;
+import org.seasar.doma.MapKeyNamingType;
+import org.seasar.doma.internal.jdbc.mock.ColumnMetaData;
+import org.seasar.doma.internal.jdbc.mock.MockConfig;
+import org.seasar.doma.internal.jdbc.mock.MockResultSet;
+import org.seasar.doma.internal.jdbc.mock.MockResultSetMetaData;
+import org.seasar.doma.internal.jdbc.mock.RowData;
+import org.seasar.doma.jdbc.Config;
+import org.seasar.doma.jdbc.PreparedSql;
+import org.seasar.doma.jdbc.SelectOptions;
+import org.seasar.doma.jdbc.SqlLogType;
+import org.seasar.doma.jdbc.query.SelectQuery;
+
+/**
+ * @author nakamura-to
+ * 
+ */
+public class MapProviderTest extends TestCase {
+
+    private final MockConfig runtimeConfig = new MockConfig();
+
+    public void testGet() throws Exception {
+        MockResultSetMetaData metaData = new MockResultSetMetaData();
+        metaData.columns.add(new ColumnMetaData("EMPLOYEE_ID"));
+        metaData.columns.add(new ColumnMetaData("EMPLOYEE_NAME"));
+        MockResultSet resultSet = new MockResultSet(metaData);
+        resultSet.rows.add(new RowData(1, "aaa"));
+        resultSet.rows.add(new RowData(2, null));
+
+        MapProvider provider = new MapProvider(new MySelectQuery(),
+                MapKeyNamingType.CAMEL_CASE);
+        resultSet.next();
+        Map<String, Object> map1 = provider.get(resultSet);
+        resultSet.next();
+        Map<String, Object> map2 = provider.get(resultSet);
+
+        assertEquals(Arrays.asList("employeeId", "employeeName"),
+                new ArrayList<>(map1.keySet()));
+        assertEquals(1, map1.get("employeeId"));
+        assertEquals("aaa", map1.get("employeeName"));
+        assertEquals(2, map2.get("employeeId"));
+        assertNull(map2.get("employeeName"));
+        assertTrue(map2.containsKey("employeeName"));
+        assertFalse(map2.containsKey("hoge"));
+        assertSame(((RowMap) map1).keys, ((RowMap) map2).keys);
+        try {
+            map1.put("hoge", "foo");
+            fail();
+        } catch (UnsupportedOperationException expected) {
+        }
+    }
+
+    public void testGet_duplicateKey() throws Exception {
+        MockResultSetMetaData metaData = new MockResultSetMetaData();
+        metaData.columns.add(new ColumnMetaData("AAA"));
+        metaData.columns.add(new ColumnMetaData("BBB"));
+        metaData.columns.add(new ColumnMetaData("AAA"));
+        MockResultSet resultSet = new MockResultSet(metaData);
+        resultSet.rows.add(new RowData(1, 2, 3));
+        resultSet.next();
+
+        MapProvider provider = new MapProvider(new MySelectQuery(),
+                MapKeyNamingType.NONE);
+        Map<String, Object> map = provider.get(resultSet);
+
+        assertEquals(2, map.size());
+        assertEquals(Arrays.asList("AAA", "BBB"),
+                new ArrayList<>(map.keySet()));
+        assertEquals(3, map.get("AAA"));
+        assertEquals(2, map.get("BBB"));
+    }
+
+    protected class MySelectQuery implements SelectQuery {
+
+        @Override
+        public SelectOptions getOptions() {
+            return SelectOptions.get();
+        }
+
+        @Override
+        public Config getConfig() {
+            return runtimeConfig;
+        }
+
+        @Override
+        public String getClassName() {
+            return null;
+        }
+
+        @Override
+        public String getMethodName() {
+            return null;
+        }
+
+        @Override
+        public PreparedSql getSql() {
+            return null;
+        }
+
+        @Override
+        public boolean isResultEnsured() {
+            return false;
+        }
+
+        @Override
+        public boolean isResultMappingEnsured() {
+            return false;
+        }
+
+        @Override
+        public FetchType getFetchType() {
+            return FetchType.LAZY;
+        }
+
+        @Override
+        public int getFetchSize() {
+            return 0;
+        }
+
+        @Override
+        public int getMaxRows() {
+            return 0;
+        }
+
+        @Override
+        public int getQueryTimeout() {
+            return 0;
+        }
+
+        @Override
+        public void prepare() {
+        }
+
+        @Override
+        public void complete() {
+        }
+
+        @Override
+        public Method getMethod() {
+            return null;
+        }
+
+        @Override
+        public SqlLogType getSqlLogType() {
+            return null;
+        }
+
+        @Override
+        public String comment(String sql) {
+            return sql;
+        }
+
+        @Override
+        public boolean isResultStream() {
+            return false;
+        }
+
+    }
+}
@@ -17,7 +17,9 @@ package org.seasar.doma.internal.jdbc.command;
 
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
+import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import junit.framework.TestCase;
@@ -25,10 +27,22 @@ import junit.framework.TestCase;
 import org.seasar.doma.internal.jdbc.mock.BindValue;
 import org.seasar.doma.internal.jdbc.mock.MockConfig;
 import org.seasar.doma.internal.jdbc.mock.MockPreparedStatement;
+import org.seasar.doma.internal.jdbc.scalar.Scalar;
 import org.seasar.doma.internal.jdbc.sql.BasicInParameter;
+import org.seasar.doma.internal.jdbc.sql.ScalarInParameter;
 import org.seasar.doma.jdbc.Config;
+import org.seasar.doma.jdbc.InParameter;
+import org.seasar.doma.jdbc.JdbcMappingFunction;
+import org.seasar.doma.jdbc.JdbcMappingHint;
+import org.seasar.doma.jdbc.JdbcMappingVisitor;
 import org.seasar.doma.jdbc.Sql;
+import org.seasar.doma.jdbc.dialect.StandardDialect;
 import org.seasar.doma.jdbc.query.Query;
+import org.seasar.doma.wrapper.IntegerWrapper;
+import org.seasar.doma.wrapper.StringWrapper;
+
+import example.domain.PhoneNumber;
+import example.domain._PhoneNumber;
 
 public class PreparedSqlParameterBinderTest extends TestCase {
 
@@ -56,6 +70,96 @@ public class PreparedSqlParameterBinderTest extends TestCase {
         assertEquals(new BigDecimal(10), bindValue.getValue());
     }
 
+    public void testBind_reuse() throws Exception {
+        List<String> visits = new ArrayList<String>();
+        runtimeConfig.dialect = new StandardDialect() {
+
+            @Override
+            public JdbcMappingVisitor getJdbcMappingVisitor() {
+                return new StandardJdbcMappingVisitor() {
+
+                    @Override
+                    public Void visitStringWrapper(StringWrapper wrapper,
+                            JdbcMappingFunction p, JdbcMappingHint q)
+                            throws SQLException {
+                        visits.add("string");
+                        return super.visitStringWrapper(wrapper, p, q);
+                    }
+
+                    @Override
+                    public Void visitIntegerWrapper(IntegerWrapper wrapper,
+                            JdbcMappingFunction p, JdbcMappingHint q)
+                            throws SQLException {
+                        visits.add("integer");
+                        return super.visitIntegerWrapper(wrapper, p, q);
+                    }
+                };
+            }
+        };
+        PreparedSqlParameterBinder binder = new PreparedSqlParameterBinder(
+                new MyQuery());
+
+        for (String value : new String[] { "aaa", "bbb", null }) {
+            MockPreparedStatement preparedStatement = new MockPreparedStatement();
+            List<BasicInParameter<?>> parameters = new ArrayList<BasicInParameter<?>>();
+            parameters.add(new BasicInParameter<String>(
+                    () -> new StringWrapper(value)));
+            binder.bind(preparedStatement, parameters);
+            assertEquals(value, preparedStatement.bindValues.get(0).getValue());
+        }
+        assertEquals(Arrays.asList("string"), visits);
+
+        MockPreparedStatement preparedStatement = new MockPreparedStatement();
+        List<BasicInParameter<?>> parameters = new ArrayList<BasicInParameter<?>>();
+        parameters.add(new BasicInParameter<Integer>(() -> new IntegerWrapper(
+                10)));
+        binder.bind(preparedStatement, parameters);
+        assertEquals(10, preparedStatement.bindValues.get(0).getValue());
+        assertEquals(Arrays.asList("string", "integer"), visits);
+    }
+
+    public void testBind_domainClassChanged() throws Exception {
+        List<Object> domainClasses = new ArrayList<Object>();
+        runtimeConfig.dialect = new StandardDialect() {
+
+            @Override
+            public JdbcMappingVisitor getJdbcMappingVisitor() {
+                return new StandardJdbcMappingVisitor() {
+
+                    @Override
+                    public Void visitStringWrapper(StringWrapper wrapper,
+                            JdbcMappingFunction p, JdbcMappingHint q)
+                            throws SQLException {
+                        domainClasses.add(q.getDomainClass().orElse(null));
+                        return super.visitStringWrapper(wrapper, p, q);
+                    }
+                };
+            }
+        };
+        PreparedSqlParameterBinder binder = new PreparedSqlParameterBinder(
+                new MyQuery());
+
+        MockPreparedStatement preparedStatement = new MockPreparedStatement();
+        List<InParameter<?>> parameters = new ArrayList<InParameter<?>>();
+        parameters.add(new BasicInParameter<String>(
+                () -> new StringWrapper("aaa")));
+        binder.bind(preparedStatement, parameters);
+        assertEquals("aaa", preparedStatement.bindValues.get(0).getValue());
+
+        Scalar<String, PhoneNumber> scalar = _PhoneNumber
+                .getSingletonInternal().createScalar(new PhoneNumber("bbb"));
+        preparedStatement = new MockPreparedStatement();
+        parameters = new ArrayList<InParameter<?>>();
+        parameters.add(new ScalarInParameter<String, PhoneNumber>(scalar));
+        binder.bind(preparedStatement, parameters);
+        assertEquals("bbb", preparedStatement.bindValues.get(0).getValue());
+
+        preparedStatement = new MockPreparedStatement();
+        binder.bind(preparedStatement, parameters);
+        assertEquals("bbb", preparedStatement.bindValues.get(0).getValue());
+        assertEquals(Arrays.asList(null, PhoneNumber.class), domainClasses);
+    }
+
     protected class MyQuery implements Query {
 
         @Override
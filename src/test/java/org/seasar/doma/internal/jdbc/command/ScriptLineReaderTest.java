@@ -0,0 +1,122 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.jdbc.command;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.util.zip.GZIPOutputStream;
+
+import junit.framework.TestCase;
+
+import org.seasar.doma.internal.Constants;
+
+/**
+ * @author nakamura-to
+ * 
+ */
+public class ScriptLineReaderTest extends TestCase {
+
+    public void testReadLine() throws Exception {
+        ScriptLineReader reader = new ScriptLineReader("aaa\nbbb\r\nccc\rddd");
+        assertEquals("aaa", reader.readLine().toString());
+        assertEquals("bbb", reader.readLine().toString());
+        assertEquals("ccc", reader.readLine().toString());
+        assertEquals("ddd", reader.readLine().toString());
+        assertNull(reader.readLine());
+    }
+
+    public void testReadLine_emptyLine() throws Exception {
+        ScriptLineReader reader = new ScriptLineReader("aaa\n\nbbb\n");
+        assertEquals("aaa", reader.readLine().toString());
+        assertEquals("", reader.readLine().toString());
+        assertEquals("bbb", reader.readLine().toString());
+        assertNull(reader.readLine());
+    }
+
+    public void testReadLine_byteBuffer() throws Exception {
+        String text = createText();
+        ScriptLineReader reader = new ScriptLineReader(ByteBuffer.wrap(text
+                .getBytes(Constants.UTF_8)));
+        assertLines(text, reader);
+    }
+
+    public void testReadLine_channel() throws Exception {
+        String text = createText();
+        ScriptLineReader reader = new ScriptLineReader(
+                Channels.newChannel(new ByteArrayInputStream(text
+                        .getBytes(Constants.UTF_8))));
+        assertLines(text, reader);
+    }
+
+    public void testOpen_file() throws Exception {
+        String text = createText();
+        File file = File.createTempFile("doma", ".script");
+        try {
+            Files.write(file.toPath(), text.getBytes(Constants.UTF_8));
+            try (ScriptLineReader reader = ScriptLineReader.open(file.toURI()
+                    .toURL())) {
+                assertLines(text, reader);
+            }
+        } finally {
+            file.delete();
+        }
+    }
+
+    public void testOpen_gzip() throws Exception {
+        String text = createText();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(text.getBytes(Constants.UTF_8));
+        }
+        File file = File.createTempFile("doma", ".script.gz");
+        try {
+            Files.write(file.toPath(), bytes.toByteArray());
+            try (ScriptLineReader reader = ScriptLineReader.open(file.toURI()
+                    .toURL())) {
+                assertLines(text, reader);
+            }
+        } finally {
+            file.delete();
+        }
+    }
+
+    private String createText() {
+        StringBuilder buf = new StringBuilder();
+        for (int i = 0; i < 3000; i++) {
+            buf.append("insert into emp (id, name) values (").append(i)
+                    .append(", 'あいう');\r\n");
+        }
+        for (int i = 0; i < 20000; i++) {
+            buf.append('x');
+        }
+        buf.append('\n');
+        return buf.toString();
+    }
+
+    private void assertLines(String text, ScriptLineReader reader)
+            throws Exception {
+        String[] lines = text.split("\r?\n");
+        for (String line : lines) {
+            assertEquals(line, reader.readLine().toString());
+        }
+        assertNull(reader.readLine());
+    }
+}
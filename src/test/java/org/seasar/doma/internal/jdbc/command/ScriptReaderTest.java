@@ -15,9 +15,7 @@
  */
 package org.seasar.doma.internal.jdbc.command;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.StringReader;
 
 import junit.framework.TestCase;
 
@@ -54,15 +52,14 @@ public class ScriptReaderTest extends TestCase {
         ScriptReader reader = new ScriptReader(query) {
 
             @Override
-            protected BufferedReader createBufferedReader() throws IOException {
+            protected ScriptLineReader createLineReader() throws IOException {
                 StringBuilder buf = new StringBuilder();
                 buf.append("aaa;\n");
                 buf.append("bbb\n");
                 buf.append("go\n");
                 buf.append("ccc\n");
                 buf.append("ddd\n");
-                StringReader reader = new StringReader(buf.toString());
-                return new BufferedReader(reader);
+                return new ScriptLineReader(buf);
             }
         };
         assertEquals("aaa", reader.readSql());
@@ -75,11 +72,10 @@ public class ScriptReaderTest extends TestCase {
         ScriptReader reader = new ScriptReader(query) {
 
             @Override
-            protected BufferedReader createBufferedReader() throws IOException {
+            protected ScriptLineReader createLineReader() throws IOException {
                 StringBuilder buf = new StringBuilder();
                 buf.append("aaa; bbb; ccc;\n");
-                StringReader reader = new StringReader(buf.toString());
-                return new BufferedReader(reader);
+                return new ScriptLineReader(buf);
             }
         };
         assertEquals("aaa", reader.readSql());
@@ -92,12 +88,11 @@ public class ScriptReaderTest extends TestCase {
         ScriptReader reader = new ScriptReader(query) {
 
             @Override
-            protected BufferedReader createBufferedReader() throws IOException {
+            protected ScriptLineReader createLineReader() throws IOException {
                 StringBuilder buf = new StringBuilder();
                 buf.append("begin aaa; end\n");
                 buf.append("go\n");
-                StringReader reader = new StringReader(buf.toString());
-                return new BufferedReader(reader);
+                return new ScriptLineReader(buf);
             }
         };
         assertEquals("begin aaa; end", reader.readSql());
@@ -108,27 +103,47 @@ public class ScriptReaderTest extends TestCase {
         ScriptReader reader = new ScriptReader(query) {
 
             @Override
-            protected BufferedReader createBufferedReader() throws IOException {
+            protected ScriptLineReader createLineReader() throws IOException {
                 StringBuilder buf = new StringBuilder();
                 buf.append("create trigger hoge begin aaa; end\n");
                 buf.append("go\n");
-                StringReader reader = new StringReader(buf.toString());
-                return new BufferedReader(reader);
+                return new ScriptLineReader(buf);
             }
         };
         assertEquals("create trigger hoge begin aaa; end", reader.readSql());
         assertNull(reader.readSql());
     }
 
+    public void testIsBlock() throws Exception {
+        ScriptReader reader = new ScriptReader(query) {
+
+            @Override
+            protected ScriptLineReader createLineReader() throws IOException {
+                StringBuilder buf = new StringBuilder();
+                buf.append("aaa;\n");
+                buf.append("begin bbb; end\n");
+                buf.append("go\n");
+                buf.append("ccc;\n");
+                return new ScriptLineReader(buf);
+            }
+        };
+        assertEquals("aaa", reader.readSql());
+        assertFalse(reader.isBlock());
+        assertEquals("begin bbb; end", reader.readSql());
+        assertTrue(reader.isBlock());
+        assertEquals("ccc", reader.readSql());
+        assertFalse(reader.isBlock());
+        assertNull(reader.readSql());
+    }
+
     public void testReadSql_notSqlBlock() throws Exception {
         ScriptReader reader = new ScriptReader(query) {
             @Override
-            protected BufferedReader createBufferedReader() throws IOException {
+            protected ScriptLineReader createLineReader() throws IOException {
                 StringBuilder buf = new StringBuilder();
                 buf.append("start aaa; end\n");
                 buf.append("go\n");
-                StringReader reader = new StringReader(buf.toString());
-                return new BufferedReader(reader);
+                return new ScriptLineReader(buf);
             }
         };
         assertEquals("start aaa", reader.readSql());
@@ -139,12 +154,11 @@ public class ScriptReaderTest extends TestCase {
         ScriptReader reader = new ScriptReader(query) {
 
             @Override
-            protected BufferedReader createBufferedReader() throws IOException {
+            protected ScriptLineReader createLineReader() throws IOException {
                 StringBuilder buf = new StringBuilder();
                 buf.append("select 1 ; /* aaa\n");
                 buf.append("aaa */ select 2;");
-                StringReader reader = new StringReader(buf.toString());
-                return new BufferedReader(reader);
+                return new ScriptLineReader(buf);
             }
         };
         assertEquals("select 1", reader.readSql());
@@ -156,7 +170,7 @@ public class ScriptReaderTest extends TestCase {
         ScriptReader reader = new ScriptReader(query) {
 
             @Override
-            protected BufferedReader createBufferedReader() throws IOException {
+            protected ScriptLineReader createLineReader() throws IOException {
                 StringBuilder buf = new StringBuilder();
                 buf.append("/*\n");
                 buf.append(" *\n");
@@ -164,8 +178,7 @@ public class ScriptReaderTest extends TestCase {
                 buf.append("select 1\n");
                 buf.append("from \n");
                 buf.append("hoge\n");
-                StringReader reader = new StringReader(buf.toString());
-                return new BufferedReader(reader);
+                return new ScriptLineReader(buf);
             }
         };
         assertNotNull(reader.readSql());
@@ -19,13 +19,25 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 import javax.sql.DataSource;
 
 import junit.framework.TestCase;
 
 import org.seasar.doma.DomaNullPointerException;
+import org.seasar.doma.internal.jdbc.mock.MockConfig;
+import org.seasar.doma.internal.jdbc.mock.MockDataSource;
 import org.seasar.doma.jdbc.Config;
+import org.seasar.doma.jdbc.JdbcException;
+import org.seasar.doma.jdbc.tx.LocalTransaction;
+import org.seasar.doma.jdbc.tx.LocalTransactionDataSource;
+import org.seasar.doma.message.Message;
 
 /**
  * @author backpaper0
@@ -92,6 +104,103 @@ public class AbstractDaoTest extends TestCase {
         }
     }
 
+    public void testSupplyAsync() throws Exception {
+        List<Runnable> tasks = new ArrayList<>();
+        MockConfig config = new MockConfig() {
+
+            @Override
+            public Executor getExecutor() {
+                return tasks::add;
+            }
+        };
+        AbstractDao dao = new AbstractDao(config) {
+        };
+        CompletableFuture<String> future = dao.supplyAsync(() -> "hoge");
+        assertFalse(future.isDone());
+        assertEquals(1, tasks.size());
+        tasks.get(0).run();
+        assertEquals("hoge", future.get());
+    }
+
+    public void testSupplyAsync_callerThread() throws Exception {
+        LocalTransactionDataSource localTxDataSource = new LocalTransactionDataSource(
+                new MockDataSource());
+        MockConfig config = new MockConfig() {
+
+            @Override
+            public DataSource getDataSource() {
+                return localTxDataSource;
+            }
+        };
+        AbstractDao dao = new AbstractDao(config) {
+        };
+        LocalTransaction transaction = localTxDataSource
+                .getLocalTransaction(config.getJdbcLogger());
+        transaction.begin();
+        try {
+            Thread caller = Thread.currentThread();
+            CompletableFuture<Boolean> future = dao
+                    .supplyAsync(() -> Thread.currentThread() == caller
+                            && localTxDataSource.isTransactionActive());
+            assertTrue(future.isDone());
+            assertTrue(future.get());
+        } finally {
+            transaction.rollback();
+        }
+    }
+
+    public void testSupplyAsync_localTransactionDataSource() throws Exception {
+        LocalTransactionDataSource localTxDataSource = new LocalTransactionDataSource(
+                new MockDataSource());
+        List<Runnable> tasks = new ArrayList<>();
+        MockConfig config = new MockConfig() {
+
+            @Override
+            public DataSource getDataSource() {
+                return localTxDataSource;
+            }
+
+            @Override
+            public Executor getExecutor() {
+                return tasks::add;
+            }
+        };
+        AbstractDao dao = new AbstractDao(config) {
+        };
+        CompletableFuture<String> future = dao.supplyAsync(() -> "hoge");
+        assertTrue(future.isCompletedExceptionally());
+        try {
+            future.join();
+            fail();
+        } catch (CompletionException e) {
+            JdbcException cause = (JdbcException) e.getCause();
+            assertEquals(Message.DOMA2237, cause.getMessageResource());
+        }
+        assertTrue(tasks.isEmpty());
+    }
+
+    public void testSupplyAsync_rejected() throws Exception {
+        MockConfig config = new MockConfig() {
+
+            @Override
+            public Executor getExecutor() {
+                return command -> {
+                    throw new RejectedExecutionException();
+                };
+            }
+        };
+        AbstractDao dao = new AbstractDao(config) {
+        };
+        CompletableFuture<String> future = dao.supplyAsync(() -> "hoge");
+        assertTrue(future.isCompletedExceptionally());
+        try {
+            future.join();
+            fail();
+        } catch (CompletionException e) {
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+    }
+
     private <T> T mock(Class<T> aClass) {
         ClassLoader loader = Thread.currentThread().getContextClassLoader();
         Class<?>[] interfaces = { aClass };
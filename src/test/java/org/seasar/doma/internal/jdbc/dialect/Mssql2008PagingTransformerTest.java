@@ -45,6 +45,25 @@ public class Mssql2008PagingTransformerTest extends TestCase {
         assertEquals(expected, sql.getRawSql());
     }
 
+    public void testOffsetLimit_parameterBound() throws Exception {
+        String expected = "select * from ( select temp_.*, row_number() over( order by temp_.id ) as doma_rownumber_ from ( select emp.id from emp ) as temp_ ) as temp2_ where doma_rownumber_ > ? and doma_rownumber_ <= ?";
+        Mssql2008PagingTransformer transformer = new Mssql2008PagingTransformer(
+                5, 10, true);
+        SqlParser parser = new SqlParser(
+                "select emp.id from emp order by emp.id");
+        SqlNode sqlNode = transformer.transform(parser.parse());
+        NodePreparedSqlBuilder sqlBuilder = new NodePreparedSqlBuilder(
+                new MockConfig(), SqlKind.SELECT, "dummyPath");
+        PreparedSql sql = sqlBuilder.build(sqlNode, Function.identity());
+        assertEquals(expected, sql.getRawSql());
+        assertEquals(
+                "select * from ( select temp_.*, row_number() over( order by temp_.id ) as doma_rownumber_ from ( select emp.id from emp ) as temp_ ) as temp2_ where doma_rownumber_ > 5 and doma_rownumber_ <= 15",
+                sql.getFormattedSql());
+        assertEquals(2, sql.getParameters().size());
+        assertEquals(5L, sql.getParameters().get(0).getValue());
+        assertEquals(15L, sql.getParameters().get(1).getValue());
+    }
+
     public void testOffsetOnly() throws Exception {
         String expected = "select * from ( select temp_.*, row_number() over( order by temp_.id ) as doma_rownumber_ from ( select emp.id from emp ) as temp_ ) as temp2_ where doma_rownumber_ > 5";
         Mssql2008PagingTransformer transformer = new Mssql2008PagingTransformer(
@@ -70,4 +89,22 @@ public class Mssql2008PagingTransformerTest extends TestCase {
         PreparedSql sql = sqlBuilder.build(sqlNode, Function.identity());
         assertEquals(expected, sql.getRawSql());
     }
+
+    public void testLimitOnly_parameterBound() throws Exception {
+        String expected = "select top (?) emp.id from emp order by emp.id";
+        Mssql2008PagingTransformer transformer = new Mssql2008PagingTransformer(
+                -1, 10, true);
+        SqlParser parser = new SqlParser(
+                "select emp.id from emp order by emp.id");
+        SqlNode sqlNode = transformer.transform(parser.parse());
+        NodePreparedSqlBuilder sqlBuilder = new NodePreparedSqlBuilder(
+                new MockConfig(), SqlKind.SELECT, "dummyPath");
+        PreparedSql sql = sqlBuilder.build(sqlNode, Function.identity());
+        assertEquals(expected, sql.getRawSql());
+        assertEquals(
+                "select top (10) emp.id from emp order by emp.id",
+                sql.getFormattedSql());
+        assertEquals(1, sql.getParameters().size());
+        assertEquals(10L, sql.getParameters().get(0).getValue());
+    }
 }
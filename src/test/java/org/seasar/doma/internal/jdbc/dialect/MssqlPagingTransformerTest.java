@@ -71,6 +71,25 @@ public class MssqlPagingTransformerTest extends TestCase {
         assertEquals(expected, sql.getRawSql());
     }
 
+    public void testOffsetLimit_parameterBound() throws Exception {
+        String expected = "select emp.id from emp order by emp.id offset ? rows fetch next ? rows only";
+        MssqlPagingTransformer transformer = new MssqlPagingTransformer(
+                5, 10, false, true);
+        SqlParser parser = new SqlParser(
+                "select emp.id from emp order by emp.id");
+        SqlNode sqlNode = transformer.transform(parser.parse());
+        NodePreparedSqlBuilder sqlBuilder = new NodePreparedSqlBuilder(
+                new MockConfig(), SqlKind.SELECT, "dummyPath");
+        PreparedSql sql = sqlBuilder.build(sqlNode, Function.identity());
+        assertEquals(expected, sql.getRawSql());
+        assertEquals(
+                "select emp.id from emp order by emp.id offset 5 rows fetch next 10 rows only",
+                sql.getFormattedSql());
+        assertEquals(2, sql.getParameters().size());
+        assertEquals(5L, sql.getParameters().get(0).getValue());
+        assertEquals(10L, sql.getParameters().get(1).getValue());
+    }
+
     public void testOffsetOnly() throws Exception {
         String expected = "select emp.id from emp order by emp.id offset 5 rows";
         MssqlPagingTransformer transformer = new MssqlPagingTransformer(5, -1,
@@ -55,6 +55,43 @@ public class MysqlPagingTransformerTest extends TestCase {
         assertEquals(expected, sql.getRawSql());
     }
 
+    public void testOffsetLimit_parameterBound() throws Exception {
+        String expected = "select * from emp order by emp.id limit ?, ?";
+        MysqlPagingTransformer transformer = new MysqlPagingTransformer(
+                5, 10, true);
+        SqlParser parser = new SqlParser(
+                "select * from emp order by emp.id");
+        SqlNode sqlNode = transformer.transform(parser.parse());
+        NodePreparedSqlBuilder sqlBuilder = new NodePreparedSqlBuilder(
+                new MockConfig(), SqlKind.SELECT, "dummyPath");
+        PreparedSql sql = sqlBuilder.build(sqlNode, Function.identity());
+        assertEquals(expected, sql.getRawSql());
+        assertEquals(
+                "select * from emp order by emp.id limit 5, 10",
+                sql.getFormattedSql());
+        assertEquals(2, sql.getParameters().size());
+        assertEquals(5L, sql.getParameters().get(0).getValue());
+        assertEquals(10L, sql.getParameters().get(1).getValue());
+    }
+
+    public void testOffsetOnly_parameterBound() throws Exception {
+        String expected = "select * from emp order by emp.id limit ?, 18446744073709551615";
+        MysqlPagingTransformer transformer = new MysqlPagingTransformer(
+                5, -1, true);
+        SqlParser parser = new SqlParser(
+                "select * from emp order by emp.id");
+        SqlNode sqlNode = transformer.transform(parser.parse());
+        NodePreparedSqlBuilder sqlBuilder = new NodePreparedSqlBuilder(
+                new MockConfig(), SqlKind.SELECT, "dummyPath");
+        PreparedSql sql = sqlBuilder.build(sqlNode, Function.identity());
+        assertEquals(expected, sql.getRawSql());
+        assertEquals(
+                "select * from emp order by emp.id limit 5, 18446744073709551615",
+                sql.getFormattedSql());
+        assertEquals(1, sql.getParameters().size());
+        assertEquals(5L, sql.getParameters().get(0).getValue());
+    }
+
     public void testOffsetOnly() throws Exception {
         String expected = "select * from emp order by emp.id limit 5, 18446744073709551615";
         MysqlPagingTransformer transformer = new MysqlPagingTransformer(5, -1);
@@ -55,6 +55,25 @@ public class OraclePagingTransformerTest extends TestCase {
         assertEquals(expected, sql.getRawSql());
     }
 
+    public void testOffsetLimit_parameterBound() throws Exception {
+        String expected = "select * from ( select temp_.*, rownum doma_rownumber_ from ( select * from emp order by emp.id ) temp_ ) where doma_rownumber_ > ? and doma_rownumber_ <= ?";
+        OraclePagingTransformer transformer = new OraclePagingTransformer(
+                5, 10, true);
+        SqlParser parser = new SqlParser(
+                "select * from emp order by emp.id");
+        SqlNode sqlNode = transformer.transform(parser.parse());
+        NodePreparedSqlBuilder sqlBuilder = new NodePreparedSqlBuilder(
+                new MockConfig(), SqlKind.SELECT, "dummyPath");
+        PreparedSql sql = sqlBuilder.build(sqlNode, Function.identity());
+        assertEquals(expected, sql.getRawSql());
+        assertEquals(
+                "select * from ( select temp_.*, rownum doma_rownumber_ from ( select * from emp order by emp.id ) temp_ ) where doma_rownumber_ > 5 and doma_rownumber_ <= 15",
+                sql.getFormattedSql());
+        assertEquals(2, sql.getParameters().size());
+        assertEquals(5L, sql.getParameters().get(0).getValue());
+        assertEquals(15L, sql.getParameters().get(1).getValue());
+    }
+
     public void testOffsetOnly() throws Exception {
         String expected = "select * from ( select temp_.*, rownum doma_rownumber_ from ( select * from emp order by emp.id ) temp_ ) where doma_rownumber_ > 5";
         OraclePagingTransformer transformer = new OraclePagingTransformer(5, -1);
@@ -19,6 +19,7 @@ import java.util.function.Function;
 
 import junit.framework.TestCase;
 
+import org.seasar.doma.internal.expr.ExpressionNodeCache;
 import org.seasar.doma.internal.jdbc.mock.MockConfig;
 import org.seasar.doma.internal.jdbc.sql.NodePreparedSqlBuilder;
 import org.seasar.doma.internal.jdbc.sql.SqlParser;
@@ -44,6 +45,41 @@ public class PostgresPagingTransformerTest extends TestCase {
         assertEquals(expected, sql.getRawSql());
     }
 
+    public void testOffsetLimit_parameterBound() throws Exception {
+        String expected = "select * from emp order by emp.id limit ? offset ?";
+        PostgresPagingTransformer transformer = new PostgresPagingTransformer(
+                5, 10, true);
+        SqlParser parser = new SqlParser("select * from emp order by emp.id");
+        SqlNode sqlNode = transformer.transform(parser.parse());
+        NodePreparedSqlBuilder sqlBuilder = new NodePreparedSqlBuilder(
+                new MockConfig(), SqlKind.SELECT, "dummyPath");
+        PreparedSql sql = sqlBuilder.build(sqlNode, Function.identity());
+        assertEquals(expected, sql.getRawSql());
+        assertEquals(
+                "select * from emp order by emp.id limit 10 offset 5",
+                sql.getFormattedSql());
+        assertEquals(2, sql.getParameters().size());
+        assertEquals(10L, sql.getParameters().get(0).getValue());
+        assertEquals(5L, sql.getParameters().get(1).getValue());
+    }
+
+    public void testOffsetLimit_parameterBound_expressionNotCached()
+            throws Exception {
+        ExpressionNodeCache.clear();
+        for (long offset = 0; offset < 3; offset++) {
+            PostgresPagingTransformer transformer = new PostgresPagingTransformer(
+                    offset, 10, true);
+            SqlParser parser = new SqlParser(
+                    "select * from emp order by emp.id");
+            SqlNode sqlNode = transformer.transform(parser.parse());
+            NodePreparedSqlBuilder sqlBuilder = new NodePreparedSqlBuilder(
+                    new MockConfig(), SqlKind.SELECT, "dummyPath");
+            PreparedSql sql = sqlBuilder.build(sqlNode, Function.identity());
+            assertEquals(offset, sql.getParameters().get(1).getValue());
+        }
+        assertEquals(0, ExpressionNodeCache.getStatistics().getSize());
+    }
+
     public void testOffsetLimit_forUpdate() throws Exception {
         String expected = "select * from emp order by emp.id  limit 10 offset 5 for update";
         PostgresPagingTransformer transformer = new PostgresPagingTransformer(
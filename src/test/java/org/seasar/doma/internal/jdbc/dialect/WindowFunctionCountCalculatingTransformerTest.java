@@ -0,0 +1,80 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.jdbc.dialect;
+
+import java.util.function.Function;
+
+import junit.framework.TestCase;
+
+import org.seasar.doma.internal.jdbc.mock.MockConfig;
+import org.seasar.doma.internal.jdbc.sql.NodePreparedSqlBuilder;
+import org.seasar.doma.internal.jdbc.sql.SqlParser;
+import org.seasar.doma.jdbc.PreparedSql;
+import org.seasar.doma.jdbc.SqlKind;
+import org.seasar.doma.jdbc.SqlNode;
+
+/**
+ * @author nakamura-to
+ * 
+ */
+public class WindowFunctionCountCalculatingTransformerTest extends TestCase {
+
+    public void test() throws Exception {
+        String expected = "select * , count(*) over() as doma_total_count_ from emp order by id";
+        assertEquals(expected, transform("select * from emp order by id"));
+    }
+
+    public void testDistinct() throws Exception {
+        String expected = "select distinct name from emp";
+        assertEquals(expected, transform("select distinct name from emp"));
+    }
+
+    public void testForUpdate() throws Exception {
+        String expected = "select * from emp for update";
+        assertEquals(expected, transform("select * from emp for update"));
+    }
+
+    public void testUnion() throws Exception {
+        String expected = "select id from emp union select id from dept";
+        assertEquals(expected,
+                transform("select id from emp union select id from dept"));
+    }
+
+    public void testIntersect() throws Exception {
+        String expected = "select id from emp intersect select id from dept order by id";
+        assertEquals(
+                expected,
+                transform("select id from emp intersect select id from dept order by id"));
+    }
+
+    public void testUnionInSubquery() throws Exception {
+        String expected = "select * , count(*) over() as doma_total_count_ from (select id from emp union select id from dept) t";
+        assertEquals(
+                expected,
+                transform("select * from (select id from emp union select id from dept) t"));
+    }
+
+    private String transform(String sql) {
+        WindowFunctionCountCalculatingTransformer transformer = new WindowFunctionCountCalculatingTransformer();
+        SqlParser parser = new SqlParser(sql);
+        SqlNode sqlNode = transformer.transform(parser.parse());
+        NodePreparedSqlBuilder sqlBuilder = new NodePreparedSqlBuilder(
+                new MockConfig(), SqlKind.SELECT, "dummyPath");
+        PreparedSql preparedSql = sqlBuilder.build(sqlNode,
+                Function.identity());
+        return preparedSql.getRawSql();
+    }
+}
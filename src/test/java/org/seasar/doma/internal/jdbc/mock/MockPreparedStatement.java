@@ -72,8 +72,7 @@ public class MockPreparedStatement extends MockStatement implements
 
     @Override
     public void clearParameters() throws SQLException {
-        AssertionUtil.notYetImplemented();
-
+        bindValues.clear();
     }
 
     @Override
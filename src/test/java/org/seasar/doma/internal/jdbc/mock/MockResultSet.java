@@ -58,6 +58,8 @@ public class MockResultSet extends MockWrapper implements ResultSet {
 
     public boolean closed;
 
+    public Statement statement;
+
     protected int rowIndex = -1;
 
     protected boolean wasNull;
@@ -512,8 +514,7 @@ public class MockResultSet extends MockWrapper implements ResultSet {
 
     @Override
     public Statement getStatement() throws SQLException {
-        AssertionUtil.notYetImplemented();
-        return null;
+        return statement;
     }
 
     @Override
@@ -37,10 +37,17 @@ public class MockStatement extends MockWrapper implements Statement {
 
     public int updatedRows = 1;
 
+    public Connection connection;
+
+    public int maxRows;
+
+    public int fetchSize;
+
+    public int queryTimeout;
+
     @Override
     public void addBatch(String sql) throws SQLException {
-        AssertionUtil.notYetImplemented();
-
+        addBatchCount++;
     }
 
     @Override
@@ -51,8 +58,6 @@ public class MockStatement extends MockWrapper implements Statement {
 
     @Override
     public void clearBatch() throws SQLException {
-        AssertionUtil.notYetImplemented();
-
     }
 
     @Override
@@ -134,8 +139,10 @@ public class MockStatement extends MockWrapper implements Statement {
 
     @Override
     public Connection getConnection() throws SQLException {
-        AssertionUtil.notYetImplemented();
-        return null;
+        if (connection == null) {
+            AssertionUtil.notYetImplemented();
+        }
+        return connection;
     }
 
     @Override
@@ -146,8 +153,7 @@ public class MockStatement extends MockWrapper implements Statement {
 
     @Override
     public int getFetchSize() throws SQLException {
-        AssertionUtil.notYetImplemented();
-        return 0;
+        return fetchSize;
     }
 
     @Override
@@ -164,8 +170,7 @@ public class MockStatement extends MockWrapper implements Statement {
 
     @Override
     public int getMaxRows() throws SQLException {
-        AssertionUtil.notYetImplemented();
-        return 0;
+        return maxRows;
     }
 
     @Override
@@ -182,8 +187,7 @@ public class MockStatement extends MockWrapper implements Statement {
 
     @Override
     public int getQueryTimeout() throws SQLException {
-        AssertionUtil.notYetImplemented();
-        return 0;
+        return queryTimeout;
     }
 
     @Override
@@ -253,8 +257,7 @@ public class MockStatement extends MockWrapper implements Statement {
 
     @Override
     public void setFetchSize(int rows) throws SQLException {
-        AssertionUtil.notYetImplemented();
-
+        fetchSize = rows;
     }
 
     @Override
@@ -265,8 +268,7 @@ public class MockStatement extends MockWrapper implements Statement {
 
     @Override
     public void setMaxRows(int max) throws SQLException {
-        AssertionUtil.notYetImplemented();
-
+        maxRows = max;
     }
 
     @Override
@@ -277,6 +279,7 @@ public class MockStatement extends MockWrapper implements Statement {
 
     @Override
     public void setQueryTimeout(int seconds) throws SQLException {
+        queryTimeout = seconds;
     }
 
     @SuppressWarnings("all")
@@ -215,6 +215,24 @@ public class NodePreparedSqlBuilderTest extends TestCase {
         assertEquals("select * from aaa", sql.getRawSql());
     }
 
+    public void testFormattedSql_questionMarkLiteral() throws Exception {
+        ExpressionEvaluator evaluator = new ExpressionEvaluator();
+        evaluator.add("name", new Value(String.class, "hoge"));
+        evaluator.add("id", new Value(Integer.class, 10));
+        String testSql = "select * from aaa where bbb = '?' and /*%if true*/ccc = /*name*/'a'/*%end*/ and ddd = /*id*/1";
+        SqlParser parser = new SqlParser(testSql);
+        SqlNode sqlNode = parser.parse();
+        PreparedSql sql = new NodePreparedSqlBuilder(config, SqlKind.SELECT,
+                "dummyPath", evaluator, SqlLogType.FORMATTED).build(sqlNode,
+                Function.identity());
+        assertEquals(
+                "select * from aaa where bbb = '?' and ccc = ? and ddd = ?",
+                sql.getRawSql());
+        assertEquals(
+                "select * from aaa where bbb = '?' and ccc = 'hoge' and ddd = 10",
+                sql.getFormattedSql());
+    }
+
     public void testWhere_embeddedVariable() throws Exception {
         ExpressionEvaluator evaluator = new ExpressionEvaluator();
         evaluator.add("embedded", new Value(String.class, "bbb = ccc"));
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.jdbc.sql;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import junit.framework.TestCase;
+
+import org.seasar.doma.internal.expr.ExpressionEvaluator;
+import org.seasar.doma.internal.expr.Value;
+import org.seasar.doma.internal.jdbc.mock.MockConfig;
+import org.seasar.doma.jdbc.PreparedSql;
+import org.seasar.doma.jdbc.SqlKind;
+import org.seasar.doma.jdbc.SqlLogType;
+import org.seasar.doma.jdbc.SqlNode;
+
+/**
+ * @author nakamura-to
+ * 
+ */
+public class SqlPlanCompilerTest extends TestCase {
+
+    private final MockConfig config = new MockConfig();
+
+    public void testStatic() throws Exception {
+        ExpressionEvaluator evaluator = new ExpressionEvaluator();
+        evaluator.add("name", new Value(String.class, "hoge"));
+        evaluator.add("salary", new Value(int.class, 100));
+        SqlPlan plan = assertSameSql(
+                "select * from aaa where bbb = /*name*/'a' and ccc = /*salary*/1 order by ddd",
+                evaluator);
+        assertTrue(plan.isStatic());
+        assertEquals(5, plan.getSegmentSize());
+    }
+
+    public void testStatic_inList() throws Exception {
+        ExpressionEvaluator evaluator = new ExpressionEvaluator();
+        evaluator.add("names",
+                new Value(List.class, Arrays.asList("a", "b")));
+        SqlPlan plan = assertSameSql(
+                "select * from aaa where bbb in /*names*/('x', 'y')",
+                evaluator);
+        assertTrue(plan.isStatic());
+    }
+
+    public void testStatic_literalFollowedByReservedWord() throws Exception {
+        ExpressionEvaluator evaluator = new ExpressionEvaluator();
+        evaluator.add("name", new Value(String.class, "hoge"));
+        SqlPlan plan = assertSameSql(
+                "select * from aaa where bbb = /*^name*/'a'and ccc = 1",
+                evaluator);
+        assertTrue(plan.isStatic());
+    }
+
+    public void testStatic_whereWithoutCondition() throws Exception {
+        SqlPlan plan = assertSameSql(
+                "select * from aaa where /** comment */ order by bbb",
+                new ExpressionEvaluator());
+        assertTrue(plan.isStatic());
+        assertEquals(1, plan.getSegmentSize());
+    }
+
+    public void testIf() throws Exception {
+        String sql = "select * from aaa where /*%if name != null*/bbb = /*name*/'a'/*%end*/ and ccc = 1";
+        ExpressionEvaluator evaluator = new ExpressionEvaluator();
+        evaluator.add("name", new Value(String.class, "hoge"));
+        SqlPlan plan = assertSameSql(sql, evaluator);
+        assertFalse(plan.isStatic());
+
+        evaluator = new ExpressionEvaluator();
+        evaluator.add("name", new Value(String.class, null));
+        assertSameSql(sql, evaluator);
+    }
+
+    public void testIf_removeWhere() throws Exception {
+        String sql = "select * from aaa where /*%if name != null*/bbb = /*name*/'a'/*%end*/ order by ccc";
+        ExpressionEvaluator evaluator = new ExpressionEvaluator();
+        evaluator.add("name", new Value(String.class, null));
+        PreparedSql sql2 = build(sql, evaluator, true);
+        assertEquals("select * from aaa order by ccc", sql2.getRawSql());
+        assertSameSql(sql, evaluator);
+    }
+
+    public void testIf_parens() throws Exception {
+        String sql = "select * from aaa where (/*%if name != null*/bbb = /*name*/'a'/*%end*/) and ccc = 1";
+        ExpressionEvaluator evaluator = new ExpressionEvaluator();
+        evaluator.add("name", new Value(String.class, "hoge"));
+        assertSameSql(sql, evaluator);
+
+        evaluator = new ExpressionEvaluator();
+        evaluator.add("name", new Value(String.class, null));
+        assertSameSql(sql, evaluator);
+    }
+
+    public void testFor() throws Exception {
+        String sql = "select * from aaa where /*%for n : names*/bbb = /*n*/'a' /*%if n_has_next*/or/*%end*//*%end*/";
+        ExpressionEvaluator evaluator = new ExpressionEvaluator();
+        evaluator.add("names",
+                new Value(List.class, Arrays.asList("a", "b")));
+        assertSameSql(sql, evaluator);
+    }
+
+    public void testEmbeddedVariable() throws Exception {
+        String sql = "select * from aaa where bbb = 1 /*#orderBy*/";
+        ExpressionEvaluator evaluator = new ExpressionEvaluator();
+        evaluator.add("orderBy", new Value(String.class, "order by ccc"));
+        SqlPlan plan = assertSameSql(sql, evaluator);
+        assertFalse(plan.isStatic());
+    }
+
+    private SqlPlan assertSameSql(String sql, ExpressionEvaluator evaluator) {
+        PreparedSql expected = build(sql, evaluator, false);
+        PreparedSql actual = build(sql, evaluator, true);
+        assertEquals(expected.getRawSql(), actual.getRawSql());
+        assertEquals(expected.getFormattedSql(), actual.getFormattedSql());
+        assertEquals(expected.getParameters().size(), actual.getParameters()
+                .size());
+        for (int i = 0; i < expected.getParameters().size(); i++) {
+            assertEquals(expected.getParameters().get(i).getWrapper().get(),
+                    actual.getParameters().get(i).getWrapper().get());
+        }
+        return new SqlPlanCompiler().compile(new SqlParser(sql).parse());
+    }
+
+    private PreparedSql build(String sql, ExpressionEvaluator evaluator,
+            boolean compiled) {
+        SqlNode sqlNode = new SqlParser(sql).parse();
+        NodePreparedSqlBuilder builder = new NodePreparedSqlBuilder(config,
+                SqlKind.SELECT, "dummyPath", evaluator, SqlLogType.FORMATTED);
+        if (compiled) {
+            SqlPlan plan = new SqlPlanCompiler().compile(sqlNode);
+            return builder.build(plan, Function.identity());
+        }
+        return builder.build(sqlNode, Function.identity());
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.jdbc.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import junit.framework.TestCase;
+
+/**
+ * @author nakamura-to
+ * 
+ */
+public class SqlFileIndexUtilTest extends TestCase {
+
+    public void testBuildPath() throws Exception {
+        assertEquals("META-INF/aaa/bbb/CccDao/sql.index",
+                SqlFileIndexUtil.buildPath("aaa.bbb.CccDao"));
+    }
+
+    public void testBuildPathFromSqlFilePath() throws Exception {
+        assertEquals("META-INF/aaa/bbb/CccDao/sql.index",
+                SqlFileIndexUtil
+                        .buildPathFromSqlFilePath("META-INF/aaa/bbb/CccDao/select.sql"));
+    }
+
+    public void testWriteAndRead() throws Exception {
+        Map<String, String> sqls = new LinkedHashMap<>();
+        sqls.put("META-INF/aaa/CccDao/select.sql", "select * from emp");
+        sqls.put("META-INF/aaa/CccDao/select-oracle.sql",
+                "select * from emp /* あいうえお */");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SqlFileIndexUtil.write(sqls, out);
+        Map<String, String> result = SqlFileIndexUtil
+                .read(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(sqls, result);
+    }
+
+    public void testRead_unknownFormat() throws Exception {
+        byte[] bytes = new byte[] { 0, 0, 0, 0, 0, 0, 0, 1 };
+        assertNull(SqlFileIndexUtil.read(new ByteArrayInputStream(bytes)));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.TestCase;
+
+import org.seasar.doma.DomaIllegalArgumentException;
+
+/**
+ * @author nakamura-to
+ * 
+ */
+public class AdaptiveBatchSizePolicyTest extends TestCase {
+
+    private final PreparedSql sql = new PreparedSql(SqlKind.BATCH_INSERT,
+            "insert into emp values (?)", "insert into emp values (?)", null,
+            Collections.emptyList(), SqlLogType.FORMATTED);
+
+    private final long fast = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final long slow = TimeUnit.MILLISECONDS.toNanos(500);
+
+    public void testGetBatchSize_initial() throws Exception {
+        AdaptiveBatchSizePolicy policy = new AdaptiveBatchSizePolicy(10, 100,
+                200, 1000);
+        assertEquals(50, policy.getBatchSize(sql, 50));
+        policy.clear();
+        assertEquals(10, policy.getBatchSize(sql, 1));
+        policy.clear();
+        assertEquals(100, policy.getBatchSize(sql, 1000));
+    }
+
+    public void testRecordBatchExecution_grow() throws Exception {
+        AdaptiveBatchSizePolicy policy = new AdaptiveBatchSizePolicy(10, 100,
+                200, 1000);
+        policy.recordBatchExecution(sql, policy.getBatchSize(sql, 20), 100,
+                fast);
+        assertEquals(40, policy.getBatchSize(sql, 20));
+        policy.recordBatchExecution(sql, 40, 200, fast);
+        assertEquals(80, policy.getBatchSize(sql, 20));
+        policy.recordBatchExecution(sql, 80, 400, fast);
+        assertEquals(100, policy.getBatchSize(sql, 20));
+    }
+
+    public void testRecordBatchExecution_shrink() throws Exception {
+        AdaptiveBatchSizePolicy policy = new AdaptiveBatchSizePolicy(10, 100,
+                200, 1000);
+        policy.recordBatchExecution(sql, policy.getBatchSize(sql, 80), 100,
+                slow);
+        assertEquals(40, policy.getBatchSize(sql, 80));
+        policy.recordBatchExecution(sql, 40, 100, slow);
+        policy.recordBatchExecution(sql, 20, 100, slow);
+        assertEquals(10, policy.getBatchSize(sql, 80));
+    }
+
+    public void testRecordBatchExecution_parameterBytes() throws Exception {
+        AdaptiveBatchSizePolicy policy = new AdaptiveBatchSizePolicy(10, 100,
+                200, 1000);
+        policy.recordBatchExecution(sql, policy.getBatchSize(sql, 80), 4000,
+                fast);
+        assertEquals(20, policy.getBatchSize(sql, 80));
+    }
+
+    public void testRecordBatchExecution_remainder() throws Exception {
+        AdaptiveBatchSizePolicy policy = new AdaptiveBatchSizePolicy(10, 100,
+                200, 1000);
+        policy.recordBatchExecution(sql, policy.getBatchSize(sql, 50), 100,
+                fast);
+        assertEquals(100, policy.getBatchSize(sql, 50));
+        policy.recordBatchExecution(sql, 30, 100, fast);
+        assertEquals(100, policy.getBatchSize(sql, 50));
+    }
+
+    public void testConstructor_illegalArgument() throws Exception {
+        try {
+            new AdaptiveBatchSizePolicy(0, 100, 200, 1000);
+            fail();
+        } catch (DomaIllegalArgumentException expected) {
+        }
+        try {
+            new AdaptiveBatchSizePolicy(10, 9, 200, 1000);
+            fail();
+        } catch (DomaIllegalArgumentException expected) {
+        }
+    }
+}
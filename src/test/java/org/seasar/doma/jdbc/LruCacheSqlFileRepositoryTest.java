@@ -0,0 +1,129 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc;
+
+import java.lang.reflect.Method;
+
+import junit.framework.TestCase;
+
+import org.seasar.doma.DomaIllegalArgumentException;
+import org.seasar.doma.jdbc.dialect.OracleDialect;
+import org.seasar.doma.jdbc.dialect.StandardDialect;
+
+/**
+ * @author nakamura-to
+ * 
+ */
+public class LruCacheSqlFileRepositoryTest extends TestCase {
+
+    private Method method;
+
+    private String path;
+
+    private String oraclePath;
+
+    @Override
+    protected void setUp() throws Exception {
+        method = getClass().getMethod(getName());
+        String prefix = "META-INF/" + getClass().getName().replace(".", "/");
+        path = prefix + ".sql";
+        oraclePath = prefix + "-oracle.sql";
+    }
+
+    public void testGetSqlFile() throws Exception {
+        StandardDialect dialect = new StandardDialect();
+        LruCacheSqlFileRepository repository = new LruCacheSqlFileRepository();
+        SqlFile sqlFile = repository.getSqlFile(method, path, dialect);
+        assertNotNull(sqlFile);
+        SqlFile sqlFile2 = repository.getSqlFile(method, path, dialect);
+        assertSame(sqlFile, sqlFile2);
+        assertEquals(path, sqlFile.getPath());
+
+        CacheStatistics statistics = repository.getStatistics();
+        assertEquals(1, statistics.getHitCount());
+        assertEquals(1, statistics.getMissCount());
+        assertEquals(1, statistics.getLoadCount());
+        assertEquals(1, statistics.getSize());
+        assertTrue(statistics.getWeight() > 0);
+    }
+
+    public void testGetSqlFile_dialect() throws Exception {
+        LruCacheSqlFileRepository repository = new LruCacheSqlFileRepository();
+        SqlFile sqlFile = repository.getSqlFile(method, path,
+                new StandardDialect());
+        SqlFile sqlFile2 = repository.getSqlFile(method, path,
+                new OracleDialect());
+        assertEquals(path, sqlFile.getPath());
+        assertEquals(oraclePath, sqlFile2.getPath());
+        assertEquals(2, repository.getStatistics().getSize());
+    }
+
+    public void testGetSqlFile_maxSize() throws Exception {
+        StandardDialect dialect = new StandardDialect();
+        LruCacheSqlFileRepository repository = new LruCacheSqlFileRepository(
+                1);
+        SqlFile sqlFile = repository.getSqlFile(method, path, dialect);
+        repository.getSqlFile(method, oraclePath, dialect);
+        SqlFile sqlFile2 = repository.getSqlFile(method, path, dialect);
+        assertNotSame(sqlFile, sqlFile2);
+
+        CacheStatistics statistics = repository.getStatistics();
+        assertEquals(2, statistics.getEvictionCount());
+        assertEquals(1, statistics.getSize());
+    }
+
+    public void testGetSqlFile_maxWeight() throws Exception {
+        StandardDialect dialect = new StandardDialect();
+        LruCacheSqlFileRepository repository = new LruCacheSqlFileRepository(
+                10);
+        repository.getSqlFile(method, path, dialect);
+        long weight = repository.getStatistics().getWeight();
+
+        repository = new LruCacheSqlFileRepository(10, weight);
+        SqlFile sqlFile = repository.getSqlFile(method, path, dialect);
+        repository.getSqlFile(method, oraclePath, dialect);
+        SqlFile sqlFile2 = repository.getSqlFile(method, path, dialect);
+        assertNotSame(sqlFile, sqlFile2);
+
+        CacheStatistics statistics = repository.getStatistics();
+        assertTrue(statistics.getEvictionCount() > 0);
+        assertTrue(statistics.getWeight() <= weight);
+    }
+
+    public void testClearCache() throws Exception {
+        StandardDialect dialect = new StandardDialect();
+        LruCacheSqlFileRepository repository = new LruCacheSqlFileRepository();
+        SqlFile sqlFile = repository.getSqlFile(method, path, dialect);
+        repository.clearCache();
+        SqlFile sqlFile2 = repository.getSqlFile(method, path, dialect);
+        assertNotSame(sqlFile, sqlFile2);
+        assertEquals(1, repository.getStatistics().getSize());
+    }
+
+    public void testIllegalArgument() throws Exception {
+        try {
+            new LruCacheSqlFileRepository(0);
+            fail();
+        } catch (DomaIllegalArgumentException expected) {
+        }
+        try {
+            new LruCacheSqlFileRepository(1, -1);
+            fail();
+        } catch (DomaIllegalArgumentException expected) {
+        }
+    }
+
+}
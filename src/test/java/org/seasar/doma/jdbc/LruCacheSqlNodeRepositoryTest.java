@@ -0,0 +1,60 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc;
+
+import junit.framework.TestCase;
+
+/**
+ * @author nakamura-to
+ * 
+ */
+public class LruCacheSqlNodeRepositoryTest extends TestCase {
+
+    public void testGetSqlNode() throws Exception {
+        LruCacheSqlNodeRepository repository = new LruCacheSqlNodeRepository();
+        SqlNode sqlNode = repository.getSqlNode("select * from emp");
+        assertNotNull(sqlNode);
+        assertSame(sqlNode, repository.getSqlNode("select * from emp"));
+
+        CacheStatistics statistics = repository.getStatistics();
+        assertEquals(1, statistics.getHitCount());
+        assertEquals(1, statistics.getMissCount());
+        assertEquals(1, statistics.getLoadCount());
+        assertEquals(1, statistics.getSize());
+    }
+
+    public void testEviction() throws Exception {
+        LruCacheSqlNodeRepository repository = new LruCacheSqlNodeRepository(
+                2);
+        SqlNode a = repository.getSqlNode("select a from emp");
+        repository.getSqlNode("select b from emp");
+        assertSame(a, repository.getSqlNode("select a from emp"));
+        repository.getSqlNode("select c from emp");
+
+        CacheStatistics statistics = repository.getStatistics();
+        assertEquals(1, statistics.getEvictionCount());
+        assertEquals(2, statistics.getSize());
+        assertSame(a, repository.getSqlNode("select a from emp"));
+        assertEquals(2, repository.getStatistics().getHitCount());
+    }
+
+    public void testClearCache() throws Exception {
+        LruCacheSqlNodeRepository repository = new LruCacheSqlNodeRepository();
+        SqlNode sqlNode = repository.getSqlNode("select * from emp");
+        repository.clearCache();
+        assertNotSame(sqlNode, repository.getSqlNode("select * from emp"));
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc;
+
+import junit.framework.TestCase;
+
+/**
+ * @author nakamura-to
+ * 
+ */
+public class MetricsSummaryTest extends TestCase {
+
+    public void testRecord() throws Exception {
+        MetricsSummary summary = new MetricsSummary();
+        summary.record(10);
+        summary.record(20);
+        summary.record(-5);
+        assertEquals(3, summary.getCount());
+        assertEquals(30, summary.getTotal());
+        assertEquals(20, summary.getMax());
+        assertEquals(10.0, summary.getMean());
+    }
+
+    public void testGetPercentile() throws Exception {
+        MetricsSummary summary = new MetricsSummary();
+        assertEquals(0, summary.getPercentile(99));
+        for (int i = 0; i < 99; i++) {
+            summary.record(100);
+        }
+        summary.record(5000);
+        assertEquals(127, summary.getPercentile(50));
+        assertEquals(127, summary.getPercentile(99));
+        assertEquals(5000, summary.getPercentile(100));
+    }
+
+    public void testReset() throws Exception {
+        MetricsSummary summary = new MetricsSummary();
+        summary.record(10);
+        summary.reset();
+        assertEquals(0, summary.getCount());
+        assertEquals(0, summary.getTotal());
+        assertEquals(0, summary.getMax());
+        assertEquals(0, summary.getPercentile(50));
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+import junit.framework.TestCase;
+
+import org.seasar.doma.internal.jdbc.util.SqlFileIndexUtil;
+import org.seasar.doma.jdbc.dialect.OracleDialect;
+import org.seasar.doma.jdbc.dialect.PostgresDialect;
+import org.seasar.doma.jdbc.dialect.StandardDialect;
+
+/**
+ * @author nakamura-to
+ * 
+ */
+public class PrecompiledSqlFileRepositoryTest extends TestCase {
+
+    private Method method;
+
+    private String path;
+
+    private String oraclePath;
+
+    @Override
+    protected void setUp() throws Exception {
+        method = getClass().getMethod(getName());
+        String prefix = "META-INF/" + getClass().getName().replace(".", "/");
+        path = prefix + ".sql";
+        oraclePath = prefix + "-oracle.sql";
+    }
+
+    public void testGetSqlFile() throws Exception {
+        Map<String, String> sqls = new HashMap<>();
+        sqls.put(path, "select * from precompiled");
+        PrecompiledSqlFileRepository repository = new MockRepository(sqls);
+        SqlFile sqlFile = repository.getSqlFile(method, path,
+                new StandardDialect());
+        assertEquals(path, sqlFile.getPath());
+        assertEquals("select * from precompiled", sqlFile.getSql());
+        SqlFile sqlFile2 = repository.getSqlFile(method, path,
+                new StandardDialect());
+        assertSame(sqlFile, sqlFile2);
+    }
+
+    public void testGetSqlFile_dialect() throws Exception {
+        Map<String, String> sqls = new HashMap<>();
+        sqls.put(path, "select * from precompiled");
+        sqls.put(oraclePath, "select * from precompiled_oracle");
+        PrecompiledSqlFileRepository repository = new MockRepository(sqls);
+        SqlFile sqlFile = repository.getSqlFile(method, path,
+                new OracleDialect());
+        assertEquals(oraclePath, sqlFile.getPath());
+        assertEquals("select * from precompiled_oracle", sqlFile.getSql());
+        SqlFile sqlFile2 = repository.getSqlFile(method, path,
+                new PostgresDialect());
+        assertEquals(path, sqlFile2.getPath());
+        assertEquals("select * from precompiled", sqlFile2.getSql());
+    }
+
+    public void testGetSqlFile_indexNotFound() throws Exception {
+        PrecompiledSqlFileRepository repository = new PrecompiledSqlFileRepository();
+        SqlFile sqlFile = repository.getSqlFile(method, path,
+                new StandardDialect());
+        assertEquals(path, sqlFile.getPath());
+        assertEquals("select * from default", sqlFile.getSql());
+    }
+
+    public void testGetSqlFile_sqlFileNotFoundInIndex() throws Exception {
+        PrecompiledSqlFileRepository repository = new MockRepository(
+                new HashMap<>());
+        SqlFile sqlFile = repository.getSqlFile(method, path,
+                new OracleDialect());
+        assertEquals(oraclePath, sqlFile.getPath());
+        assertEquals("select * from oracle", sqlFile.getSql());
+    }
+
+    public void testClearCache() throws Exception {
+        Map<String, String> sqls = new HashMap<>();
+        sqls.put(path, "select * from precompiled");
+        PrecompiledSqlFileRepository repository = new MockRepository(sqls);
+        SqlFile sqlFile = repository.getSqlFile(method, path,
+                new StandardDialect());
+        repository.clearCache();
+        SqlFile sqlFile2 = repository.getSqlFile(method, path,
+                new StandardDialect());
+        assertNotSame(sqlFile, sqlFile2);
+    }
+
+    private static class MockRepository extends PrecompiledSqlFileRepository {
+
+        private final byte[] bytes;
+
+        private MockRepository(Map<String, String> sqls) throws Exception {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            SqlFileIndexUtil.write(sqls, out);
+            this.bytes = out.toByteArray();
+        }
+
+        @Override
+        protected Map<String, String> loadIndex(String indexPath) {
+            try {
+                return SqlFileIndexUtil.read(new ByteArrayInputStream(bytes));
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            }
+        }
+    }
+}
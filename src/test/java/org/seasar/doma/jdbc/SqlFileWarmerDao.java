@@ -0,0 +1,49 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc;
+
+import java.util.List;
+
+import org.seasar.doma.Dao;
+import org.seasar.doma.Insert;
+import org.seasar.doma.Select;
+import org.seasar.doma.Update;
+import org.seasar.doma.internal.jdbc.mock.MockConfig;
+import org.seasar.doma.internal.jdbc.mock.RowData;
+
+/**
+ * @author nakamura-to
+ * 
+ */
+@Dao(config = MockConfig.class)
+public interface SqlFileWarmerDao {
+
+    @Select
+    List<RowData> selectAll();
+
+    @Select
+    List<RowData> selectMissing();
+
+    @Insert(sqlFile = true)
+    int insert(RowData row);
+
+    @Update
+    int update(RowData row);
+
+    default int count() {
+        return selectAll().size();
+    }
+}
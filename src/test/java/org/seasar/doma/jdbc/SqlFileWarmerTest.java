@@ -0,0 +1,117 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import junit.framework.TestCase;
+
+import org.seasar.doma.DomaIllegalArgumentException;
+import org.seasar.doma.internal.jdbc.mock.MockConfig;
+
+/**
+ * @author nakamura-to
+ * 
+ */
+public class SqlFileWarmerTest extends TestCase {
+
+    private static final String DIR = "META-INF/org/seasar/doma/jdbc/SqlFileWarmerDao/";
+
+    public void testWarmUp() throws Exception {
+        GreedyCacheSqlFileRepository repository = new GreedyCacheSqlFileRepository();
+        MockConfig config = new MockConfig() {
+
+            @Override
+            public SqlFileRepository getSqlFileRepository() {
+                return repository;
+            }
+        };
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            SqlFileWarmer warmer = new SqlFileWarmer(config, pool);
+            List<SqlFileWarmerResult> results = warmer
+                    .warmUp(SqlFileWarmerDao.class);
+            assertEquals(3, results.size());
+            Map<String, SqlFileWarmerResult> resultMap = results.stream()
+                    .collect(
+                            Collectors.toMap(r -> r.getMethod().getName(),
+                                    Function.identity()));
+
+            SqlFileWarmerResult selectAll = resultMap.get("selectAll");
+            assertTrue(selectAll.isSucceeded());
+            assertEquals(DIR + "selectAll.sql", selectAll.getPath());
+            assertTrue(selectAll.getLoadTime() >= 0);
+            assertTrue(repository.sqlFileMap.containsKey(DIR + "selectAll.sql"));
+
+            SqlFileWarmerResult insert = resultMap.get("insert");
+            assertTrue(insert.isSucceeded());
+            assertEquals(DIR + "insert.sql", insert.getPath());
+
+            SqlFileWarmerResult selectMissing = resultMap.get("selectMissing");
+            assertFalse(selectMissing.isSucceeded());
+            assertTrue(selectMissing.getException() instanceof SqlFileNotFoundException);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public void testWarmUp_parentDao() throws Exception {
+        GreedyCacheSqlFileRepository repository = new GreedyCacheSqlFileRepository();
+        MockConfig config = new MockConfig() {
+
+            @Override
+            public SqlFileRepository getSqlFileRepository() {
+                return repository;
+            }
+        };
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            SqlFileWarmer warmer = new SqlFileWarmer(config, pool);
+            List<SqlFileWarmerResult> results = warmer
+                    .warmUp(SqlFileWarmerChildDao.class);
+            assertEquals(4, results.size());
+            Map<String, SqlFileWarmerResult> resultMap = results.stream()
+                    .collect(
+                            Collectors.toMap(r -> r.getMethod().getName(),
+                                    Function.identity()));
+
+            SqlFileWarmerResult selectAll = resultMap.get("selectAll");
+            assertTrue(selectAll.isSucceeded());
+            assertEquals(DIR + "selectAll.sql", selectAll.getPath());
+
+            SqlFileWarmerResult selectById = resultMap.get("selectById");
+            assertTrue(selectById.isSucceeded());
+            assertEquals(
+                    "META-INF/org/seasar/doma/jdbc/SqlFileWarmerChildDao/selectById.sql",
+                    selectById.getPath());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public void testWarmUp_notDao() throws Exception {
+        SqlFileWarmer warmer = new SqlFileWarmer(new MockConfig());
+        try {
+            warmer.warmUp(Runnable.class);
+            fail();
+        } catch (DomaIllegalArgumentException expected) {
+        }
+    }
+}
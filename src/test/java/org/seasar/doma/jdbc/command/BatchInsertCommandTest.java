@@ -15,12 +15,23 @@
  */
 package org.seasar.doma.jdbc.command;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import junit.framework.TestCase;
 
 import org.seasar.doma.internal.jdbc.mock.MockConfig;
+import org.seasar.doma.internal.jdbc.mock.MockConnection;
+import org.seasar.doma.internal.jdbc.mock.MockPreparedStatement;
+import org.seasar.doma.jdbc.BatchSizePolicy;
+import org.seasar.doma.jdbc.PreparedSql;
+import org.seasar.doma.jdbc.Sql;
 import org.seasar.doma.jdbc.SqlLogType;
+import org.seasar.doma.jdbc.dialect.MysqlDialect;
 import org.seasar.doma.jdbc.query.AutoBatchInsertQuery;
 
 import example.entity.Emp;
@@ -64,4 +75,349 @@ public class BatchInsertCommandTest extends TestCase {
                 sql);
     }
 
+    public void testExecute_multiRow() throws Exception {
+        runtimeConfig.setDialect(new MysqlDialect());
+        runtimeConfig.dataSource.connection.preparedStatement.updatedRows = 2;
+
+        Emp[] emps = new Emp[4];
+        for (int i = 0; i < emps.length; i++) {
+            emps[i] = new Emp();
+            emps[i].setId(i + 1);
+            emps[i].setName("name" + i);
+        }
+
+        AutoBatchInsertQuery<Emp> query = new AutoBatchInsertQuery<Emp>(
+                _Emp.getSingletonInternal());
+        query.setMethod(getClass().getDeclaredMethod(getName()));
+        query.setConfig(runtimeConfig);
+        query.setEntities(Arrays.asList(emps));
+        query.setCallerClassName("aaa");
+        query.setCallerMethodName("bbb");
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.setMultiRowSize(2);
+        query.prepare();
+        int[] rows = new BatchInsertCommand(query).execute();
+        query.complete();
+
+        assertTrue(Arrays.equals(new int[] { 1, 1, 1, 1 }, rows));
+        String sql = runtimeConfig.dataSource.connection.preparedStatement.sql;
+        assertEquals(
+                "insert into EMP (ID, NAME, SALARY, VERSION) values (?, ?, ?, ?), (?, ?, ?, ?)",
+                sql);
+    }
+
+    public void testExecute_multiRow_remainder() throws Exception {
+        List<MockPreparedStatement> statements = new ArrayList<>();
+        runtimeConfig.setDialect(new MysqlDialect());
+        runtimeConfig.dataSource.connection = new MockConnection() {
+
+            @Override
+            public PreparedStatement prepareStatement(String sql)
+                    throws SQLException {
+                MockPreparedStatement statement = new MockPreparedStatement();
+                statement.sql = sql;
+                statement.updatedRows = statements.isEmpty() ? 2 : 1;
+                statements.add(statement);
+                return statement;
+            }
+        };
+
+        Emp[] emps = new Emp[5];
+        for (int i = 0; i < emps.length; i++) {
+            emps[i] = new Emp();
+            emps[i].setId(i + 1);
+            emps[i].setName("name" + i);
+        }
+
+        AutoBatchInsertQuery<Emp> query = new AutoBatchInsertQuery<Emp>(
+                _Emp.getSingletonInternal());
+        query.setMethod(getClass().getDeclaredMethod(getName()));
+        query.setConfig(runtimeConfig);
+        query.setEntities(Arrays.asList(emps));
+        query.setCallerClassName("aaa");
+        query.setCallerMethodName("bbb");
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.setMultiRowSize(2);
+        query.prepare();
+        int[] rows = new BatchInsertCommand(query).execute();
+        query.complete();
+
+        assertTrue(Arrays.equals(new int[] { 1, 1, 1, 1, 1 }, rows));
+        assertEquals(2, statements.size());
+        assertEquals(
+                "insert into EMP (ID, NAME, SALARY, VERSION) values (?, ?, ?, ?)",
+                statements.get(1).sql);
+        assertTrue(statements.get(0).closed);
+        assertTrue(statements.get(1).closed);
+    }
+
+    public void testExecute_batchSizePolicy() throws Exception {
+        List<Integer> batchSizes = new ArrayList<>();
+        MockConfig config = new MockConfig() {
+
+            @Override
+            public BatchSizePolicy getBatchSizePolicy() {
+                return new BatchSizePolicy() {
+
+                    @Override
+                    public int getBatchSize(Sql<?> sql, int batchSize) {
+                        return 2;
+                    }
+
+                    @Override
+                    public void recordBatchExecution(Sql<?> sql,
+                            int batchSize, long parameterBytes, long time) {
+                        assertTrue(parameterBytes > 0);
+                        batchSizes.add(batchSize);
+                    }
+
+                    @Override
+                    public boolean usesParameterBytes() {
+                        return true;
+                    }
+                };
+            }
+        };
+
+        Emp[] emps = new Emp[5];
+        for (int i = 0; i < emps.length; i++) {
+            emps[i] = new Emp();
+            emps[i].setId(i + 1);
+            emps[i].setName("name" + i);
+        }
+
+        AutoBatchInsertQuery<Emp> query = new AutoBatchInsertQuery<Emp>(
+                _Emp.getSingletonInternal());
+        query.setMethod(getClass().getDeclaredMethod(getName()));
+        query.setConfig(config);
+        query.setEntities(Arrays.asList(emps));
+        query.setCallerClassName("aaa");
+        query.setCallerMethodName("bbb");
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.prepare();
+        int[] rows = new BatchInsertCommand(query).execute();
+        query.complete();
+
+        assertEquals(5, rows.length);
+        assertEquals(Arrays.asList(2, 2, 1), batchSizes);
+    }
+
+    public void testExecute_batchSizePolicy_parameterBytesUnused()
+            throws Exception {
+        List<Long> parameterBytesList = new ArrayList<>();
+        MockConfig config = new MockConfig() {
+
+            @Override
+            public BatchSizePolicy getBatchSizePolicy() {
+                return new BatchSizePolicy() {
+
+                    @Override
+                    public int getBatchSize(Sql<?> sql, int batchSize) {
+                        return 2;
+                    }
+
+                    @Override
+                    public void recordBatchExecution(Sql<?> sql,
+                            int batchSize, long parameterBytes, long time) {
+                        parameterBytesList.add(parameterBytes);
+                    }
+                };
+            }
+        };
+
+        Emp[] emps = new Emp[3];
+        for (int i = 0; i < emps.length; i++) {
+            emps[i] = new Emp();
+            emps[i].setId(i + 1);
+            emps[i].setName("name" + i);
+        }
+
+        AutoBatchInsertQuery<Emp> query = new AutoBatchInsertQuery<Emp>(
+                _Emp.getSingletonInternal());
+        query.setMethod(getClass().getDeclaredMethod(getName()));
+        query.setConfig(config);
+        query.setEntities(Arrays.asList(emps));
+        query.setCallerClassName("aaa");
+        query.setCallerMethodName("bbb");
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.prepare();
+        new BatchInsertCommand(query).execute();
+        query.complete();
+
+        assertEquals(Arrays.asList(0L, 0L), parameterBytesList);
+    }
+
+    public void testExecute_pipelined() throws Exception {
+        List<MockPreparedStatement> statements = new ArrayList<>();
+        List<Integer> batchSizes = new ArrayList<>();
+        MockConfig config = new MockConfig() {
+
+            @Override
+            public boolean isBatchPipelined() {
+                return true;
+            }
+        };
+        config.dataSource.connection = new MockConnection() {
+
+            @Override
+            public PreparedStatement prepareStatement(String sql)
+                    throws SQLException {
+                MockPreparedStatement statement = new MockPreparedStatement() {
+
+                    @Override
+                    public int[] executeBatch() throws SQLException {
+                        batchSizes.add(addBatchCount);
+                        return super.executeBatch();
+                    }
+                };
+                statement.sql = sql;
+                statement.connection = this;
+                statements.add(statement);
+                return statement;
+            }
+        };
+
+        Emp[] emps = new Emp[5];
+        for (int i = 0; i < emps.length; i++) {
+            emps[i] = new Emp();
+            emps[i].setId(i + 1);
+            emps[i].setName("name" + i);
+        }
+
+        AutoBatchInsertQuery<Emp> query = new AutoBatchInsertQuery<Emp>(
+                _Emp.getSingletonInternal());
+        query.setMethod(getClass().getDeclaredMethod(getName()));
+        query.setConfig(config);
+        query.setEntities(Arrays.asList(emps));
+        query.setCallerClassName("aaa");
+        query.setCallerMethodName("bbb");
+        query.setBatchSize(2);
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.prepare();
+        int[] rows = new BatchInsertCommand(query).execute();
+        query.complete();
+
+        assertEquals(5, rows.length);
+        for (int row : rows) {
+            assertEquals(1, row);
+        }
+        assertEquals(Arrays.asList(2, 2, 1), batchSizes);
+        assertEquals(2, statements.size());
+        assertTrue(statements.get(0).closed);
+        assertTrue(statements.get(1).closed);
+    }
+
+    public void testExecute_pipelined_logOnExecute() throws Exception {
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        String mainThreadName = Thread.currentThread().getName();
+        MockConfig config = new MockConfig() {
+
+            @Override
+            public boolean isBatchPipelined() {
+                return true;
+            }
+        };
+        config.dataSource.connection = new MockConnection() {
+
+            @Override
+            public PreparedStatement prepareStatement(String sql)
+                    throws SQLException {
+                return new MockPreparedStatement() {
+
+                    @Override
+                    public int[] executeBatch() throws SQLException {
+                        events.add("execute");
+                        return super.executeBatch();
+                    }
+                };
+            }
+        };
+
+        Emp[] emps = new Emp[5];
+        for (int i = 0; i < emps.length; i++) {
+            emps[i] = new Emp();
+            emps[i].setId(i + 1);
+            emps[i].setName("name" + i);
+        }
+
+        AutoBatchInsertQuery<Emp> query = new AutoBatchInsertQuery<Emp>(
+                _Emp.getSingletonInternal());
+        query.setMethod(getClass().getDeclaredMethod(getName()));
+        query.setConfig(config);
+        query.setEntities(Arrays.asList(emps));
+        query.setCallerClassName("aaa");
+        query.setCallerMethodName("bbb");
+        query.setBatchSize(2);
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.prepare();
+        new BatchInsertCommand(query) {
+
+            @Override
+            protected void log(PreparedSql sql) {
+                assertEquals(mainThreadName, Thread.currentThread()
+                        .getName());
+                events.add("log");
+            }
+        }.execute();
+        query.complete();
+
+        assertEquals(Arrays.asList("log", "log", "execute", "log", "log",
+                "execute", "log", "execute"), events);
+    }
+
+    public void testExecute_pipelined_sqlBuiltOnlyInPrepare()
+            throws Exception {
+        List<String> threadNames = Collections
+                .synchronizedList(new ArrayList<>());
+        MockConfig config = new MockConfig() {
+
+            @Override
+            public boolean isBatchPipelined() {
+                return true;
+            }
+        };
+        config.dataSource.connection = new MockConnection() {
+
+            @Override
+            public PreparedStatement prepareStatement(String sql)
+                    throws SQLException {
+                MockPreparedStatement statement = new MockPreparedStatement();
+                statement.sql = sql;
+                statement.connection = this;
+                return statement;
+            }
+        };
+
+        Emp[] emps = new Emp[5];
+        for (int i = 0; i < emps.length; i++) {
+            emps[i] = new Emp();
+            emps[i].setId(i + 1);
+            emps[i].setName("name" + i);
+        }
+
+        AutoBatchInsertQuery<Emp> query = new AutoBatchInsertQuery<Emp>(
+                _Emp.getSingletonInternal()) {
+
+            @Override
+            protected PreparedSql createSql() {
+                threadNames.add(Thread.currentThread().getName());
+                return super.createSql();
+            }
+        };
+        query.setMethod(getClass().getDeclaredMethod(getName()));
+        query.setConfig(config);
+        query.setEntities(Arrays.asList(emps));
+        query.setCallerClassName("aaa");
+        query.setCallerMethodName("bbb");
+        query.setBatchSize(2);
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.prepare();
+        assertEquals(5, threadNames.size());
+        threadNames.clear();
+        int[] rows = new BatchInsertCommand(query).execute();
+        query.complete();
+
+        assertEquals(5, rows.length);
+        assertTrue(threadNames.isEmpty());
+    }
 }
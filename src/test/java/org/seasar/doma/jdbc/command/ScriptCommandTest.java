@@ -15,7 +15,11 @@
  */
 package org.seasar.doma.jdbc.command;
 
+import java.sql.BatchUpdateException;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import junit.framework.TestCase;
 
@@ -75,4 +79,148 @@ public class ScriptCommandTest extends TestCase {
             System.out.println(expected.getMessage());
         }
     }
+
+    public void testExecute_batch() throws Exception {
+        List<Integer> batchSizes = new ArrayList<>();
+        MockConfig config = new MockConfig();
+        config.dataSource.connection.statement = new MockStatement() {
+
+            @Override
+            public int[] executeBatch() throws SQLException {
+                batchSizes.add(addBatchCount);
+                return super.executeBatch();
+            }
+
+            @Override
+            public boolean execute(String sql) throws SQLException {
+                fail();
+                return false;
+            }
+        };
+
+        SqlFileScriptQuery query = new SqlFileScriptQuery();
+        query.setConfig(config);
+        query.setCallerClassName("aaa");
+        query.setCallerMethodName("bbb");
+        query.setScriptFilePath(ScriptFileUtil.buildPath(getClass().getName(),
+                "testExecute"));
+        query.setBlockDelimiter("");
+        query.setBatch(true);
+        query.setBatchSize(2);
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.prepare();
+        ScriptCommand command = new ScriptCommand(query);
+        command.execute();
+
+        assertEquals(Arrays.asList(2, 1), batchSizes);
+    }
+
+    public void testExecute_batch_resultSet() throws Exception {
+        List<String> events = new ArrayList<>();
+        MockConfig config = new MockConfig();
+        config.dataSource.connection.statement = new MockStatement() {
+
+            @Override
+            public int[] executeBatch() throws SQLException {
+                events.add("batch:" + addBatchCount);
+                return super.executeBatch();
+            }
+
+            @Override
+            public boolean execute(String sql) throws SQLException {
+                events.add(sql);
+                return true;
+            }
+        };
+
+        SqlFileScriptQuery query = new SqlFileScriptQuery();
+        query.setConfig(config);
+        query.setCallerClassName("aaa");
+        query.setCallerMethodName("bbb");
+        query.setScriptFilePath(ScriptFileUtil.buildPath(getClass().getName(),
+                getName()));
+        query.setBlockDelimiter("");
+        query.setBatch(true);
+        query.setBatchSize(10);
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.prepare();
+        ScriptCommand command = new ScriptCommand(query);
+        command.execute();
+
+        assertEquals(Arrays.asList("batch:2", "(select * from emp)",
+                "batch:1", "with t as (select 1) select * from t"), events);
+    }
+
+    public void testExecute_batch_ScriptException() throws Exception {
+        MockConfig config = new MockConfig();
+        config.dataSource.connection.statement = new MockStatement() {
+
+            @Override
+            public int[] executeBatch() throws SQLException {
+                throw new BatchUpdateException(new int[] { 1 });
+            }
+        };
+
+        SqlFileScriptQuery query = new SqlFileScriptQuery();
+        query.setConfig(config);
+        query.setCallerClassName("aaa");
+        query.setCallerMethodName("bbb");
+        query.setScriptFilePath(ScriptFileUtil.buildPath(getClass().getName(),
+                "testExecute"));
+        query.setBlockDelimiter("");
+        query.setHaltOnError(true);
+        query.setBatch(true);
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.prepare();
+        ScriptCommand command = new ScriptCommand(query);
+        try {
+            command.execute();
+            fail();
+        } catch (ScriptException expected) {
+            System.out.println(expected.getMessage());
+            assertEquals(2, expected.getLineNumber());
+            assertEquals("insert into dept (a, b) value (3, 4)",
+                    expected.getRawSql());
+        }
+    }
+
+    public void testExecute_batch_continueOnError() throws Exception {
+        List<String> executedSqls = new ArrayList<>();
+        MockConfig config = new MockConfig();
+        config.dataSource.connection.statement = new MockStatement() {
+
+            @Override
+            public int[] executeBatch() throws SQLException {
+                throw new BatchUpdateException(new int[] { 1 });
+            }
+
+            @Override
+            public boolean execute(String sql) throws SQLException {
+                executedSqls.add(sql);
+                return false;
+            }
+        };
+
+        SqlFileScriptQuery query = new SqlFileScriptQuery();
+        query.setConfig(config);
+        query.setCallerClassName("aaa");
+        query.setCallerMethodName("bbb");
+        query.setScriptFilePath(ScriptFileUtil.buildPath(getClass().getName(),
+                "testExecute"));
+        query.setBlockDelimiter("");
+        query.setHaltOnError(false);
+        query.setBatch(true);
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.prepare();
+        ScriptCommand command = new ScriptCommand(query);
+        try {
+            command.execute();
+            fail();
+        } catch (ScriptException expected) {
+            assertEquals(2, expected.getLineNumber());
+        }
+        assertEquals(
+                Arrays.asList("insert into address (a, b) value (5, 6)"),
+                executedSqls);
+    }
 }
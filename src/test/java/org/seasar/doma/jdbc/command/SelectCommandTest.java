@@ -36,7 +36,13 @@ import org.seasar.doma.internal.jdbc.mock.MockResultSet;
 import org.seasar.doma.internal.jdbc.mock.MockResultSetMetaData;
 import org.seasar.doma.internal.jdbc.mock.RowData;
 import org.seasar.doma.internal.jdbc.util.SqlFileUtil;
+import org.seasar.doma.jdbc.DaoMethodMetrics;
+import org.seasar.doma.jdbc.MetricsRecorder;
+import org.seasar.doma.jdbc.SelectOptions;
+import org.seasar.doma.jdbc.SimpleMetricsRecorder;
+import org.seasar.doma.jdbc.SqlKind;
 import org.seasar.doma.jdbc.SqlLogType;
+import org.seasar.doma.jdbc.dialect.PostgresDialect;
 import org.seasar.doma.jdbc.query.SqlFileSelectQuery;
 
 import example.entity.Emp;
@@ -147,6 +153,134 @@ public class SelectCommandTest extends TestCase {
         assertEquals(1, bindValue.getIndex());
     }
 
+    public void testExecute_metrics() throws Exception {
+        SimpleMetricsRecorder recorder = new SimpleMetricsRecorder();
+        MockConfig config = new MockConfig() {
+
+            @Override
+            public MetricsRecorder getMetricsRecorder() {
+                return recorder;
+            }
+        };
+        MockResultSetMetaData metaData = new MockResultSetMetaData();
+        metaData.columns.add(new ColumnMetaData("id"));
+        metaData.columns.add(new ColumnMetaData("name"));
+        metaData.columns.add(new ColumnMetaData("salary"));
+        metaData.columns.add(new ColumnMetaData("version"));
+        MockResultSet resultSet = new MockResultSet(metaData);
+        resultSet.rows.add(new RowData(1, "hoge", new BigDecimal(10000), 100));
+        resultSet.rows.add(new RowData(2, "foo", new BigDecimal(20000), 200));
+        config.dataSource.connection = new MockConnection(
+                new MockPreparedStatement(resultSet));
+
+        SqlFileSelectQuery query = new SqlFileSelectQuery();
+        query.setConfig(config);
+        query.setSqlFilePath(SqlFileUtil.buildPath(getClass().getName(),
+                getName()));
+        query.addParameter("salary", BigDecimal.class, new BigDecimal(5000));
+        query.setCallerClassName("aaa");
+        query.setCallerMethodName("bbb");
+        query.setMethod(getClass().getMethod(getName()));
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.prepare();
+
+        SelectCommand<List<Emp>> command = new SelectCommand<List<Emp>>(query,
+                new EntityResultListHandler<Emp>(_Emp.getSingletonInternal()));
+        List<Emp> entities = command.execute();
+        query.complete();
+        assertEquals(2, entities.size());
+
+        List<DaoMethodMetrics> metricsList = recorder.getMetrics();
+        assertEquals(1, metricsList.size());
+        DaoMethodMetrics metrics = metricsList.get(0);
+        assertEquals("aaa", metrics.getClassName());
+        assertEquals("bbb", metrics.getMethodName());
+        assertEquals(SqlKind.SELECT, metrics.getSqlKind());
+        assertEquals(1, metrics.getPrepareTime().getCount());
+        assertEquals(1, metrics.getExecutionTime().getCount());
+        assertEquals(1, metrics.getResultMappingTime().getCount());
+        assertEquals(1, metrics.getRowCount().getCount());
+        assertEquals(2, metrics.getRowCount().getTotal());
+        assertEquals(0, metrics.getBatchSize().getCount());
+    }
+
+    public void testExecute_countInWindow() throws Exception {
+        MockConfig config = new MockConfig();
+        config.dialect = new PostgresDialect();
+        MockResultSetMetaData metaData = new MockResultSetMetaData();
+        metaData.columns.add(new ColumnMetaData("id"));
+        metaData.columns.add(new ColumnMetaData("name"));
+        metaData.columns.add(new ColumnMetaData("salary"));
+        metaData.columns.add(new ColumnMetaData("version"));
+        metaData.columns.add(new ColumnMetaData("doma_total_count_"));
+        MockResultSet resultSet = new MockResultSet(metaData);
+        resultSet.rows.add(new RowData(1, "hoge", new BigDecimal(10000), 100,
+                10L));
+        resultSet.rows.add(new RowData(2, "foo", new BigDecimal(20000), 200,
+                10L));
+        config.dataSource.connection = new MockConnection(
+                new MockPreparedStatement(resultSet));
+
+        SelectOptions options = SelectOptions.get().offset(0).limit(2)
+                .countInWindow();
+        SqlFileSelectQuery query = new SqlFileSelectQuery();
+        query.setConfig(config);
+        query.setSqlFilePath(SqlFileUtil.buildPath(getClass().getName(),
+                getName()));
+        query.addParameter("salary", BigDecimal.class, new BigDecimal(5000));
+        query.setOptions(options);
+        query.setCallerClassName("aaa");
+        query.setCallerMethodName("bbb");
+        query.setMethod(getClass().getMethod(getName()));
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.prepare();
+
+        SelectCommand<List<Emp>> command = new SelectCommand<List<Emp>>(query,
+                new EntityResultListHandler<Emp>(_Emp.getSingletonInternal()));
+        List<Emp> entities = command.execute();
+        query.complete();
+
+        assertEquals(2, entities.size());
+        assertEquals(10L, options.getCount());
+        assertTrue(query.getSql().getRawSql()
+                .contains("count(*) over() as doma_total_count_"));
+    }
+
+    public void testExecute_countInWindow_empty() throws Exception {
+        MockConfig config = new MockConfig();
+        config.dialect = new PostgresDialect();
+        MockResultSetMetaData metaData = new MockResultSetMetaData();
+        metaData.columns.add(new ColumnMetaData("id"));
+        metaData.columns.add(new ColumnMetaData("name"));
+        metaData.columns.add(new ColumnMetaData("salary"));
+        metaData.columns.add(new ColumnMetaData("version"));
+        metaData.columns.add(new ColumnMetaData("doma_total_count_"));
+        MockResultSet resultSet = new MockResultSet(metaData);
+        config.dataSource.connection = new MockConnection(
+                new MockPreparedStatement(resultSet));
+
+        SelectOptions options = SelectOptions.get().limit(2).countInWindow();
+        SqlFileSelectQuery query = new SqlFileSelectQuery();
+        query.setConfig(config);
+        query.setSqlFilePath(SqlFileUtil.buildPath(getClass().getName(),
+                getName()));
+        query.addParameter("salary", BigDecimal.class, new BigDecimal(5000));
+        query.setOptions(options);
+        query.setCallerClassName("aaa");
+        query.setCallerMethodName("bbb");
+        query.setMethod(getClass().getMethod(getName()));
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.prepare();
+
+        SelectCommand<List<Emp>> command = new SelectCommand<List<Emp>>(query,
+                new EntityResultListHandler<Emp>(_Emp.getSingletonInternal()));
+        List<Emp> entities = command.execute();
+        query.complete();
+
+        assertEquals(0, entities.size());
+        assertEquals(0L, options.getCount());
+    }
+
     public void testExecute_NoResultException() throws Exception {
         MockResultSetMetaData metaData = new MockResultSetMetaData();
         metaData.columns.add(new ColumnMetaData("id"));
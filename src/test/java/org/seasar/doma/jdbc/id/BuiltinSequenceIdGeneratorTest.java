@@ -15,6 +15,9 @@
  */
 package org.seasar.doma.jdbc.id;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import junit.framework.TestCase;
 
 import org.seasar.doma.internal.jdbc.mock.MockConfig;
@@ -47,4 +50,41 @@ public class BuiltinSequenceIdGeneratorTest extends TestCase {
         assertEquals("select nextval('aaa')",
                 config.dataSource.connection.preparedStatement.sql);
     }
+
+    public void testLowWaterMark() throws Exception {
+        MockConfig config = new MockConfig();
+        config.setDialect(new PostgresDialect());
+        List<Long> fetched = new ArrayList<>();
+        BuiltinSequenceIdGenerator idGenerator = new BuiltinSequenceIdGenerator() {
+
+            @Override
+            protected long getNewInitialValue(IdGenerationConfig config) {
+                long value = 1 + fetched.size() * allocationSize;
+                fetched.add(value);
+                return value;
+            }
+        };
+        idGenerator.setQualifiedSequenceName("aaa");
+        idGenerator.setInitialValue(1);
+        idGenerator.setAllocationSize(5);
+        idGenerator.setLowWaterMark(2);
+        IdGenerationConfig idGenerationConfig = new IdGenerationConfig(config,
+                _IdGeneratedEmp.getSingletonInternal());
+        for (long i = 1; i <= 3; i++) {
+            assertEquals(new Long(i),
+                    idGenerator.generatePreInsert(idGenerationConfig));
+        }
+        assertEquals(1, fetched.size());
+        assertEquals(new Long(4),
+                idGenerator.generatePreInsert(idGenerationConfig));
+        assertEquals(2, fetched.size());
+        for (long i = 5; i <= 8; i++) {
+            assertEquals(new Long(i),
+                    idGenerator.generatePreInsert(idGenerationConfig));
+        }
+        assertEquals(2, fetched.size());
+        assertEquals(new Long(9),
+                idGenerator.generatePreInsert(idGenerationConfig));
+        assertEquals(3, fetched.size());
+    }
 }
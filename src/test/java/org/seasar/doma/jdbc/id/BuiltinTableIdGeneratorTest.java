@@ -17,7 +17,9 @@ package org.seasar.doma.jdbc.id;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
 
 import junit.framework.TestCase;
 
@@ -26,8 +28,13 @@ import org.seasar.doma.internal.jdbc.mock.MockConnection;
 import org.seasar.doma.internal.jdbc.mock.MockDataSource;
 import org.seasar.doma.internal.jdbc.mock.MockResultSet;
 import org.seasar.doma.internal.jdbc.mock.RowData;
+import org.seasar.doma.jdbc.JdbcException;
+import org.seasar.doma.jdbc.JdbcLogger;
+import org.seasar.doma.jdbc.UtilLoggingJdbcLogger;
 import org.seasar.doma.jdbc.dialect.PostgresDialect;
 
+import org.seasar.doma.message.Message;
+
 import example.entity._IdGeneratedEmp;
 
 /**
@@ -74,4 +81,58 @@ public class BuiltinTableIdGeneratorTest extends TestCase {
         assertEquals(1, connection2.preparedStatement.bindValues.size());
     }
 
+    public void testLowWaterMark_prefetchFailure() throws Exception {
+        List<RuntimeException> logged = new ArrayList<>();
+        MockConfig config = new MockConfig() {
+
+            @Override
+            public JdbcLogger getJdbcLogger() {
+                return new UtilLoggingJdbcLogger() {
+
+                    @Override
+                    public void logIdPrefetchingFailure(
+                            String callerClassName, String callerMethodName,
+                            RuntimeException e) {
+                        logged.add(e);
+                    }
+                };
+            }
+        };
+        config.setDialect(new PostgresDialect());
+        List<Long> fetched = new ArrayList<>();
+        BuiltinTableIdGenerator idGenerator = new BuiltinTableIdGenerator() {
+
+            @Override
+            protected long getNewInitialValue(IdGenerationConfig config) {
+                if (fetched.size() == 1 && logged.isEmpty()) {
+                    throw new JdbcException(Message.DOMA2018,
+                            _IdGeneratedEmp.getSingletonInternal().getName(),
+                            "prefetch");
+                }
+                long value = 1 + fetched.size() * allocationSize;
+                fetched.add(value);
+                return value;
+            }
+        };
+        idGenerator.setQualifiedTableName("aaa");
+        idGenerator.setPkColumnName("PK");
+        idGenerator.setPkColumnValue("EMP_ID");
+        idGenerator.setValueColumnName("VALUE");
+        idGenerator.setInitialValue(1);
+        idGenerator.setAllocationSize(5);
+        idGenerator.setLowWaterMark(2);
+        idGenerator.initialize();
+        IdGenerationConfig idGenerationConfig = new IdGenerationConfig(config,
+                _IdGeneratedEmp.getSingletonInternal());
+        for (long i = 1; i <= 5; i++) {
+            assertEquals(new Long(i),
+                    idGenerator.generatePreInsert(idGenerationConfig));
+        }
+        assertEquals(1, logged.size());
+        assertEquals(1, fetched.size());
+        assertEquals(new Long(6),
+                idGenerator.generatePreInsert(idGenerationConfig));
+        assertEquals(2, fetched.size());
+    }
+
 }
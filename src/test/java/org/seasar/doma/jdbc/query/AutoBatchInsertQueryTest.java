@@ -25,6 +25,7 @@ import org.seasar.doma.internal.jdbc.mock.MockConfig;
 import org.seasar.doma.jdbc.InParameter;
 import org.seasar.doma.jdbc.PreparedSql;
 import org.seasar.doma.jdbc.SqlLogType;
+import org.seasar.doma.jdbc.dialect.MysqlDialect;
 
 import example.entity.Emp;
 import example.entity._Emp;
@@ -61,6 +62,104 @@ public class AutoBatchInsertQueryTest extends TestCase {
         assertEquals(2, batchInsertQuery.getSqls().size());
     }
 
+    public void testSqls_snapshot() throws Exception {
+        Emp emp1 = new Emp();
+        emp1.setId(10);
+        emp1.setName("aaa");
+
+        Emp emp2 = new Emp();
+        emp2.setId(20);
+        emp2.setName("bbb");
+
+        AutoBatchInsertQuery<Emp> query = new AutoBatchInsertQuery<Emp>(
+                _Emp.getSingletonInternal());
+        query.setMethod(getClass().getDeclaredMethod(getName()));
+        query.setConfig(runtimeConfig);
+        query.setCallerClassName("aaa");
+        query.setCallerMethodName("bbb");
+        query.setEntities(Arrays.asList(emp1, emp2));
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.prepare();
+
+        List<PreparedSql> sqls = query.getSqls();
+        assertSame(query.getSql(), sqls.get(0));
+        PreparedSql sql = sqls.get(1);
+        assertSame(sql, sqls.get(1));
+
+        emp2.setName("ccc");
+        query.complete();
+        assertSame(sql, query.getSqls().get(1));
+        assertEquals("bbb", sql.getParameters().get(1).getWrapper().get());
+    }
+
+    public void testMultiRow() throws Exception {
+        runtimeConfig.setDialect(new MysqlDialect());
+
+        Emp emp1 = new Emp();
+        emp1.setId(10);
+        emp1.setName("aaa");
+
+        Emp emp2 = new Emp();
+        emp2.setId(20);
+        emp2.setName("bbb");
+
+        Emp emp3 = new Emp();
+        emp3.setId(30);
+        emp3.setName("ccc");
+
+        AutoBatchInsertQuery<Emp> query = new AutoBatchInsertQuery<Emp>(
+                _Emp.getSingletonInternal());
+        query.setMethod(getClass().getDeclaredMethod(getName()));
+        query.setConfig(runtimeConfig);
+        query.setCallerClassName("aaa");
+        query.setCallerMethodName("bbb");
+        query.setEntities(Arrays.asList(emp1, emp2, emp3));
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.setMultiRowSize(2);
+        query.prepare();
+
+        List<PreparedSql> sqls = query.getSqls();
+        assertEquals(2, sqls.size());
+        assertEquals(2, query.getRowCount(0));
+        assertEquals(1, query.getRowCount(1));
+        PreparedSql sql = sqls.get(0);
+        assertSame(query.getSql(), sql);
+        assertEquals(
+                "insert into EMP (ID, NAME, SALARY, VERSION) values (?, ?, ?, ?), (?, ?, ?, ?)",
+                sql.getRawSql());
+        assertEquals(8, sql.getParameters().size());
+        assertEquals("bbb", sql.getParameters().get(5).getWrapper().get());
+        sql = sqls.get(1);
+        assertEquals(
+                "insert into EMP (ID, NAME, SALARY, VERSION) values (?, ?, ?, ?)",
+                sql.getRawSql());
+        assertEquals("ccc", sql.getParameters().get(1).getWrapper().get());
+    }
+
+    public void testMultiRow_unsupported() throws Exception {
+        Emp emp1 = new Emp();
+        emp1.setId(10);
+        emp1.setName("aaa");
+
+        Emp emp2 = new Emp();
+        emp2.setId(20);
+        emp2.setName("bbb");
+
+        AutoBatchInsertQuery<Emp> query = new AutoBatchInsertQuery<Emp>(
+                _Emp.getSingletonInternal());
+        query.setMethod(getClass().getDeclaredMethod(getName()));
+        query.setConfig(runtimeConfig);
+        query.setCallerClassName("aaa");
+        query.setCallerMethodName("bbb");
+        query.setEntities(Arrays.asList(emp1, emp2));
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.setMultiRowSize(2);
+        query.prepare();
+
+        assertEquals(2, query.getSqls().size());
+        assertEquals(1, query.getRowCount(0));
+    }
+
     public void testOption_default() throws Exception {
         Emp emp1 = new Emp();
         emp1.setId(10);
@@ -68,6 +68,21 @@ public class SqlFileScriptQueryTest extends TestCase {
         assertEquals("GO", query.getBlockDelimiter());
     }
 
+    public void testPrepare_gzip() throws Exception {
+        SqlFileScriptQuery query = new SqlFileScriptQuery();
+        query.setConfig(config);
+        query.setCallerClassName("aaa");
+        query.setCallerMethodName("bbb");
+        query.setScriptFilePath("META-INF/org/seasar/doma/jdbc/query/SqlFileScriptQueryTest/testPrepare_gzip.script");
+        query.setBlockDelimiter("");
+        query.prepare();
+
+        assertEquals(
+                "META-INF/org/seasar/doma/jdbc/query/SqlFileScriptQueryTest/testPrepare_gzip.script.gz",
+                query.getScriptFilePath());
+        assertNotNull(query.getScriptFileUrl());
+    }
+
     public void testPrepare_ScriptFileNotFoundException() throws Exception {
         SqlFileScriptQuery query = new SqlFileScriptQuery();
         query.setConfig(config);
@@ -50,6 +50,19 @@ public class LocalTransactionDataSourceTest extends TestCase {
         }
     }
 
+    public void testIsTransactionActive_keepAlive() throws Exception {
+        UtilLoggingJdbcLogger jdbcLogger = new UtilLoggingJdbcLogger();
+        LocalTransactionDataSource dataSource = new LocalTransactionDataSource(
+                new MockDataSource());
+        KeepAliveLocalTransaction transaction = dataSource
+                .getKeepAliveLocalTransaction(jdbcLogger);
+        assertFalse(dataSource.isTransactionActive());
+        transaction.begin();
+        assertTrue(dataSource.isTransactionActive());
+        transaction.commit();
+        assertFalse(dataSource.isTransactionActive());
+    }
+
     public void testIsWrapperFor() throws Exception {
         DataSource dataSource = new LocalTransactionDataSource(
                 new MockDataSource());
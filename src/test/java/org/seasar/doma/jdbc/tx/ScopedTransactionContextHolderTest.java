@@ -0,0 +1,116 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc.tx;
+
+import java.sql.Connection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import junit.framework.TestCase;
+
+import org.seasar.doma.internal.jdbc.mock.MockConnection;
+import org.seasar.doma.internal.jdbc.mock.MockDataSource;
+import org.seasar.doma.jdbc.JdbcException;
+import org.seasar.doma.jdbc.UtilLoggingJdbcLogger;
+import org.seasar.doma.message.Message;
+
+/**
+ * @author nakamura-to
+ * 
+ */
+public class ScopedTransactionContextHolderTest extends TestCase {
+
+    private final MockConnection connection = new MockConnection();
+
+    private final ScopedTransactionContextHolder holder = new ScopedTransactionContextHolder();
+
+    private final LocalTransactionDataSource dataSource = new LocalTransactionDataSource(
+            new MockDataSource(connection), 0, holder);
+
+    private final LocalTransaction transaction = dataSource
+            .getLocalTransaction(new UtilLoggingJdbcLogger());
+
+    public void testRun() throws Exception {
+        ScopedTransactionContextHolder.Scope scope = holder.newScope();
+        holder.run(scope, () -> {
+            transaction.begin();
+            assertTrue(transaction.isActive());
+        });
+        assertFalse(transaction.isActive());
+        assertNull(holder.get());
+        holder.call(scope, () -> {
+            try {
+                return dataSource.getConnection();
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            }
+        });
+        holder.run(scope, () -> {
+            assertTrue(transaction.isActive());
+            transaction.commit();
+        });
+        assertTrue(connection.committed);
+    }
+
+    public void testCall_acrossThreads() throws Exception {
+        ScopedTransactionContextHolder.Scope scope = holder.newScope();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Connection result = CompletableFuture
+                    .runAsync(() -> holder.run(scope, transaction::begin),
+                            executor)
+                    .thenApplyAsync(
+                            v -> holder.call(scope, () -> {
+                                try {
+                                    return dataSource.getConnection();
+                                } catch (Exception e) {
+                                    throw new AssertionError(e);
+                                }
+                            }), executor)
+                    .thenApplyAsync(c -> holder.call(scope, () -> {
+                        transaction.commit();
+                        return c;
+                    }), executor).get();
+            assertNotNull(result);
+            assertTrue(connection.committed);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public void testCall_nested() throws Exception {
+        ScopedTransactionContextHolder.Scope outer = holder.newScope();
+        ScopedTransactionContextHolder.Scope inner = holder.newScope();
+        holder.run(outer, () -> {
+            transaction.begin();
+            holder.run(inner, () -> assertFalse(transaction.isActive()));
+            assertTrue(transaction.isActive());
+            transaction.rollback();
+        });
+        assertFalse(holder.call(outer, transaction::isActive));
+    }
+
+    public void testSet_notBound() throws Exception {
+        try {
+            transaction.begin();
+            fail();
+        } catch (JdbcException expected) {
+            assertEquals(Message.DOMA2234, expected.getMessageResource());
+        }
+    }
+
+}
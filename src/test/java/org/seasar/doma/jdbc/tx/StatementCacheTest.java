@@ -0,0 +1,162 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc.tx;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.seasar.doma.internal.jdbc.mock.MockConnection;
+import org.seasar.doma.internal.jdbc.mock.MockPreparedStatement;
+
+/**
+ * @author nakamura-to
+ *
+ */
+public class StatementCacheTest extends TestCase {
+
+    private final List<MockPreparedStatement> statements = new ArrayList<>();
+
+    private final MockConnection connection = new MockConnection() {
+
+        @Override
+        public PreparedStatement prepareStatement(String sql)
+                throws SQLException {
+            MockPreparedStatement statement = new MockPreparedStatement();
+            statement.sql = sql;
+            statement.maxRows = 100;
+            statement.resultSet.statement = statement;
+            statements.add(statement);
+            return statement;
+        }
+    };
+
+    public void testReuse() throws Exception {
+        LocalTransactionConnection txConnection = new LocalTransactionConnection(
+                connection, 0, 10);
+        try (PreparedStatement ps = txConnection.prepareStatement("select 1")) {
+            assertSame(txConnection, ps.getConnection());
+        }
+        try (PreparedStatement ps = txConnection.prepareStatement("select 1")) {
+            assertFalse(ps.isClosed());
+        }
+        assertEquals(1, statements.size());
+        assertFalse(statements.get(0).closed);
+    }
+
+    public void testConcurrentUse() throws Exception {
+        LocalTransactionConnection txConnection = new LocalTransactionConnection(
+                connection, 0, 10);
+        try (PreparedStatement ps1 = txConnection.prepareStatement("select 1");
+                PreparedStatement ps2 = txConnection
+                        .prepareStatement("select 1")) {
+            assertNotSame(ps1, ps2);
+        }
+        assertEquals(2, statements.size());
+    }
+
+    public void testClosedStatement() throws Exception {
+        LocalTransactionConnection txConnection = new LocalTransactionConnection(
+                connection, 0, 10);
+        PreparedStatement ps = txConnection.prepareStatement("select 1");
+        ps.close();
+        assertTrue(ps.isClosed());
+        try {
+            ps.executeQuery();
+            fail();
+        } catch (SQLException expected) {
+        }
+    }
+
+    public void testEviction() throws Exception {
+        LocalTransactionConnection txConnection = new LocalTransactionConnection(
+                connection, 0, 2);
+        txConnection.prepareStatement("select 1").close();
+        txConnection.prepareStatement("select 2").close();
+        txConnection.prepareStatement("select 3").close();
+        assertEquals(3, statements.size());
+        assertTrue(statements.get(0).closed);
+        assertFalse(statements.get(1).closed);
+        assertFalse(statements.get(2).closed);
+    }
+
+    public void testCommit() throws Exception {
+        LocalTransactionConnection txConnection = new LocalTransactionConnection(
+                connection, 0, 10);
+        txConnection.prepareStatement("select 1").close();
+        txConnection.commit();
+        assertTrue(statements.get(0).closed);
+        txConnection.prepareStatement("select 1").close();
+        assertEquals(2, statements.size());
+    }
+
+    public void testRollback() throws Exception {
+        LocalTransactionConnection txConnection = new LocalTransactionConnection(
+                connection, 0, 10);
+        txConnection.prepareStatement("select 1").close();
+        txConnection.rollback();
+        assertTrue(statements.get(0).closed);
+    }
+
+    public void testRestoreOptions() throws Exception {
+        LocalTransactionConnection txConnection = new LocalTransactionConnection(
+                connection, 0, 10);
+        try (PreparedStatement ps = txConnection.prepareStatement("select 1")) {
+            ps.setMaxRows(10);
+            ps.setFetchSize(20);
+            ps.setQueryTimeout(30);
+        }
+        MockPreparedStatement statement = statements.get(0);
+        assertEquals(100, statement.maxRows);
+        assertEquals(0, statement.fetchSize);
+        assertEquals(0, statement.queryTimeout);
+    }
+
+    public void testCommit_statementInUse() throws Exception {
+        LocalTransactionConnection txConnection = new LocalTransactionConnection(
+                connection, 0, 10);
+        PreparedStatement ps = txConnection.prepareStatement("select 1");
+        txConnection.commit();
+        assertFalse(statements.get(0).closed);
+        ps.close();
+        assertTrue(statements.get(0).closed);
+        txConnection.prepareStatement("select 1").close();
+        assertEquals(2, statements.size());
+    }
+
+    public void testResultSetStatement() throws Exception {
+        LocalTransactionConnection txConnection = new LocalTransactionConnection(
+                connection, 0, 10);
+        try (PreparedStatement ps = txConnection.prepareStatement("select 1")) {
+            ResultSet rs = ps.executeQuery();
+            assertSame(ps, rs.getStatement());
+        }
+    }
+
+    public void testDisabled() throws Exception {
+        LocalTransactionConnection txConnection = new LocalTransactionConnection(
+                connection, 0);
+        txConnection.prepareStatement("select 1").close();
+        txConnection.prepareStatement("select 1").close();
+        assertEquals(2, statements.size());
+        assertTrue(statements.get(0).closed);
+    }
+
+}
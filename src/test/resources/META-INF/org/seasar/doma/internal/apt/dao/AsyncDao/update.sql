@@ -0,0 +1 @@
+update emp set salary = /*emp.salary*/1 where id = /*emp.id*/1
\ No newline at end of file
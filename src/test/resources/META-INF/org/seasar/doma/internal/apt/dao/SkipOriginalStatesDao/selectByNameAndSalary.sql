@@ -0,0 +1 @@
+select * from Emp where name = /*name*/'aaa' and salary = /*salary*/123
\ No newline at end of file
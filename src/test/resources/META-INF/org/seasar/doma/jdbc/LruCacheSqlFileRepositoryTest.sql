@@ -0,0 +1 @@
+select * from default
\ No newline at end of file
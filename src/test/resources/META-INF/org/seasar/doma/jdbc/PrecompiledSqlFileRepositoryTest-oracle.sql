@@ -0,0 +1 @@
+select * from oracle
\ No newline at end of file
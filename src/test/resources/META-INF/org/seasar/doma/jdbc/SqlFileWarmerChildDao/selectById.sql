@@ -0,0 +1 @@
+select * from emp where id = /*id*/0
\ No newline at end of file
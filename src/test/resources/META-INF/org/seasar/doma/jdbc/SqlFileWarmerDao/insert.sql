@@ -0,0 +1 @@
+insert into emp (id) values (/*row.id*/1)
\ No newline at end of file
@@ -0,0 +1 @@
+select * from emp
\ No newline at end of file